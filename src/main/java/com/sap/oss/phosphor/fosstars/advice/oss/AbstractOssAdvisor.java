@@ -120,7 +120,8 @@ public abstract class AbstractOssAdvisor implements Advisor {
       return Optional.empty();
     }
 
-    return findSubScoreValue(subject.ratingValue().get().scoreValue(), subScoreClass);
+    // a lean score value doesn't contain sub-score values, so they have to be re-created
+    return findSubScoreValue(subject.ratingValue().get().scoreValue().expand(), subScoreClass);
   }
 
   /**
@@ -3,12 +3,17 @@ package com.sap.oss.phosphor.fosstars.data;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue.Reason;
 import com.sap.oss.phosphor.fosstars.model.value.UnknownValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -16,16 +21,70 @@ import java.util.Set;
  * <p>This is a base class for data providers that would like to check the cache
  * before trying to fetch values for a number of features.</p>
  *
+ * <p>If negative caching is enabled, the data provider also remembers features
+ * for which it could not obtain values, see {@link NegativeValue}.
+ * Such negative results expire earlier than regular values.
+ * As long as a negative result is in the cache, the data provider doesn't try
+ * to fetch a value for the feature again but returns an unknown value.</p>
+ *
  * @param <T> A type of the objects for which the data provider can fetch data.
  */
 public abstract class AbstractCachingDataProvider<T> extends AbstractDataProvider<T> {
 
+  /**
+   * A default time to live for negative results in the cache.
+   */
+  public static final Duration DEFAULT_NEGATIVE_CACHE_TTL = Duration.ofHours(6);
+
+  /**
+   * A time to live for negative results in the cache.
+   * If it's null, then negative results are not cached.
+   */
+  private Duration negativeCacheTtl;
+
+  /**
+   * Enables caching negative results.
+   *
+   * @param ttl A time to live for negative results in the cache.
+   * @return The same data provider.
+   * @throws IllegalArgumentException If the time to live is not positive.
+   */
+  public AbstractCachingDataProvider<T> cacheNegativeResultsFor(Duration ttl) {
+    Objects.requireNonNull(ttl, "Oh no! TTL is null!");
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Oh no! TTL should be positive!");
+    }
+    this.negativeCacheTtl = ttl;
+    return this;
+  }
+
+  /**
+   * Disables caching negative results.
+   *
+   * @return The same data provider.
+   */
+  public AbstractCachingDataProvider<T> doNotCacheNegativeResults() {
+    this.negativeCacheTtl = null;
+    return this;
+  }
+
+  /**
+   * Checks if the data provider caches negative results.
+   *
+   * @return True if negative results are cached, false otherwise.
+   */
+  public boolean cachesNegativeResults() {
+    return negativeCacheTtl != null;
+  }
+
   /**
    * This is a template method that checks for cached values
    * before asking the child classes to fetch the data.
    * If all supported features are already available in the cache, then the method just
    * adds them to the resulting value set and exits. Otherwise, the method calls
    * the {@link #fetchValuesFor(Object)} method to fetch the data.
+   * If negative caching is enabled, cached negative results count as cache hits,
+   * and unknown values and failures are stored in the cache as negative results.
    *
    * @param object The object for which the values need to be fetched.
    * @param values The resulting set of values to be updated.
@@ -40,13 +99,18 @@ public abstract class AbstractCachingDataProvider<T> extends AbstractDataProvide
     Set<Feature<?>> features = supportedFeatures();
 
     // look for values for the supported features in the cache
-    // unknown values don't count
+    // unknown values don't count, negative results count only if they are enabled
     Set<Value<?>> cachedValues = new HashSet<>();
     for (Feature feature : features) {
       Optional<Value<?>> something = cache.get(object, feature);
       Value<?> value = something.orElse(UnknownValue.of(feature));
       if (!value.isUnknown()) {
         cachedValues.add(value);
+      } else if (cachesNegativeResults() && value instanceof NegativeValue) {
+        NegativeValue<?> negativeValue = (NegativeValue<?>) value;
+        logger.debug("Found a negative result for {} in the cache ({})",
+            feature.name(), negativeValue.reason());
+        cachedValues.add(negativeValue.toUnknown());
       }
     }
 
@@ -55,16 +119,39 @@ public abstract class AbstractCachingDataProvider<T> extends AbstractDataProvide
       values.update(value);
     }
 
-    // if there is a cached known value for each feature, then we're done
+    // if there is a cached known value or a negative result for each feature, then we're done
     if (cachedValues.size() == features.size()) {
       return this;
     }
 
     // otherwise, try to find values for all features
-    ValueSet updatedValues = fetchValuesFor(object);
+    ValueSet updatedValues;
+    try {
+      updatedValues = fetchValuesFor(object);
+    } catch (IOException | RuntimeException e) {
+      if (cachesNegativeResults()) {
+        Set<Feature<?>> missingFeatures = new HashSet<>(features);
+        cachedValues.forEach(value -> missingFeatures.remove(value.feature()));
+        cache.put(object, negativeResultsFor(missingFeatures, Reason.FAILURE),
+            negativeExpiration());
+      }
+      throw e;
+    }
 
     // put the fetched values to the cache
     cache.put(object, updatedValues, expiration());
+    if (cachesNegativeResults()) {
+      Set<Feature<?>> missingFeatures = new HashSet<>(features);
+      for (Value<?> value : updatedValues) {
+        if (!value.isUnknown()) {
+          missingFeatures.remove(value.feature());
+        }
+      }
+      if (!missingFeatures.isEmpty()) {
+        cache.put(object, negativeResultsFor(missingFeatures, Reason.NO_DATA),
+            negativeExpiration());
+      }
+    }
 
     // and update the resulting set of values
     values.update(updatedValues);
@@ -89,4 +176,29 @@ public abstract class AbstractCachingDataProvider<T> extends AbstractDataProvide
   protected Date expiration() {
     return Date.from(Instant.now().plus(1, ChronoUnit.DAYS)); // tomorrow
   }
+
+  /**
+   * Get an expiration date for negative results in the cache.
+   *
+   * @return An expiration date for negative results.
+   */
+  protected Date negativeExpiration() {
+    Objects.requireNonNull(negativeCacheTtl, "Oh no! Negative caching is disabled!");
+    return Date.from(Instant.now().plus(negativeCacheTtl));
+  }
+
+  /**
+   * Creates negative results for a number of features.
+   *
+   * @param features The features.
+   * @param reason Explains why values for the features are not available.
+   * @return A set of negative results.
+   */
+  private static ValueSet negativeResultsFor(Set<Feature<?>> features, Reason reason) {
+    ValueSet values = new ValueHashSet();
+    for (Feature<?> feature : features) {
+      values.update(NegativeValue.of(feature, reason));
+    }
+    return values;
+  }
 }
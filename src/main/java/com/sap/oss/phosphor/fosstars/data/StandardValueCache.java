@@ -3,12 +3,12 @@ package com.sap.oss.phosphor.fosstars.data;
 import static com.sap.oss.phosphor.fosstars.model.value.ExpiringValue.NO_EXPIRATION;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
+import com.sap.oss.phosphor.fosstars.model.DefinitionReferences;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
 import com.sap.oss.phosphor.fosstars.model.value.ExpiringValue;
 import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
-import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -22,7 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 /**
- * This is a cache of feature values which use string as keys.
+ * This is a cache of feature values which use string as keys. The cache is thread-safe.
  */
 public class StandardValueCache implements Cache<String, ValueSet> {
 
@@ -64,7 +64,7 @@ public class StandardValueCache implements Cache<String, ValueSet> {
    * @param <T> Type of data that the feature holds.
    * @return An {@link Optional} with a cached value if it's available.
    */
-  public <T> Optional<Value<T>> get(String key, Feature<T> feature) {
+  public synchronized <T> Optional<Value<T>> get(String key, Feature<T> feature) {
     ValueSet values = entries.get(key);
     if (values == null) {
       return Optional.empty();
@@ -78,7 +78,7 @@ public class StandardValueCache implements Cache<String, ValueSet> {
   }
 
   @Override
-  public Optional<ValueSet> get(String key) {
+  public synchronized Optional<ValueSet> get(String key) {
     ValueSet set = entries.get(key);
     if (set == null) {
       return Optional.empty();
@@ -114,7 +114,7 @@ public class StandardValueCache implements Cache<String, ValueSet> {
   }
 
   @Override
-  public int size() {
+  public synchronized int size() {
     return entries.size();
   }
 
@@ -149,7 +149,7 @@ public class StandardValueCache implements Cache<String, ValueSet> {
    * @param <T> Type of data that the value holds
    * @param expiration The expiration date.
    */
-  public <T> void put(String key, Value<T> value, Date expiration) {
+  public synchronized <T> void put(String key, Value<T> value, Date expiration) {
     ValueSet set = entries.get(key);
     if (set == null) {
       set = new ValueHashSet();
@@ -165,13 +165,13 @@ public class StandardValueCache implements Cache<String, ValueSet> {
    * @param filename A path to the file.
    * @throws IOException If something went wrong.
    */
-  public void store(String filename) throws IOException {
+  public synchronized void store(String filename) throws IOException {
     Path path = Paths.get(filename);
     Path dir = path.getParent();
     if (!Files.exists(dir)) {
       Files.createDirectories(dir);
     }
-    Files.write(path, Json.toBytes(this));
+    Files.write(path, DefinitionReferences.toBytes(this));
   }
 
   /**
@@ -186,7 +186,7 @@ public class StandardValueCache implements Cache<String, ValueSet> {
     if (!file.exists()) {
       throw new FileNotFoundException(String.format("Can't find %s", path));
     }
-    return Json.mapper().readValue(file, StandardValueCache.class);
+    return DefinitionReferences.mapper().readValue(file, StandardValueCache.class);
   }
 
   @Override
@@ -4,6 +4,7 @@ import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.RUNS_C
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_CODEQL_CHECKS;
 import static com.sap.oss.phosphor.fosstars.model.other.Utils.setOf;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
@@ -13,7 +14,6 @@ import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import com.sap.oss.phosphor.fosstars.util.Yaml;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -52,6 +52,34 @@ public class CodeqlDataProvider extends GitHubCachingDataProvider {
    */
   private static final String CODEQL_ANALYZE_STEP_TASK = "github/codeql-action/analyze";
 
+  /**
+   * Tells how a GitHub action uses CodeQL.
+   */
+  enum Usage {
+
+    /**
+     * The action doesn't run CodeQL scans.
+     */
+    NONE,
+
+    /**
+     * The action runs CodeQL scans but not on pull requests.
+     */
+    SCANS,
+
+    /**
+     * The action runs CodeQL scans on pull requests.
+     */
+    CHECKS
+  }
+
+  /**
+   * A detector that figures out how a GitHub action uses CodeQL.
+   */
+  private static final FileDetector<Usage> CODEQL_IN_GITHUB_ACTION = FileDetector.of(
+      "codeql-in-github-action", 1, new TypeReference<Usage>() {},
+      CodeqlDataProvider::usageIn);
+
   /**
    * Initializes a data provider.
    *
@@ -78,11 +106,10 @@ public class CodeqlDataProvider extends GitHubCachingDataProvider {
     // ideally, we're looking for a GitHub action that runs CodeQL scan on pull requests
     // but if we just find an action that runs CodeQL scans, that's also fine
     for (Path configPath : findGitHubActionsIn(repository)) {
-      InputStream content = Files.newInputStream(configPath);
-      Map<String, Object> githubAction = Yaml.readMap(content);
-      if (triggersCodeqlScan(githubAction)) {
+      Usage usage = CODEQL_IN_GITHUB_ACTION.detect(repository, configPath);
+      if (usage != Usage.NONE) {
         runsCodeqlScans = RUNS_CODEQL_SCANS.value(true);
-        if (runsOnPullRequests(githubAction)) {
+        if (usage == Usage.CHECKS) {
           usesCodeqlChecks = USES_CODEQL_CHECKS.value(true);
           break;
         }
@@ -92,6 +119,32 @@ public class CodeqlDataProvider extends GitHubCachingDataProvider {
     return ValueHashSet.from(usesCodeqlChecks, runsCodeqlScans);
   }
 
+  /**
+   * Figures out how a GitHub action uses CodeQL.
+   *
+   * @param repository The repository.
+   * @param file A path to a config for the action.
+   * @return How the action uses CodeQL.
+   * @throws IOException If something went wrong.
+   */
+  private static Usage usageIn(LocalRepository repository, Path file) throws IOException {
+    Optional<InputStream> content = repository.read(file);
+    if (!content.isPresent()) {
+      return Usage.NONE;
+    }
+
+    Map<String, Object> githubAction;
+    try (InputStream is = content.get()) {
+      githubAction = Yaml.readMap(is);
+    }
+
+    if (!triggersCodeqlScan(githubAction)) {
+      return Usage.NONE;
+    }
+
+    return runsOnPullRequests(githubAction) ? Usage.CHECKS : Usage.SCANS;
+  }
+
   /**
    * Looks for GitHub actions in a repository.
    *
@@ -0,0 +1,345 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>This is a persistent cache for results of {@link FileDetector}s.</p>
+ *
+ * <p>A result is stored by an ID and a version of a detector,
+ * and by an ID of a Git blob that holds the content of a file.
+ * Most of the files stay the same between runs, and many files are the same
+ * in different repositories, for example, templates of GitHub workflows or parent POM files.
+ * If a detector has already checked a file with the same content, then the file is neither
+ * read nor parsed again.</p>
+ *
+ * <p>The results don't become stale because the content of a blob never changes.
+ * A detector has to increase its version if it starts producing different results.
+ * To keep the cache small, a result that has not been used for a while is dropped,
+ * and if the cache still has too many results, the least recently used ones are dropped
+ * when the cache is stored. The cache is not written if it didn't change.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+public class FileDetectionCache {
+
+  /**
+   * An object mapper for converting results to JSON and back.
+   */
+  private static final ObjectMapper MAPPER = Json.mapper();
+
+  /**
+   * The default maximum number of results in the cache.
+   */
+  static final int DEFAULT_MAX_SIZE = 100000;
+
+  /**
+   * The default number of days after which an unused result is dropped.
+   */
+  static final int DEFAULT_MAX_UNUSED_DAYS = 30;
+
+  /**
+   * Maps a key to a result.
+   */
+  private final Map<String, Entry> results;
+
+  /**
+   * A maximum number of results in the cache.
+   */
+  private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * A number of days after which an unused result is dropped.
+   */
+  private volatile long maxUnusedDays = DEFAULT_MAX_UNUSED_DAYS;
+
+  /**
+   * Tells if the cache has been modified since it was loaded or stored.
+   */
+  private volatile boolean modified;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @return An empty cache.
+   */
+  public static FileDetectionCache empty() {
+    return new FileDetectionCache(new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Initializes a new cache. The constructor is used for deserialization.
+   *
+   * @param results A map with results.
+   */
+  @JsonCreator
+  private FileDetectionCache(@JsonProperty("results") Map<String, Entry> results) {
+    this.results = results != null ? new ConcurrentHashMap<>(results) : new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return a map with results. The method is used for serialization.
+   *
+   * @return The map.
+   */
+  @JsonGetter("results")
+  private Map<String, Entry> results() {
+    return results;
+  }
+
+  /**
+   * Set a maximum number of results in the cache.
+   *
+   * @param size The maximum number of results.
+   * @return The same {@link FileDetectionCache}.
+   */
+  public FileDetectionCache maxSize(int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Hey! You gave me a wrong size for the cache!");
+    }
+    maxSize = size;
+    return this;
+  }
+
+  /**
+   * Set a number of days after which an unused result is dropped.
+   *
+   * @param days The number of days.
+   * @return The same {@link FileDetectionCache}.
+   */
+  public FileDetectionCache maxUnusedDays(long days) {
+    if (days < 1) {
+      throw new IllegalArgumentException("Hey! You gave me a wrong number of days!");
+    }
+    maxUnusedDays = days;
+    return this;
+  }
+
+  /**
+   * Returns a size of the cache.
+   *
+   * @return A size of the cache.
+   */
+  public int size() {
+    return results.size();
+  }
+
+  /**
+   * Runs a detector for a file in a repository, or takes a result from the cache.
+   * If the repository can't tell an ID of a blob for the file,
+   * then the detector just runs, and the result is not cached.
+   *
+   * @param repository The repository.
+   * @param file A path to the file.
+   * @param detector The detector.
+   * @param <T> Type of the result.
+   * @return The result.
+   * @throws IOException If something went wrong.
+   */
+  public <T> T detect(LocalRepository repository, Path file, FileDetector<T> detector)
+      throws IOException {
+
+    Objects.requireNonNull(repository, "Oh no! Repository is null!");
+    Objects.requireNonNull(file, "Oh no! File is null!");
+    Objects.requireNonNull(detector, "Oh no! Detector is null!");
+
+    Optional<String> blob = repository.blobIdOf(file);
+    if (!blob.isPresent()) {
+      return detector.run(repository, file);
+    }
+
+    String key = key(detector, blob.get());
+    Optional<T> cached = cached(key, detector);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    T result = detector.run(repository, file);
+    results.put(key, new Entry(MAPPER.valueToTree(result), today()));
+    modified = true;
+    return result;
+  }
+
+  /**
+   * Looks for a result in the cache.
+   * A result that doesn't match the type of the detector is removed from the cache.
+   *
+   * @param key The key.
+   * @param detector The detector.
+   * @param <T> Type of the result.
+   * @return The result if found, an empty {@link Optional} otherwise.
+   */
+  private <T> Optional<T> cached(String key, FileDetector<T> detector) {
+    Entry entry = results.get(key);
+    if (entry == null || entry.result == null || entry.result.isNull()) {
+      return Optional.empty();
+    }
+
+    T result;
+    try {
+      result = MAPPER.convertValue(entry.result, detector.type());
+    } catch (IllegalArgumentException e) {
+      results.remove(key);
+      modified = true;
+      return Optional.empty();
+    }
+
+    long today = today();
+    if (entry.used != today) {
+      results.put(key, new Entry(entry.result, today));
+      modified = true;
+    }
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * Drops results that have not been used for a while. If the cache still has too many results,
+   * the method drops the least recently used results.
+   */
+  synchronized void prune() {
+    long oldest = today() - maxUnusedDays;
+    if (results.values().removeIf(entry -> entry.used < oldest)) {
+      modified = true;
+    }
+
+    int excess = results.size() - maxSize;
+    if (excess <= 0) {
+      return;
+    }
+
+    List<Map.Entry<String, Entry>> entries = new ArrayList<>(results.entrySet());
+    entries.sort(Comparator.comparingLong(entry -> entry.getValue().used));
+    for (Map.Entry<String, Entry> entry : entries.subList(0, excess)) {
+      results.remove(entry.getKey());
+    }
+    modified = true;
+  }
+
+  /**
+   * Returns the current day.
+   *
+   * @return The number of days since the epoch.
+   */
+  private static long today() {
+    return LocalDate.now(ZoneOffset.UTC).toEpochDay();
+  }
+
+  /**
+   * Builds a key for a result.
+   *
+   * @param detector The detector.
+   * @param blob The ID of the blob.
+   * @return The key.
+   */
+  private static String key(FileDetector<?> detector, String blob) {
+    return String.format("%s:%d:%s", detector.id(), detector.version(), blob);
+  }
+
+  /**
+   * Load a cache from a file.
+   *
+   * @param filename A path to the file.
+   * @return A loaded cache.
+   * @throws IOException If something went wrong.
+   */
+  public static FileDetectionCache load(String filename) throws IOException {
+    Path path = Paths.get(filename);
+    if (!Files.exists(path)) {
+      throw new FileNotFoundException(String.format("Can't find %s", filename));
+    }
+    try (InputStream is = Files.newInputStream(path)) {
+      return Json.read(is, FileDetectionCache.class);
+    }
+  }
+
+  /**
+   * Store the cache to a file.
+   *
+   * @param filename The file.
+   * @throws IOException If something went wrong.
+   */
+  public synchronized void store(String filename) throws IOException {
+    prune();
+    Path path = Paths.get(filename);
+    if (!modified && Files.exists(path)) {
+      return;
+    }
+
+    Path dir = path.getParent();
+    if (dir != null && !Files.exists(dir)) {
+      Files.createDirectories(dir);
+    }
+    Files.write(path, Json.toBytes(this));
+    modified = false;
+  }
+
+  /**
+   * A result in the cache.
+   */
+  private static class Entry {
+
+    /**
+     * The result.
+     */
+    private final JsonNode result;
+
+    /**
+     * The day when the result was used last time (the number of days since the epoch).
+     */
+    private final long used;
+
+    /**
+     * Initializes a new entry.
+     *
+     * @param result The result.
+     * @param used The day when the result was used last time.
+     */
+    @JsonCreator
+    private Entry(
+        @JsonProperty("result") JsonNode result,
+        @JsonProperty("used") long used) {
+
+      this.result = result;
+      this.used = used;
+    }
+
+    /**
+     * Returns the result. The method is used for serialization.
+     *
+     * @return The result.
+     */
+    @JsonGetter("result")
+    private JsonNode result() {
+      return result;
+    }
+
+    /**
+     * Returns the day when the result was used last time. The method is used for serialization.
+     *
+     * @return The day.
+     */
+    @JsonGetter("used")
+    private long used() {
+      return used;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * <p>A detector looks for something in a file in a local repository,
+ * for example, for a plugin in a POM file.</p>
+ *
+ * <p>The result of a detector depends only on the content of a file,
+ * so that it can be remembered in a {@link FileDetectionCache} by a hash of the content.
+ * The detector has an ID and a version. The version has to be increased
+ * each time the detector changes the way it produces a result,
+ * so that the results that were produced by previous versions are no longer used.
+ * The result has to be serializable to JSON.</p>
+ *
+ * @param <T> Type of the result.
+ */
+public final class FileDetector<T> {
+
+  /**
+   * A detection that looks at a file in a repository.
+   *
+   * @param <T> Type of the result.
+   */
+  public interface Detection<T> {
+
+    /**
+     * Looks at a file in a repository.
+     *
+     * @param repository The repository.
+     * @param file A path to the file.
+     * @return The result.
+     * @throws IOException If something went wrong.
+     */
+    T detect(LocalRepository repository, Path file) throws IOException;
+  }
+
+  /**
+   * An ID of the detector.
+   */
+  private final String id;
+
+  /**
+   * A version of the detector.
+   */
+  private final int version;
+
+  /**
+   * A type of the result.
+   */
+  private final TypeReference<T> type;
+
+  /**
+   * The detection.
+   */
+  private final Detection<T> detection;
+
+  /**
+   * Initializes a new detector.
+   *
+   * @param id An ID of the detector.
+   * @param version A version of the detector.
+   * @param type A type of the result.
+   * @param detection The detection.
+   */
+  private FileDetector(String id, int version, TypeReference<T> type, Detection<T> detection) {
+    Objects.requireNonNull(id, "Oh no! ID is null!");
+    Objects.requireNonNull(type, "Oh no! Type is null!");
+    Objects.requireNonNull(detection, "Oh no! Detection is null!");
+
+    if (id.trim().isEmpty()) {
+      throw new IllegalArgumentException("Oh no! ID is empty!");
+    }
+
+    if (version < 0) {
+      throw new IllegalArgumentException("Oh no! Version is negative!");
+    }
+
+    this.id = id;
+    this.version = version;
+    this.type = type;
+    this.detection = detection;
+  }
+
+  /**
+   * Creates a new detector.
+   *
+   * @param id An ID of the detector.
+   * @param version A version of the detector.
+   * @param type A type of the result.
+   * @param detection The detection.
+   * @param <T> Type of the result.
+   * @return A new detector.
+   */
+  public static <T> FileDetector<T> of(
+      String id, int version, TypeReference<T> type, Detection<T> detection) {
+
+    return new FileDetector<>(id, version, type, detection);
+  }
+
+  /**
+   * Returns an ID of the detector.
+   *
+   * @return The ID.
+   */
+  public String id() {
+    return id;
+  }
+
+  /**
+   * Returns a version of the detector.
+   *
+   * @return The version.
+   */
+  public int version() {
+    return version;
+  }
+
+  /**
+   * Returns a type of the result.
+   *
+   * @return The type.
+   */
+  TypeReference<T> type() {
+    return type;
+  }
+
+  /**
+   * Runs the detection without looking into a cache.
+   *
+   * @param repository The repository.
+   * @param file A path to the file.
+   * @return The result.
+   * @throws IOException If something went wrong.
+   */
+  T run(LocalRepository repository, Path file) throws IOException {
+    return detection.detect(repository, file);
+  }
+
+  /**
+   * Looks at a file in a repository. If the file has already been checked by the detector,
+   * the result is taken from the cache that is used by {@link GitHubDataFetcher}.
+   *
+   * @param repository The repository.
+   * @param file A path to the file.
+   * @return The result.
+   * @throws IOException If something went wrong.
+   */
+  public T detect(LocalRepository repository, Path file) throws IOException {
+    return GitHubDataFetcher.fileDetectionCache().detect(repository, file, this);
+  }
+}
@@ -7,13 +7,9 @@ import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.apache.commons.io.IOUtils;
+import java.util.Optional;
 
 /**
  * This data provider check if an open-source project is included to the OSS-Fuzz project.
@@ -46,20 +42,14 @@ public class FuzzedInOssFuzz extends CachedSingleFeatureGitHubDataProvider<Boole
 
     LocalRepository ossFuzzRepository = GitHubDataFetcher.localRepositoryFor(OSS_FUZZ_PROJECT);
 
-    try (Stream<Path> paths = Files.walk(ossFuzzRepository.info().path())) {
-      List<Path> dockerFiles = paths
-          .filter(Files::isRegularFile)
-          .filter(path -> "Dockerfile".equals(path.getFileName().toString()))
-          .collect(Collectors.toList());
+    List<Path> dockerFiles = ossFuzzRepository.files(
+        path -> "Dockerfile".equals(path.getFileName().toString()));
 
-      String url = project.scm().toString();
-      for (Path dockerFile : dockerFiles) {
-        try (InputStream is = Files.newInputStream(dockerFile)) {
-          String content = IOUtils.toString(is);
-          if (content.contains(url)) {
-            return FUZZED_IN_OSS_FUZZ.value(true);
-          }
-        }
+    String url = project.scm().toString();
+    for (Path dockerFile : dockerFiles) {
+      Optional<String> content = ossFuzzRepository.file(dockerFile);
+      if (content.isPresent() && content.get().contains(url)) {
+        return FUZZED_IN_OSS_FUZZ.value(true);
       }
     }
 
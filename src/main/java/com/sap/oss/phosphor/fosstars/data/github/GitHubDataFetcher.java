@@ -23,12 +23,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.collections4.map.LRUMap;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
 import org.kohsuke.github.GHCommit;
@@ -65,6 +68,11 @@ public class GitHubDataFetcher {
    */
   static final String REPOSITORIES_BASE_PATH_PROPERTY = "fosstars.github.fetcher.repositories.base";
 
+  /**
+   * A system property that tells whether new local repositories should be bare.
+   */
+  static final String BARE_REPOSITORIES_PROPERTY = "fosstars.github.fetcher.repositories.bare";
+
   /**
    * The default base directory.
    */
@@ -92,6 +100,17 @@ public class GitHubDataFetcher {
    */
   private static Duration PULL_INTERVAL = DEFAULT_PULL_INTERVAL;
 
+  /**
+   * Defines whether local repositories should be bare. A bare repository doesn't have
+   * a working tree, so that it takes less disk space, and updating it requires only a fetch.
+   */
+  private static boolean BARE_REPOSITORIES = Boolean.getBoolean(BARE_REPOSITORIES_PROPERTY);
+
+  /**
+   * A cache for results of {@link FileDetector}s.
+   */
+  private static FileDetectionCache FILE_DETECTION_CACHE = FileDetectionCache.empty();
+
   /**
    * A synchronized cache of local repositories.
    */
@@ -105,6 +124,11 @@ public class GitHubDataFetcher {
   static final Map<URL, LocalRepositoryInfo> LOCAL_REPOSITORIES_INFO
       = Collections.synchronizedMap(new HashMap<>());
 
+  /**
+   * Maps a URL of a project to a lock that guards cloning and updating its local repository.
+   */
+  private static final Map<URL, Object> LOCAL_REPOSITORY_LOCKS = new ConcurrentHashMap<>();
+
   static {
     try {
       loadLocalRepositoriesInfo();
@@ -233,10 +257,18 @@ public class GitHubDataFetcher {
   public static LocalRepository localRepositoryFor(GitHubProject project) throws IOException {
     Objects.requireNonNull(project, "On no! Project is null!");
     LocalRepository repository = LOCAL_REPOSITORIES.get(project.scm());
+    if (repository != null) {
+      return repository;
+    }
 
-    if (repository == null) {
-      repository = loadLocalRepositoryFor(project);
-      LOCAL_REPOSITORIES.put(project.scm(), repository);
+    // only one thread may clone or update a repository,
+    // but different repositories may be cloned in parallel
+    synchronized (LOCAL_REPOSITORY_LOCKS.computeIfAbsent(project.scm(), url -> new Object())) {
+      repository = LOCAL_REPOSITORIES.get(project.scm());
+      if (repository == null) {
+        repository = loadLocalRepositoryFor(project);
+        LOCAL_REPOSITORIES.put(project.scm(), repository);
+      }
     }
 
     return repository;
@@ -252,55 +284,97 @@ public class GitHubDataFetcher {
   private static LocalRepository loadLocalRepositoryFor(GitHubProject project) throws IOException {
     Objects.requireNonNull(project, "On no! Project is null!");
 
-    synchronized (LOCAL_REPOSITORIES_INFO) {
-      LocalRepositoryInfo info = LOCAL_REPOSITORIES_INFO.get(project.scm());
-      if (info == null) {
-        Path repositoryPath
-            = REPOSITORIES_BASE_PATH.resolve(project.organization().name()).resolve(project.name());
-        info = new LocalRepositoryInfo(repositoryPath, Date.from(Instant.now()), project.scm());
+    LocalRepositoryInfo info = LOCAL_REPOSITORIES_INFO.get(project.scm());
+    if (info == null) {
+      Path repositoryPath
+          = REPOSITORIES_BASE_PATH.resolve(project.organization().name()).resolve(project.name());
+      info = new LocalRepositoryInfo(repositoryPath, Date.from(Instant.now()), project.scm());
+    }
+
+    if (Files.isRegularFile(info.path())) {
+      LOGGER.warn("{} is a file but it should be a directory, let's remove it", info.path());
+      Files.delete(info.path());
+    }
+
+    // the info about local repositories is not locked while the repository is cloned or updated,
+    // so that other repositories can be accessed in the meantime
+    try {
+      boolean bare = bareRepositories();
+      Optional<Repository> repository = openRepository(info.path());
+      if (repository.isPresent() && repository.get().isBare() != bare) {
+        LOGGER.info("Re-cloning {} because the type of the repository changed", project.scm());
+        repository.get().close();
+        FileUtils.deleteDirectory(info.path().toFile());
+        repository = Optional.empty();
+      }
+      if (!repository.isPresent()) {
+        Files.deleteIfExists(info.path());
+        clone(project, info.path(), bare);
+        repository = openRepository(info.path());
       }
 
-      if (Files.isRegularFile(info.path())) {
-        LOGGER.warn("{} is a file but it should be a directory, let's remove it", info.path());
-        Files.delete(info.path());
+      if (!repository.isPresent()) {
+        throw new IOException("Could not fetch project's repository!");
       }
 
-      try {
-        Optional<Repository> repository = openRepository(info.path());
-        if (!repository.isPresent()) {
-          Files.deleteIfExists(info.path());
-          clone(project, info.path());
-          repository = openRepository(info.path());
-        }
+      LocalRepository localRepository = new LocalRepository(info, repository.get());
 
-        if (!repository.isPresent()) {
-          throw new IOException("Could not fetch project's repository!");
-        }
+      if (shouldUpdate(localRepository)) {
+        LOGGER.info("Pulling updates from {} ...", project.scm());
+        localRepository.reset();
+        localRepository.pull();
+      }
 
-        LocalRepository localRepository = new LocalRepository(info, repository.get());
+      info.updated(Date.from(Instant.now()));
+      LOCAL_REPOSITORIES_INFO.put(project.scm(), info);
+      return localRepository;
+    } catch (IOException e) {
 
-        if (shouldUpdate(localRepository)) {
-          LOGGER.info("Pulling updates from {} ...", project.scm());
-          localRepository.reset();
-          localRepository.pull();
-        }
+      // if something went wrong, then clean up info and cache,
+      // and remove the local repository if it exists
+      LOCAL_REPOSITORIES_INFO.remove(project.scm());
+      LOCAL_REPOSITORIES.remove(project.scm());
+      Files.deleteIfExists(info.path());
 
-        info.updated(Date.from(Instant.now()));
-        LOCAL_REPOSITORIES_INFO.put(project.scm(), info);
-        return localRepository;
-      } catch (IOException e) {
+      // then, re-throw the original exception
+      throw e;
+    } finally {
+      storeLocalRepositoriesInfo();
+    }
+  }
 
-        // if something went wrong, then clean up info and cache,
-        // and remove the local repository if it exists
-        LOCAL_REPOSITORIES_INFO.remove(project.scm());
-        LOCAL_REPOSITORIES.remove(project.scm());
-        Files.deleteIfExists(info.path());
+  /**
+   * Returns an ID of the HEAD commit in a local clone of a project's repository.
+   * Unlike {@link #localRepositoryFor(GitHubProject)}, the method neither clones
+   * nor updates the repository.
+   *
+   * @param project The project.
+   * @return The ID of the HEAD commit if the project has been already cloned,
+   *         an empty {@link Optional} otherwise.
+   */
+  public static Optional<String> localHeadOf(GitHubProject project) {
+    Objects.requireNonNull(project, "On no! Project is null!");
 
-        // then, re-throw the original exception
-        throw e;
-      } finally {
-        storeLocalRepositoriesInfo();
+    Path path;
+    synchronized (LOCAL_REPOSITORIES_INFO) {
+      LocalRepositoryInfo info = LOCAL_REPOSITORIES_INFO.get(project.scm());
+      if (info == null) {
+        return Optional.empty();
       }
+      path = info.path();
+    }
+
+    Optional<Repository> repository = openRepository(path);
+    if (!repository.isPresent()) {
+      return Optional.empty();
+    }
+
+    try (Repository git = repository.get()) {
+      ObjectId head = git.resolve(Constants.HEAD);
+      return head != null ? Optional.of(head.name()) : Optional.empty();
+    } catch (IOException e) {
+      LOGGER.warn("Oops! Could not resolve HEAD in {}", path);
+      return Optional.empty();
     }
   }
 
@@ -314,6 +388,43 @@ public class GitHubDataFetcher {
     PULL_INTERVAL = duration;
   }
 
+  /**
+   * Sets whether new local repositories should be bare.
+   * An existing local repository is cloned again if its type doesn't match.
+   *
+   * @param bare True if local repositories should be bare, false otherwise.
+   */
+  public static synchronized void useBareRepositories(boolean bare) {
+    BARE_REPOSITORIES = bare;
+  }
+
+  /**
+   * Tells whether local repositories should be bare.
+   *
+   * @return True if local repositories should be bare, false otherwise.
+   */
+  static synchronized boolean bareRepositories() {
+    return BARE_REPOSITORIES;
+  }
+
+  /**
+   * Sets a cache for results of {@link FileDetector}s.
+   *
+   * @param cache The cache.
+   */
+  public static synchronized void useFileDetectionCache(FileDetectionCache cache) {
+    FILE_DETECTION_CACHE = Objects.requireNonNull(cache, "Oh no! Cache is null!");
+  }
+
+  /**
+   * Returns a cache for results of {@link FileDetector}s.
+   *
+   * @return The cache.
+   */
+  public static synchronized FileDetectionCache fileDetectionCache() {
+    return FILE_DETECTION_CACHE;
+  }
+
   /**
    * Checks if a repository should be updated.
    *
@@ -331,22 +442,25 @@ public class GitHubDataFetcher {
    *
    * @param project The project.
    * @param path Where the repository should be cloned to.
+   * @param bare Tells whether the clone should be bare.
    * @throws IOException If something went wrong while cloning the repository.
    */
-  private static void clone(GitHubProject project, Path path) throws IOException {
+  private static void clone(GitHubProject project, Path path, boolean bare) throws IOException {
     LOGGER.info("Cloning {} ...", project.scm());
     try {
       Git.cloneRepository()
           .setURI(project.scm().toString())
           .setDirectory(path.toFile())
-          .call();
+          .setBare(bare)
+          .call()
+          .close();
     } catch (GitAPIException e) {
       throw new IOException("Could not clone repository!", e);
     }
   }
 
   /**
-   * Opens a local repository.
+   * Opens a local repository. The repository may be either a regular or a bare one.
    *
    * @param path A path to the repository.
    * @return The repository.
@@ -360,12 +474,16 @@ public class GitHubDataFetcher {
       return Optional.empty();
     }
 
+    FileRepositoryBuilder builder = new FileRepositoryBuilder().setMustExist(true);
+    Path gitDirectory = path.resolve(".git");
+    if (Files.isDirectory(gitDirectory)) {
+      builder.setGitDir(gitDirectory.toFile());
+    } else {
+      builder.setGitDir(path.toFile()).setBare();
+    }
+
     try {
-      return Optional.of(
-          new FileRepositoryBuilder()
-              .setGitDir(path.resolve(".git").toFile())
-              .setMustExist(true)
-              .build());
+      return Optional.of(builder.build());
     } catch (IOException e) {
       LOGGER.error(() -> String.format("Could not open a repository at %s", path), e);
       return Optional.empty();
@@ -7,6 +7,7 @@ import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * This data provider tries to figure out if a project has a bug bounty program.
@@ -25,8 +26,18 @@ public class HasBugBountyProgram extends CachedSingleFeatureGitHubDataProvider<B
    * @throws IOException If something went wrong.
    */
   public HasBugBountyProgram(GitHubDataFetcher fetcher) throws IOException {
+    this(fetcher, BugBountyProgramStorage.load());
+  }
+
+  /**
+   * Initializes a data provider with a storage that may be shared with other data providers.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param storage Info about bug bounty programs.
+   */
+  public HasBugBountyProgram(GitHubDataFetcher fetcher, BugBountyProgramStorage storage) {
     super(fetcher);
-    bugBounties = BugBountyProgramStorage.load();
+    bugBounties = Objects.requireNonNull(storage, "Oh no! Storage is null!");
   }
 
   @Override
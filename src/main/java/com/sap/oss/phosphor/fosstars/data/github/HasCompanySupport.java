@@ -7,6 +7,7 @@ import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * This data provider check if an open-source project is supported by a company.
@@ -25,8 +26,18 @@ public class HasCompanySupport extends CachedSingleFeatureGitHubDataProvider<Boo
    * @throws IOException If the info about open-source projects can't be loaded.
    */
   public HasCompanySupport(GitHubDataFetcher fetcher) throws IOException {
+    this(fetcher, CompanySupportStorage.load());
+  }
+
+  /**
+   * Initializes a data provider with a storage that may be shared with other data providers.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param storage Info about companies that support open-source projects.
+   */
+  public HasCompanySupport(GitHubDataFetcher fetcher, CompanySupportStorage storage) {
     super(fetcher);
-    company = CompanySupportStorage.load();
+    company = Objects.requireNonNull(storage, "Oh no! Storage is null!");
   }
 
   @Override
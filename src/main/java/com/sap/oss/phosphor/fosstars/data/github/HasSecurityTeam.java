@@ -8,6 +8,7 @@ import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
+import java.util.Objects;
 
 /**
  * This data provider tries to figure out if a project has a security team. First, it checks if a
@@ -28,8 +29,18 @@ public class HasSecurityTeam extends CachedSingleFeatureGitHubDataProvider<Boole
    * @throws IOException If something went wrong.
    */
   public HasSecurityTeam(GitHubDataFetcher fetcher) throws IOException {
+    this(fetcher, SecurityTeamStorage.load());
+  }
+
+  /**
+   * Initializes a data provider with a storage that may be shared with other data providers.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param storage Info about security teams.
+   */
+  public HasSecurityTeam(GitHubDataFetcher fetcher, SecurityTeamStorage storage) {
     super(fetcher);
-    securityTeam = SecurityTeamStorage.load();
+    securityTeam = Objects.requireNonNull(storage, "Oh no! Storage is null!");
   }
 
   @Override
@@ -3,6 +3,7 @@ package com.sap.oss.phosphor.fosstars.data.github;
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.VULNERABILITIES;
 
 import com.sap.oss.phosphor.fosstars.data.DataProvider;
+import com.sap.oss.phosphor.fosstars.data.json.UnpatchedVulnerabilitiesStorage;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
@@ -42,11 +43,42 @@ public class InfoAboutVulnerabilities
    * @throws IOException If something went wrong.
    */
   public InfoAboutVulnerabilities(GitHubDataFetcher fetcher, NVD nvd) throws IOException {
+    this(fetcher, nvd, UnpatchedVulnerabilitiesStorage.load());
+  }
+
+  /**
+   * Initializes a data provider with a storage of unpatched vulnerabilities
+   * that may be shared with other data providers.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to the NVD.
+   * @param storage A storage of unpatched vulnerabilities.
+   */
+  public InfoAboutVulnerabilities(
+      GitHubDataFetcher fetcher, NVD nvd, UnpatchedVulnerabilitiesStorage storage) {
+
+    this(fetcher, nvd, storage, NvdMatchCache.empty());
+  }
+
+  /**
+   * Initializes a data provider with a storage of unpatched vulnerabilities
+   * and a cache of NVD entries that may be shared with other data providers.
+   * The underlying data providers search NVD only once for a project
+   * because they share the cache of NVD entries.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to the NVD.
+   * @param storage A storage of unpatched vulnerabilities.
+   * @param matches A cache of NVD entries for projects.
+   */
+  public InfoAboutVulnerabilities(GitHubDataFetcher fetcher, NVD nvd,
+      UnpatchedVulnerabilitiesStorage storage, NvdMatchCache matches) {
+
     super(fetcher);
     Objects.requireNonNull(nvd, "NVD can't be null!");
     providers = Arrays.asList(
-        new UnpatchedVulnerabilities(fetcher, nvd),
-        new VulnerabilitiesFromNvd(fetcher, nvd));
+        new UnpatchedVulnerabilities(fetcher, nvd, storage, matches),
+        new VulnerabilitiesFromNvd(fetcher, nvd, matches));
   }
 
   @Override
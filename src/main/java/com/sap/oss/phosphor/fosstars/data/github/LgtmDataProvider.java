@@ -50,6 +50,7 @@ public class LgtmDataProvider extends GitHubCachingDataProvider {
    */
   public LgtmDataProvider(GitHubDataFetcher fetcher) {
     super(fetcher);
+    cacheNegativeResultsFor(DEFAULT_NEGATIVE_CACHE_TTL);
   }
 
   @Override
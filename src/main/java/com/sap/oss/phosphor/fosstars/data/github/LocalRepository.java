@@ -9,11 +9,13 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -21,14 +23,31 @@ import org.apache.commons.io.IOUtils;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
 
 /**
- * The class holds information about repository that was cloned with JGit.
+ * <p>The class holds information about repository that was cloned with JGit.</p>
+ *
+ * <p>The repository may be either a regular clone with a working tree, or a bare clone.
+ * For a regular clone, files are read from the working tree.
+ * For a bare clone, files are read from the tree of the HEAD commit,
+ * and updates are fetched without checking them out.
+ * Paths to files look the same in both cases: they start with the path to the repository.</p>
  */
 public class LocalRepository implements AutoCloseable {
 
+  /**
+   * A revision string that points to the tree of the HEAD commit.
+   */
+  private static final String HEAD_TREE = "HEAD^{tree}";
+
   /**
    * Info about the repository.
    */
@@ -54,8 +73,10 @@ public class LocalRepository implements AutoCloseable {
     Objects.requireNonNull(info, "Oh no! Info is null!");
     Objects.requireNonNull(repository, "Oh no! Repository is null!");
 
-    if (!info.path().toAbsolutePath().equals(
-        Paths.get(repository.getDirectory().getParent()).toAbsolutePath())) {
+    Path directory = repository.isBare()
+        ? repository.getDirectory().toPath()
+        : Paths.get(repository.getDirectory().getParent());
+    if (!info.path().toAbsolutePath().equals(directory.toAbsolutePath())) {
 
       throw new IllegalArgumentException("Oh no! Paths don't match!");
     }
@@ -140,12 +161,27 @@ public class LocalRepository implements AutoCloseable {
     return Optional.of(commits.get(commits.size() - 1));
   }
 
+  /**
+   * Checks if the repository is bare, i.e. it doesn't have a working tree.
+   *
+   * @return True if the repository is bare, false otherwise.
+   */
+  @JsonIgnore
+  public boolean isBare() {
+    return repository.isBare();
+  }
+
   /**
    * Resets the repository in a hard way by calling "git reset --hard".
+   * A bare repository doesn't have a working tree, so that nothing is done in this case.
    *
    * @throws IOException If something went wrong.
    */
   public void reset() throws IOException {
+    if (repository.isBare()) {
+      return;
+    }
+
     try (Git git = new Git(repository)) {
       git.reset().setMode(ResetType.HARD).call();
     } catch (GitAPIException e) {
@@ -155,13 +191,18 @@ public class LocalRepository implements AutoCloseable {
 
   /**
    * Pulls updates to the local repository.
+   * A bare repository only fetches the updates.
    *
    * @throws IOException If something went wrong.
    */
   public void pull() throws IOException {
     try (Git git = new Git(repository)) {
-      String branch = git.getRepository().getBranch();
-      git.pull().setRemote("origin").setRemoteBranchName(branch).call();
+      if (repository.isBare()) {
+        git.fetch().setRemote("origin").call();
+      } else {
+        String branch = git.getRepository().getBranch();
+        git.pull().setRemote("origin").setRemoteBranchName(branch).call();
+      }
     } catch (GitAPIException e) {
       throw new IOException("Could not pull to repository!", e);
     }
@@ -189,12 +230,12 @@ public class LocalRepository implements AutoCloseable {
    */
   public Optional<String> file(Path file) throws IOException {
     Objects.requireNonNull(file, "On no! File name is null!");
-    Path path = info.path().resolve(file);
-    if (!Files.isRegularFile(path)) {
+    Optional<InputStream> content = read(file);
+    if (!content.isPresent()) {
       return Optional.empty();
     }
 
-    try (InputStream is = Files.newInputStream(path)) {
+    try (InputStream is = content.get()) {
       return Optional.of(IOUtils.toString(is));
     }
   }
@@ -204,9 +245,22 @@ public class LocalRepository implements AutoCloseable {
    *
    * @param path A path to the directory.
    * @return Ture if the repository contains the specified directory, false otherwise.
+   * @throws IOException If something went wrong.
    */
-  public boolean hasDirectory(Path path) {
-    return Files.isDirectory(info.path().resolve(path));
+  public boolean hasDirectory(Path path) throws IOException {
+    Objects.requireNonNull(path, "On no! Path is null!");
+    if (!repository.isBare()) {
+      return Files.isDirectory(resolve(path));
+    }
+
+    Optional<String> treePath = treePathOf(path);
+    if (!treePath.isPresent()) {
+      return false;
+    }
+    if (treePath.get().isEmpty()) {
+      return headTree().isPresent();
+    }
+    return lookup(treePath.get()).filter(entry -> entry.mode == FileMode.TREE).isPresent();
   }
 
   /**
@@ -230,12 +284,80 @@ public class LocalRepository implements AutoCloseable {
    */
   public Optional<InputStream> read(Path file) throws IOException {
     Objects.requireNonNull(file, "On no! File name is null!");
-    Path path = info.path().resolve(file);
-    if (!Files.isRegularFile(path)) {
+    if (!repository.isBare()) {
+      Path path = resolve(file);
+      if (!Files.isRegularFile(path)) {
+        return Optional.empty();
+      }
+
+      return Optional.of(Files.newInputStream(path));
+    }
+
+    Optional<String> treePath = treePathOf(file);
+    if (!treePath.isPresent() || treePath.get().isEmpty()) {
+      return Optional.empty();
+    }
+
+    Optional<TreeEntry> entry = lookup(treePath.get()).filter(TreeEntry::isFile);
+    if (!entry.isPresent()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(repository.open(entry.get().id, Constants.OBJ_BLOB).openStream());
+  }
+
+  /**
+   * Returns a size of a file if it exists.
+   *
+   * @param file The file name.
+   * @return A size of the file in bytes.
+   * @throws IOException If something went wrong.
+   */
+  public Optional<Long> sizeOf(Path file) throws IOException {
+    Objects.requireNonNull(file, "On no! File name is null!");
+    if (!repository.isBare()) {
+      Path path = resolve(file);
+      if (!Files.isRegularFile(path)) {
+        return Optional.empty();
+      }
+
+      return Optional.of(Files.size(path));
+    }
+
+    Optional<String> treePath = treePathOf(file);
+    if (!treePath.isPresent() || treePath.get().isEmpty()) {
+      return Optional.empty();
+    }
+
+    Optional<TreeEntry> entry = lookup(treePath.get()).filter(TreeEntry::isFile);
+    if (!entry.isPresent()) {
+      return Optional.empty();
+    }
+
+    try (ObjectReader reader = repository.newObjectReader()) {
+      return Optional.of(reader.getObjectSize(entry.get().id, Constants.OBJ_BLOB));
+    }
+  }
+
+  /**
+   * Returns an ID of a Git blob with the content of a file if the file exists.
+   * The ID is taken from the tree of the HEAD commit, and the file is not read.
+   * The working tree is reset to HEAD when the repository is updated,
+   * so the ID matches the content of the file there.
+   * A file that is not tracked has no ID.
+   *
+   * @param file The file name.
+   * @return The ID of the blob.
+   * @throws IOException If something went wrong.
+   */
+  public Optional<String> blobIdOf(Path file) throws IOException {
+    Objects.requireNonNull(file, "On no! File name is null!");
+    Optional<String> treePath = treePathOf(file);
+    if (!treePath.isPresent() || treePath.get().isEmpty()) {
       return Optional.empty();
     }
 
-    return Optional.of(Files.newInputStream(path));
+    return lookup(treePath.get()).filter(TreeEntry::isFile).map(entry -> entry.id.name());
   }
 
   /**
@@ -247,18 +369,18 @@ public class LocalRepository implements AutoCloseable {
    */
   public Optional<List<String>> readLinesOf(Path file) throws IOException {
     Objects.requireNonNull(file, "On no! File name is null!");
-    Path path = info.path().resolve(file);
-    if (!Files.isRegularFile(path)) {
+    Optional<InputStream> content = read(file);
+    if (!content.isPresent()) {
       return Optional.empty();
     }
 
-    try (InputStream is = Files.newInputStream(path)) {
+    try (InputStream is = content.get()) {
       return Optional.of(IOUtils.readLines(is));
     }
   }
 
   /**
-   * Looks for files in the repository.
+   * Looks for regular files in the repository.
    *
    * @param criteria Defines which files should be returned.
    * @return A list of files.
@@ -266,14 +388,11 @@ public class LocalRepository implements AutoCloseable {
    */
   public List<Path> files(Predicate<Path> criteria) throws IOException {
     Objects.requireNonNull(criteria, "Oh no! Search criteria is null!");
-
-    try (Stream<Path> paths = Files.walk(info().path())) {
-      return paths.filter(criteria).collect(Collectors.toList());
-    }
+    return files(Paths.get(""), criteria);
   }
 
   /**
-   * Looks for files in a subdirectory of the repository.
+   * Looks for regular files in a subdirectory of the repository.
    *
    * @param directory A path to the subdirectory.
    * @param criteria Defines which files should be returned.
@@ -284,8 +403,102 @@ public class LocalRepository implements AutoCloseable {
     Objects.requireNonNull(directory, "Oh no! Directory is null!");
     Objects.requireNonNull(criteria, "Oh no! Search criteria is null!");
 
-    try (Stream<Path> paths = Files.walk(info().path().resolve(directory))) {
-      return paths.filter(criteria).collect(Collectors.toList());
+    if (!repository.isBare()) {
+      try (Stream<Path> paths = Files.walk(resolve(directory))) {
+        return paths.filter(Files::isRegularFile).filter(criteria).collect(Collectors.toList());
+      }
+    }
+
+    Optional<String> treePath = treePathOf(directory);
+    Optional<ObjectId> tree = headTree();
+    if (!treePath.isPresent() || !tree.isPresent()) {
+      return Collections.emptyList();
+    }
+
+    List<Path> result = new ArrayList<>();
+    try (TreeWalk walk = new TreeWalk(repository)) {
+      walk.addTree(tree.get());
+      walk.setRecursive(true);
+      if (!treePath.get().isEmpty()) {
+        walk.setFilter(PathFilter.create(treePath.get()));
+      }
+      while (walk.next()) {
+        if (TreeEntry.isFile(walk.getFileMode(0))) {
+          Path path = info.path().resolve(walk.getPathString());
+          if (criteria.test(path)) {
+            result.add(path);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Resolves a path to a file in the repository. The path may be either relative
+   * to the repository, or it may already start with the path to the repository
+   * like the paths returned by {@link #files(Predicate)}.
+   *
+   * @param file The path to the file.
+   * @return The resolved path.
+   */
+  private Path resolve(Path file) {
+    return file.startsWith(info.path()) ? file : info.path().resolve(file);
+  }
+
+  /**
+   * Converts a path to a file in the repository to a path in the tree of the HEAD commit.
+   *
+   * @param file The path to the file. The path may be relative to the repository,
+   *             or it may start with the path to the repository.
+   * @return A path in the tree (an empty string for the root of the repository),
+   *         or an empty {@link Optional} if the file is outside of the repository.
+   */
+  private Optional<String> treePathOf(Path file) {
+    Path root = info.path().toAbsolutePath().normalize();
+    Path path = resolve(file).toAbsolutePath().normalize();
+    if (!path.startsWith(root)) {
+      return Optional.empty();
+    }
+
+    StringJoiner joiner = new StringJoiner("/");
+    for (Path element : root.relativize(path)) {
+      String name = element.toString();
+      if (!name.isEmpty()) {
+        joiner.add(name);
+      }
+    }
+    return Optional.of(joiner.toString());
+  }
+
+  /**
+   * Looks up the tree of the HEAD commit.
+   *
+   * @return The tree of the HEAD commit, or an empty {@link Optional} if there is no commit.
+   * @throws IOException If something went wrong.
+   */
+  private Optional<ObjectId> headTree() throws IOException {
+    return Optional.ofNullable(repository.resolve(HEAD_TREE));
+  }
+
+  /**
+   * Looks up an entry in the tree of the HEAD commit.
+   *
+   * @param treePath A path in the tree.
+   * @return The entry if found, an empty {@link Optional} otherwise.
+   * @throws IOException If something went wrong.
+   */
+  private Optional<TreeEntry> lookup(String treePath) throws IOException {
+    Optional<ObjectId> tree = headTree();
+    if (!tree.isPresent()) {
+      return Optional.empty();
+    }
+
+    try (TreeWalk walk = TreeWalk.forPath(repository, treePath, tree.get())) {
+      if (walk == null) {
+        return Optional.empty();
+      }
+      return Optional.of(new TreeEntry(walk.getObjectId(0), walk.getFileMode(0)));
     }
   }
 
@@ -294,6 +507,52 @@ public class LocalRepository implements AutoCloseable {
     repository.close();
   }
 
+  /**
+   * An entry in a tree of a commit.
+   */
+  private static class TreeEntry {
+
+    /**
+     * An ID of the object.
+     */
+    final ObjectId id;
+
+    /**
+     * A mode of the entry.
+     */
+    final FileMode mode;
+
+    /**
+     * Initializes a new entry.
+     *
+     * @param id An ID of the object.
+     * @param mode A mode of the entry.
+     */
+    TreeEntry(ObjectId id, FileMode mode) {
+      this.id = id;
+      this.mode = mode;
+    }
+
+    /**
+     * Checks if the entry is a regular file.
+     *
+     * @return True if the entry is a regular file, false otherwise.
+     */
+    boolean isFile() {
+      return isFile(mode);
+    }
+
+    /**
+     * Checks if a mode is a mode of a regular file.
+     *
+     * @param mode The mode.
+     * @return True if the mode is a mode of a regular file, false otherwise.
+     */
+    static boolean isFile(FileMode mode) {
+      return mode == FileMode.REGULAR_FILE || mode == FileMode.EXECUTABLE_FILE;
+    }
+  }
+
   /**
    * Loads commits in the repository.
    *
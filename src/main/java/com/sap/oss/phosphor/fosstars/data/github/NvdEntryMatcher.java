@@ -6,6 +6,7 @@ import com.sap.oss.phosphor.fosstars.nvd.data.Affects;
 import com.sap.oss.phosphor.fosstars.nvd.data.CVE;
 import com.sap.oss.phosphor.fosstars.nvd.data.Configurations;
 import com.sap.oss.phosphor.fosstars.nvd.data.CpeMatch;
+import com.sap.oss.phosphor.fosstars.nvd.data.CpeSymbols;
 import com.sap.oss.phosphor.fosstars.nvd.data.CpeUri;
 import com.sap.oss.phosphor.fosstars.nvd.data.CveMetaData;
 import com.sap.oss.phosphor.fosstars.nvd.data.Node;
@@ -16,6 +17,7 @@ import com.sap.oss.phosphor.fosstars.nvd.data.References;
 import com.sap.oss.phosphor.fosstars.nvd.data.Vendor;
 import com.sap.oss.phosphor.fosstars.nvd.data.VendorData;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -47,19 +49,25 @@ public class NvdEntryMatcher implements Matcher {
   private static final double LCS_METRIC_THRESHOLD = 0.875;
 
   /**
-   * Instance of {@link LongestCommonSubsequence}.
+   * Checks if two strings are similar.
    */
-  private static final LongestCommonSubsequence LCS = new LongestCommonSubsequence();
+  private static final StringSimilarity SIMILARITY
+      = new StringSimilarity(JWS_METRIC_THRESHOLD, LCS_METRIC_THRESHOLD);
 
   /**
-   * Instance of {@link JaroWinklerSimilarity}.
+   * A project to be checked.
    */
-  private static final JaroWinklerSimilarity JWS = new JaroWinklerSimilarity();
+  private final GitHubProject project;
 
   /**
-   * A project to be checked.
+   * Remembers which products in CPE URIs match the project's name.
    */
-  private final GitHubProject project;
+  private final SymbolMatches products;
+
+  /**
+   * Remembers which vendors in CPE URIs match the project's organization.
+   */
+  private final SymbolMatches vendors;
 
   /**
    * A black list of words, which should not be present when checking reference URLs.
@@ -83,6 +91,8 @@ public class NvdEntryMatcher implements Matcher {
    */
   private NvdEntryMatcher(GitHubProject project) {
     this.project = Objects.requireNonNull(project, "Null is not a project!");
+    this.products = new SymbolMatches(project.name());
+    this.vendors = new SymbolMatches(project.organization().name());
   }
 
   @Override
@@ -125,7 +135,7 @@ public class NvdEntryMatcher implements Matcher {
    * @param project The project to be checked.
    * @return True if the configurations or the references match the project, false otherwise.
    */
-  private static boolean match(Configurations configurations, CVE cve, GitHubProject project) {
+  private boolean match(Configurations configurations, CVE cve, GitHubProject project) {
     if (configurations == null || configurations.getNodes() == null) {
       return false;
     }
@@ -205,7 +215,7 @@ public class NvdEntryMatcher implements Matcher {
       return true;
     }
 
-    return jaroWinklerSimilarityCheck(one, two) && longestCommonSubsequenceCheck(one, two);
+    return SIMILARITY.test(one, two);
   }
 
   /**
@@ -247,32 +257,6 @@ public class NvdEntryMatcher implements Matcher {
     return false;
   }
 
-  /**
-   * Checks if two strings are similar by looking for the longest common sub-sequence.
-   * 
-   * @param one First string.
-   * @param two Second string.
-   * @return True if the strings are similar, false otherwise.
-   * @see <a href="https://www.geeksforgeeks.org/longest-common-subsequence-dp-4/">Longest Common
-   *      Subsequence Problem</a>
-   */
-  private static boolean longestCommonSubsequenceCheck(String one, String two) {
-    return LCS.apply(one, two) >= (one.length() * LCS_METRIC_THRESHOLD);
-  }
-
-  /**
-   * Checks if two strings are similar by calculating Jaro Winkler Similarity score.
-   * 
-   * @param one First string.
-   * @param two Second string.
-   * @return True if the strings are similar, false otherwise.
-   * @see <a href="https://www.geeksforgeeks.org/jaro-and-jaro-winkler-similarity/">Jaro Winkler
-   *      Similarity</a>
-   */
-  private static boolean jaroWinklerSimilarityCheck(String one, String two) {
-    return JWS.apply(one, two) > JWS_METRIC_THRESHOLD;
-  }
-
   /**
    * Checks if a {@link CpeMatch} matches a project.
    * 
@@ -281,13 +265,13 @@ public class NvdEntryMatcher implements Matcher {
    * @param project The project.
    * @return True if the {@link CpeMatch} matches the project, false otherwise.
    */
-  private static boolean projectCheck(CpeMatch cpeMatch, boolean referenceMatch,
+  private boolean projectCheck(CpeMatch cpeMatch, boolean referenceMatch,
       GitHubProject project) {
 
     CpeUri cpeUri = cpeMatch.getCpeUri();
 
-    boolean productMatch = match(cpeUri.getProduct(), project.name());
-    boolean vendorMatch = match(cpeUri.getVendor(), project.organization().name());
+    boolean productMatch = products.test(cpeUri.productSymbol(), cpeUri.getProduct());
+    boolean vendorMatch = vendors.test(cpeUri.vendorSymbol(), cpeUri.getVendor());
 
     // check if product's name matches the project's name,
     // or at least one reference URL matches with the project's URL
@@ -303,7 +287,7 @@ public class NvdEntryMatcher implements Matcher {
    * @param project The project.
    * @return True a matching node is found, false otherwise.
    */
-  private static boolean parseNodes(List<Node> nodes, boolean referenceMatch,
+  private boolean parseNodes(List<Node> nodes, boolean referenceMatch,
       GitHubProject project) {
 
     if (nodes == null) {
@@ -380,4 +364,64 @@ public class NvdEntryMatcher implements Matcher {
   private static boolean notStopWord(String word) {
     return word != null && !STOP_WORDS.contains(word); 
   }
+
+  /**
+   * Remembers which strings match a target string. The strings are identified
+   * by their symbols in {@link CpeSymbols}, so that a string is compared
+   * with the target only once no matter how many CPE URIs contain it.
+   * The class is not thread-safe.
+   */
+  private static class SymbolMatches {
+
+    /**
+     * The result is not known yet.
+     */
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * The string matches the target.
+     */
+    private static final byte MATCH = 1;
+
+    /**
+     * The string doesn't match the target.
+     */
+    private static final byte NO_MATCH = 2;
+
+    /**
+     * The target string.
+     */
+    private final String target;
+
+    /**
+     * Results indexed by symbols.
+     */
+    private byte[] results = new byte[0];
+
+    /**
+     * Initializes a new instance.
+     *
+     * @param target The target string.
+     */
+    SymbolMatches(String target) {
+      this.target = Objects.requireNonNull(target, "Oh no! Target is null!");
+    }
+
+    /**
+     * Checks if a string matches the target.
+     *
+     * @param symbol The symbol of the string.
+     * @param string The string.
+     * @return True if the string matches the target, false otherwise.
+     */
+    boolean test(int symbol, String string) {
+      if (symbol >= results.length) {
+        results = Arrays.copyOf(results, Math.max(symbol + 1, CpeSymbols.size()));
+      }
+      if (results[symbol] == UNKNOWN) {
+        results[symbol] = match(string, target) ? MATCH : NO_MATCH;
+      }
+      return results[symbol] == MATCH;
+    }
+  }
 }
@@ -0,0 +1,254 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.NVD;
+import com.sap.oss.phosphor.fosstars.nvd.data.NvdEntry;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>This is a persistent cache that maps projects to NVD entries
+ * that were found for the projects by {@link NvdEntryMatcher}.</p>
+ *
+ * <p>Looking for NVD entries requires checking each entry in NVD,
+ * so that the cache lets data providers share the result of a search for a project.
+ * An entry in the cache is valid as long as the snapshot version of NVD
+ * that was used for the search stays the same, see {@link NVD#snapshotVersion()}.
+ * The cache stores only IDs of NVD entries, the entries themselves are taken from NVD.
+ * Entries for other snapshots are dropped when the cache is stored,
+ * and the file is replaced atomically.</p>
+ *
+ * <p>The class is thread-safe. NVD is searched only once for a project
+ * even if multiple threads ask for the entries at the same time.</p>
+ */
+public class NvdMatchCache {
+
+  /**
+   * Maps a URL of a project's SCM to a cache entry.
+   */
+  private final Map<String, Entry> entries;
+
+  /**
+   * Locks that make sure that NVD is searched only once for a project.
+   * A lock is removed when the search is done.
+   */
+  private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an empty cache.
+   *
+   * @return An empty cache.
+   */
+  public static NvdMatchCache empty() {
+    return new NvdMatchCache(new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Initializes a new cache. The constructor is used for deserialization.
+   *
+   * @param entries A map with cache entries.
+   */
+  @JsonCreator
+  private NvdMatchCache(@JsonProperty("entries") Map<String, Entry> entries) {
+    this.entries = entries != null ? new ConcurrentHashMap<>(entries) : new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return a map with cache entries. The method is used for serialization.
+   *
+   * @return The map.
+   */
+  @JsonGetter("entries")
+  private Map<String, Entry> entries() {
+    return entries;
+  }
+
+  /**
+   * Returns a size of the cache.
+   *
+   * @return A size of the cache.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns NVD entries for a project. If the cache doesn't have a valid entry for the project,
+   * the method searches NVD and then caches the result.
+   *
+   * @param project The project.
+   * @param nvd An interface to NVD.
+   * @return A list of NVD entries that match the project.
+   * @throws IOException If something went wrong.
+   */
+  public List<NvdEntry> entriesFor(GitHubProject project, NVD nvd) throws IOException {
+    Objects.requireNonNull(project, "Oh no! Project is null!");
+    Objects.requireNonNull(nvd, "Oh no! NVD is null!");
+
+    String key = project.scm().toString();
+    String version = nvd.snapshotVersion();
+    Object lock = locks.computeIfAbsent(key, k -> new Object());
+    try {
+      synchronized (lock) {
+        Optional<List<String>> ids = cachedIdsFor(key, version);
+        if (ids.isPresent()) {
+          return resolve(ids.get(), nvd);
+        }
+
+        List<NvdEntry> result = nvd.search(NvdEntryMatcher.entriesFor(project));
+        List<String> found = new ArrayList<>();
+        for (NvdEntry entry : result) {
+          found.add(entry.getCve().getCveDataMeta().getId());
+        }
+        entries.put(key, new Entry(version, found));
+        return result;
+      }
+    } finally {
+      // a thread that still waits for the removed lock finds the result in the cache
+      locks.remove(key, lock);
+    }
+  }
+
+  /**
+   * Looks for IDs of NVD entries for a project that were found in a specified NVD snapshot.
+   *
+   * @param key A URL of the project's SCM.
+   * @param version The version of the NVD snapshot.
+   * @return A list of IDs if the cache has a valid entry, an empty {@link Optional} otherwise.
+   */
+  private Optional<List<String>> cachedIdsFor(String key, String version) {
+    Entry entry = entries.get(key);
+    if (entry == null || !entry.version.equals(version)) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.ids);
+  }
+
+  /**
+   * Takes NVD entries with specified IDs from NVD.
+   *
+   * @param ids The IDs.
+   * @param nvd An interface to NVD.
+   * @return A list of NVD entries.
+   * @throws IOException If something went wrong.
+   */
+  private static List<NvdEntry> resolve(List<String> ids, NVD nvd) throws IOException {
+    List<NvdEntry> result = new ArrayList<>();
+    for (String id : ids) {
+      nvd.get(id).ifPresent(result::add);
+    }
+    return result;
+  }
+
+  /**
+   * Load a cache from a file.
+   *
+   * @param filename A path to the file.
+   * @return A loaded cache.
+   * @throws IOException If something went wrong.
+   */
+  public static NvdMatchCache load(String filename) throws IOException {
+    Path path = Paths.get(filename);
+    if (!Files.exists(path)) {
+      throw new FileNotFoundException(String.format("Can't find %s", filename));
+    }
+    try (InputStream is = Files.newInputStream(path)) {
+      return Json.read(is, NvdMatchCache.class);
+    }
+  }
+
+  /**
+   * Store the cache to a file. Entries for NVD snapshots other than the current one
+   * are dropped before the cache is stored.
+   *
+   * @param filename The file.
+   * @param nvd An interface to NVD that defines the current snapshot.
+   * @throws IOException If something went wrong.
+   */
+  public void store(String filename, NVD nvd) throws IOException {
+    Objects.requireNonNull(nvd, "Oh no! NVD is null!");
+    String version = nvd.snapshotVersion();
+    entries.values().removeIf(entry -> !entry.version.equals(version));
+
+    Path path = Paths.get(filename).toAbsolutePath();
+    Path dir = path.getParent();
+    Files.createDirectories(dir);
+
+    // write to a temporary file first to make sure that the next run
+    // never loads a partially written cache
+    Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tmp, Json.toBytes(this));
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * A cache entry.
+   */
+  private static class Entry {
+
+    /**
+     * A version of the NVD snapshot that was searched.
+     */
+    private final String version;
+
+    /**
+     * IDs of the NVD entries that were found.
+     */
+    private final List<String> ids;
+
+    /**
+     * Initializes a new entry.
+     *
+     * @param version A version of the NVD snapshot that was searched.
+     * @param ids IDs of the NVD entries that were found.
+     */
+    @JsonCreator
+    private Entry(
+        @JsonProperty("version") String version,
+        @JsonProperty("ids") List<String> ids) {
+
+      this.version = Objects.requireNonNull(version, "Oh no! Version is null!");
+      this.ids = ids != null ? Collections.unmodifiableList(ids) : Collections.emptyList();
+    }
+
+    /**
+     * Returns a version of the NVD snapshot. The method is used for serialization.
+     *
+     * @return The version.
+     */
+    @JsonGetter("version")
+    private String version() {
+      return version;
+    }
+
+    /**
+     * Returns IDs of the NVD entries. The method is used for serialization.
+     *
+     * @return The IDs.
+     */
+    @JsonGetter("ids")
+    private List<String> ids() {
+      return ids;
+    }
+  }
+}
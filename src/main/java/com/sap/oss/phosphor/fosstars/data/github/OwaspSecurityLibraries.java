@@ -7,15 +7,19 @@ import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_O
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_OWASP_JAVA_HTML_SANITIZER;
 import static com.sap.oss.phosphor.fosstars.model.other.Utils.setOf;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.maven.AbstractModelVisitor;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.feature.BooleanFeature;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -46,6 +50,28 @@ public class OwaspSecurityLibraries extends GitHubCachingDataProvider {
   private static final Set<String> SUPPORTED_GRADLE_SCOPES
       = setOf("implementation", "compile", "runtime");
 
+  /**
+   * The features that are filled out by the data provider.
+   */
+  private static final List<BooleanFeature> LIBRARIES = Arrays.asList(
+      USES_OWASP_ESAPI, USES_OWASP_JAVA_ENCODER, USES_OWASP_JAVA_HTML_SANITIZER);
+
+  /**
+   * Looks for the libraries in a POM file.
+   * The result contains names of the features for the found libraries.
+   */
+  private static final FileDetector<Set<String>> LIBRARIES_IN_MAVEN = FileDetector.of(
+      "owasp-security-libraries-in-maven", 1, new TypeReference<Set<String>>() {},
+      OwaspSecurityLibraries::librariesInMaven);
+
+  /**
+   * Looks for the libraries in a Gradle file.
+   * The result contains names of the features for the found libraries.
+   */
+  private static final FileDetector<Set<String>> LIBRARIES_IN_GRADLE = FileDetector.of(
+      "owasp-security-libraries-in-gradle", 1, new TypeReference<Set<String>>() {},
+      OwaspSecurityLibraries::librariesInGradle);
+
   /**
    * Initializes a data provider.
    *
@@ -87,7 +113,49 @@ public class OwaspSecurityLibraries extends GitHubCachingDataProvider {
    * @throws IOException If something went wrong.
    */
   private static void checkMaven(LocalRepository repository, ValueSet values) throws IOException {
-    Optional<InputStream> content = repository.read("pom.xml");
+    update(values, LIBRARIES_IN_MAVEN.detect(repository, Paths.get("pom.xml")));
+  }
+
+  /**
+   * Looks for the feature in a Gradle project.
+   *
+   * @param repository Project's repository.
+   * @param values A value set to be updated with the features.
+   * @throws IOException If something went wrong.
+   */
+  private static void checkGradle(LocalRepository repository, ValueSet values) throws IOException {
+    for (Path gradleFile : repository.files(path -> path.getFileName().endsWith(".gradle"))) {
+      update(values, LIBRARIES_IN_GRADLE.detect(repository, gradleFile));
+    }
+  }
+
+  /**
+   * Sets the features for the found libraries to true.
+   *
+   * @param values A value set to be updated with the features.
+   * @param found Names of the features for the found libraries.
+   */
+  private static void update(ValueSet values, Set<String> found) {
+    for (BooleanFeature feature : LIBRARIES) {
+      if (found.contains(feature.name())) {
+        values.update(feature.value(true));
+      }
+    }
+  }
+
+  /**
+   * Looks for the libraries in a POM file.
+   *
+   * @param repository Project's repository.
+   * @param file A path to the POM file.
+   * @return Names of the features for the found libraries.
+   * @throws IOException If something went wrong.
+   */
+  private static Set<String> librariesInMaven(LocalRepository repository, Path file)
+      throws IOException {
+
+    Set<String> found = new HashSet<>();
+    Optional<InputStream> content = repository.read(file);
 
     if (content.isPresent()) {
       try (InputStream is = content.get()) {
@@ -96,47 +164,53 @@ public class OwaspSecurityLibraries extends GitHubCachingDataProvider {
         Visitor visitor = browse(model, withVisitor());
 
         if (visitor.foundOwaspEsapi) {
-          values.update(USES_OWASP_ESAPI.value(true));
+          found.add(USES_OWASP_ESAPI.name());
         }
 
         if (visitor.foundOwaspJavaEncoder) {
-          values.update(USES_OWASP_JAVA_ENCODER.value(true));
+          found.add(USES_OWASP_JAVA_ENCODER.name());
         }
 
         if (visitor.foundOwaspJavaHtmlSanitizer) {
-          values.update(USES_OWASP_JAVA_HTML_SANITIZER.value(true));
+          found.add(USES_OWASP_JAVA_HTML_SANITIZER.name());
         }
       }
     }
+
+    return found;
   }
 
   /**
-   * Looks for the feature in a Gradle project.
+   * Looks for the libraries in a Gradle file.
    *
    * @param repository Project's repository.
-   * @param values A value set to be updated with the features.
+   * @param file A path to the Gradle file.
+   * @return Names of the features for the found libraries.
    * @throws IOException If something went wrong.
    */
-  private static void checkGradle(LocalRepository repository, ValueSet values) throws IOException {
-    for (Path gradleFile : repository.files(path -> path.getFileName().endsWith(".gradle"))) {
-      Optional<List<String>> something = repository.readLinesOf(gradleFile);
-      if (!something.isPresent()) {
-        return;
-      }
-      List<String> file = something.get();
+  private static Set<String> librariesInGradle(LocalRepository repository, Path file)
+      throws IOException {
 
-      if (foundOwaspEsapiInGradle(file)) {
-        values.update(USES_OWASP_ESAPI.value(true));
-      }
+    Set<String> found = new HashSet<>();
+    Optional<List<String>> something = repository.readLinesOf(file);
+    if (!something.isPresent()) {
+      return found;
+    }
+    List<String> content = something.get();
 
-      if (foundOwaspJavaEncoderInGradle(file)) {
-        values.update(USES_OWASP_JAVA_ENCODER.value(true));
-      }
+    if (foundOwaspEsapiInGradle(content)) {
+      found.add(USES_OWASP_ESAPI.name());
+    }
 
-      if (foundOwaspJavaHtmlSanitizerInGradle(file)) {
-        values.update(USES_OWASP_JAVA_HTML_SANITIZER.value(true));
-      }
+    if (foundOwaspJavaEncoderInGradle(content)) {
+      found.add(USES_OWASP_JAVA_ENCODER.name());
     }
+
+    if (foundOwaspJavaHtmlSanitizerInGradle(content)) {
+      found.add(USES_OWASP_JAVA_HTML_SANITIZER.name());
+    }
+
+    return found;
   }
 
   /**
@@ -148,14 +148,14 @@ public class PackageManagement extends CachedSingleFeatureGitHubDataProvider<Pac
     }
 
     PackageManagers packageManagers = new PackageManagers();
-    GitHubDataFetcher.localRepositoryFor(project).files(Files::isRegularFile)
-        .forEach(path -> {
-          for (PackageManager packageManager : possiblePackageManagers) {
-            if (isKnownConfigFile(path, packageManager)) {
-              packageManagers.add(packageManager);
-            }
-          }
-        });
+    LocalRepository repository = GitHubDataFetcher.localRepositoryFor(project);
+    for (Path path : repository.files(path -> true)) {
+      for (PackageManager packageManager : possiblePackageManagers) {
+        if (isKnownConfigFile(repository, path, packageManager)) {
+          packageManagers.add(packageManager);
+        }
+      }
+    }
 
     return PACKAGE_MANAGERS.value(packageManagers);
   }
@@ -181,14 +181,48 @@ public class PackageManagement extends CachedSingleFeatureGitHubDataProvider<Pac
         return false;
       }
 
-      for (Predicate<String> matcher : CONFIG_FILES_PATTERNS.get(packageManager)) {
-        if (matcher.test(path.getFileName().toString())) {
-          return true;
-        }
-      }
+      return hasConfigName(path, packageManager);
     } catch (IOException e) {
       return false;
     }
+  }
+
+  /**
+   * Checks if a file in a repository looks like a config of a specified package manager.
+   * Unlike {@link #isKnownConfigFile(Path, PackageManager)}, the method doesn't expect
+   * the file to be in a working tree, so that it works with bare repositories as well.
+   *
+   * @param repository The repository.
+   * @param path A path to the file.
+   * @param packageManager The package manager.
+   * @return True if a file looks like a config of the package manager, false otherwise.
+   * @throws IOException If something went wrong.
+   */
+  static boolean isKnownConfigFile(
+      LocalRepository repository, Path path, PackageManager packageManager) throws IOException {
+
+    if (!CONFIG_FILES_PATTERNS.containsKey(packageManager)) {
+      return false;
+    }
+
+    // check the name first, so that a size is looked up only for candidates
+    return hasConfigName(path, packageManager)
+        && repository.sizeOf(path).filter(size -> size >= ACCEPTABLE_CONFIG_SIZE).isPresent();
+  }
+
+  /**
+   * Checks if a name of a file looks like a name of a config of a specified package manager.
+   *
+   * @param path A path to the file.
+   * @param packageManager The package manager.
+   * @return True if the name looks like a name of a config, false otherwise.
+   */
+  private static boolean hasConfigName(Path path, PackageManager packageManager) {
+    for (Predicate<String> matcher : CONFIG_FILES_PATTERNS.get(packageManager)) {
+      if (matcher.test(path.getFileName().toString())) {
+        return true;
+      }
+    }
 
     return false;
   }
@@ -5,6 +5,7 @@ import static com.sap.oss.phosphor.fosstars.maven.MavenUtils.readModel;
 import static com.sap.oss.phosphor.fosstars.maven.ModelVisitor.Location.BUILD;
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.SIGNS_ARTIFACTS;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.maven.AbstractModelVisitor;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
@@ -12,6 +13,8 @@ import com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.maven.model.Model;
@@ -25,6 +28,13 @@ import org.apache.maven.model.Plugin;
  */
 public class SignsJarArtifacts extends CachedSingleFeatureGitHubDataProvider<Boolean> {
 
+  /**
+   * Checks if a POM file configures signing artifacts.
+   */
+  private static final FileDetector<Boolean> SIGNING_IN_MAVEN = FileDetector.of(
+      "maven-gpg-plugin-in-maven", 1, new TypeReference<Boolean>() {},
+      SignsJarArtifacts::checkMaven);
+
   /**
    * Initializes a data provider.
    *
@@ -43,7 +53,7 @@ public class SignsJarArtifacts extends CachedSingleFeatureGitHubDataProvider<Boo
   protected Value<Boolean> fetchValueFor(GitHubProject project) throws IOException {
     logger.info("Figuring out if the project signs jar files ...");
     LocalRepository repository = GitHubDataFetcher.localRepositoryFor(project);
-    boolean answer = checkMaven(repository);
+    boolean answer = SIGNING_IN_MAVEN.detect(repository, Paths.get("pom.xml"));
     return SIGNS_ARTIFACTS.value(answer);
   }
 
@@ -51,11 +61,12 @@ public class SignsJarArtifacts extends CachedSingleFeatureGitHubDataProvider<Boo
    * Checks if a project uses Maven GPG plugin.
    *
    * @param repository The project's repository.
+   * @param file A path to the POM file.
    * @return True if the project uses Maven GPG plugin, false otherwise.
    * @throws IOException If something went wrong.
    */
-  private boolean checkMaven(LocalRepository repository) throws IOException {
-    Optional<InputStream> content = repository.read("pom.xml");
+  private static boolean checkMaven(LocalRepository repository, Path file) throws IOException {
+    Optional<InputStream> content = repository.read(file);
 
     if (!content.isPresent()) {
       return false;
@@ -0,0 +1,338 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.apache.commons.text.similarity.LongestCommonSubsequence;
+
+/**
+ * <p>The class checks if two strings are similar. Two strings are similar if
+ * their {@link JaroWinklerSimilarity} score is above a threshold, and
+ * their {@link LongestCommonSubsequence} is long enough.</p>
+ *
+ * <p>The result is the same as if the metrics were calculated directly,
+ * but the class tries to avoid calculating them. First, it checks cheap upper bounds
+ * of the metrics that are based on lengths of the strings and the number of characters
+ * that the strings have in common. Most of pairs of strings fail these checks.
+ * Next, the class calculates {@link JaroWinklerSimilarity} in the same way as commons-text does,
+ * and then the length of the longest common subsequence which stops as soon as
+ * it's clear whether the threshold is reached or not. Both metrics use scratch buffers
+ * that are reused by each thread, so that a check doesn't allocate memory.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+class StringSimilarity {
+
+  /**
+   * The maximum length of a common prefix that
+   * {@link JaroWinklerSimilarity} takes into account.
+   */
+  private static final int MAX_PREFIX = 4;
+
+  /**
+   * The scaling factor for a common prefix that {@link JaroWinklerSimilarity} uses.
+   */
+  private static final double PREFIX_SCALING_FACTOR = 0.1;
+
+  /**
+   * A tolerance for rounding errors in the upper bound of {@link JaroWinklerSimilarity}.
+   */
+  private static final double EPSILON = 1e-9;
+
+  /**
+   * Characters below this code are counted one by one when the common characters are counted.
+   */
+  private static final int ASCII = 128;
+
+  /**
+   * Scratch buffers, one set per thread.
+   */
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  /**
+   * The threshold for the {@link JaroWinklerSimilarity} check.
+   */
+  private final double jwsThreshold;
+
+  /**
+   * The threshold for the {@link LongestCommonSubsequence} check.
+   */
+  private final double lcsThreshold;
+
+  /**
+   * Initializes a new similarity check.
+   *
+   * @param jwsThreshold The threshold for the {@link JaroWinklerSimilarity} check.
+   * @param lcsThreshold The threshold for the {@link LongestCommonSubsequence} check.
+   */
+  StringSimilarity(double jwsThreshold, double lcsThreshold) {
+    this.jwsThreshold = jwsThreshold;
+    this.lcsThreshold = lcsThreshold;
+  }
+
+  /**
+   * Checks if two strings are similar. The strings are similar if
+   * their {@link JaroWinklerSimilarity} score is above the threshold,
+   * and the length of their longest common subsequence is not less than
+   * the length of the first string multiplied by the threshold.
+   *
+   * @param one First string.
+   * @param two Second string.
+   * @return True if the strings are similar, false otherwise.
+   */
+  boolean test(String one, String two) {
+    Objects.requireNonNull(one, "Oh no! First string is null!");
+    Objects.requireNonNull(two, "Oh no! Second string is null!");
+
+    int n = one.length();
+    int m = two.length();
+    if (n == 0 || m == 0) {
+      return n == m;
+    }
+
+    // the longest common subsequence can't be longer than the shorter string
+    double lcsRequired = n * lcsThreshold;
+    if (Math.min(n, m) < lcsRequired) {
+      return false;
+    }
+
+    // the longest common subsequence can't be longer than the number of common characters
+    Scratch scratch = SCRATCH.get();
+    int common = scratch.commonCharacters(one, two);
+    if (common < lcsRequired) {
+      return false;
+    }
+
+    if (jaroWinklerUpperBound(common, n, m) + EPSILON <= jwsThreshold) {
+      return false;
+    }
+
+    return scratch.jaroWinkler(one, two) > jwsThreshold
+        && scratch.lcsAtLeast(one, two, lcsRequired);
+  }
+
+  /**
+   * Calculates {@link JaroWinklerSimilarity} for two strings without allocating memory.
+   *
+   * @param one First string.
+   * @param two Second string.
+   * @return The similarity.
+   */
+  static double jaroWinkler(String one, String two) {
+    Objects.requireNonNull(one, "Oh no! First string is null!");
+    Objects.requireNonNull(two, "Oh no! Second string is null!");
+    return SCRATCH.get().jaroWinkler(one, two);
+  }
+
+  /**
+   * Calculates an upper bound of {@link JaroWinklerSimilarity} for two strings.
+   * The Jaro similarity is (c / n + c / m + (c - t) / c) / 3, where c is the number
+   * of matching characters, and t is the number of transpositions.
+   * The number of matching characters can't exceed the number of common characters,
+   * and the last term can't exceed 1. If the Jaro similarity is 0.7 or above,
+   * then a bonus for a common prefix is added which is at most 0.4 * (1 - j).
+   *
+   * @param common The number of common characters.
+   * @param n The length of the first string.
+   * @param m The length of the second string.
+   * @return The upper bound.
+   */
+  private static double jaroWinklerUpperBound(int common, int n, int m) {
+    double jaro = ((double) common / n + (double) common / m + 1.0) / 3.0;
+    return jaro + MAX_PREFIX * PREFIX_SCALING_FACTOR * (1.0 - jaro);
+  }
+
+  /**
+   * Scratch buffers for a single thread.
+   */
+  private static class Scratch {
+
+    /**
+     * Counters of ASCII characters.
+     */
+    final int[] counters = new int[ASCII];
+
+    /**
+     * The previous row of the LCS table.
+     */
+    int[] previous = new int[16];
+
+    /**
+     * The current row of the LCS table.
+     */
+    int[] current = new int[16];
+
+    /**
+     * Indexes of characters in the longer string that match characters in the shorter one.
+     */
+    int[] matchIndexes = new int[16];
+
+    /**
+     * Flags of characters in the longer string that have been matched.
+     */
+    boolean[] matchFlags = new boolean[16];
+
+    /**
+     * Calculates {@link JaroWinklerSimilarity} for two strings.
+     * The method follows the implementation in commons-text 1.8
+     * and returns exactly the same result.
+     *
+     * @param first First string.
+     * @param second Second string.
+     * @return The similarity.
+     */
+    double jaroWinkler(String first, String second) {
+      if (first.equals(second)) {
+        return 1.0;
+      }
+
+      String max = first.length() > second.length() ? first : second;
+      String min = max == first ? second : first;
+      if (matchIndexes.length < min.length()) {
+        matchIndexes = new int[min.length()];
+      }
+      if (matchFlags.length < max.length()) {
+        matchFlags = new boolean[max.length()];
+      }
+      Arrays.fill(matchIndexes, 0, min.length(), -1);
+      Arrays.fill(matchFlags, 0, max.length(), false);
+
+      int range = Math.max(max.length() / 2 - 1, 0);
+      int matches = 0;
+      for (int mi = 0; mi < min.length(); mi++) {
+        char c = min.charAt(mi);
+        int end = Math.min(mi + range + 1, max.length());
+        for (int xi = Math.max(mi - range, 0); xi < end; xi++) {
+          if (!matchFlags[xi] && c == max.charAt(xi)) {
+            matchIndexes[mi] = xi;
+            matchFlags[xi] = true;
+            matches++;
+            break;
+          }
+        }
+      }
+
+      if (matches == 0) {
+        return 0.0;
+      }
+
+      // compare matched characters of both strings in order
+      int halfTranspositions = 0;
+      int xi = 0;
+      for (int mi = 0; mi < min.length(); mi++) {
+        if (matchIndexes[mi] == -1) {
+          continue;
+        }
+        while (!matchFlags[xi]) {
+          xi++;
+        }
+        if (min.charAt(mi) != max.charAt(xi)) {
+          halfTranspositions++;
+        }
+        xi++;
+      }
+
+      int prefix = 0;
+      for (int i = 0; i < Math.min(MAX_PREFIX, min.length()); i++) {
+        if (first.charAt(i) != second.charAt(i)) {
+          break;
+        }
+        prefix++;
+      }
+
+      double m = matches;
+      double j = (m / first.length() + m / second.length()
+          + (m - (double) halfTranspositions / 2) / m) / 3;
+      return j < 0.7 ? j : j + PREFIX_SCALING_FACTOR * prefix * (1.0 - j);
+    }
+
+    /**
+     * Counts characters that two strings have in common (with multiplicities).
+     * All non-ASCII characters are treated as the same character,
+     * so that the result may be greater than the exact number but never less.
+     *
+     * @param one First string.
+     * @param two Second string.
+     * @return The number of common characters.
+     */
+    int commonCharacters(String one, String two) {
+      int otherOne = 0;
+      for (int i = 0; i < one.length(); i++) {
+        char c = one.charAt(i);
+        if (c < ASCII) {
+          counters[c]++;
+        } else {
+          otherOne++;
+        }
+      }
+
+      int common = 0;
+      int otherTwo = 0;
+      for (int i = 0; i < two.length(); i++) {
+        char c = two.charAt(i);
+        if (c >= ASCII) {
+          otherTwo++;
+        } else if (counters[c] > 0) {
+          counters[c]--;
+          common++;
+        }
+      }
+
+      for (int i = 0; i < one.length(); i++) {
+        char c = one.charAt(i);
+        if (c < ASCII) {
+          counters[c] = 0;
+        }
+      }
+
+      return common + Math.min(otherOne, otherTwo);
+    }
+
+    /**
+     * Checks if the longest common subsequence of two strings is not shorter than required.
+     * The method fills out the LCS table row by row and stops as soon as
+     * the required length is reached, or it becomes clear that it can't be reached.
+     *
+     * @param one First string.
+     * @param two Second string.
+     * @param required The required length.
+     * @return True if the longest common subsequence is long enough, false otherwise.
+     */
+    boolean lcsAtLeast(String one, String two, double required) {
+      final int n = one.length();
+      int m = two.length();
+      if (previous.length < m + 1) {
+        previous = new int[m + 1];
+        current = new int[m + 1];
+      }
+      Arrays.fill(previous, 0, m + 1, 0);
+      current[0] = 0;
+
+      for (int i = 1; i <= n; i++) {
+        char c = one.charAt(i - 1);
+        for (int j = 1; j <= m; j++) {
+          if (c == two.charAt(j - 1)) {
+            current[j] = previous[j - 1] + 1;
+          } else {
+            current[j] = Math.max(previous[j], current[j - 1]);
+          }
+        }
+
+        int[] row = previous;
+        previous = current;
+        current = row;
+
+        // the rest of the first string may add at most one character per row
+        int best = previous[m];
+        if (best >= required) {
+          return true;
+        }
+        if (best + (n - i) < required) {
+          return false;
+        }
+      }
+
+      return previous[m] >= required;
+    }
+  }
+}
@@ -47,6 +47,11 @@ public class UnpatchedVulnerabilities
    */
   private final NVD nvd;
 
+  /**
+   * A cache of NVD entries for projects.
+   */
+  private final NvdMatchCache matches;
+
   /**
    * Initializes a data provider.
    *
@@ -55,9 +60,41 @@ public class UnpatchedVulnerabilities
    * @throws IOException If the info about unpatched vulnerabilities can't be loaded.
    */
   public UnpatchedVulnerabilities(GitHubDataFetcher fetcher, NVD nvd) throws IOException {
+    this(fetcher, nvd, UnpatchedVulnerabilitiesStorage.load());
+  }
+
+  /**
+   * Initializes a data provider with a storage that may be shared with other data providers.
+   * The data provider doesn't modify the storage.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to NVD.
+   * @param storage A storage of unpatched vulnerabilities.
+   */
+  public UnpatchedVulnerabilities(
+      GitHubDataFetcher fetcher, NVD nvd, UnpatchedVulnerabilitiesStorage storage) {
+
+    this(fetcher, nvd, storage, NvdMatchCache.empty());
+  }
+
+  /**
+   * Initializes a data provider with a storage and a cache of NVD entries
+   * that may be shared with other data providers.
+   * The data provider doesn't modify the storage.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to NVD.
+   * @param storage A storage of unpatched vulnerabilities.
+   * @param matches A cache of NVD entries for projects.
+   */
+  public UnpatchedVulnerabilities(GitHubDataFetcher fetcher, NVD nvd,
+      UnpatchedVulnerabilitiesStorage storage, NvdMatchCache matches) {
+
     super(fetcher);
     this.nvd = Objects.requireNonNull(nvd, "NVD can't be null!");
-    knownUnpatchedVulnerabilities = UnpatchedVulnerabilitiesStorage.load();
+    this.knownUnpatchedVulnerabilities
+        = Objects.requireNonNull(storage, "Oh no! Storage is null!");
+    this.matches = Objects.requireNonNull(matches, "Oh no! Matches are null!");
   }
 
   @Override
@@ -88,7 +125,7 @@ public class UnpatchedVulnerabilities
    */
   Vulnerabilities vulnerabilitiesFromNvdFor(GitHubProject project) throws IOException {
     Vulnerabilities vulnerabilities = new Vulnerabilities();
-    for (NvdEntry entry : nvd.search(NvdEntryMatcher.entriesFor(project))) {
+    for (NvdEntry entry : matches.entriesFor(project, nvd)) {
       if (isUnpatched(entry, project)) {
         vulnerabilities.add(
             Vulnerability.Builder.from(entry)
@@ -155,14 +192,37 @@ public class UnpatchedVulnerabilities
   }
 
   /**
-   * Checks if a string matcher to a project.
+   * Checks if a string matcher to a project. The string matches if its lower-case form
+   * contains the project's name. The check doesn't create a lower-case copy of the string.
    *
    * @param string The string.
    * @param project The project.
    * @return True if the string matches to the project, false otherwise.
    */
   private static boolean match(String string, GitHubProject project) {
-    return string != null && string.toLowerCase().contains(project.name());
+    return string != null && containsInLowerCase(string, project.name());
+  }
+
+  /**
+   * Checks if the lower-case form of a string contains a substring.
+   *
+   * @param string The string.
+   * @param substring The substring.
+   * @return True if the lower-case form of the string contains the substring, false otherwise.
+   */
+  static boolean containsInLowerCase(String string, String substring) {
+    int last = string.length() - substring.length();
+    for (int i = 0; i <= last; i++) {
+      int j = 0;
+      while (j < substring.length()
+          && Character.toLowerCase(string.charAt(i + j)) == substring.charAt(j)) {
+        j++;
+      }
+      if (j == substring.length()) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
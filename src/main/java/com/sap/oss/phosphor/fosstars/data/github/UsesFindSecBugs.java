@@ -4,6 +4,7 @@ import static com.sap.oss.phosphor.fosstars.maven.MavenUtils.browse;
 import static com.sap.oss.phosphor.fosstars.maven.MavenUtils.readModel;
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_FIND_SEC_BUGS;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.maven.AbstractModelVisitor;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
@@ -11,6 +12,8 @@ import com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.maven.model.Model;
@@ -26,6 +29,13 @@ import org.codehaus.plexus.util.xml.Xpp3Dom;
  */
 public class UsesFindSecBugs extends CachedSingleFeatureGitHubDataProvider<Boolean> {
 
+  /**
+   * Checks if a POM file configures FindSecBugs.
+   */
+  private static final FileDetector<Boolean> FIND_SEC_BUGS_IN_MAVEN = FileDetector.of(
+      "find-sec-bugs-in-maven", 1, new TypeReference<Boolean>() {},
+      UsesFindSecBugs::checkMaven);
+
   /**
    * Initializes a data provider.
    *
@@ -44,7 +54,7 @@ public class UsesFindSecBugs extends CachedSingleFeatureGitHubDataProvider<Boole
   protected Value<Boolean> fetchValueFor(GitHubProject project) throws IOException {
     logger.info("Figuring out if the project uses FindSecBugs ...");
     LocalRepository repository = GitHubDataFetcher.localRepositoryFor(project);
-    boolean answer = checkMaven(repository);
+    boolean answer = FIND_SEC_BUGS_IN_MAVEN.detect(repository, Paths.get("pom.xml"));
     return USES_FIND_SEC_BUGS.value(answer);
   }
 
@@ -52,12 +62,13 @@ public class UsesFindSecBugs extends CachedSingleFeatureGitHubDataProvider<Boole
    * Checks if a repository uses FindSecBugs with Maven.
    *
    * @param repository The repository.
+   * @param file A path to the POM file.
    * @return True if the project uses FindSecBugs, false otherwise.
    * @throws IOException If something went wrong
    * @see <a href="https://github.com/find-sec-bugs/find-sec-bugs/wiki/Maven-configuration">Maven configuration</a>
    */
-  private boolean checkMaven(LocalRepository repository) throws IOException {
-    Optional<InputStream> content = repository.read("pom.xml");
+  private static boolean checkMaven(LocalRepository repository, Path file) throws IOException {
+    Optional<InputStream> content = repository.read(file);
 
     if (!content.isPresent()) {
       return false;
@@ -4,6 +4,7 @@ import static com.sap.oss.phosphor.fosstars.maven.MavenUtils.browse;
 import static com.sap.oss.phosphor.fosstars.maven.MavenUtils.readModel;
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_NOHTTP;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.maven.AbstractModelVisitor;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
@@ -12,6 +13,8 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.maven.model.Dependency;
@@ -27,6 +30,18 @@ import org.apache.maven.model.Plugin;
  */
 public class UsesNoHttpTool extends CachedSingleFeatureGitHubDataProvider<Boolean> {
 
+  /**
+   * Checks if a POM file configures nohttp.
+   */
+  private static final FileDetector<Boolean> NOHTTP_IN_MAVEN = FileDetector.of(
+      "nohttp-in-maven", 1, new TypeReference<Boolean>() {}, UsesNoHttpTool::checkMaven);
+
+  /**
+   * Checks if a Gradle file configures nohttp.
+   */
+  private static final FileDetector<Boolean> NOHTTP_IN_GRADLE = FileDetector.of(
+      "nohttp-in-gradle", 1, new TypeReference<Boolean>() {}, UsesNoHttpTool::checkGradle);
+
   /**
    * Initializes a data provider.
    *
@@ -46,17 +61,20 @@ public class UsesNoHttpTool extends CachedSingleFeatureGitHubDataProvider<Boolea
     logger.info("Figuring out if the project uses nohttp ...");
 
     LocalRepository repository = GitHubDataFetcher.localRepositoryFor(project);
-    return USES_NOHTTP.value(checkMaven(repository) || checkGradle(repository));
+    return USES_NOHTTP.value(
+        NOHTTP_IN_MAVEN.detect(repository, Paths.get("pom.xml"))
+            || NOHTTP_IN_GRADLE.detect(repository, Paths.get("build.gradle")));
   }
 
   /**
    * Checks if a project uses NoHTTP with Maven.
    *
    * @param repository The project's repository.
+   * @param file A path to the POM file.
    * @return True if the project uses the plugin, false otherwise.
    */
-  private boolean checkMaven(LocalRepository repository) throws IOException {
-    Optional<InputStream> content = repository.read("pom.xml");
+  private static boolean checkMaven(LocalRepository repository, Path file) throws IOException {
+    Optional<InputStream> content = repository.read(file);
 
     if (!content.isPresent()) {
       return false;
@@ -73,10 +91,11 @@ public class UsesNoHttpTool extends CachedSingleFeatureGitHubDataProvider<Boolea
    * Checks if a project uses nohttp with Gradle.
    *
    * @param repository The project's repository.
+   * @param file A path to the Gradle file.
    * @return True if the project uses the plugin, false otherwise.
    */
-  private boolean checkGradle(LocalRepository repository) throws IOException {
-    Optional<InputStream> content = repository.read("build.gradle");
+  private static boolean checkGradle(LocalRepository repository, Path file) throws IOException {
+    Optional<InputStream> content = repository.read(file);
 
     if (!content.isPresent()) {
       return false;
@@ -5,6 +5,7 @@ import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_M
 import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.USES_UNDEFINED_BEHAVIOR_SANITIZER;
 import static com.sap.oss.phosphor.fosstars.model.other.Utils.setOf;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
 import com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures;
@@ -13,9 +14,9 @@ import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,6 +59,17 @@ public class UsesSanitizers extends GitHubCachingDataProvider {
       ".ac", ".cmake", ".bazel"
   };
 
+  /**
+   * Looks for sanitizers in a build config.
+   */
+  private static final FileDetector<List<String>> SANITIZERS = FileDetector.of(
+      "sanitizers", 1, new TypeReference<List<String>>() {},
+      (repository, file) -> {
+        Optional<String> content = repository.file(file);
+        return content.isPresent()
+            ? lookForSanitizers(content.get()) : Collections.emptyList();
+      });
+
   /**
    * Initializes a data provider.
    *
@@ -85,16 +97,10 @@ public class UsesSanitizers extends GitHubCachingDataProvider {
 
     LocalRepository repository = GitHubDataFetcher.localRepositoryFor(project);
 
-    List<Path> files = repository.files(
-        path -> Files.isRegularFile(path) && maybeBuildConfig(path));
+    List<Path> files = repository.files(UsesSanitizers::maybeBuildConfig);
 
     for (Path path : files) {
-      Optional<String> content = repository.file(path);
-      if (!content.isPresent()) {
-        continue;
-      }
-
-      List<String> sanitizers = lookForSanitizers(content.get());
+      List<String> sanitizers = SANITIZERS.detect(repository, path);
       for (String sanitizer : sanitizers) {
         if (sanitizer.contains("address")) {
           values.update(USES_ADDRESS_SANITIZER.value(true));
@@ -37,6 +37,7 @@ public class UsesSignedCommits extends CachedSingleFeatureGitHubDataProvider<Boo
    */
   public UsesSignedCommits(GitHubDataFetcher fetcher) {
     super(fetcher);
+    cacheNegativeResultsFor(DEFAULT_NEGATIVE_CACHE_TTL);
   }
 
   @Override
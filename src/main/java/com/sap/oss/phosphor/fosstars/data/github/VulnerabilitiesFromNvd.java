@@ -1,7 +1,5 @@
 package com.sap.oss.phosphor.fosstars.data.github;
 
-import static com.sap.oss.phosphor.fosstars.data.github.NvdEntryMatcher.entriesFor;
-
 import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.feature.oss.VulnerabilitiesInProject;
@@ -30,6 +28,11 @@ public class VulnerabilitiesFromNvd extends CachedSingleFeatureGitHubDataProvide
    */
   private final NVD nvd;
 
+  /**
+   * A cache of NVD entries for projects.
+   */
+  private final NvdMatchCache matches;
+
   /**
    * Initializes a data provider.
    *
@@ -37,8 +40,21 @@ public class VulnerabilitiesFromNvd extends CachedSingleFeatureGitHubDataProvide
    * @param nvd An interface to NVD.
    */
   public VulnerabilitiesFromNvd(GitHubDataFetcher fetcher, NVD nvd) {
+    this(fetcher, nvd, NvdMatchCache.empty());
+  }
+
+  /**
+   * Initializes a data provider with a cache of NVD entries
+   * that may be shared with other data providers.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to NVD.
+   * @param matches A cache of NVD entries for projects.
+   */
+  public VulnerabilitiesFromNvd(GitHubDataFetcher fetcher, NVD nvd, NvdMatchCache matches) {
     super(fetcher);
     this.nvd = Objects.requireNonNull(nvd, "NVD can't be null!");
+    this.matches = Objects.requireNonNull(matches, "Oh no! Matches are null!");
   }
 
   @Override
@@ -51,7 +67,7 @@ public class VulnerabilitiesFromNvd extends CachedSingleFeatureGitHubDataProvide
     logger.info("Looking for vulnerabilities in NVD ...");
 
     Vulnerabilities vulnerabilities = new Vulnerabilities();
-    for (NvdEntry entry : nvd.search(entriesFor(project))) {
+    for (NvdEntry entry : matches.entriesFor(project, nvd)) {
       vulnerabilities.add(Vulnerability.Builder.from(entry).make());
     }
 
@@ -7,6 +7,7 @@ import static com.sap.oss.phosphor.fosstars.model.value.Vulnerability.Builder.ne
 import com.sap.oss.phosphor.fosstars.data.github.CachedSingleFeatureGitHubDataProvider;
 import com.sap.oss.phosphor.fosstars.data.github.GitHubDataFetcher;
 import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.GitHubAdvisories;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.GitHubAdvisoryMirror;
 import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Advisory;
 import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.AdvisoryReference;
 import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Node;
@@ -24,6 +25,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import org.apache.maven.model.Model;
 import org.kohsuke.github.GHContent;
@@ -33,9 +35,11 @@ import org.kohsuke.github.GHRepository;
 /**
  * This data provider looks for vulnerabilities in {@link GitHubAdvisories} which are not present in
  * {@link com.sap.oss.phosphor.fosstars.nvd.NVD}.
+ * The provider should be closed when it's no longer needed,
+ * so that new advisories are written to the local mirror.
  */
 public class VulnerabilitiesFromGitHubAdvisories
-    extends CachedSingleFeatureGitHubDataProvider<Vulnerabilities> {
+    extends CachedSingleFeatureGitHubDataProvider<Vulnerabilities> implements AutoCloseable {
 
   /**
    * A feature that holds info about vulnerabilities in the GitHub Advisory Database.
@@ -47,17 +51,41 @@ public class VulnerabilitiesFromGitHubAdvisories
   /**
    * An interface to the GitHub Advisory database.
    */
-  private final GitHubAdvisories gitHubAdvisories;
+  private final GitHubAdvisoryMirror gitHubAdvisories;
 
   /**
-   * Initializes a data provider.
+   * Initializes a data provider that keeps advisories in a local mirror
+   * stored in {@link GitHubAdvisoryMirror#DEFAULT_FILE}.
    *
    * @param fetcher An interface to GitHub.
    * @param gitHubToken The token to access GitHub API.
    */
   public VulnerabilitiesFromGitHubAdvisories(GitHubDataFetcher fetcher, String gitHubToken) {
+    this(fetcher, new GitHubAdvisoryMirror(
+        new GitHubAdvisories(gitHubToken), GitHubAdvisoryMirror.DEFAULT_FILE));
+  }
+
+  /**
+   * Initializes a data provider that looks for advisories in a local mirror.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param mirror The local mirror of the GitHub Advisory database.
+   */
+  public VulnerabilitiesFromGitHubAdvisories(
+      GitHubDataFetcher fetcher, GitHubAdvisoryMirror mirror) {
+
     super(fetcher);
-    this.gitHubAdvisories = new GitHubAdvisories(gitHubToken);
+    this.gitHubAdvisories = Objects.requireNonNull(mirror, "Oh no! Mirror is null!");
+  }
+
+  /**
+   * Writes new advisories to the file that backs the local mirror if any.
+   *
+   * @throws IOException If the mirror could not be stored.
+   */
+  @Override
+  public void close() throws IOException {
+    gitHubAdvisories.close();
   }
 
   @Override
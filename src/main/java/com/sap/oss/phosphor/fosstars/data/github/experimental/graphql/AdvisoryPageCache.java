@@ -0,0 +1,154 @@
+package com.sap.oss.phosphor.fosstars.data.github.experimental.graphql;
+
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.GitHubAdvisoryEntry;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>This is an on-disk cache of pages returned by the GitHub GraphQL API
+ * for security advisories.</p>
+ *
+ * <p>A page is identified by an ecosystem, an artifact and a cursor that points to the page.
+ * The first page of an artifact doesn't have a cursor. Each page is stored to a separate file
+ * in a specified directory. The cache considers a page as expired
+ * if its file is older than a specified lifetime.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+public class AdvisoryPageCache {
+
+  /**
+   * A logger.
+   */
+  private static final Logger LOGGER = LogManager.getLogger(AdvisoryPageCache.class);
+
+  /**
+   * The default directory where the cache stores pages.
+   */
+  private static final String DEFAULT_DIRECTORY
+      = ".fosstars" + File.separator + "github_advisories";
+
+  /**
+   * The default lifetime of a cached page.
+   */
+  private static final Duration DEFAULT_LIFETIME = Duration.ofDays(1);
+
+  /**
+   * This string is used as a cursor for the first page.
+   */
+  private static final String FIRST_PAGE = "first";
+
+  /**
+   * A directory where the cache stores pages.
+   */
+  private final Path directory;
+
+  /**
+   * A lifetime of a cached page.
+   */
+  private final Duration lifetime;
+
+  /**
+   * Initializes a cache in the default directory.
+   */
+  public AdvisoryPageCache() {
+    this(Paths.get(DEFAULT_DIRECTORY), DEFAULT_LIFETIME);
+  }
+
+  /**
+   * Initializes a cache.
+   *
+   * @param directory A directory where the cache stores pages.
+   * @param lifetime A lifetime of a cached page.
+   */
+  public AdvisoryPageCache(Path directory, Duration lifetime) {
+    Objects.requireNonNull(directory, "Oh no! Directory is null!");
+    Objects.requireNonNull(lifetime, "Oh no! Lifetime is null!");
+    if (lifetime.isNegative() || lifetime.isZero()) {
+      throw new IllegalArgumentException("Hey! Lifetime has to be positive!");
+    }
+    this.directory = directory;
+    this.lifetime = lifetime;
+  }
+
+  /**
+   * Looks for a page in the cache.
+   *
+   * @param ecosystem The ecosystem.
+   * @param artifact The artifact.
+   * @param cursor A cursor that points to the page, or null for the first page.
+   * @return The page if it's in the cache and not expired, an empty {@link Optional} otherwise.
+   */
+  public Optional<GitHubAdvisoryEntry> get(String ecosystem, String artifact, String cursor) {
+    Path file = fileFor(ecosystem, artifact, cursor);
+    if (!Files.isRegularFile(file)) {
+      return Optional.empty();
+    }
+
+    try {
+      long age = System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis();
+      if (age > lifetime.toMillis()) {
+        return Optional.empty();
+      }
+
+      try (InputStream is = Files.newInputStream(file)) {
+        return Optional.of(Json.read(is, GitHubAdvisoryEntry.class));
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Oops! Could not read a cached page from '{}'", file);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores a page to the cache.
+   *
+   * @param ecosystem The ecosystem.
+   * @param artifact The artifact.
+   * @param cursor A cursor that points to the page, or null for the first page.
+   * @param entry The page.
+   */
+  public void put(String ecosystem, String artifact, String cursor, GitHubAdvisoryEntry entry) {
+    Objects.requireNonNull(entry, "Oh no! Entry is null!");
+    Path file = fileFor(ecosystem, artifact, cursor);
+    try {
+      Files.createDirectories(directory);
+
+      // write to a temporary file first to make sure that concurrent readers
+      // never see a partially written page
+      Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+      Files.write(tmp, Json.toBytes(entry));
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOGGER.warn("Oops! Could not store a page to '{}'", file);
+    }
+  }
+
+  /**
+   * Returns a path to a file for a page.
+   *
+   * @param ecosystem The ecosystem.
+   * @param artifact The artifact.
+   * @param cursor A cursor that points to the page, or null for the first page.
+   * @return A path to the file.
+   */
+  private Path fileFor(String ecosystem, String artifact, String cursor) {
+    Objects.requireNonNull(ecosystem, "Oh no! Ecosystem is null!");
+    Objects.requireNonNull(artifact, "Oh no! Artifact is null!");
+    String key = String.format("%s:%s:%s",
+        ecosystem, artifact, cursor != null ? cursor : FIRST_PAGE);
+    return directory.resolve(DigestUtils.sha256Hex(key) + ".json");
+  }
+}
@@ -10,9 +10,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
@@ -51,20 +59,51 @@ public class GitHubAdvisories {
    */
   private static final int FIRST_N_ADVISORIES = 100;
 
+  /**
+   * This constant means that no cache for pages should be used.
+   */
+  private static final AdvisoryPageCache NO_CACHE = null;
+
   /**
    * The token to access GitHub API.
    */
   private final String gitHubToken;
 
+  /**
+   * A cache for pages returned by the GraphQL API (may be null).
+   */
+  private final AdvisoryPageCache pageCache;
+
+  /**
+   * The template for the first page (loaded lazily).
+   */
+  private volatile String firstRunTemplate;
+
+  /**
+   * The template for next pages (loaded lazily).
+   */
+  private volatile String nextPageRunTemplate;
+
   /**
    * Initializes a data provider.
    *
    * @param gitHubToken GitHub Token.
    */
   public GitHubAdvisories(String gitHubToken) {
+    this(gitHubToken, NO_CACHE);
+  }
+
+  /**
+   * Initializes a data provider that caches pages returned by the GraphQL API.
+   *
+   * @param gitHubToken GitHub Token.
+   * @param pageCache A cache for pages (may be null).
+   */
+  public GitHubAdvisories(String gitHubToken, AdvisoryPageCache pageCache) {
     this.gitHubToken = Objects.requireNonNull(gitHubToken, "The GitHub token cannot be null!");
+    this.pageCache = pageCache;
   }
-  
+
   /**
    * Get the all the advisories for the given artifact and the package manager which are not present
    * in NVD database. This is done by checking if the advisory has a CVE associated to it.
@@ -77,66 +116,200 @@ public class GitHubAdvisories {
    */
   public List<Node> advisoriesFor(PackageManager ecosystem, String artifact) throws IOException {
     List<Node> advisories = new ArrayList<>();
-    for (Node node : download(ecosystem.name(), artifact)) {
+    advisoriesFor(ecosystem, artifact, advisories::add);
+    return Collections.unmodifiableList(advisories);
+  }
+
+  /**
+   * Passes all the advisories for the given artifact and the package manager which are not present
+   * in NVD database to a consumer. The advisories are passed as soon as a page is downloaded,
+   * so that the caller doesn't have to wait until all pages are downloaded.
+   *
+   * @param ecosystem The GitHub project package management used.
+   * @param artifact The artifact identifier for the GitHub project.
+   * @param consumer The consumer of advisories.
+   * @throws IOException if something goes wrong.
+   */
+  public void advisoriesFor(PackageManager ecosystem, String artifact, Consumer<Node> consumer)
+      throws IOException {
+
+    Objects.requireNonNull(ecosystem, "Oh no! Ecosystem is null!");
+    Objects.requireNonNull(artifact, "Oh no! Artifact is null!");
+    Objects.requireNonNull(consumer, "Oh no! Consumer is null!");
+
+    download(ecosystem.name(), artifact, node -> {
       // TODO: This check needs to be removed to allow it to gather all possible advisories from the
       // Security Advisory Database https://github.com/SAP/fosstars-rating-core/issues/143
       if (!hasCve(node.getAdvisory())) {
-        advisories.add(node);
+        consumer.accept(node);
       }
+    });
+  }
+
+  /**
+   * <p>Downloads advisories for a number of artifacts concurrently.
+   * Pages for a single artifact are downloaded sequentially
+   * because each of them depends on a cursor from the previous one,
+   * but different artifacts are processed in parallel.</p>
+   *
+   * <p>The advisories are passed to a consumer as soon as they are available.
+   * The consumer may be called from multiple threads, therefore it has to be thread-safe.</p>
+   *
+   * @param artifacts The artifacts.
+   * @param threads A maximum number of threads to be used.
+   * @param consumer The consumer of advisories.
+   * @throws IOException if advisories for one of the artifacts could not be downloaded.
+   */
+  public void advisoriesFor(
+      Collection<Artifact> artifacts, int threads, BiConsumer<Artifact, Node> consumer)
+      throws IOException {
+
+    advisoriesFor(artifacts, threads, consumer, artifact -> {});
+  }
+
+  /**
+   * <p>Downloads advisories for a number of artifacts concurrently
+   * and notifies a listener when all advisories for an artifact have been downloaded.
+   * If advisories for one of the artifacts could not be downloaded,
+   * the other artifacts are still processed, and the listener is not called
+   * for the failed artifact.</p>
+   *
+   * <p>The consumer and the listener may be called from multiple threads,
+   * therefore they have to be thread-safe.</p>
+   *
+   * @param artifacts The artifacts.
+   * @param threads A maximum number of threads to be used.
+   * @param consumer The consumer of advisories.
+   * @param completed The listener which is called when an artifact is done.
+   * @throws IOException if advisories for one of the artifacts could not be downloaded.
+   */
+  public void advisoriesFor(
+      Collection<Artifact> artifacts, int threads,
+      BiConsumer<Artifact, Node> consumer, Consumer<Artifact> completed) throws IOException {
+
+    Objects.requireNonNull(artifacts, "Oh no! Artifacts are null!");
+    Objects.requireNonNull(consumer, "Oh no! Consumer is null!");
+    Objects.requireNonNull(completed, "Oh no! Listener is null!");
+    if (threads < 1) {
+      throw new IllegalArgumentException("Hey! Number of threads has to be positive!");
     }
 
-    return Collections.unmodifiableList(advisories);
+    if (artifacts.isEmpty()) {
+      return;
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, artifacts.size()));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (Artifact artifact : artifacts) {
+        futures.add(executor.submit(() -> {
+          advisoriesFor(artifact.ecosystem(), artifact.identifier(),
+              node -> consumer.accept(artifact, node));
+          completed.accept(artifact);
+          return null;
+        }));
+      }
+
+      List<Exception> suppressed = new ArrayList<>();
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          suppressed.add(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Oh no! Downloading advisories was interrupted!", e);
+        }
+      }
+
+      if (!suppressed.isEmpty()) {
+        IOException error = new IOException(String.format(
+            "Could not download advisories for %d artifact%s",
+            suppressed.size(), suppressed.size() == 1 ? "" : "s"));
+        suppressed.forEach(error::addSuppressed);
+        throw error;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   /**
    * Downloads the advisories related to the input parameters from GitHub Security Advisory
-   * Database.
+   * Database. Pages are taken from the cache if possible.
    * 
    * @param ecosystem The GitHub project package management used.
    * @param artifact The artifact identifier for the GitHub project (E.g MAVEN for Java, NPM for
    *        JavaScript packages).
-   * @return List of type {@link Node}. Each {@link Node} is an {@link Advisory}.
+   * @param consumer The consumer of advisories.
    * @throws IOException if something goes wrong.
    */
-  private List<Node> download(String ecosystem, String artifact) throws IOException {
-    List<Node> advisories = new ArrayList<>();
+  private void download(String ecosystem, String artifact, Consumer<Node> consumer)
+      throws IOException {
 
-    String jsonEntity = String.format("{\"query\" : \"%s\"}",
-        String.format(load(GRAPHQL_FIRST_RUN_TEMPLATE), FIRST_N_ADVISORIES, ecosystem, artifact));
+    try (CloseableHttpClient client = httpClient()) {
+      String cursor = null;
+      boolean nextPage;
+      do {
+        GitHubAdvisoryEntry entry = page(client, ecosystem, artifact, cursor);
+        nodes(entry).forEach(consumer);
+        nextPage = hasNextPage(entry);
+        cursor = endCursor(entry);
+      } while (nextPage);
+    }
+  }
 
-    boolean nextPage = true;
+  /**
+   * Returns a page with advisories. The page is taken from the cache if possible.
+   * Otherwise, the method downloads the page and stores it to the cache.
+   *
+   * @param client An HTTP client.
+   * @param ecosystem The ecosystem.
+   * @param artifact The artifact.
+   * @param cursor A cursor that points to the page, or null for the first page.
+   * @return The page.
+   * @throws IOException if something goes wrong.
+   */
+  private GitHubAdvisoryEntry page(
+      CloseableHttpClient client, String ecosystem, String artifact, String cursor)
+      throws IOException {
 
-    do {
-      GitHubAdvisoryEntry entry = httpRequest(gitHubToken, jsonEntity);
+    if (pageCache != null) {
+      Optional<GitHubAdvisoryEntry> cached = pageCache.get(ecosystem, artifact, cursor);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
 
-      advisories.addAll(nodes(entry));
+    String query = cursor == null
+        ? String.format(firstRunTemplate(), FIRST_N_ADVISORIES, ecosystem, artifact)
+        : String.format(nextPageRunTemplate(), FIRST_N_ADVISORIES, cursor, ecosystem, artifact);
+    GitHubAdvisoryEntry entry
+        = httpRequest(client, gitHubToken, String.format("{\"query\" : \"%s\"}", query));
 
-      nextPage = hasNextPage(entry);
-      jsonEntity = String.format("{\"query\" : \"%s\"}", String
-          .format(load(GRAPHQL_NEXT_PAGE_RUN_TEMPLATE), FIRST_N_ADVISORIES, endCursor(entry),
-              ecosystem, artifact));
-    } while (nextPage);
-    
-    return advisories;
+    if (pageCache != null) {
+      pageCache.put(ecosystem, artifact, cursor, entry);
+    }
+
+    return entry;
   }
 
   /**
    * Does a REST API call to public URL <a link="https://api.github.com/graphql">GitHub GraphQL
    * API</a> to list all the security advisories from GitHub Security Advisory.
    * 
+   * @param client An HTTP client.
    * @param gitHubToken The GitHub Token.
    * @param jsonEntity is the query which needs to used to call GraphQL API.
    * @return The {@link GitHubAdvisoryEntry} object.
    * @throws IOException #{@link HttpClient} may throw an exception during GraphQL call.
    */
-  private GitHubAdvisoryEntry httpRequest(String gitHubToken, String jsonEntity)
-      throws IOException {
-    try (CloseableHttpClient client = httpClient()) {
-      HttpPost httpPostRequest = buildRequest(gitHubToken, jsonEntity);
-      try (CloseableHttpResponse response = client.execute(httpPostRequest)) {
-        return Json.mapper().readValue(
-            response.getEntity().getContent(), GitHubAdvisoryEntry.class);
-      }
+  private static GitHubAdvisoryEntry httpRequest(
+      CloseableHttpClient client, String gitHubToken, String jsonEntity) throws IOException {
+
+    HttpPost httpPostRequest = buildRequest(gitHubToken, jsonEntity);
+    try (CloseableHttpResponse response = client.execute(httpPostRequest)) {
+      return Json.read(response.getEntity().getContent(), GitHubAdvisoryEntry.class);
     }
   }
 
@@ -148,7 +321,7 @@ public class GitHubAdvisories {
    * @return The {@link HttpPost} object.
    * @throws UnsupportedEncodingException if something is wrong.
    */
-  private HttpPost buildRequest(String gitHubToken, String jsonEntity)
+  private static HttpPost buildRequest(String gitHubToken, String jsonEntity)
       throws UnsupportedEncodingException {
     String url = "https://api.github.com/graphql";
 
@@ -170,6 +343,32 @@ public class GitHubAdvisories {
     return HttpClients.createDefault();
   }
 
+  /**
+   * Returns the template for the first page.
+   *
+   * @return The template.
+   * @throws IOException if the template could not be loaded.
+   */
+  private String firstRunTemplate() throws IOException {
+    if (firstRunTemplate == null) {
+      firstRunTemplate = load(GRAPHQL_FIRST_RUN_TEMPLATE);
+    }
+    return firstRunTemplate;
+  }
+
+  /**
+   * Returns the template for next pages.
+   *
+   * @return The template.
+   * @throws IOException if the template could not be loaded.
+   */
+  private String nextPageRunTemplate() throws IOException {
+    if (nextPageRunTemplate == null) {
+      nextPageRunTemplate = load(GRAPHQL_NEXT_PAGE_RUN_TEMPLATE);
+    }
+    return nextPageRunTemplate;
+  }
+
   /**
    * Loads the GraphQL template, used as query to call GraphQL API.
    * 
@@ -189,7 +388,7 @@ public class GitHubAdvisories {
    * @param entry object of the type of {@link GitHubAdvisoryEntry}.
    * @return The last index.
    */
-  private String endCursor(GitHubAdvisoryEntry entry) {
+  private static String endCursor(GitHubAdvisoryEntry entry) {
     return entry.getData().getSecurityVulnerabilities().getPageInfo().getEndCursor();
   }
 
@@ -199,8 +398,9 @@ public class GitHubAdvisories {
    * @param entry object of the type of {@link GitHubAdvisoryEntry}.
    * @return true if there is a next page. Otherwise false.
    */
-  private boolean hasNextPage(GitHubAdvisoryEntry entry) {
-    return entry.getData().getSecurityVulnerabilities().getPageInfo().getHasNextPage();
+  private static boolean hasNextPage(GitHubAdvisoryEntry entry) {
+    return Boolean.TRUE.equals(
+        entry.getData().getSecurityVulnerabilities().getPageInfo().getHasNextPage());
   }
 
   /**
@@ -209,8 +409,9 @@ public class GitHubAdvisories {
    * @param entry object of the type of {@link GitHubAdvisoryEntry}.
    * @return List o type {@link Node}.
    */
-  private List<Node> nodes(GitHubAdvisoryEntry entry) {
-    return entry.getData().getSecurityVulnerabilities().getNodes();
+  private static List<Node> nodes(GitHubAdvisoryEntry entry) {
+    List<Node> nodes = entry.getData().getSecurityVulnerabilities().getNodes();
+    return nodes != null ? nodes : Collections.emptyList();
   }
 
   /**
@@ -219,7 +420,7 @@ public class GitHubAdvisories {
    * @param advisory of object type {@link Advisory}.
    * @return true if the {@link Advisory} has a CVE. Otherwise false.
    */
-  private boolean hasCve(Advisory advisory) {
+  private static boolean hasCve(Advisory advisory) {
     for (Identifier identifier : advisory.getIdentifiers()) {
       if (identifier.getType().equals("CVE")) {
         return true;
@@ -228,6 +429,73 @@ public class GitHubAdvisories {
     return false;
   }
 
+  /**
+   * An artifact in an ecosystem.
+   */
+  public static class Artifact {
+
+    /**
+     * The ecosystem.
+     */
+    private final PackageManager ecosystem;
+
+    /**
+     * The artifact identifier (E.g. groupId:artifactId for Maven).
+     */
+    private final String identifier;
+
+    /**
+     * Initializes a new artifact.
+     *
+     * @param ecosystem The ecosystem.
+     * @param identifier The artifact identifier.
+     */
+    public Artifact(PackageManager ecosystem, String identifier) {
+      this.ecosystem = Objects.requireNonNull(ecosystem, "Oh no! Ecosystem is null!");
+      this.identifier = Objects.requireNonNull(identifier, "Oh no! Identifier is null!");
+    }
+
+    /**
+     * Returns the ecosystem.
+     *
+     * @return The ecosystem.
+     */
+    public PackageManager ecosystem() {
+      return ecosystem;
+    }
+
+    /**
+     * Returns the artifact identifier.
+     *
+     * @return The artifact identifier.
+     */
+    public String identifier() {
+      return identifier;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o instanceof Artifact == false) {
+        return false;
+      }
+      Artifact artifact = (Artifact) o;
+      return ecosystem == artifact.ecosystem && Objects.equals(identifier, artifact.identifier);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(ecosystem, identifier);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s:%s", ecosystem, identifier);
+    }
+  }
+
   /**
    * This is for testing purpose only.
    *
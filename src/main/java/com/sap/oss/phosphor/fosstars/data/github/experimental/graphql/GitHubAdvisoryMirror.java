@@ -0,0 +1,454 @@
+package com.sap.oss.phosphor.fosstars.data.github.experimental.graphql;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.GitHubAdvisories.Artifact;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Node;
+import com.sap.oss.phosphor.fosstars.model.value.PackageManager;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>This is a local mirror of GitHub security advisories.</p>
+ *
+ * <p>The mirror keeps advisories in memory indexed by a package manager and an artifact,
+ * so that a lookup doesn't require a network call. The mirror can be synced in bulk
+ * for a number of artifacts, and then stored to and loaded from a file.
+ * If the mirror doesn't have advisories for an artifact, or the advisories are outdated,
+ * then the mirror falls back to the GitHub GraphQL API if it's available,
+ * and remembers the result. If the API fails, outdated advisories are used if the mirror has
+ * them.</p>
+ *
+ * <p>A mirror may be backed by a file. Then the mirror is loaded from the file
+ * when it's created. New advisories are written back to the file in batches,
+ * after a sync, and when the mirror is flushed or closed, so that the next run can use them.
+ * The file is replaced atomically, therefore a reader never sees a partially written mirror.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+public class GitHubAdvisoryMirror implements AutoCloseable {
+
+  /**
+   * A logger.
+   */
+  private static final Logger LOGGER = LogManager.getLogger(GitHubAdvisoryMirror.class);
+
+  /**
+   * A type reference for deserialization of mirror entries.
+   */
+  private static final TypeReference<Map<String, Entry>> ENTRIES_TYPE_REFERENCE
+      = new TypeReference<Map<String, Entry>>() {};
+
+  /**
+   * This constant means that the mirror doesn't use the GitHub GraphQL API.
+   */
+  private static final GitHubAdvisories NO_LIVE_SOURCE = null;
+
+  /**
+   * The default lifetime of mirrored advisories.
+   */
+  private static final Duration DEFAULT_LIFETIME = Duration.ofDays(1);
+
+  /**
+   * The default number of threads for syncing the mirror.
+   */
+  private static final int DEFAULT_SYNC_THREADS = 4;
+
+  /**
+   * The default file where the mirror is stored.
+   */
+  public static final Path DEFAULT_FILE
+      = Paths.get(".fosstars", "github_advisory_mirror.json");
+
+  /**
+   * A number of downloaded artifacts after which the mirror is written to the file that backs it.
+   */
+  private static final int PERSIST_BATCH = 100;
+
+  /**
+   * This constant means that the mirror is not backed by a file.
+   */
+  private static final Path NO_FILE = null;
+
+  /**
+   * Maps a key built from a package manager and an artifact to mirrored advisories.
+   */
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * An interface to the GitHub GraphQL API (may be null).
+   */
+  private final GitHubAdvisories live;
+
+  /**
+   * A file where the mirror is stored (may be null).
+   */
+  private final Path file;
+
+  /**
+   * A number of changes that have not been written to the file yet.
+   */
+  private final AtomicInteger unsaved = new AtomicInteger();
+
+  /**
+   * A lifetime of mirrored advisories.
+   */
+  private Duration lifetime = DEFAULT_LIFETIME;
+
+  /**
+   * Initializes an empty mirror that doesn't use the GitHub GraphQL API.
+   */
+  public GitHubAdvisoryMirror() {
+    this(NO_LIVE_SOURCE);
+  }
+
+  /**
+   * Initializes an empty mirror.
+   *
+   * @param live An interface to the GitHub GraphQL API (may be null).
+   */
+  public GitHubAdvisoryMirror(GitHubAdvisories live) {
+    this.live = live;
+    this.file = NO_FILE;
+  }
+
+  /**
+   * Initializes a mirror backed by a file. If the file exists, the mirror is loaded from it.
+   * If the file could not be loaded, the mirror starts empty.
+   *
+   * @param live An interface to the GitHub GraphQL API (may be null).
+   * @param file The file.
+   */
+  public GitHubAdvisoryMirror(GitHubAdvisories live, Path file) {
+    this.live = live;
+    this.file = Objects.requireNonNull(file, "Oh no! File is null!");
+    if (Files.exists(file)) {
+      try {
+        load(file);
+      } catch (IOException e) {
+        LOGGER.warn("Could not load the mirror of GitHub advisories from {}", file, e);
+      }
+    }
+  }
+
+  /**
+   * Set a lifetime for mirrored advisories.
+   * Outdated advisories are used only if the GitHub GraphQL API is not available.
+   *
+   * @param lifetime The lifetime.
+   * @return This mirror.
+   */
+  public GitHubAdvisoryMirror lifetime(Duration lifetime) {
+    Objects.requireNonNull(lifetime, "Oh no! Lifetime is null!");
+    if (lifetime.isNegative() || lifetime.isZero()) {
+      throw new IllegalArgumentException("Hey! Lifetime has to be positive!");
+    }
+    this.lifetime = lifetime;
+    return this;
+  }
+
+  /**
+   * Returns a number of artifacts in the mirror.
+   *
+   * @return A number of artifacts in the mirror.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Checks if the mirror has advisories for an artifact.
+   *
+   * @param ecosystem The package manager.
+   * @param artifact The artifact identifier.
+   * @return True if the mirror has advisories for the artifact, false otherwise.
+   */
+  public boolean has(PackageManager ecosystem, String artifact) {
+    return entries.containsKey(key(ecosystem, artifact));
+  }
+
+  /**
+   * Returns advisories for an artifact which are not present in NVD.
+   * The method looks for advisories in the mirror first.
+   * If the mirror doesn't have them or they are outdated, and the GitHub GraphQL API is available,
+   * then the method downloads the advisories and adds them to the mirror.
+   *
+   * @param ecosystem The package manager.
+   * @param artifact The artifact identifier.
+   * @return A list of advisories.
+   * @throws IOException If the advisories could not be downloaded.
+   */
+  public List<Node> advisoriesFor(PackageManager ecosystem, String artifact) throws IOException {
+    Entry entry = entries.get(key(ecosystem, artifact));
+    if (entry != null && (live == null || !entry.expired(lifetime))) {
+      return entry.advisories;
+    }
+
+    if (live == null) {
+      return Collections.emptyList();
+    }
+
+    List<Node> advisories;
+    try {
+      advisories = live.advisoriesFor(ecosystem, artifact);
+    } catch (IOException e) {
+      if (entry == null) {
+        throw e;
+      }
+      LOGGER.warn("Could not download advisories for {}, using outdated ones", artifact, e);
+      return entry.advisories;
+    }
+
+    entries.put(key(ecosystem, artifact), new Entry(new Date(), advisories));
+    if (unsaved.incrementAndGet() >= PERSIST_BATCH) {
+      persist();
+    }
+    return advisories;
+  }
+
+  /**
+   * Downloads advisories for a number of artifacts and adds them to the mirror.
+   *
+   * @param artifacts The artifacts.
+   * @throws IOException If the advisories could not be downloaded.
+   */
+  public void sync(Collection<Artifact> artifacts) throws IOException {
+    sync(artifacts, DEFAULT_SYNC_THREADS);
+  }
+
+  /**
+   * Downloads advisories for a number of artifacts and adds them to the mirror.
+   * If advisories for some of the artifacts could not be downloaded,
+   * the artifacts that were synced are still added to the mirror.
+   *
+   * @param artifacts The artifacts.
+   * @param threads A maximum number of threads to be used.
+   * @throws IOException If the advisories for one of the artifacts could not be downloaded.
+   */
+  public void sync(Collection<Artifact> artifacts, int threads) throws IOException {
+    Objects.requireNonNull(artifacts, "Oh no! Artifacts are null!");
+    if (live == null) {
+      throw new IllegalStateException("Oh no! The mirror can't be synced without GitHub API!");
+    }
+
+    Map<Artifact, List<Node>> downloaded = new ConcurrentHashMap<>();
+    for (Artifact artifact : artifacts) {
+      downloaded.put(artifact, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    AtomicInteger synced = new AtomicInteger();
+    try {
+      live.advisoriesFor(artifacts, threads,
+          (artifact, node) -> downloaded.get(artifact).add(node),
+          artifact -> {
+            List<Node> advisories = downloaded.get(artifact);
+            synchronized (advisories) {
+              entries.put(key(artifact.ecosystem(), artifact.identifier()),
+                  new Entry(new Date(), advisories));
+            }
+            unsaved.incrementAndGet();
+            synced.incrementAndGet();
+          });
+    } finally {
+      LOGGER.info("Synced advisories for {} artifact{} out of {}",
+          synced.get(), synced.get() == 1 ? "" : "s", artifacts.size());
+      if (synced.get() > 0) {
+        persist();
+      }
+    }
+  }
+
+  /**
+   * Stores the mirror to a file.
+   *
+   * @param path The file.
+   * @throws IOException If something went wrong.
+   */
+  public void store(Path path) throws IOException {
+    Objects.requireNonNull(path, "Oh no! Path is null!");
+    Path dir = path.toAbsolutePath().getParent();
+    Files.createDirectories(dir);
+
+    // the entries are immutable, so that a snapshot of the map can be serialized
+    // while new advisories are being added to the mirror
+    byte[] content = Json.toBytes(Collections.unmodifiableMap(new TreeMap<>(entries)));
+
+    // write to a temporary file first to make sure that concurrent readers
+    // never see a partially written mirror
+    Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+    try {
+      Files.write(tmp, content);
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Writes changes to the file that backs the mirror if any.
+   *
+   * @throws IOException If the mirror could not be stored.
+   */
+  public synchronized void flush() throws IOException {
+    if (file == null) {
+      return;
+    }
+
+    int changes = unsaved.getAndSet(0);
+    if (changes == 0) {
+      return;
+    }
+
+    try {
+      store(file);
+    } catch (IOException e) {
+      unsaved.addAndGet(changes);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes changes to the file that backs the mirror if any.
+   * A failure is only logged because the mirror still works without the file.
+   */
+  private void persist() {
+    try {
+      flush();
+    } catch (IOException e) {
+      LOGGER.warn("Could not store the mirror of GitHub advisories to {}", file, e);
+    }
+  }
+
+  /**
+   * Writes changes to the file that backs the mirror if any.
+   *
+   * @throws IOException If the mirror could not be stored.
+   */
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+
+  /**
+   * Loads advisories from a file to the mirror.
+   *
+   * @param path The file.
+   * @return This mirror.
+   * @throws IOException If something went wrong.
+   */
+  public GitHubAdvisoryMirror load(Path path) throws IOException {
+    try (InputStream is = Files.newInputStream(path)) {
+      return load(is);
+    }
+  }
+
+  /**
+   * Loads advisories from an input stream to the mirror.
+   *
+   * @param is The input stream.
+   * @return This mirror.
+   * @throws IOException If something went wrong.
+   */
+  public GitHubAdvisoryMirror load(InputStream is) throws IOException {
+    Objects.requireNonNull(is, "Oh no! Input stream is null!");
+    Map<String, Entry> loaded = Json.mapper().readValue(is, ENTRIES_TYPE_REFERENCE);
+    entries.putAll(loaded);
+    return this;
+  }
+
+  /**
+   * Builds a key for an artifact.
+   *
+   * @param ecosystem The package manager.
+   * @param artifact The artifact identifier.
+   * @return The key.
+   */
+  private static String key(PackageManager ecosystem, String artifact) {
+    Objects.requireNonNull(ecosystem, "Oh no! Ecosystem is null!");
+    Objects.requireNonNull(artifact, "Oh no! Artifact is null!");
+    return String.format("%s:%s", ecosystem.name(), artifact);
+  }
+
+  /**
+   * Advisories for an artifact with a date when they were synced.
+   */
+  private static class Entry {
+
+    /**
+     * When the advisories were synced.
+     */
+    private final Date synced;
+
+    /**
+     * The advisories.
+     */
+    private final List<Node> advisories;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param synced When the advisories were synced.
+     * @param advisories The advisories.
+     */
+    @JsonCreator
+    private Entry(
+        @JsonProperty("synced") Date synced,
+        @JsonProperty("advisories") List<Node> advisories) {
+
+      this.synced = Objects.requireNonNull(synced, "Oh no! Sync date is null!");
+      this.advisories = advisories != null
+          ? Collections.unmodifiableList(new ArrayList<>(advisories))
+          : Collections.emptyList();
+    }
+
+    /**
+     * Returns a date when the advisories were synced. The method is used for serialization.
+     *
+     * @return The date.
+     */
+    @JsonGetter("synced")
+    private Date synced() {
+      return synced;
+    }
+
+    /**
+     * Returns the advisories. The method is used for serialization.
+     *
+     * @return The advisories.
+     */
+    @JsonGetter("advisories")
+    private List<Node> advisories() {
+      return advisories;
+    }
+
+    /**
+     * Checks if the advisories are outdated.
+     *
+     * @param lifetime A lifetime of advisories.
+     * @return True if the advisories are outdated, false otherwise.
+     */
+    private boolean expired(Duration lifetime) {
+      return System.currentTimeMillis() - synced.getTime() > lifetime.toMillis();
+    }
+  }
+}
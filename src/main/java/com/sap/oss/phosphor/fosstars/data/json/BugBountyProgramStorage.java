@@ -25,6 +25,11 @@ public class BugBountyProgramStorage extends AbstractJsonStorage {
    */
   private final Map<URL, List<URL>> bugBountyPrograms;
 
+  /**
+   * Maps a URL of SCM of an open-source project to a URL of its bug bounty program.
+   */
+  private final UrlPrefixIndex<URL> index = new UrlPrefixIndex<>();
+
   /**
    * Initializes a new storage.
    *
@@ -35,6 +40,11 @@ public class BugBountyProgramStorage extends AbstractJsonStorage {
 
     Objects.requireNonNull(bugBountyPrograms, "Oh no! Bug bounty programs are null!");
     this.bugBountyPrograms = bugBountyPrograms;
+    for (Map.Entry<URL, List<URL>> entry : bugBountyPrograms.entrySet()) {
+      for (URL url : entry.getValue()) {
+        index.put(url, entry.getKey());
+      }
+    }
   }
 
   /**
@@ -54,13 +64,8 @@ public class BugBountyProgramStorage extends AbstractJsonStorage {
    * @return True if the project has a bug bounty program, false otherwise.
    */
   public boolean existsFor(URL url) {
-    for (Map.Entry<URL, List<URL>> entry : bugBountyPrograms.entrySet()) {
-      if (entry.getValue().contains(url)) {
-        return true;
-      }
-    }
-
-    return false;
+    Objects.requireNonNull(url, "Oh no! URL is null!");
+    return index.exact(url.toString()).isPresent();
   }
 
   /**
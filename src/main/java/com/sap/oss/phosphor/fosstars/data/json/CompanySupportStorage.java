@@ -25,6 +25,11 @@ public class CompanySupportStorage extends AbstractJsonStorage {
    */
   private final Map<String, List<String>> projects;
 
+  /**
+   * Maps a URL of a project or an organization to a list of companies which support it.
+   */
+  private final UrlPrefixIndex<List<String>> index = new UrlPrefixIndex<>();
+
   /**
    * Initializes a storage.
    *
@@ -33,6 +38,7 @@ public class CompanySupportStorage extends AbstractJsonStorage {
   public CompanySupportStorage(@JsonProperty("projects") Map<String, List<String>> projects) {
     Objects.requireNonNull(projects, "Projects can't be null");
     this.projects = projects;
+    projects.forEach(index::put);
   }
 
   /**
@@ -65,13 +71,7 @@ public class CompanySupportStorage extends AbstractJsonStorage {
     Objects.requireNonNull(url, "URL can't be null!");
     checkHttps(url);
 
-    for (Map.Entry<String, List<String>> entry : projects.entrySet()) {
-      if (url.startsWith(entry.getKey())) {
-        return entry.getValue();
-      }
-    }
-
-    return Collections.emptyList();
+    return index.longestPrefixOf(url).orElse(Collections.emptyList());
   }
 
   /*
@@ -24,6 +24,11 @@ public class SecurityTeamStorage extends AbstractJsonStorage {
    */
   private final Map<String, Info> securityTeams;
 
+  /**
+   * Maps a URL of a project or an organization to info about its security team.
+   */
+  private final UrlPrefixIndex<Info> index = new UrlPrefixIndex<>();
+
   /**
    * Initializes a storage.
    *
@@ -34,6 +39,11 @@ public class SecurityTeamStorage extends AbstractJsonStorage {
 
     Objects.requireNonNull(securityTeams, "Security teams can't be null");
     this.securityTeams = securityTeams;
+    for (Info info : securityTeams.values()) {
+      for (URL url : info.urls) {
+        index.put(url, info);
+      }
+    }
   }
 
   /**
@@ -43,16 +53,7 @@ public class SecurityTeamStorage extends AbstractJsonStorage {
    * @return True if the project has a security team, false otherwise.
    */
   public boolean existsFor(String url) {
-    for (Map.Entry<String, Info> entry : securityTeams.entrySet()) {
-      Info info = entry.getValue();
-      for (URL definedUrl : info.urls) {
-        if (url.startsWith(definedUrl.toString())) {
-          return true;
-        }
-      }
-    }
-
-    return false;
+    return index.longestPrefixOf(url).isPresent();
   }
 
   /**
@@ -0,0 +1,169 @@
+package com.sap.oss.phosphor.fosstars.data.json;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>The index maps URLs to values and allows looking up a value
+ * either by an exact URL or by the most specific URL that is a prefix of a given URL.</p>
+ *
+ * <p>The index is a trie. A URL is normalized to a list of segments:
+ * the first segment is the host, and the next ones are the non-empty path segments.
+ * The segments are in lower case, a scheme, a port, a query and a fragment are ignored.
+ * For example, both "https://github.com/Apache/" and "https://github.com/apache"
+ * are normalized to ["github.com", "apache"], and "https://github.com/apache" is a prefix
+ * of "https://github.com/apache/nifi" but not a prefix of "https://github.com/apache-nifi".
+ * A lookup takes time proportional to the number of segments in a URL
+ * and doesn't depend on the number of URLs in the index.</p>
+ *
+ * <p>The index is built when a storage is loaded. After that, it is only read,
+ * and therefore it may be shared by multiple threads.</p>
+ *
+ * @param <V> Type of values.
+ */
+class UrlPrefixIndex<V> {
+
+  /**
+   * The root node that holds hosts.
+   */
+  private final Node<V> root = new Node<>();
+
+  /**
+   * Adds a URL and a value to the index. If the URL is already in the index,
+   * then the old value is replaced.
+   *
+   * @param url The URL.
+   * @param value The value.
+   * @throws IllegalArgumentException If the URL is not valid.
+   */
+  void put(String url, V value) {
+    Objects.requireNonNull(value, "Oh no! Value is null!");
+    Optional<List<String>> segments = segmentsOf(url);
+    if (!segments.isPresent()) {
+      throw new IllegalArgumentException(String.format("Oh no! Could not parse URL: %s", url));
+    }
+
+    Node<V> node = root;
+    for (String segment : segments.get()) {
+      node = node.children.computeIfAbsent(segment, key -> new Node<>());
+    }
+    node.value = value;
+  }
+
+  /**
+   * Adds a URL and a value to the index. If the URL is already in the index,
+   * then the old value is replaced.
+   *
+   * @param url The URL.
+   * @param value The value.
+   */
+  void put(URL url, V value) {
+    Objects.requireNonNull(url, "Oh no! URL is null!");
+    put(url.toString(), value);
+  }
+
+  /**
+   * Looks for a value for a URL.
+   *
+   * @param url The URL.
+   * @return A value for the URL if the index contains the URL, an empty {@link Optional} otherwise.
+   */
+  Optional<V> exact(String url) {
+    Optional<List<String>> segments = segmentsOf(url);
+    if (!segments.isPresent()) {
+      return Optional.empty();
+    }
+
+    Node<V> node = root;
+    for (String segment : segments.get()) {
+      node = node.children.get(segment);
+      if (node == null) {
+        return Optional.empty();
+      }
+    }
+    return Optional.ofNullable(node.value);
+  }
+
+  /**
+   * Looks for a value for the most specific URL in the index that is a prefix of a given URL.
+   * The given URL is a prefix of itself.
+   *
+   * @param url The URL.
+   * @return A value for the most specific prefix if found, an empty {@link Optional} otherwise.
+   */
+  Optional<V> longestPrefixOf(String url) {
+    Optional<List<String>> segments = segmentsOf(url);
+    if (!segments.isPresent()) {
+      return Optional.empty();
+    }
+
+    V value = null;
+    Node<V> node = root;
+    for (String segment : segments.get()) {
+      node = node.children.get(segment);
+      if (node == null) {
+        break;
+      }
+      if (node.value != null) {
+        value = node.value;
+      }
+    }
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * Normalizes a URL to a list of segments.
+   *
+   * @param url The URL.
+   * @return A list of segments, or an empty {@link Optional} if the URL is not valid.
+   */
+  private static Optional<List<String>> segmentsOf(String url) {
+    Objects.requireNonNull(url, "Oh no! URL is null!");
+
+    URL parsed;
+    try {
+      parsed = new URL(url);
+    } catch (MalformedURLException e) {
+      return Optional.empty();
+    }
+
+    String host = parsed.getHost();
+    if (host == null || host.isEmpty()) {
+      return Optional.empty();
+    }
+
+    List<String> segments = new ArrayList<>();
+    segments.add(host.toLowerCase(Locale.ROOT));
+    for (String segment : parsed.getPath().split("/")) {
+      if (!segment.isEmpty()) {
+        segments.add(segment.toLowerCase(Locale.ROOT));
+      }
+    }
+    return Optional.of(segments);
+  }
+
+  /**
+   * A node in the trie.
+   *
+   * @param <V> Type of values.
+   */
+  private static class Node<V> {
+
+    /**
+     * Maps a next segment to a child node.
+     */
+    final Map<String, Node<V>> children = new HashMap<>();
+
+    /**
+     * A value for a URL that ends at this node (may be null).
+     */
+    V value;
+  }
+}
@@ -0,0 +1,335 @@
+package com.sap.oss.phosphor.fosstars.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>This is a helper class that offers methods for serialization and deserialization using JSON
+ * in which scores and features are written as references to their canonical definitions.</p>
+ *
+ * <p>A rating value contains a full definition of its score, and each feature value contains
+ * a full definition of its feature. If many rating values are stored in one file,
+ * for example, in a cache of projects, then the same definitions are repeated many times.
+ * A mapper returned by {@link #mapper()} replaces a score or a feature with a reference
+ * if a {@link DefinitionRegistry} contains an equivalent definition, and writes
+ * a full definition otherwise. While reading, references are resolved
+ * to canonical definitions, and full definitions are replaced with canonical ones if possible.
+ * Files with full definitions can still be read.</p>
+ */
+public class DefinitionReferences {
+
+  /**
+   * No instance of the class is allowed.
+   */
+  private DefinitionReferences() {
+
+  }
+
+  /**
+   * Deserializes an instance of a specified type.
+   *
+   * @param is An input stream with serialized object.
+   * @param clazz The type.
+   * @param <T> The type.
+   * @return A deserialized object.
+   * @throws IOException If deserialization failed.
+   */
+  public static <T> T read(InputStream is, Class<T> clazz) throws IOException {
+    Objects.requireNonNull(is, "Oh no! Input stream is null!");
+    Objects.requireNonNull(clazz, "Oh no! Class is null!");
+    return mapper().readValue(is, clazz);
+  }
+
+  /**
+   * Deserializes an instance of a specified type.
+   *
+   * @param bytes Serialized object.
+   * @param clazz The type.
+   * @param <T> The type.
+   * @return A deserialized object.
+   * @throws IOException If deserialization failed.
+   */
+  public static <T> T read(byte[] bytes, Class<T> clazz) throws IOException {
+    Objects.requireNonNull(bytes, "Oh no! Bytes is null!");
+    Objects.requireNonNull(clazz, "Oh no! Class is null!");
+    return mapper().readValue(bytes, clazz);
+  }
+
+  /**
+   * Serializes an object.
+   *
+   * @param object The object.
+   * @return A byte array.
+   * @throws IOException If serialization failed.
+   */
+  public static byte[] toBytes(Object object) throws IOException {
+    Objects.requireNonNull(object, "Oh no! Object is null!");
+    return mapper().writerWithDefaultPrettyPrinter().writeValueAsBytes(object);
+  }
+
+  /**
+   * Returns an {@link ObjectMapper} that uses references
+   * to definitions of ratings in {@link RatingRepository#INSTANCE}.
+   * The mapper is built only once and then shared, so that it must not be re-configured.
+   *
+   * @return An {@link ObjectMapper} for JSON.
+   */
+  public static ObjectMapper mapper() {
+    return DefaultMapperHolder.MAPPER;
+  }
+
+  /**
+   * Returns an {@link ObjectMapper} that uses references to definitions in a registry.
+   *
+   * @param registry The registry.
+   * @return An {@link ObjectMapper} for JSON.
+   */
+  public static ObjectMapper mapper(DefinitionRegistry registry) {
+    Objects.requireNonNull(registry, "Oh no! Registry is null!");
+
+    SimpleModule module = new SimpleModule(DefinitionReferences.class.getSimpleName());
+    module.setSerializerModifier(new BeanSerializerModifier() {
+
+      @Override
+      public JsonSerializer<?> modifySerializer(
+          SerializationConfig config, BeanDescription description, JsonSerializer<?> serializer) {
+
+        if (isDefinition(description)) {
+          return new ReferenceSerializer(registry, serializer);
+        }
+        return serializer;
+      }
+    });
+    module.setDeserializerModifier(new BeanDeserializerModifier() {
+
+      @Override
+      public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+          BeanDescription description, JsonDeserializer<?> deserializer) {
+
+        if (isDefinition(description)) {
+          return new ReferenceDeserializer(registry, deserializer);
+        }
+        return deserializer;
+      }
+    });
+
+    ObjectMapper mapper = Json.mapper();
+    mapper.registerModule(module);
+    return mapper;
+  }
+
+  /**
+   * Checks if a bean describes a score or a feature.
+   *
+   * @param description The description of the bean.
+   * @return True if the bean is a score or a feature, false otherwise.
+   */
+  private static boolean isDefinition(BeanDescription description) {
+    return Feature.class.isAssignableFrom(description.getBeanClass());
+  }
+
+  /**
+   * The serializer writes a reference to a score or a feature if it's available,
+   * and calls the original serializer otherwise.
+   */
+  private static class ReferenceSerializer extends StdSerializer<Object>
+      implements ContextualSerializer, ResolvableSerializer {
+
+    /**
+     * A registry of definitions.
+     */
+    private final DefinitionRegistry registry;
+
+    /**
+     * The original serializer.
+     */
+    private final JsonSerializer<Object> delegate;
+
+    /**
+     * Initializes a new serializer.
+     *
+     * @param registry A registry of definitions.
+     * @param delegate The original serializer.
+     */
+    @SuppressWarnings("unchecked")
+    ReferenceSerializer(DefinitionRegistry registry, JsonSerializer<?> delegate) {
+      super(Object.class);
+      this.registry = registry;
+      this.delegate = (JsonSerializer<Object>) delegate;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+
+      Optional<String> reference = registry.referenceTo((Feature<?>) value);
+      if (reference.isPresent()) {
+        gen.writeString(reference.get());
+      } else {
+        delegate.serialize(value, gen, provider);
+      }
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen,
+        SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+
+      Optional<String> reference = registry.referenceTo((Feature<?>) value);
+      if (reference.isPresent()) {
+        gen.writeString(reference.get());
+      } else {
+        delegate.serializeWithType(value, gen, provider, typeSerializer);
+      }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+
+      if (delegate instanceof ContextualSerializer) {
+        JsonSerializer<?> serializer
+            = ((ContextualSerializer) delegate).createContextual(provider, property);
+        if (serializer != delegate) {
+          return new ReferenceSerializer(registry, serializer);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+      if (delegate instanceof ResolvableSerializer) {
+        ((ResolvableSerializer) delegate).resolve(provider);
+      }
+    }
+  }
+
+  /**
+   * The deserializer resolves references to scores and features.
+   * If a score or a feature has a full definition, the deserializer calls
+   * the original deserializer and then replaces the result with a canonical definition
+   * if possible.
+   */
+  private static class ReferenceDeserializer extends DelegatingDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A registry of definitions.
+     */
+    private final transient DefinitionRegistry registry;
+
+    /**
+     * Initializes a new deserializer.
+     *
+     * @param registry A registry of definitions.
+     * @param delegate The original deserializer.
+     */
+    ReferenceDeserializer(DefinitionRegistry registry, JsonDeserializer<?> delegate) {
+      super(delegate);
+      this.registry = registry;
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> delegate) {
+      return new ReferenceDeserializer(registry, delegate);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContext context)
+        throws IOException {
+
+      if (parser.currentToken() == JsonToken.VALUE_STRING) {
+        return resolve(parser, context);
+      }
+      return intern(super.deserialize(parser, context));
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser parser, DeserializationContext context,
+        TypeDeserializer typeDeserializer) throws IOException {
+
+      if (parser.currentToken() == JsonToken.VALUE_STRING) {
+        return resolve(parser, context);
+      }
+      return intern(super.deserializeWithType(parser, context, typeDeserializer));
+    }
+
+    /**
+     * Resolves a reference to a score or a feature.
+     *
+     * @param parser A parser that points to the reference.
+     * @param context A context of deserialization.
+     * @return The resolved score or feature.
+     * @throws IOException If the reference could not be resolved.
+     */
+    private Object resolve(JsonParser parser, DeserializationContext context)
+        throws IOException {
+
+      String reference = parser.getText();
+      Optional<Feature<?>> definition = registry.resolve(reference);
+      if (!definition.isPresent()) {
+        throw JsonMappingException.from(parser,
+            String.format("Oh no! Could not resolve a reference: %s", reference));
+      }
+      if (!handledType().isInstance(definition.get())) {
+        throw JsonMappingException.from(parser, String.format(
+            "Oh no! Reference %s points to %s but %s expected!",
+            reference, definition.get().getClass().getName(), handledType().getName()));
+      }
+      return definition.get();
+    }
+
+    /**
+     * Replaces a deserialized score or feature with a canonical definition if possible.
+     *
+     * @param object The deserialized object.
+     * @return The canonical definition or the same object.
+     */
+    private Object intern(Object object) {
+      if (object instanceof Feature) {
+        return registry.intern((Feature<?>) object);
+      }
+      return object;
+    }
+  }
+
+  /**
+   * Holds a mapper that uses references to definitions of ratings
+   * in {@link RatingRepository#INSTANCE}. The mapper is built
+   * when it is requested for the first time.
+   */
+  private static class DefaultMapperHolder {
+
+    /**
+     * The mapper.
+     */
+    static final ObjectMapper MAPPER
+        = mapper(DefinitionRegistry.of(RatingRepository.INSTANCE));
+  }
+}
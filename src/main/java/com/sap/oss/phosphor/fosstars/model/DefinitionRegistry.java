@@ -0,0 +1,216 @@
+package com.sap.oss.phosphor.fosstars.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures;
+import com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>The registry contains canonical instances of scores and features
+ * and assigns stable references to them. A score is referenced by the name of its class,
+ * and a feature is referenced by its name.</p>
+ *
+ * <p>The registry is built from scores and features of all ratings in a {@link RatingRepository}
+ * and from constants in {@link OssFeatures} and {@link ExampleFeatures}. If several different
+ * scores or features have the same reference, then the reference is not used.</p>
+ *
+ * <p>An object is considered to be equivalent to a canonical definition
+ * only if they have the same class, they are equal, and their JSON representations are equal.
+ * The last check makes sure that, for example, a score with tuned parameters
+ * is never replaced with a reference.</p>
+ *
+ * <p>The class is immutable.</p>
+ */
+public final class DefinitionRegistry {
+
+  /**
+   * A mapper for converting scores and features to JSON.
+   */
+  private static final ObjectMapper MAPPER = Json.mapper();
+
+  /**
+   * Maps a reference to a score.
+   */
+  private final Map<String, Score> scores;
+
+  /**
+   * Maps a reference to a feature.
+   */
+  private final Map<String, Feature<?>> features;
+
+  /**
+   * Maps a canonical definition to its JSON representation.
+   */
+  private final Map<Feature<?>, JsonNode> canonicalJson = new ConcurrentHashMap<>();
+
+  /**
+   * Initializes a new registry.
+   *
+   * @param scores Maps a reference to a score.
+   * @param features Maps a reference to a feature.
+   */
+  private DefinitionRegistry(Map<String, Score> scores, Map<String, Feature<?>> features) {
+    this.scores = scores;
+    this.features = features;
+  }
+
+  /**
+   * Creates a registry for ratings in a repository.
+   *
+   * @param repository The repository.
+   * @return A new registry.
+   */
+  public static DefinitionRegistry of(RatingRepository repository) {
+    Objects.requireNonNull(repository, "Oh no! Repository is null!");
+
+    Map<String, Score> scores = new HashMap<>();
+    Map<String, Feature<?>> features = new HashMap<>();
+    Set<String> ambiguous = new HashSet<>();
+
+    for (Rating rating : repository.ratings()) {
+      for (Score score : rating.score().structure().scores()) {
+        add(scores, score.getClass().getName(), score, ambiguous);
+      }
+      for (Feature<?> feature : rating.allFeatures()) {
+        add(features, feature.name(), feature, ambiguous);
+      }
+    }
+    for (Feature<?> feature : constantsIn(OssFeatures.class, ExampleFeatures.class)) {
+      add(features, feature.name(), feature, ambiguous);
+    }
+
+    scores.keySet().removeAll(ambiguous);
+    features.keySet().removeAll(ambiguous);
+    return new DefinitionRegistry(scores, features);
+  }
+
+  /**
+   * Adds a definition to an index.
+   *
+   * @param index The index.
+   * @param reference A reference to the definition.
+   * @param definition The definition.
+   * @param ambiguous A set of references that point to several different definitions.
+   * @param <T> A type of the definition.
+   */
+  private static <T> void add(
+      Map<String, T> index, String reference, T definition, Set<String> ambiguous) {
+
+    T existing = index.putIfAbsent(reference, definition);
+    if (existing != null && existing != definition && !existing.equals(definition)) {
+      ambiguous.add(reference);
+    }
+  }
+
+  /**
+   * Collects features from public static fields of classes.
+   *
+   * @param classes The classes.
+   * @return A set of features.
+   */
+  private static Set<Feature<?>> constantsIn(Class<?>... classes) {
+    Set<Feature<?>> constants = new HashSet<>();
+    for (Class<?> clazz : classes) {
+      for (Field field : clazz.getFields()) {
+        if (!Modifier.isStatic(field.getModifiers())
+            || !Feature.class.isAssignableFrom(field.getType())) {
+          continue;
+        }
+        try {
+          constants.add((Feature<?>) field.get(null));
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(
+              String.format("Oh no! Could not access %s!", field.getName()), e);
+        }
+      }
+    }
+    return constants;
+  }
+
+  /**
+   * Returns a reference to a score or a feature if the registry contains
+   * an equal definition, so that the reference can be resolved to an equivalent object.
+   *
+   * @param feature The score or the feature.
+   * @return A reference if available.
+   */
+  public Optional<String> referenceTo(Feature<?> feature) {
+    Objects.requireNonNull(feature, "Oh no! Feature is null!");
+    if (feature instanceof Score) {
+      String reference = feature.getClass().getName();
+      return sameAs(scores.get(reference), feature) ? Optional.of(reference) : Optional.empty();
+    }
+    String reference = feature.name();
+    return sameAs(features.get(reference), feature) ? Optional.of(reference) : Optional.empty();
+  }
+
+  /**
+   * Resolves a reference to a score or a feature.
+   *
+   * @param reference The reference.
+   * @return The score or the feature if the reference is known.
+   */
+  public Optional<Feature<?>> resolve(String reference) {
+    Objects.requireNonNull(reference, "Oh no! Reference is null!");
+    Score score = scores.get(reference);
+    if (score != null) {
+      return Optional.of(score);
+    }
+    return Optional.ofNullable(features.get(reference));
+  }
+
+  /**
+   * Returns a canonical instance of a score or a feature
+   * if the registry contains an equal definition of the same class.
+   *
+   * @param feature The score or the feature.
+   * @param <T> The type of the score or the feature.
+   * @return The canonical instance if available, or the same object otherwise.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Feature<?>> T intern(T feature) {
+    Objects.requireNonNull(feature, "Oh no! Feature is null!");
+    Feature<?> canonical = feature instanceof Score
+        ? scores.get(feature.getClass().getName())
+        : features.get(feature.name());
+    return sameAs(canonical, feature) ? (T) canonical : feature;
+  }
+
+  /**
+   * Checks if a canonical definition is equivalent to an object.
+   *
+   * @param canonical The canonical definition (may be null).
+   * @param feature The object.
+   * @return True if the canonical definition is equivalent to the object, false otherwise.
+   */
+  private boolean sameAs(Feature<?> canonical, Feature<?> feature) {
+    if (canonical == feature) {
+      return true;
+    }
+    return canonical != null
+        && canonical.getClass() == feature.getClass()
+        && canonical.equals(feature)
+        && canonicalJson.computeIfAbsent(canonical, DefinitionRegistry::json)
+            .equals(json(feature));
+  }
+
+  /**
+   * Converts a score or a feature to JSON.
+   *
+   * @param feature The score or the feature.
+   * @return A JSON representation.
+   */
+  private static JsonNode json(Feature<?> feature) {
+    return MAPPER.valueToTree(feature);
+  }
+}
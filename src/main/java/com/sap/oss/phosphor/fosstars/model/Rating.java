@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.sap.oss.phosphor.fosstars.model.rating.example.SecurityRatingExample;
 import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import com.sap.oss.phosphor.fosstars.model.score.ScoreStructure;
 import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
 import java.util.Set;
 
@@ -64,6 +65,15 @@ public interface Rating {
    */
   Set<Feature<?>> allFeatures();
 
+  /**
+   * Returns a read-only view of the structure of the score that the rating uses.
+   *
+   * @return A view of the structure of the score.
+   */
+  default ScoreStructure structure() {
+    return score().structure();
+  }
+
   /**
    * Accept a visitor.
    *
@@ -14,6 +14,8 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -108,6 +110,15 @@ public class RatingRepository {
     return clazz.cast(rating);
   }
 
+  /**
+   * Returns all ratings in the repository.
+   *
+   * @return An unmodifiable collection of ratings.
+   */
+  public Collection<Rating> ratings() {
+    return Collections.unmodifiableCollection(ratings.values());
+  }
+
   /**
    * Calls a rating factory to create a rating,
    * and then registers the created rating in the repository.
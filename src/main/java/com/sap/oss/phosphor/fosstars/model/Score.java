@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.sap.oss.phosphor.fosstars.model.math.DoubleInterval;
 import com.sap.oss.phosphor.fosstars.model.score.AverageCompositeScore;
+import com.sap.oss.phosphor.fosstars.model.score.ScoreStructure;
 import com.sap.oss.phosphor.fosstars.model.score.WeightedCompositeScore;
 import com.sap.oss.phosphor.fosstars.model.score.example.ProjectActivityScoreExample;
 import com.sap.oss.phosphor.fosstars.model.score.example.SecurityScoreExample;
@@ -118,6 +119,15 @@ public interface Score extends Feature<Double> {
    */
   Set<Score> subScores();
 
+  /**
+   * Returns a read-only view of the structure of the score.
+   *
+   * @return A view of the structure of the score.
+   */
+  default ScoreStructure structure() {
+    return ScoreStructure.of(this);
+  }
+
   /**
    * Takes a set of values and calculates a score.
    *
@@ -10,6 +10,7 @@ import com.sap.oss.phosphor.fosstars.model.value.ExpiringValue;
 import com.sap.oss.phosphor.fosstars.model.value.IntegerValue;
 import com.sap.oss.phosphor.fosstars.model.value.LanguagesValue;
 import com.sap.oss.phosphor.fosstars.model.value.LgtmGradeValue;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue;
 import com.sap.oss.phosphor.fosstars.model.value.NotApplicableValue;
 import com.sap.oss.phosphor.fosstars.model.value.OwaspDependencyCheckCvssThresholdValue;
 import com.sap.oss.phosphor.fosstars.model.value.OwaspDependencyCheckUsageValue;
@@ -33,6 +34,7 @@ import com.sap.oss.phosphor.fosstars.model.value.VulnerabilitiesValue;
     @JsonSubTypes.Type(value = ExpiringValue.class),
     @JsonSubTypes.Type(value = VulnerabilitiesValue.class),
     @JsonSubTypes.Type(value = UnknownValue.class),
+    @JsonSubTypes.Type(value = NegativeValue.class),
     @JsonSubTypes.Type(value = NotApplicableValue.class),
     @JsonSubTypes.Type(value = EnumValue.class),
     @JsonSubTypes.Type(value = LgtmGradeValue.class),
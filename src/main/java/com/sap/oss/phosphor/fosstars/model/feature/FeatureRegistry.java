@@ -0,0 +1,146 @@
+package com.sap.oss.phosphor.fosstars.model.feature;
+
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Rating;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>The registry assigns dense integer identifiers to a fixed set of features,
+ * for example, to all features used in a rating. The identifiers are in range [0, size).</p>
+ *
+ * <p>Features are ordered by their names before identifiers are assigned,
+ * so that the same set of features always gets the same identifiers.</p>
+ *
+ * <p>The class is immutable.</p>
+ */
+public final class FeatureRegistry {
+
+  /**
+   * This identifier is returned for a feature that is not in the registry.
+   */
+  public static final int UNKNOWN_ID = -1;
+
+  /**
+   * A list of features where an index of a feature is its identifier.
+   */
+  private final List<Feature<?>> features;
+
+  /**
+   * Maps a feature to its identifier.
+   */
+  private final Map<Feature<?>, Integer> ids;
+
+  /**
+   * Initializes a new registry.
+   *
+   * @param features A list of unique features where an index of a feature is its identifier.
+   */
+  private FeatureRegistry(List<Feature<?>> features) {
+    this.features = Collections.unmodifiableList(features);
+    this.ids = new HashMap<>();
+    for (int i = 0; i < features.size(); i++) {
+      ids.put(features.get(i), i);
+    }
+  }
+
+  /**
+   * Creates a registry for all features used in a rating.
+   *
+   * @param rating The rating.
+   * @return A registry of the rating's features.
+   */
+  public static FeatureRegistry of(Rating rating) {
+    Objects.requireNonNull(rating, "Oh no! Rating is null!");
+    return of(rating.allFeatures());
+  }
+
+  /**
+   * Creates a registry for a collection of features.
+   *
+   * @param features The features.
+   * @return A registry of the features.
+   */
+  public static FeatureRegistry of(Collection<Feature<?>> features) {
+    Objects.requireNonNull(features, "Oh no! Features are null!");
+    List<Feature<?>> list = new ArrayList<>(new LinkedHashSet<>(features));
+    list.sort(Comparator.comparing(Feature::name));
+    return new FeatureRegistry(list);
+  }
+
+  /**
+   * Returns a number of features in the registry.
+   *
+   * @return The number of features.
+   */
+  public int size() {
+    return features.size();
+  }
+
+  /**
+   * Returns an identifier of a feature.
+   *
+   * @param feature The feature.
+   * @return The identifier of the feature, or {@link #UNKNOWN_ID}
+   *         if the feature is not in the registry.
+   */
+  public int idOf(Feature<?> feature) {
+    Objects.requireNonNull(feature, "Oh no! Feature is null!");
+    Integer id = ids.get(feature);
+    return id != null ? id : UNKNOWN_ID;
+  }
+
+  /**
+   * Checks if the registry contains a feature.
+   *
+   * @param feature The feature.
+   * @return True if the registry contains the feature, false otherwise.
+   */
+  public boolean contains(Feature<?> feature) {
+    return idOf(feature) != UNKNOWN_ID;
+  }
+
+  /**
+   * Returns a feature by its identifier.
+   *
+   * @param id The identifier.
+   * @return The feature.
+   * @throws IndexOutOfBoundsException If the identifier is not valid.
+   */
+  public Feature<?> feature(int id) {
+    return features.get(id);
+  }
+
+  /**
+   * Returns a list of features in the registry ordered by their identifiers.
+   *
+   * @return An unmodifiable list of features.
+   */
+  public List<Feature<?>> features() {
+    return features;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof FeatureRegistry == false) {
+      return false;
+    }
+    FeatureRegistry that = (FeatureRegistry) o;
+    return Objects.equals(features, that.features);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(features);
+  }
+}
@@ -2,11 +2,22 @@ package com.sap.oss.phosphor.fosstars.model.qa;
 
 import com.sap.oss.phosphor.fosstars.model.qa.TestVectorResult.Status;
 import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * <p>This is a base class for verifiers. The verifier takes a snapshot of test vectors
+ * when it is created, see {@link PrecompiledTestVectors}.</p>
+ *
+ * <p>By default, test vectors are checked one by one. In the parallel mode,
+ * test vectors are checked in the common fork-join pool. Results are always ordered
+ * by indexes of test vectors.</p>
+ */
 public abstract class AbstractVerifier implements Verifier {
 
   /**
@@ -17,7 +28,12 @@ public abstract class AbstractVerifier implements Verifier {
   /**
    * A list of test vectors.
    */
-  final TestVectors vectors;
+  final PrecompiledTestVectors vectors;
+
+  /**
+   * Tells if test vectors should be checked in parallel.
+   */
+  private boolean parallel = false;
 
   /**
    * Initialize a verifier.
@@ -31,15 +47,58 @@ public abstract class AbstractVerifier implements Verifier {
       throw new IllegalArgumentException("No test vectors specified!");
     }
 
-    this.vectors = vectors;
+    this.vectors = vectors.precompile();
+  }
+
+  /**
+   * Sets the parallel mode. In the parallel mode,
+   * {@link #check(TestVector, int)} may be called from multiple threads at the same time.
+   *
+   * @param parallel True if test vectors should be checked in parallel, false otherwise.
+   * @return The same verifier.
+   */
+  public AbstractVerifier parallel(boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  /**
+   * Checks if the parallel mode is enabled.
+   *
+   * @return True if test vectors are checked in parallel, false otherwise.
+   */
+  public boolean parallel() {
+    return parallel;
   }
 
   /**
-   * Check the rating against the test vectors and returns a list of failed test vectors.
+   * Checks a test vector.
+   *
+   * @param vector The test vector.
+   * @param index An index of the test vector.
+   * @return A result of the check.
+   */
+  abstract TestVectorResult check(TestVector vector, int index);
+
+  /**
+   * Check the test vectors and returns a list of results ordered by indexes of the test vectors.
    *
-   * @return A list of failed test vectors.
+   * @return A list of results.
    */
-  abstract List<TestVectorResult> runImpl();
+  List<TestVectorResult> runImpl() {
+    if (parallel) {
+      return IntStream.range(0, vectors.size())
+          .parallel()
+          .mapToObj(index -> check(vectors.get(index), index))
+          .collect(Collectors.toList());
+    }
+
+    List<TestVectorResult> results = new ArrayList<>(vectors.size());
+    for (int index = 0; index < vectors.size(); index++) {
+      results.add(check(vectors.get(index), index));
+    }
+    return results;
+  }
 
   @Override
   public final List<TestVectorResult> run() {
@@ -0,0 +1,86 @@
+package com.sap.oss.phosphor.fosstars.model.qa;
+
+import com.sap.oss.phosphor.fosstars.model.Score;
+import com.sap.oss.phosphor.fosstars.model.Weight;
+import com.sap.oss.phosphor.fosstars.model.score.CompiledScore;
+import com.sap.oss.phosphor.fosstars.model.score.CompiledScore.Evaluation;
+import com.sap.oss.phosphor.fosstars.model.score.CompiledScore.Input;
+import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>The verifier checks that a score passes tests defined by test vectors
+ * in the same way as {@link ScoreVerifier} does, but it is meant to be run many times
+ * while weights of the score are changing, for example, during tuning.</p>
+ *
+ * <p>The verifier compiles the score and prepares an {@link Input} for each test vector
+ * only once. An input caches values of sub-scores that don't depend on weights,
+ * so that each run re-calculates only weighted composite scores over cached values.
+ * The verifier picks up the current weights of the score before each run.</p>
+ *
+ * <p>Score values produced by the verifier don't contain used values and explanations.
+ * Test vectors may be checked in parallel, but the verifier must not be run
+ * by multiple threads at the same time.</p>
+ */
+public class CompiledScoreVerifier extends AbstractVerifier {
+
+  /**
+   * A score to be verified.
+   */
+  private final Score score;
+
+  /**
+   * The compiled score.
+   */
+  private final CompiledScore compiledScore;
+
+  /**
+   * Inputs for the test vectors.
+   */
+  private final List<Input> inputs;
+
+  /**
+   * Initializes a new verifier.
+   *
+   * @param score A score to be verified.
+   * @param vectors A list of test vectors.
+   */
+  public CompiledScoreVerifier(Score score, TestVectors vectors) {
+    super(vectors);
+
+    this.score = Objects.requireNonNull(score, "Score can't be null!");
+    this.compiledScore = CompiledScore.compile(score);
+    this.inputs = new ArrayList<>();
+    for (TestVector vector : vectors) {
+      inputs.add(compiledScore.input(vector.valuesFor(score)));
+    }
+  }
+
+  @Override
+  List<TestVectorResult> runImpl() {
+    compiledScore.updateWeights();
+    return super.runImpl();
+  }
+
+  @Override
+  TestVectorResult check(TestVector vector, int index) {
+    ScoreValue scoreValue = scoreValueFor(compiledScore.evaluate(inputs.get(index)));
+    return testResultFor(vector, scoreValue, index);
+  }
+
+  /**
+   * Converts a result of evaluation to a score value.
+   *
+   * @param evaluation The result of evaluation.
+   * @return A score value.
+   */
+  private ScoreValue scoreValueFor(Evaluation evaluation) {
+    double value = evaluation.isUnknown() ? Score.MIN : evaluation.value();
+    return new ScoreValue(score, value, Weight.MAX, evaluation.confidence(),
+        Collections.emptyList(), Collections.emptyList(),
+        evaluation.isUnknown(), evaluation.isNotApplicable());
+  }
+}
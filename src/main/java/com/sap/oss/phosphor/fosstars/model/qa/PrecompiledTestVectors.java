@@ -0,0 +1,118 @@
+package com.sap.oss.phosphor.fosstars.model.qa;
+
+import com.sap.oss.phosphor.fosstars.model.Score;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>This is an immutable snapshot of {@link TestVectors} which is meant to be used
+ * when the same test vectors are checked many times, for example, during tuning.
+ * Use {@link TestVectors#precompile()} to create a snapshot.</p>
+ *
+ * <p>Each test vector is wrapped into a {@link TestVectorWithDefaults} only once.
+ * Values of a test vector are merged with the default values when they are requested
+ * for the first time, and then the merged values are re-used.
+ * The collection and its test vectors are thread-safe.</p>
+ */
+public final class PrecompiledTestVectors implements Iterable<TestVector> {
+
+  /**
+   * A list of test vectors.
+   */
+  private final List<TestVector> elements;
+
+  /**
+   * Initializes a new collection.
+   *
+   * @param elements A list of test vectors.
+   */
+  PrecompiledTestVectors(List<PrecompiledTestVector> elements) {
+    this.elements = Collections.unmodifiableList(new ArrayList<>(elements));
+  }
+
+  /**
+   * Get a test vector by its index.
+   *
+   * @param i The index.
+   * @return The test vector.
+   */
+  public TestVector get(int i) {
+    return elements.get(i);
+  }
+
+  /**
+   * Get a size of the collection.
+   *
+   * @return A size of the collection.
+   */
+  public int size() {
+    return elements.size();
+  }
+
+  /**
+   * Checks if the collection of test vectors is empty.
+   *
+   * @return True if the collection is empty, false otherwise.
+   */
+  public boolean isEmpty() {
+    return elements.isEmpty();
+  }
+
+  @Override
+  public Iterator<TestVector> iterator() {
+    return elements.iterator();
+  }
+
+  /**
+   * A test vector with default values that remembers its values.
+   * The returned sets of values are unmodifiable.
+   */
+  static class PrecompiledTestVector extends TestVectorWithDefaults {
+
+    /**
+     * Values of the test vector (may be null if they have not been requested yet).
+     */
+    private volatile Set<Value<?>> values;
+
+    /**
+     * Maps a score to values of the test vector for the score.
+     */
+    private final Map<Score, Set<Value<?>>> valuesForScore = new IdentityHashMap<>();
+
+    /**
+     * Initializes a new test vector.
+     *
+     * @param vector The original test vector.
+     * @param defaults A set of default values.
+     */
+    PrecompiledTestVector(TestVector vector, Set<Value<?>> defaults) {
+      super(vector, defaults);
+    }
+
+    @Override
+    public Set<Value<?>> values() {
+      Set<Value<?>> result = values;
+      if (result == null) {
+        result = Collections.unmodifiableSet(super.values());
+        values = result;
+      }
+      return result;
+    }
+
+    @Override
+    public Set<Value<?>> valuesFor(Score score) {
+      Objects.requireNonNull(score, "Oh no! Score is null!");
+      synchronized (valuesForScore) {
+        return valuesForScore.computeIfAbsent(
+            score, key -> Collections.unmodifiableSet(super.valuesFor(key)));
+      }
+    }
+  }
+}
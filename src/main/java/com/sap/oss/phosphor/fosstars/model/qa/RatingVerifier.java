@@ -3,8 +3,6 @@ package com.sap.oss.phosphor.fosstars.model.qa;
 import com.sap.oss.phosphor.fosstars.model.Rating;
 import com.sap.oss.phosphor.fosstars.model.qa.TestVectorResult.Status;
 import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -31,20 +29,16 @@ public class RatingVerifier extends AbstractVerifier {
   }
 
   /**
-   * Check if the rating produces expected scores and labels defined by the test vectors.
+   * Check if the rating produces an expected score and label defined by a test vector.
    *
-   * @return A list of failed test vectors.
+   * @param vector The test vector.
+   * @param index An index of the test vector.
+   * @return A result of the check.
    */
-  List<TestVectorResult> runImpl() {
-    List<TestVectorResult> results = new ArrayList<>();
-
-    int index = 0;
-    for (TestVector vector : vectors) {
-      RatingValue ratingValue = rating.calculate(vector.values());
-      results.add(testResultFor(vector, ratingValue, index++));
-    }
-
-    return results;
+  @Override
+  TestVectorResult check(TestVector vector, int index) {
+    RatingValue ratingValue = rating.calculate(vector.values());
+    return testResultFor(vector, ratingValue, index);
   }
 
   /**
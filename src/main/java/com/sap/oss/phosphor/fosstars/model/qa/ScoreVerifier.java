@@ -2,8 +2,6 @@ package com.sap.oss.phosphor.fosstars.model.qa;
 
 import com.sap.oss.phosphor.fosstars.model.Score;
 import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -29,16 +27,10 @@ public class ScoreVerifier extends AbstractVerifier {
     this.score = score;
   }
 
-  List<TestVectorResult> runImpl() {
-    List<TestVectorResult> results = new ArrayList<>();
-
-    int index = 0;
-    for (TestVector vector : vectors) {
-      ScoreValue scoreValue = score.calculate(vector.valuesFor(score));
-      results.add(testResultFor(vector, scoreValue, index++));
-    }
-
-    return results;
+  @Override
+  TestVectorResult check(TestVector vector, int index) {
+    ScoreValue scoreValue = score.calculate(vector.valuesFor(score));
+    return testResultFor(vector, scoreValue, index);
   }
 
 }
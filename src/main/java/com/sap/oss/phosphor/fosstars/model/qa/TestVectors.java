@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.qa.PrecompiledTestVectors.PrecompiledTestVector;
 import com.sap.oss.phosphor.fosstars.util.Yaml;
 import java.io.IOException;
 import java.io.InputStream;
@@ -93,6 +94,22 @@ public class TestVectors implements Iterable<TestVector> {
     return new TestVectorWithDefaults(elements.get(i), defaults);
   }
 
+  /**
+   * Creates an immutable snapshot of the test vectors
+   * that merges values of the test vectors with the default values only once.
+   * Test vectors that are added later don't appear in the snapshot.
+   *
+   * @return The snapshot.
+   */
+  public PrecompiledTestVectors precompile() {
+    List<PrecompiledTestVector> list = new ArrayList<>(elements.size());
+    Set<Value<?>> snapshot = Collections.unmodifiableSet(new HashSet<>(defaults));
+    for (TestVector vector : elements) {
+      list.add(new PrecompiledTestVector(vector, snapshot));
+    }
+    return new PrecompiledTestVectors(list);
+  }
+
   /**
    * Checks if the collection of test vectors is empty.
    *
@@ -42,7 +42,16 @@ public class SecurityRatingExample extends AbstractRating implements Tunable {
    * Initializes a security rating with SecurityScoreExample.
    */
   SecurityRatingExample() {
-    super("Security rating (example)", SECURITY_SCORE_EXAMPLE);
+    this(SECURITY_SCORE_EXAMPLE);
+  }
+
+  /**
+   * Initializes a security rating with a specified score.
+   *
+   * @param score The score.
+   */
+  SecurityRatingExample(SecurityScoreExample score) {
+    super("Security rating (example)", score);
   }
 
   @Override
@@ -4,6 +4,7 @@ import com.sap.oss.phosphor.fosstars.model.RatingRepository;
 import com.sap.oss.phosphor.fosstars.model.qa.RatingVerifier;
 import com.sap.oss.phosphor.fosstars.model.qa.TestVectors;
 import com.sap.oss.phosphor.fosstars.model.qa.VerificationFailedException;
+import com.sap.oss.phosphor.fosstars.model.score.example.SecurityScoreExample;
 import com.sap.oss.phosphor.fosstars.model.tuning.TuningWithCMAES;
 import java.io.IOException;
 
@@ -26,7 +27,9 @@ public class SecurityRatingExampleTuningWithCMAES extends TuningWithCMAES {
    * @param vectors A list of test vectors.
    */
   SecurityRatingExampleTuningWithCMAES(SecurityRatingExample rating, TestVectors vectors) {
-    super(rating, new RatingVerifier(rating, vectors));
+    super(rating,
+        () -> new SecurityRatingExample(new SecurityScoreExample()),
+        copy -> new RatingVerifier(copy, vectors));
   }
 
   /**
@@ -49,6 +49,12 @@ public abstract class AbstractScore implements Score {
   @JsonIgnore
   protected final Logger logger = LogManager.getLogger(getClass());
 
+  /**
+   * A memoized view of the structure of the score (may be null).
+   */
+  @JsonIgnore
+  private ScoreStructure structure;
+
   /**
    * Initializes a new score.
    *
@@ -96,7 +102,12 @@ public abstract class AbstractScore implements Score {
   @Override
   public ScoreValue calculate(ValueSet values) {
     Objects.requireNonNull(values, "Hey! Value set can't be null!");
-    return calculate(values.toSet());
+    Value<?>[] array = new Value<?>[values.size()];
+    int i = 0;
+    for (Value<?> value : values) {
+      array[i++] = value;
+    }
+    return calculate(array);
   }
 
   @Override
@@ -120,11 +131,51 @@ public abstract class AbstractScore implements Score {
     return value(Double.parseDouble(string));
   }
 
+  /**
+   * Returns all features which are used by the score. If the structure of the score
+   * has been memoized, the method returns an unmodifiable set.
+   *
+   * @return A number of features.
+   */
   @Override
   public Set<Feature<?>> allFeatures() {
+    if (structure != null) {
+      return structure.allFeatures();
+    }
     return fillOutFeatures(this, new HashSet<>());
   }
 
+  /**
+   * Returns a read-only view of the structure of the score.
+   * If the structure has been memoized, the method doesn't build a new view.
+   *
+   * @return A view of the structure of the score.
+   */
+  @Override
+  public ScoreStructure structure() {
+    if (structure != null) {
+      return structure;
+    }
+    return ScoreStructure.of(this);
+  }
+
+  /**
+   * Builds a view of the structure of the score and stores it.
+   * Subclasses may call this method when the score becomes immutable.
+   */
+  protected final void memoizeStructure() {
+    structure = ScoreStructure.of(this);
+  }
+
+  /**
+   * Checks if the structure of the score has been memoized.
+   *
+   * @return True if the structure has been memoized, false otherwise.
+   */
+  protected final boolean structureMemoized() {
+    return structure != null;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -152,6 +203,10 @@ public abstract class AbstractScore implements Score {
    */
   public <T extends Score> Score score(Class<T> clazz) {
     Objects.requireNonNull(clazz, "Class can't be null!");
+    if (structure != null) {
+      return structure.subScore(clazz).orElseThrow(() -> new IllegalArgumentException(
+          String.format("Sub-score %s not found", clazz.getCanonicalName())));
+    }
     for (Score subScore : subScores()) {
       if (clazz.equals(subScore.getClass())) {
         return subScore;
@@ -0,0 +1,602 @@
+package com.sap.oss.phosphor.fosstars.model.score;
+
+import com.sap.oss.phosphor.fosstars.model.Confidence;
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Score;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.Weight;
+import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>This is a compiled form of a score tree that allows calculating score values
+ * faster than {@link Score#calculate(ValueSet)} does.</p>
+ *
+ * <p>When a score is compiled, all features and sub-scores in the tree get dense integer slots,
+ * sub-scores are ordered topologically, and weights of {@link WeightedCompositeScore}s
+ * are copied to an array. Weighted composite scores are then evaluated over primitive arrays
+ * without creating intermediate {@link ScoreValue}s.</p>
+ *
+ * <p>Only weighted composite scores are compiled. Other scores such as feature-based scores
+ * implement their own logic, and they are still evaluated
+ * with {@link Score#calculate(ValueSet)} over the original values. If such a score doesn't depend
+ * on any weighted composite score, then its value is calculated only once per {@link Input}
+ * and then re-used. Therefore, a compiled score is mainly useful when the same inputs
+ * are evaluated many times with different weights, for example, during tuning.</p>
+ *
+ * <p>A compiled score produces the same score values and confidences
+ * as the original score tree.</p>
+ *
+ * <p>If weights in the original score tree are updated, for example, during tuning,
+ * then {@link #updateWeights()} has to be called to update the compiled score.
+ * The class is not thread-safe while the weights are updated.
+ * An {@link Input} caches values of sub-scores without synchronization,
+ * therefore one input must not be evaluated by multiple threads concurrently.
+ * Different inputs may be evaluated concurrently as long as the weights are not updated.</p>
+ */
+public final class CompiledScore {
+
+  /**
+   * A state of a known value.
+   */
+  private static final byte KNOWN = 0;
+
+  /**
+   * A state of an unknown value.
+   */
+  private static final byte UNKNOWN = 1;
+
+  /**
+   * A state of a not-applicable value.
+   */
+  private static final byte NOT_APPLICABLE = 2;
+
+  /**
+   * This index means that a node doesn't have a slot.
+   */
+  private static final int NO_SLOT = -1;
+
+  /**
+   * The original score.
+   */
+  private final Score score;
+
+  /**
+   * Scores in the tree ordered topologically. The root score is the last one.
+   */
+  private final Score[] nodes;
+
+  /**
+   * Tells if a node is a weighted composite score.
+   */
+  private final boolean[] weighted;
+
+  /**
+   * Tells if a node depends on a weighted composite score.
+   */
+  private final boolean[] dependsOnWeights;
+
+  /**
+   * Maps a node to a slot of its value in an input vector.
+   */
+  private final int[] nodeSlots;
+
+  /**
+   * Maps a node to an offset of its children in {@link #children} and {@link #weights}.
+   * The offsets of the node {@code i} are in range [offsets[i], offsets[i + 1]).
+   */
+  private final int[] offsets;
+
+  /**
+   * Indexes of children of weighted composite scores.
+   */
+  private final int[] children;
+
+  /**
+   * Weights of children of weighted composite scores.
+   */
+  private final double[] weights;
+
+  /**
+   * Weight parameters that correspond to {@link #weights}.
+   */
+  private final Weight[] weightParameters;
+
+  /**
+   * Maps a feature to its slot in an input vector.
+   */
+  private final Map<Feature<?>, Integer> slots;
+
+  /**
+   * Initializes a compiled score.
+   *
+   * @param score The original score.
+   * @param nodes Scores in the tree ordered topologically.
+   * @param slots Maps a feature to its slot in an input vector.
+   */
+  private CompiledScore(Score score, List<Score> nodes, Map<Feature<?>, Integer> slots) {
+    this.score = score;
+    this.nodes = nodes.toArray(new Score[0]);
+    this.slots = slots;
+
+    Map<Score, Integer> indexes = new HashMap<>();
+    for (int i = 0; i < this.nodes.length; i++) {
+      indexes.put(this.nodes[i], i);
+    }
+
+    weighted = new boolean[this.nodes.length];
+    dependsOnWeights = new boolean[this.nodes.length];
+    nodeSlots = new int[this.nodes.length];
+    offsets = new int[this.nodes.length + 1];
+
+    List<Integer> childIndexes = new ArrayList<>();
+    List<Weight> childWeights = new ArrayList<>();
+    for (int i = 0; i < this.nodes.length; i++) {
+      Score node = this.nodes[i];
+      offsets[i] = childIndexes.size();
+      nodeSlots[i] = node == score ? NO_SLOT : slots.get(node);
+      weighted[i] = node instanceof WeightedCompositeScore;
+      dependsOnWeights[i] = weighted[i];
+
+      for (Score subScore : node.subScores()) {
+        int child = indexes.get(subScore);
+        dependsOnWeights[i] |= dependsOnWeights[child];
+        if (weighted[i]) {
+          childIndexes.add(child);
+          childWeights.add(((WeightedCompositeScore) node).weights().of(subScore)
+              .orElseThrow(() -> new IllegalArgumentException(
+                  String.format("Oh no! No weight for %s!", subScore.name()))));
+        }
+      }
+    }
+    offsets[this.nodes.length] = childIndexes.size();
+
+    children = childIndexes.stream().mapToInt(Integer::intValue).toArray();
+    weightParameters = childWeights.toArray(new Weight[0]);
+    weights = new double[weightParameters.length];
+    updateWeights();
+  }
+
+  /**
+   * Compiles a score.
+   *
+   * @param score The score.
+   * @return A compiled score.
+   */
+  public static CompiledScore compile(Score score) {
+    Objects.requireNonNull(score, "Oh no! Score is null!");
+
+    List<Score> nodes = new ArrayList<>();
+    order(score, nodes);
+
+    Map<Feature<?>, Integer> slots = new HashMap<>();
+    for (Feature<?> feature : score.allFeatures()) {
+      slots.putIfAbsent(feature, slots.size());
+    }
+    for (Score node : nodes) {
+      slots.putIfAbsent(node, slots.size());
+    }
+
+    return new CompiledScore(score, nodes, slots);
+  }
+
+  /**
+   * Adds a score and its sub-scores to a list in topological order.
+   *
+   * @param score The score.
+   * @param nodes The list.
+   */
+  private static void order(Score score, List<Score> nodes) {
+    if (nodes.contains(score)) {
+      return;
+    }
+    for (Score subScore : score.subScores()) {
+      order(subScore, nodes);
+    }
+    nodes.add(score);
+  }
+
+  /**
+   * Returns the original score.
+   *
+   * @return The original score.
+   */
+  public Score score() {
+    return score;
+  }
+
+  /**
+   * Returns a number of slots in an input vector.
+   *
+   * @return The number of slots.
+   */
+  public int size() {
+    return slots.size();
+  }
+
+  /**
+   * Returns a slot of a feature in an input vector.
+   *
+   * @param feature The feature.
+   * @return The slot if the feature is used in the score tree.
+   */
+  public Optional<Integer> slotOf(Feature<?> feature) {
+    return Optional.ofNullable(slots.get(feature));
+  }
+
+  /**
+   * Copies weights from the original score tree.
+   * The method should be called if the weights were updated.
+   *
+   * @return This compiled score.
+   */
+  public CompiledScore updateWeights() {
+    for (int i = 0; i < weightParameters.length; i++) {
+      weights[i] = weightParameters[i].value();
+    }
+    return this;
+  }
+
+  /**
+   * Prepares an input for the compiled score.
+   *
+   * @param values Values of features.
+   * @return The input.
+   */
+  public Input input(Set<Value<?>> values) {
+    Objects.requireNonNull(values, "Oh no! Values are null!");
+    return input(new ValueHashSet(values));
+  }
+
+  /**
+   * Prepares an input for the compiled score.
+   *
+   * @param values Values of features.
+   * @return The input.
+   */
+  public Input input(Value<?>... values) {
+    Objects.requireNonNull(values, "Oh no! Values are null!");
+    return input(new ValueHashSet(values));
+  }
+
+  /**
+   * Prepares an input for the compiled score.
+   *
+   * @param values Values of features.
+   * @return The input.
+   */
+  public Input input(ValueSet values) {
+    Objects.requireNonNull(values, "Oh no! Values are null!");
+    Value<?>[] vector = new Value<?>[slots.size()];
+    for (Map.Entry<Feature<?>, Integer> entry : slots.entrySet()) {
+      vector[entry.getValue()] = values.of(entry.getKey()).orElse(null);
+    }
+    return new Input(values, vector);
+  }
+
+  /**
+   * Calculates a score value for an input. The method may update a cache in the input,
+   * therefore the same input must not be passed to this method by multiple threads concurrently.
+   *
+   * @param input The input.
+   * @return A result of the evaluation.
+   * @throws IllegalArgumentException If the input is not valid for the score.
+   */
+  public Evaluation evaluate(Input input) {
+    Objects.requireNonNull(input, "Oh no! Input is null!");
+    if (input.owner() != this) {
+      throw new IllegalArgumentException("Hey! The input was prepared for another score!");
+    }
+
+    double[] values = new double[nodes.length];
+    double[] confidences = new double[nodes.length];
+    byte[] states = new byte[nodes.length];
+
+    for (int i = 0; i < nodes.length; i++) {
+      if (!input.needed[i]) {
+        continue;
+      }
+      if (input.preset[i]) {
+        values[i] = input.values[i];
+        confidences[i] = input.confidences[i];
+        states[i] = input.states[i];
+      } else if (weighted[i]) {
+        evaluateWeighted(i, values, confidences, states);
+      } else if (!dependsOnWeights[i] && input.calculated[i]) {
+        values[i] = input.values[i];
+        confidences[i] = input.confidences[i];
+        states[i] = input.states[i];
+      } else {
+        ScoreValue scoreValue = nodes[i].calculate(input.valueSet);
+        store(scoreValue, i, values, confidences, states);
+        if (!dependsOnWeights[i]) {
+          input.remember(i, values[i], confidences[i], states[i]);
+        }
+      }
+    }
+
+    int root = nodes.length - 1;
+    return new Evaluation(values[root], confidences[root], states[root]);
+  }
+
+  /**
+   * Calculates a value of a weighted composite score in the same way
+   * as {@link WeightedCompositeScore#calculate(Value[])} does.
+   *
+   * @param i An index of the node.
+   * @param values Values of nodes.
+   * @param confidences Confidences of nodes.
+   * @param states States of nodes.
+   */
+  private void evaluateWeighted(int i, double[] values, double[] confidences, byte[] states) {
+    double weightSum = 0.0;
+    double scoreSum = 0.0;
+    double confidenceWeightSum = 0.0;
+    double weightedConfidenceSum = 0.0;
+    boolean allNotApplicable = true;
+    boolean allUnknown = true;
+
+    for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+      int child = children[k];
+      double weight = weights[k];
+      byte state = states[child];
+
+      // this has to be the same as Confidence.make()
+      if (state == UNKNOWN) {
+        confidenceWeightSum += 1.0;
+      } else {
+        confidenceWeightSum += weight;
+        weightedConfidenceSum += weight * confidences[child];
+      }
+
+      allNotApplicable &= state == NOT_APPLICABLE;
+      allUnknown &= state == UNKNOWN;
+
+      if (state != KNOWN) {
+        continue;
+      }
+
+      scoreSum += weight * values[child];
+      weightSum += weight;
+    }
+
+    values[i] = Score.MIN;
+    confidences[i] = Confidence.check(
+        Confidence.adjust(weightedConfidenceSum / confidenceWeightSum));
+
+    if (allNotApplicable) {
+      states[i] = NOT_APPLICABLE;
+      return;
+    }
+
+    if (allUnknown) {
+      states[i] = UNKNOWN;
+      return;
+    }
+
+    if (weightSum == 0) {
+      throw new IllegalArgumentException("Oh no! Looks like all weights are zero!");
+    }
+
+    values[i] = Score.adjust(scoreSum / weightSum);
+    states[i] = KNOWN;
+  }
+
+  /**
+   * Stores a score value to primitive arrays.
+   *
+   * @param scoreValue The score value.
+   * @param i An index of the node.
+   * @param values Values of nodes.
+   * @param confidences Confidences of nodes.
+   * @param states States of nodes.
+   */
+  private static void store(
+      ScoreValue scoreValue, int i, double[] values, double[] confidences, byte[] states) {
+
+    confidences[i] = scoreValue.confidence();
+    if (scoreValue.isUnknown()) {
+      values[i] = Score.MIN;
+      states[i] = UNKNOWN;
+    } else {
+      values[i] = scoreValue.get();
+      states[i] = scoreValue.isNotApplicable() ? NOT_APPLICABLE : KNOWN;
+    }
+  }
+
+  /**
+   * An input for a compiled score. An input caches values of sub-scores
+   * that don't depend on weights, so that it makes sense to re-use an input
+   * if the score has to be calculated multiple times with different weights.
+   * An input is not thread-safe, and it must not be evaluated by multiple threads concurrently.
+   */
+  public final class Input {
+
+    /**
+     * The original values.
+     */
+    private final ValueSet valueSet;
+
+    /**
+     * Values of nodes that were either given or calculated.
+     */
+    private final double[] values;
+
+    /**
+     * Confidences of nodes that were either given or calculated.
+     */
+    private final double[] confidences;
+
+    /**
+     * States of nodes that were either given or calculated.
+     */
+    private final byte[] states;
+
+    /**
+     * Tells if a value of a node was given in the input.
+     */
+    private final boolean[] preset;
+
+    /**
+     * Tells if a value of a node was already calculated.
+     */
+    private final boolean[] calculated;
+
+    /**
+     * Tells if a value of a node is necessary to calculate the root score.
+     */
+    private final boolean[] needed;
+
+    /**
+     * Initializes an input.
+     *
+     * @param valueSet The original values.
+     * @param vector The values indexed by slots.
+     */
+    private Input(ValueSet valueSet, Value<?>[] vector) {
+      this.valueSet = valueSet;
+      values = new double[nodes.length];
+      confidences = new double[nodes.length];
+      states = new byte[nodes.length];
+      preset = new boolean[nodes.length];
+      calculated = new boolean[nodes.length];
+      needed = new boolean[nodes.length];
+
+      // values of sub-scores may be given directly,
+      // then they are used in the same way as AbstractScore.calculateIfNecessary() does
+      for (int i = 0; i < nodes.length; i++) {
+        if (nodeSlots[i] == NO_SLOT) {
+          continue;
+        }
+        Value<?> value = vector[nodeSlots[i]];
+        if (value == null || value.isUnknown()) {
+          continue;
+        }
+        if (value instanceof ScoreValue == false) {
+          throw new IllegalArgumentException(String.format(
+              "Hey! I expected a ScoreValue for a score but got %s!", value.getClass()));
+        }
+        store((ScoreValue) value, i, values, confidences, states);
+        preset[i] = true;
+      }
+
+      // sub-scores of a given score are not calculated,
+      // and scores other than weighted composite scores calculate their sub-scores themselves
+      needed[nodes.length - 1] = true;
+      for (int i = nodes.length - 1; i >= 0; i--) {
+        if (!needed[i] || preset[i] || !weighted[i]) {
+          continue;
+        }
+        for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+          needed[children[k]] = true;
+        }
+      }
+    }
+
+    /**
+     * Returns a compiled score that created the input.
+     *
+     * @return The compiled score.
+     */
+    private CompiledScore owner() {
+      return CompiledScore.this;
+    }
+
+    /**
+     * Remembers a calculated value of a node that doesn't depend on weights.
+     *
+     * @param i An index of the node.
+     * @param value The value.
+     * @param confidence The confidence.
+     * @param state The state of the value.
+     */
+    private void remember(int i, double value, double confidence, byte state) {
+      values[i] = value;
+      confidences[i] = confidence;
+      states[i] = state;
+      calculated[i] = true;
+    }
+  }
+
+  /**
+   * A result of evaluating a compiled score.
+   */
+  public static final class Evaluation {
+
+    /**
+     * The score value.
+     */
+    private final double value;
+
+    /**
+     * The confidence.
+     */
+    private final double confidence;
+
+    /**
+     * The state of the value.
+     */
+    private final byte state;
+
+    /**
+     * Initializes a result.
+     *
+     * @param value The score value.
+     * @param confidence The confidence.
+     * @param state The state of the value.
+     */
+    private Evaluation(double value, double confidence, byte state) {
+      this.value = value;
+      this.confidence = confidence;
+      this.state = state;
+    }
+
+    /**
+     * Returns the score value.
+     *
+     * @return The score value.
+     * @throws IllegalStateException If the value is unknown.
+     */
+    public double value() {
+      if (isUnknown()) {
+        throw new IllegalStateException("Oh no! The value is unknown!");
+      }
+      return value;
+    }
+
+    /**
+     * Returns the confidence.
+     *
+     * @return The confidence.
+     */
+    public double confidence() {
+      return confidence;
+    }
+
+    /**
+     * Checks if the score value is unknown.
+     *
+     * @return True if the value is unknown, false otherwise.
+     */
+    public boolean isUnknown() {
+      return state == UNKNOWN;
+    }
+
+    /**
+     * Checks if the score value is not applicable.
+     *
+     * @return True if the value is not applicable, false otherwise.
+     */
+    public boolean isNotApplicable() {
+      return state == NOT_APPLICABLE;
+    }
+  }
+}
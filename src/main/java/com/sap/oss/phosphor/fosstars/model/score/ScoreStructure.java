@@ -0,0 +1,159 @@
+package com.sap.oss.phosphor.fosstars.model.score;
+
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Score;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * <p>This is a read-only view of the structure of a score. The view contains
+ * all features used by the score and its sub-scores, all scores in the tree ordered by depth,
+ * and indexes that allow looking up scores by their classes.</p>
+ *
+ * <p>The view is a snapshot. It doesn't reflect changes in the structure of the score
+ * that were made after the view had been built. Scores are not supposed to change
+ * their sub-scores, but only immutable scores memoize the view.</p>
+ */
+public final class ScoreStructure {
+
+  /**
+   * The score.
+   */
+  private final Score score;
+
+  /**
+   * All features used by the score and its sub-scores.
+   */
+  private final Set<Feature<?>> allFeatures;
+
+  /**
+   * All scores in the tree ordered by depth, the score comes first.
+   */
+  private final List<Score> scores;
+
+  /**
+   * Maps a class to the first direct sub-score of this class.
+   */
+  private final Map<Class<?>, Score> subScoreIndex;
+
+  /**
+   * Maps a class to the score of this class which is the closest to the root.
+   */
+  private final Map<Class<?>, Score> scoreIndex;
+
+  /**
+   * Initializes a new view.
+   *
+   * @param score The score.
+   * @param allFeatures All features used by the score and its sub-scores.
+   * @param scores All scores in the tree ordered by depth.
+   * @param subScoreIndex Maps a class to a direct sub-score.
+   * @param scoreIndex Maps a class to a score in the tree.
+   */
+  private ScoreStructure(Score score, Set<Feature<?>> allFeatures, List<Score> scores,
+      Map<Class<?>, Score> subScoreIndex, Map<Class<?>, Score> scoreIndex) {
+
+    this.score = score;
+    this.allFeatures = Collections.unmodifiableSet(allFeatures);
+    this.scores = Collections.unmodifiableList(scores);
+    this.subScoreIndex = subScoreIndex;
+    this.scoreIndex = scoreIndex;
+  }
+
+  /**
+   * Builds a view of the structure of a score.
+   *
+   * @param score The score.
+   * @return A view of the structure of the score.
+   */
+  public static ScoreStructure of(Score score) {
+    Objects.requireNonNull(score, "Oh no! Score is null!");
+
+    Map<Class<?>, Score> subScoreIndex = new HashMap<>();
+    for (Score subScore : score.subScores()) {
+      subScoreIndex.putIfAbsent(subScore.getClass(), subScore);
+    }
+
+    Set<Feature<?>> allFeatures = new HashSet<>();
+    Set<Score> visited = new LinkedHashSet<>();
+    Map<Class<?>, Score> scoreIndex = new HashMap<>();
+    Queue<Score> queue = new ArrayDeque<>();
+    queue.add(score);
+    while (!queue.isEmpty()) {
+      Score current = queue.remove();
+      if (!visited.add(current)) {
+        continue;
+      }
+      scoreIndex.putIfAbsent(current.getClass(), current);
+      allFeatures.addAll(current.features());
+      queue.addAll(current.subScores());
+    }
+
+    return new ScoreStructure(
+        score, allFeatures, new ArrayList<>(visited), subScoreIndex, scoreIndex);
+  }
+
+  /**
+   * Returns the score.
+   *
+   * @return The score.
+   */
+  public Score score() {
+    return score;
+  }
+
+  /**
+   * Returns all features used by the score and its sub-scores.
+   *
+   * @return An unmodifiable set of features.
+   */
+  public Set<Feature<?>> allFeatures() {
+    return allFeatures;
+  }
+
+  /**
+   * Returns all scores in the tree ordered by depth. The score itself comes first,
+   * then its direct sub-scores, and so on. Each score appears only once.
+   *
+   * @return An unmodifiable list of scores.
+   */
+  public List<Score> scores() {
+    return scores;
+  }
+
+  /**
+   * Looks for a direct sub-score of a specified class.
+   *
+   * @param clazz The class.
+   * @param <T> The type of the sub-score.
+   * @return The sub-score if found.
+   */
+  public <T> Optional<T> subScore(Class<T> clazz) {
+    Objects.requireNonNull(clazz, "Oh no! Class is null!");
+    return Optional.ofNullable(subScoreIndex.get(clazz)).map(clazz::cast);
+  }
+
+  /**
+   * Looks for a score of a specified class in the whole tree
+   * including the score itself. If there are several scores of the class,
+   * the method returns the one which is the closest to the root.
+   *
+   * @param clazz The class.
+   * @param <T> The type of the score.
+   * @return The score if found.
+   */
+  public <T> Optional<T> find(Class<T> clazz) {
+    Objects.requireNonNull(clazz, "Oh no! Class is null!");
+    return Optional.ofNullable(scoreIndex.get(clazz)).map(clazz::cast);
+  }
+}
@@ -11,6 +11,7 @@ import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Score;
 import com.sap.oss.phosphor.fosstars.model.Tunable;
 import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
 import com.sap.oss.phosphor.fosstars.model.Visitor;
 import com.sap.oss.phosphor.fosstars.model.Weight;
 import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
@@ -101,7 +102,7 @@ public class WeightedCompositeScore extends AbstractScore implements Tunable {
   @Override
   @JsonProperty("subScores")
   public Set<Score> subScores() {
-    return new HashSet<>(subScores);
+    return Collections.unmodifiableSet(subScores);
   }
 
   /**
@@ -125,9 +126,13 @@ public class WeightedCompositeScore extends AbstractScore implements Tunable {
     return weights.isImmutable();
   }
 
+  /**
+   * Makes the weights immutable and memoizes the structure of the score.
+   */
   @Override
   public void makeImmutable() {
     weights.makeImmutable();
+    memoizeStructure();
   }
 
   /**
@@ -138,7 +143,19 @@ public class WeightedCompositeScore extends AbstractScore implements Tunable {
    */
   @Override
   public final ScoreValue calculate(Value<?>... values) {
-    ValueHashSet valueSet = new ValueHashSet(values);
+    return calculate(new ValueHashSet(values));
+  }
+
+  /**
+   * Calculate an overall score value as a weighted average of the underlying sub-scores.
+   * The method reads values from the set directly and doesn't copy them.
+   *
+   * @param valueSet A set of values.
+   * @return An overall score.
+   */
+  @Override
+  public final ScoreValue calculate(ValueSet valueSet) {
+    Objects.requireNonNull(valueSet, "Hey! Value set can't be null!");
 
     double weightSum = 0.0;
     double scoreSum = 0.0;
@@ -205,7 +222,10 @@ public class WeightedCompositeScore extends AbstractScore implements Tunable {
       throw new IllegalArgumentException(String.format(
           "I expected an instance of Score but you gave me %s!", clazz.getCanonicalName()));
     }
-    for (Score subScore : subScores()) {
+    if (structureMemoized()) {
+      return structure().subScore(clazz);
+    }
+    for (Score subScore : subScores) {
       if (subScore.getClass() == clazz) {
         return Optional.of(clazz.cast(subScore));
       }
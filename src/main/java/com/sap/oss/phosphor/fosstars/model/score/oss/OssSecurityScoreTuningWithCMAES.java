@@ -1,7 +1,7 @@
 package com.sap.oss.phosphor.fosstars.model.score.oss;
 
+import com.sap.oss.phosphor.fosstars.model.qa.CompiledScoreVerifier;
 import com.sap.oss.phosphor.fosstars.model.qa.ScoreVerification;
-import com.sap.oss.phosphor.fosstars.model.qa.ScoreVerifier;
 import com.sap.oss.phosphor.fosstars.model.qa.TestVectors;
 import com.sap.oss.phosphor.fosstars.model.qa.VerificationFailedException;
 import com.sap.oss.phosphor.fosstars.model.tuning.TuningWithCMAES;
@@ -22,12 +22,14 @@ public class OssSecurityScoreTuningWithCMAES extends TuningWithCMAES {
 
   /**
    * Initializes a {@link OssSecurityScoreTuningWithCMAES}.
+   * Only weights of the score change during tuning, so that the tuning uses
+   * a {@link CompiledScoreVerifier} that calculates values of sub-scores only once.
    *
    * @param score A score to be tuned.
    * @param vectors A list of test vectors.
    */
   OssSecurityScoreTuningWithCMAES(OssSecurityScore score, TestVectors vectors) {
-    super(score, new ScoreVerifier(score, vectors));
+    super(score, OssSecurityScore::new, copy -> new CompiledScoreVerifier(copy, vectors));
   }
 
   /**
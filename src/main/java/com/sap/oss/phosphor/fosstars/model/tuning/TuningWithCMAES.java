@@ -5,7 +5,16 @@ import com.sap.oss.phosphor.fosstars.model.Tunable;
 import com.sap.oss.phosphor.fosstars.model.Weight;
 import com.sap.oss.phosphor.fosstars.model.qa.TestVectorResult;
 import com.sap.oss.phosphor.fosstars.model.qa.Verifier;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.math3.analysis.MultivariateFunction;
 import org.apache.commons.math3.optim.ConvergenceChecker;
@@ -44,24 +53,102 @@ public class TuningWithCMAES extends AbstractTuning {
   private static final double ACCURACY = 0.01;
 
   /**
-   * A fitness function.
+   * The default seed for random generators.
    */
-  private final FitnessFunction fitnessFunction;
+  private static final long DEFAULT_SEED = 0;
+
+  /**
+   * Creates copies of the tuned object that may be used by different threads.
+   */
+  private final Supplier<Replica> replicas;
+
+  /**
+   * Shows whether {@link #replicas} returns independent copies of the tuned object.
+   */
+  private final boolean independentReplicas;
+
+  /**
+   * A number of threads for running the optimization algorithm.
+   */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * A seed for random generators.
+   */
+  private long seed = DEFAULT_SEED;
 
   /**
    * Initializes a new {@link TuningWithCMAES}.
+   * The tuning runs in a single thread because the verifier is bound to the object.
    *
    * @param object An object to be tuned.
    * @param verifier A verifier.
    */
   public TuningWithCMAES(Tunable object, Verifier verifier) {
     super(object, verifier);
-    fitnessFunction = new FitnessFunction(verifier, object.parameters());
+    Replica replica = new Replica(object.parameters(), verifier);
+    this.replicas = () -> replica;
+    this.independentReplicas = false;
+  }
+
+  /**
+   * Initializes a new {@link TuningWithCMAES} that can run in multiple threads.
+   * Each run of the optimization algorithm works with its own copy of the object,
+   * so that runs don't interfere with each other.
+   *
+   * @param object An object to be tuned.
+   * @param factory Creates new objects of the same type which don't share parameters
+   *                with the object to be tuned.
+   * @param verifiers Creates a verifier for an object.
+   * @param <T> A type of the object.
+   */
+  public <T extends Tunable> TuningWithCMAES(
+      T object, Supplier<T> factory, Function<T, Verifier> verifiers) {
+
+    super(object, verifiers.apply(object));
+    Objects.requireNonNull(factory, "Oh no! Factory is null!");
+    this.replicas = () -> {
+      T copy = factory.get();
+      Replica replica = new Replica(copy.parameters(), verifiers.apply(copy));
+      replica.set(object.parameters());
+      return replica;
+    };
+    this.independentReplicas = true;
+  }
+
+  /**
+   * Sets a number of threads for running the optimization algorithm.
+   * The number is ignored if the tuning can't create independent copies of the object.
+   *
+   * @param n The number of threads.
+   * @return This instance.
+   */
+  public TuningWithCMAES threads(int n) {
+    if (n < 1) {
+      throw new IllegalArgumentException("Oh no! Number of threads should be positive!");
+    }
+    this.threads = n;
+    return this;
+  }
+
+  /**
+   * Sets a seed for random generators. Each run of the optimization algorithm
+   * uses its own generator which is initialized with the seed and an index of the run,
+   * so that results don't depend on the number of threads.
+   *
+   * @param seed The seed.
+   * @return This instance.
+   */
+  public TuningWithCMAES seed(long seed) {
+    this.seed = seed;
+    return this;
   }
 
   /**
    * Runs the CMA-ES optimization algorithm with particular parameters.
    *
+   * @param fitnessFunction A fitness function.
+   * @param random A random generator.
    * @param step A step value for the algorithm.
    * @param maxIterations Max number of iterations.
    * @param samplesPerIteration A number of samples per iteration, at least two, generally > 4
@@ -70,8 +157,8 @@ public class TuningWithCMAES extends AbstractTuning {
    *        larger values, for example 10n, may render the search more global
    * @return The solution.
    */
-  private PointValuePair optimize(double step, int maxIterations, int samplesPerIteration,
-      int candidateSamplesPerIteration) {
+  private static PointValuePair optimize(FitnessFunction fitnessFunction, RandomGenerator random,
+      double step, int maxIterations, int samplesPerIteration, int candidateSamplesPerIteration) {
 
     // try to find the best value
     double stopFitness = FitnessFunction.MIN;
@@ -79,9 +166,6 @@ public class TuningWithCMAES extends AbstractTuning {
     // using the additional active CMA update is considered as the default variant nowadays
     boolean isActiveCMA = true;
 
-    // random generator
-    RandomGenerator random = new MersenneTwister();
-
     boolean generateStatistics = false;
     int checkFeasibleCount = 0;
     ConvergenceChecker<PointValuePair> checker = null;
@@ -144,48 +228,93 @@ public class TuningWithCMAES extends AbstractTuning {
     int[] differentSamplesPerIteration = { 4, 8, 10, 16 };
     int[] differentCandidateSamplesPerIteration = { 10, 50, 100 };
 
-    PointValuePair currentSolution = null;
-    List<? extends Parameter> parameters = object.parameters();
-
-    main_loop:
+    List<Run> runs = new ArrayList<>();
     for (double step : steps) {
       for (int maxIterations : differentMaxIterations) {
         for (int samplesPerIteration : differentSamplesPerIteration) {
           for (int candidateSamplesPerIteration : differentCandidateSamplesPerIteration) {
-            PointValuePair solution = optimize(step, maxIterations, samplesPerIteration,
-                candidateSamplesPerIteration);
-
-            double[] point = solution.getPoint();
-            for (int i = 0; i < point.length; i++) {
-              parameters.get(i).value(point[i]);
-            }
-            List<TestVectorResult> testVectorResults = verifier.run();
-            String indexes = testVectorResults.stream()
-                .map(v -> String.format("#%d", v.index))
-                .collect(Collectors.joining(", "));
-
-            if (isBetter(currentSolution, solution)) {
-              logger.info("Hooray! Found a better value of the fitness function!");
-              logger.info("Fitness function = {}, failed {} test vectors: {}",
-                  String.format("%.3f", solution.getValue()), testVectorResults.size(), indexes);
-              logger.info("Algorithm parameters:");
-              logger.info("    max iterations = {}", maxIterations);
-              logger.info("    samples per iteration = {}", samplesPerIteration);
-              logger.info("    candidate samples per iteration = {}",
-                  candidateSamplesPerIteration);
-              logger.info("    step = {}", step);
-              currentSolution = solution;
-            }
-
-            if (testVectorResults.isEmpty()) {
-              // TODO: introduce a system property which controls early break
-              logger.info("Found a solution which passes all test vectors");
-              break main_loop;
-            }
+            runs.add(new Run(runs.size(), step, maxIterations, samplesPerIteration,
+                candidateSamplesPerIteration));
           }
         }
       }
     }
+
+    // runs are executed in parallel only if they can use independent copies of the object
+    ExecutorService executor = independentReplicas
+        ? Executors.newFixedThreadPool(Math.min(threads, runs.size()), runnable -> {
+          Thread thread = new Thread(runnable);
+          thread.setDaemon(true);
+          return thread;
+        })
+        : null;
+
+    PointValuePair currentSolution = null;
+    try {
+      List<Future<Run>> futures = new ArrayList<>();
+      if (executor != null) {
+        for (Run run : runs) {
+          futures.add(executor.submit(() -> run.execute(replicas.get())));
+        }
+      }
+
+      // the results are processed in the same order as the runs were created
+      // so that the best solution doesn't depend on the number of threads
+      for (Run next : runs) {
+        Run run = executor != null
+            ? waitFor(futures.get(next.index))
+            : next.execute(replicas.get());
+        String indexes = run.failedVectors.stream()
+            .map(v -> String.format("#%d", v.index))
+            .collect(Collectors.joining(", "));
+
+        if (isBetter(currentSolution, run.solution)) {
+          logger.info("Hooray! Found a better value of the fitness function!");
+          logger.info("Fitness function = {}, failed {} test vectors: {}",
+              String.format("%.3f", run.solution.getValue()), run.failedVectors.size(), indexes);
+          logger.info("Algorithm parameters:");
+          logger.info("    max iterations = {}", run.maxIterations);
+          logger.info("    samples per iteration = {}", run.samplesPerIteration);
+          logger.info("    candidate samples per iteration = {}",
+              run.candidateSamplesPerIteration);
+          logger.info("    step = {}", run.step);
+          currentSolution = run.solution;
+        }
+
+        if (run.failedVectors.isEmpty()) {
+          // TODO: introduce a system property which controls early break
+          logger.info("Found a solution which passes all test vectors");
+          currentSolution = run.solution;
+          break;
+        }
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+
+    if (currentSolution != null) {
+      new Replica(object.parameters(), verifier).set(currentSolution.getPoint());
+    }
+  }
+
+  /**
+   * Waits for a run of the optimization algorithm.
+   *
+   * @param future The run.
+   * @return The completed run.
+   * @throws IllegalStateException If the run failed or the thread was interrupted.
+   */
+  private static Run waitFor(Future<Run> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Oh no! Tuning was interrupted!", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Oh no! Tuning failed!", e.getCause());
+    }
   }
 
   /**
@@ -206,6 +335,141 @@ public class TuningWithCMAES extends AbstractTuning {
     return oldValue > newValue && oldValue - newValue > ACCURACY;
   }
 
+  /**
+   * A copy of the tuned object which consists of its parameters and a verifier.
+   */
+  private static final class Replica {
+
+    /**
+     * The parameters.
+     */
+    final List<? extends Parameter> parameters;
+
+    /**
+     * The verifier.
+     */
+    final Verifier verifier;
+
+    /**
+     * Initializes a new replica.
+     *
+     * @param parameters The parameters.
+     * @param verifier The verifier.
+     */
+    Replica(List<? extends Parameter> parameters, Verifier verifier) {
+      this.parameters = Objects.requireNonNull(parameters, "Oh no! Parameters is null!");
+      this.verifier = Objects.requireNonNull(verifier, "Oh no! Verifier is null!");
+    }
+
+    /**
+     * Copies values of parameters to the replica.
+     *
+     * @param values The parameters.
+     * @throws IllegalStateException If the number of parameters doesn't match.
+     */
+    void set(List<? extends Parameter> values) {
+      double[] point = new double[values.size()];
+      for (int i = 0; i < point.length; i++) {
+        point[i] = values.get(i).value();
+      }
+      set(point);
+    }
+
+    /**
+     * Sets values of parameters.
+     *
+     * @param point The values.
+     * @throws IllegalStateException If the number of values doesn't match.
+     */
+    void set(double[] point) {
+      if (point.length != parameters.size()) {
+        throw new IllegalStateException(String.format(
+            "Oh no! Expected %d parameters but got %d!", parameters.size(), point.length));
+      }
+      for (int i = 0; i < point.length; i++) {
+        parameters.get(i).value(point[i]);
+      }
+    }
+  }
+
+  /**
+   * A run of the optimization algorithm with particular parameters.
+   */
+  private final class Run {
+
+    /**
+     * An index of the run.
+     */
+    final int index;
+
+    /**
+     * A step value for the algorithm.
+     */
+    final double step;
+
+    /**
+     * Max number of iterations.
+     */
+    final int maxIterations;
+
+    /**
+     * A number of samples per iteration.
+     */
+    final int samplesPerIteration;
+
+    /**
+     * A number of candidate samples per iteration.
+     */
+    final int candidateSamplesPerIteration;
+
+    /**
+     * The solution found by the run.
+     */
+    PointValuePair solution;
+
+    /**
+     * Test vectors that fail with the solution.
+     */
+    List<TestVectorResult> failedVectors;
+
+    /**
+     * Initializes a new run.
+     *
+     * @param index An index of the run.
+     * @param step A step value for the algorithm.
+     * @param maxIterations Max number of iterations.
+     * @param samplesPerIteration A number of samples per iteration.
+     * @param candidateSamplesPerIteration A number of candidate samples per iteration.
+     */
+    Run(int index, double step, int maxIterations, int samplesPerIteration,
+        int candidateSamplesPerIteration) {
+
+      this.index = index;
+      this.step = step;
+      this.maxIterations = maxIterations;
+      this.samplesPerIteration = samplesPerIteration;
+      this.candidateSamplesPerIteration = candidateSamplesPerIteration;
+    }
+
+    /**
+     * Runs the algorithm with a replica of the tuned object.
+     *
+     * @param replica The replica.
+     * @return This run.
+     */
+    Run execute(Replica replica) {
+      FitnessFunction fitnessFunction
+          = new FitnessFunction(replica.verifier, replica.parameters);
+      solution = optimize(fitnessFunction, new MersenneTwister(seed + index),
+          step, maxIterations, samplesPerIteration, candidateSamplesPerIteration);
+      replica.set(solution.getPoint());
+      failedVectors = replica.verifier.run().stream()
+          .filter(TestVectorResult::failed)
+          .collect(Collectors.toList());
+      return this;
+    }
+  }
+
   /**
    * This is a fitness function for minimization.
    * For each test vector, the function does the following:
@@ -251,6 +515,11 @@ public class TuningWithCMAES extends AbstractTuning {
             parameters.length, this.parameters.size()));
       }
 
+      // stop if the tuning doesn't need results from this thread anymore
+      if (Thread.currentThread().isInterrupted()) {
+        throw new CancellationException("Oh no! The optimization was interrupted!");
+      }
+
       for (int i = 0; i < parameters.length; i++) {
         this.parameters.get(i).value(parameters[i]);
       }
@@ -0,0 +1,158 @@
+package com.sap.oss.phosphor.fosstars.model.value;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import java.util.Objects;
+
+/**
+ * <p>A negative result of a lookup for a feature value.
+ * The value tells that a data provider already tried to obtain a value for a feature
+ * but could not, and explains why.</p>
+ *
+ * <p>Negative values are meant to be stored in caches,
+ * so that data providers don't repeat lookups that are known to fail.
+ * The value is always unknown.</p>
+ *
+ * @param <T> Type of the feature.
+ */
+public final class NegativeValue<T> implements Value<T> {
+
+  /**
+   * Explains why a value is not available.
+   */
+  public enum Reason {
+
+    /**
+     * A data provider worked fine but could not find a value.
+     */
+    NO_DATA,
+
+    /**
+     * A data provider failed.
+     */
+    FAILURE
+  }
+
+  /**
+   * A feature.
+   */
+  private final Feature<T> feature;
+
+  /**
+   * Explains why a value is not available.
+   */
+  private final Reason reason;
+
+  /**
+   * Initializes a negative value for a feature.
+   *
+   * @param feature The feature.
+   * @param reason Explains why a value is not available.
+   */
+  public NegativeValue(
+      @JsonProperty("feature") Feature<T> feature,
+      @JsonProperty("reason") Reason reason) {
+
+    Objects.requireNonNull(feature, "Oh no! Feature is null!");
+    Objects.requireNonNull(reason, "Oh no! Reason is null!");
+    this.feature = feature;
+    this.reason = reason;
+  }
+
+  /**
+   * Creates a negative value for a feature.
+   *
+   * @param feature The feature.
+   * @param reason Explains why a value is not available.
+   * @param <T> Type of the feature.
+   * @return A negative value for the feature.
+   */
+  public static <T> NegativeValue<T> of(Feature<T> feature, Reason reason) {
+    return new NegativeValue<>(feature, reason);
+  }
+
+  @Override
+  @JsonGetter("feature")
+  public Feature<T> feature() {
+    return feature;
+  }
+
+  /**
+   * Returns a reason why a value is not available.
+   *
+   * @return The reason.
+   */
+  @JsonGetter("reason")
+  public Reason reason() {
+    return reason;
+  }
+
+  /**
+   * Converts the negative value to an unknown value.
+   *
+   * @return An unknown value for the same feature.
+   */
+  public UnknownValue<T> toUnknown() {
+    return UnknownValue.of(feature);
+  }
+
+  @Override
+  @JsonIgnore
+  public boolean isUnknown() {
+    return true;
+  }
+
+  @Override
+  @JsonIgnore
+  public boolean isNotApplicable() {
+    return false;
+  }
+
+  @Override
+  public T get() {
+    throw new IllegalStateException(
+        "It's a negative value, get() method is not supposed to be called!");
+  }
+
+  @Override
+  public T orElse(T other) {
+    return other;
+  }
+
+  @Override
+  public Value<T> processIfKnown(Processor<T> processor) {
+    return this;
+  }
+
+  @Override
+  public Value<T> processIfUnknown(Runnable processor) {
+    Objects.requireNonNull(processor, "Oh no! Processor is null!");
+    processor.run();
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof NegativeValue == false) {
+      return false;
+    }
+    NegativeValue<?> that = (NegativeValue<?>) o;
+    return Objects.equals(feature, that.feature) && reason == that.reason;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(feature, reason);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Unknown (%s)", reason);
+  }
+}
@@ -78,6 +78,32 @@ public class RatingValue implements Confidence {
     return scoreValue;
   }
 
+  /**
+   * Returns a lean copy of the rating value that keeps the label
+   * and a lean score value, see {@link ScoreValue#lean()}.
+   *
+   * @return A lean copy of the rating value, or the same rating value if it's already lean.
+   */
+  public RatingValue lean() {
+    if (scoreValue.isLean()) {
+      return this;
+    }
+    return new RatingValue(scoreValue.lean(), label);
+  }
+
+  /**
+   * Re-creates a full rating value if the rating value is lean, see {@link ScoreValue#expand()}.
+   * The label is not re-calculated.
+   *
+   * @return A full rating value, or the same rating value if it's not lean.
+   */
+  public RatingValue expand() {
+    if (!scoreValue.isLean()) {
+      return this;
+    }
+    return new RatingValue(scoreValue.expand(), label);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
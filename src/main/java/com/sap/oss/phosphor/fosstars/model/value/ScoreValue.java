@@ -4,12 +4,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sap.oss.phosphor.fosstars.model.Confidence;
+import com.sap.oss.phosphor.fosstars.model.Feature;
 import com.sap.oss.phosphor.fosstars.model.Score;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.Weight;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -45,8 +49,9 @@ public class ScoreValue implements Value<Double>, Confidence {
 
   /**
    * A list of notes which explain how the score value was calculated.
+   * The notes are formatted only when they are requested.
    */
-  private final List<String> explanation;
+  private final List<Note> explanation;
 
   /**
    * A flag that tells if the score value is unknown.
@@ -58,6 +63,11 @@ public class ScoreValue implements Value<Double>, Confidence {
    */
   private boolean isNotApplicable;
 
+  /**
+   * A flag that tells if the score value is lean, see {@link #lean()}.
+   */
+  private final boolean isLean;
+
   /**
    * Initializes a score value for a specified score.
    *
@@ -94,6 +104,27 @@ public class ScoreValue implements Value<Double>, Confidence {
    * @param isUnknown A flag that indicates that the value is unknown.
    * @param isNotApplicable A flag that indicates that the value is N/A.
    */
+  public ScoreValue(Score score, double value, double weight, double confidence,
+      List<Value<?>> usedValues, List<String> explanation,
+      boolean isUnknown, boolean isNotApplicable) {
+
+    this(score, value, weight, confidence, usedValues, explanation,
+        isUnknown, isNotApplicable, false);
+  }
+
+  /**
+   * Initializes a score value for a specified score.
+   *
+   * @param score The score.
+   * @param value The score value.
+   * @param weight The weight.
+   * @param confidence The confidence.
+   * @param usedValues A list of values which were used to produce the score value.
+   * @param explanation A list of explanation which explain how the score value was calculated.
+   * @param isUnknown A flag that indicates that the value is unknown.
+   * @param isNotApplicable A flag that indicates that the value is N/A.
+   * @param isLean A flag that indicates that the value is lean.
+   */
   @JsonCreator
   public ScoreValue(
       @JsonProperty("score") Score score,
@@ -103,7 +134,8 @@ public class ScoreValue implements Value<Double>, Confidence {
       @JsonProperty("usedValues") List<Value<?>> usedValues,
       @JsonProperty("explanation") List<String> explanation,
       @JsonProperty(value = "isUnknown", defaultValue = "false") boolean isUnknown,
-      @JsonProperty(value = "isNotApplicable", defaultValue = "false") boolean isNotApplicable) {
+      @JsonProperty(value = "isNotApplicable", defaultValue = "false") boolean isNotApplicable,
+      @JsonProperty(value = "isLean", defaultValue = "false") boolean isLean) {
 
     this.score = Objects.requireNonNull(score, "Score can't be null!");
     Objects.requireNonNull(usedValues, "Values can't be null!");
@@ -113,9 +145,13 @@ public class ScoreValue implements Value<Double>, Confidence {
     this.weight = Weight.check(weight);
     this.confidence = Confidence.check(confidence);
     this.usedValues = new ArrayList(usedValues);
-    this.explanation = new ArrayList<>(explanation);
+    this.explanation = new ArrayList<>(explanation.size());
+    for (String note : explanation) {
+      this.explanation.add(new Note(note));
+    }
     this.isUnknown = isUnknown;
     this.isNotApplicable = isNotApplicable;
+    this.isLean = isLean;
   }
 
   @JsonGetter("score")
@@ -140,6 +176,90 @@ public class ScoreValue implements Value<Double>, Confidence {
     return isNotApplicable;
   }
 
+  /**
+   * Checks if the score value is lean, see {@link #lean()}.
+   *
+   * @return True if the score value is lean, false otherwise.
+   */
+  @JsonGetter("isLean")
+  public boolean isLean() {
+    return isLean;
+  }
+
+  /**
+   * <p>Returns a lean copy of the score value. A lean score value keeps the score,
+   * the numeric value, the weight, the confidence and the flags, but it doesn't keep
+   * underlying sub-score values and explanations. Instead, it keeps only feature values
+   * that were used to calculate the score value and its underlying score values.
+   * Each feature value is kept only once, and vulnerabilities are kept
+   * without descriptions and references.</p>
+   *
+   * <p>Lean score values are meant for batch runs where thousands of score values
+   * are kept in memory and stored to files. A full score value
+   * with explanations can be re-created with {@link #expand()}.</p>
+   *
+   * @return A lean copy of the score value, or the same score value if it's already lean.
+   */
+  public ScoreValue lean() {
+    if (isLean) {
+      return this;
+    }
+
+    Map<Feature<?>, Value<?>> featureValues = new LinkedHashMap<>();
+    for (Value<?> usedValue : usedFeatureValues()) {
+      featureValues.putIfAbsent(usedValue.feature(), abbreviated(usedValue));
+    }
+
+    return new ScoreValue(score, value, weight, confidence,
+        new ArrayList<>(featureValues.values()), Collections.emptyList(),
+        isUnknown, isNotApplicable, true);
+  }
+
+  /**
+   * Returns a copy of a feature value without details that are not used for calculating scores.
+   *
+   * @param value The feature value.
+   * @return The copy, or the same value if it doesn't have such details.
+   */
+  private static Value<?> abbreviated(Value<?> value) {
+    if (value instanceof VulnerabilitiesValue) {
+      return new VulnerabilitiesValue(((VulnerabilitiesValue) value).get().withoutDetails());
+    }
+    return value;
+  }
+
+  /**
+   * Re-creates a full score value with underlying sub-score values and explanations
+   * if the score value is lean. The details are calculated again with the feature values
+   * kept in the lean score value, but the numeric value, the confidence and the flags
+   * are taken from the lean score value. If the score has been changed since then,
+   * for example, by tuning weights, the result contains a note about that.
+   * The result is not memoized.
+   *
+   * @return A full score value, or the same score value if it's not lean.
+   */
+  public ScoreValue expand() {
+    if (!isLean) {
+      return this;
+    }
+
+    ScoreValue details = score.calculate(usedValues.toArray(new Value<?>[0])).weight(weight);
+    if (Double.compare(details.value, value) == 0
+        && Double.compare(details.confidence, confidence) == 0
+        && details.isUnknown == isUnknown
+        && details.isNotApplicable == isNotApplicable) {
+
+      return details;
+    }
+
+    ScoreValue expanded = new ScoreValue(score, value, weight, confidence,
+        details.usedValues, Collections.emptyList(), isUnknown, isNotApplicable, false);
+    expanded.explanation.addAll(details.explanation);
+    expanded.explain("The details were re-created with the current version of the score "
+        + "that gives %2.2f with confidence %2.2f", details.value, details.confidence);
+    return expanded;
+  }
+
   /*
    * This is only for deserialization.
    */
@@ -284,11 +404,17 @@ public class ScoreValue implements Value<Double>, Confidence {
    */
   @JsonGetter("explanation")
   public List<String> explanation() {
-    return new ArrayList<>(explanation);
+    List<String> notes = new ArrayList<>(explanation.size());
+    for (Note note : explanation) {
+      notes.add(note.text());
+    }
+    return notes;
   }
 
   /**
    * Add a note which explains how the score value was calculated.
+   * The note is formatted only when the explanation is requested,
+   * so that the parameters should not be modified after they are passed to the method.
    *
    * @param note The note to be added. That may be a format string.
    * @param params A number of parameters if a format string is passed.
@@ -300,7 +426,7 @@ public class ScoreValue implements Value<Double>, Confidence {
     if (note.isEmpty()) {
       throw new IllegalArgumentException("Note can't be empty!");
     }
-    explanation.add(String.format(note, params));
+    explanation.add(new Note(note, params));
     return this;
   }
 
@@ -431,17 +557,123 @@ public class ScoreValue implements Value<Double>, Confidence {
     ScoreValue that = (ScoreValue) o;
     return isUnknown == that.isUnknown
         && isNotApplicable == that.isNotApplicable
+        && isLean == that.isLean
         && Double.compare(that.value, value) == 0
         && Double.compare(that.confidence, confidence) == 0
         && Double.compare(that.weight, weight) == 0
         && Objects.equals(score, that.score)
         && Objects.equals(usedValues, that.usedValues)
-        && Objects.equals(explanation, that.explanation);
+        && sameNotes(explanation, that.explanation);
   }
 
+  /**
+   * Returns a hash code of the score value. The explanation is not taken into account,
+   * so that the notes don't have to be formatted.
+   *
+   * @return The hash code.
+   */
   @Override
   public int hashCode() {
     return Objects.hash(score, value, confidence, weight,
-        usedValues, explanation, isUnknown, isNotApplicable);
+        usedValues, isUnknown, isNotApplicable, isLean);
+  }
+
+  /**
+   * Checks if two lists of notes have the same text.
+   * The notes are formatted only if they can't be compared by their format strings and parameters.
+   *
+   * @param one First list of notes.
+   * @param two Second list of notes.
+   * @return True if the notes have the same text, false otherwise.
+   */
+  private static boolean sameNotes(List<Note> one, List<Note> two) {
+    if (one.size() != two.size()) {
+      return false;
+    }
+    for (int i = 0; i < one.size(); i++) {
+      if (!one.get(i).sameAs(two.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A note which explains how a score value was calculated.
+   * The note keeps a format string with parameters and formats it when it's requested.
+   */
+  private static class Note {
+
+    /**
+     * No parameters.
+     */
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    /**
+     * A format string, or the note itself if the note has no parameters.
+     */
+    private final String format;
+
+    /**
+     * Parameters for the format string, or null if the note is already formatted.
+     */
+    private final Object[] params;
+
+    /**
+     * The formatted note (null until the note is formatted).
+     */
+    private String text;
+
+    /**
+     * Initializes a formatted note.
+     *
+     * @param text The note.
+     */
+    Note(String text) {
+      this.format = Objects.requireNonNull(text, "Oh no! Note is null!");
+      this.params = null;
+      this.text = text;
+    }
+
+    /**
+     * Initializes a note with a format string and parameters.
+     *
+     * @param format The format string.
+     * @param params The parameters.
+     */
+    Note(String format, Object... params) {
+      this.format = Objects.requireNonNull(format, "Oh no! Format is null!");
+      this.params = params != null ? params : NO_PARAMS;
+    }
+
+    /**
+     * Returns the formatted note. The note is formatted only once.
+     *
+     * @return The formatted note.
+     */
+    synchronized String text() {
+      if (text == null) {
+        text = String.format(format, params);
+      }
+      return text;
+    }
+
+    /**
+     * Checks if the note has the same text as another note. If both notes have
+     * the same format string and parameters, then they are not formatted.
+     *
+     * @param that The other note.
+     * @return True if the notes have the same text, false otherwise.
+     */
+    boolean sameAs(Note that) {
+      if (this == that) {
+        return true;
+      }
+      if (params != null && that.params != null
+          && format.equals(that.format) && Arrays.equals(params, that.params)) {
+        return true;
+      }
+      return text().equals(that.text());
+    }
   }
 }
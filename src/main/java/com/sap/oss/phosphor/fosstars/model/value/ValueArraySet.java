@@ -0,0 +1,316 @@
+package com.sap.oss.phosphor.fosstars.model.value;
+
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.feature.FeatureRegistry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <p>This is an implementation of {@link ValueSet} based on an array.
+ * A value is stored in a slot which is defined by an identifier of its feature
+ * in a {@link FeatureRegistry}. Values of features that are not in the registry
+ * are stored in a separate map.</p>
+ *
+ * <p>A lookup costs the same as in {@link ValueHashSet} because the registry maps a feature
+ * to its identifier with a hash map. The set is cheaper when values are copied
+ * from another {@link ValueArraySet} with the same registry: the slots are copied directly,
+ * and features are not looked up. Iterating over the set doesn't copy the values,
+ * therefore the set should not be updated during iteration.</p>
+ *
+ * <p>The set is meant for calculations. Use {@link ValueHashSet} if the values
+ * need to be serialized.</p>
+ */
+public class ValueArraySet implements ValueSet {
+
+  /**
+   * A registry of features that defines slots for values.
+   */
+  private final FeatureRegistry registry;
+
+  /**
+   * Values indexed by identifiers of their features.
+   */
+  private final Value<?>[] values;
+
+  /**
+   * Values of features that are not in the registry (may be null).
+   */
+  private Map<Feature<?>, Value<?>> others;
+
+  /**
+   * A number of values in {@link #values}.
+   */
+  private int count;
+
+  /**
+   * Initializes an empty set.
+   *
+   * @param registry A registry of features that defines slots for values.
+   */
+  public ValueArraySet(FeatureRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "Oh no! Registry is null!");
+    this.values = new Value<?>[registry.size()];
+  }
+
+  /**
+   * Creates a set with unknown values for all features in a registry.
+   *
+   * @param registry The registry.
+   * @return A new {@link ValueArraySet}.
+   */
+  public static ValueArraySet unknown(FeatureRegistry registry) {
+    ValueArraySet set = new ValueArraySet(registry);
+    for (int id = 0; id < registry.size(); id++) {
+      set.values[id] = UnknownValue.of(registry.feature(id));
+    }
+    set.count = registry.size();
+    return set;
+  }
+
+  /**
+   * Returns the registry of features.
+   *
+   * @return The registry.
+   */
+  public FeatureRegistry registry() {
+    return registry;
+  }
+
+  @Override
+  public <T> boolean has(Feature<T> feature) {
+    Objects.requireNonNull(feature, "Oh no! Feature is null");
+    int id = registry.idOf(feature);
+    if (id != FeatureRegistry.UNKNOWN_ID) {
+      return values[id] != null;
+    }
+    return others != null && others.containsKey(feature);
+  }
+
+  @Override
+  public ValueSet update(Value<?>... values) {
+    Objects.requireNonNull(values, "Oh no! Values is null!");
+    for (Value<?> value : values) {
+      put(value);
+    }
+    return this;
+  }
+
+  @Override
+  public ValueSet update(ValueSet values) {
+    Objects.requireNonNull(values, "Oh no! Values is null!");
+    if (values instanceof ValueArraySet && ((ValueArraySet) values).registry == registry) {
+      update((ValueArraySet) values);
+    } else {
+      values.forEach(this::put);
+    }
+    return this;
+  }
+
+  /**
+   * Copies values from a set with the same registry slot by slot.
+   *
+   * @param that The set.
+   */
+  private void update(ValueArraySet that) {
+    for (int id = 0; id < values.length; id++) {
+      Value<?> value = that.values[id];
+      if (value == null) {
+        continue;
+      }
+      if (values[id] == null) {
+        count++;
+      }
+      values[id] = value;
+    }
+    if (that.others != null) {
+      that.others.values().forEach(this::put);
+    }
+  }
+
+  @Override
+  public ValueSet update(Set<Value<?>> values) {
+    Objects.requireNonNull(values, "Oh no! Values is null!");
+    for (Value<?> value : values) {
+      put(value);
+    }
+    return this;
+  }
+
+  /**
+   * Puts a value to the set.
+   *
+   * @param value The value.
+   */
+  private void put(Value<?> value) {
+    Objects.requireNonNull(value, "Oh no! Value is null!");
+    int id = registry.idOf(value.feature());
+    if (id != FeatureRegistry.UNKNOWN_ID) {
+      if (values[id] == null) {
+        count++;
+      }
+      values[id] = value;
+      return;
+    }
+    if (others == null) {
+      others = new HashMap<>();
+    }
+    others.put(value.feature(), value);
+  }
+
+  @Override
+  public int size() {
+    return count + (others != null ? others.size() : 0);
+  }
+
+  @Override
+  public <T> Optional<Value<T>> of(Feature<T> feature) {
+    Objects.requireNonNull(feature, "Oh no! Feature is null");
+    int id = registry.idOf(feature);
+    Value<?> value;
+    if (id != FeatureRegistry.UNKNOWN_ID) {
+      value = values[id];
+    } else {
+      value = others != null ? others.get(feature) : null;
+    }
+    return Optional.ofNullable((Value<T>) value);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsAll(Set<Feature<?>> features) {
+    Objects.requireNonNull(features, "Oh no! Features is null");
+    for (Feature<?> feature : features) {
+      if (!has(feature)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public Set<Value<?>> toSet() {
+    Set<Value<?>> set = new HashSet<>(size() * 2);
+    forEach(set::add);
+    return set;
+  }
+
+  /**
+   * Passes all values to a consumer without creating an iterator.
+   *
+   * @param action The consumer.
+   */
+  @Override
+  public void forEach(Consumer<? super Value<?>> action) {
+    Objects.requireNonNull(action, "Oh no! Action is null!");
+    for (Value<?> value : values) {
+      if (value != null) {
+        action.accept(value);
+      }
+    }
+    if (others != null) {
+      others.values().forEach(action);
+    }
+  }
+
+  @Override
+  public Iterator<Value<?>> iterator() {
+    return new ValueIterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof ValueArraySet == false) {
+      return false;
+    }
+    ValueArraySet that = (ValueArraySet) o;
+    return Objects.equals(toSet(), that.toSet());
+  }
+
+  @Override
+  public int hashCode() {
+    return toSet().hashCode();
+  }
+
+  /**
+   * An iterator over values in the set.
+   * The iterator doesn't support removing values.
+   */
+  private class ValueIterator implements Iterator<Value<?>> {
+
+    /**
+     * A slot of the next value in {@link #values}.
+     */
+    private int next = nextSlot(0);
+
+    /**
+     * An iterator over values of features that are not in the registry (may be null).
+     */
+    private Iterator<Value<?>> others;
+
+    @Override
+    public boolean hasNext() {
+      if (next < values.length) {
+        return true;
+      }
+      return others().hasNext();
+    }
+
+    @Override
+    public Value<?> next() {
+      if (next < values.length) {
+        Value<?> value = values[next];
+        next = nextSlot(next + 1);
+        return value;
+      }
+      if (others().hasNext()) {
+        return others().next();
+      }
+      throw new NoSuchElementException();
+    }
+
+    /**
+     * Returns an iterator over values of features that are not in the registry.
+     *
+     * @return The iterator.
+     */
+    private Iterator<Value<?>> others() {
+      if (others == null) {
+        others = ValueArraySet.this.others != null
+            ? ValueArraySet.this.others.values().iterator()
+            : Collections.emptyIterator();
+      }
+      return others;
+    }
+
+    /**
+     * Looks for a non-empty slot.
+     *
+     * @param from A slot to start from.
+     * @return The non-empty slot, or the length of {@link #values} if there is no such slot.
+     */
+    private int nextSlot(int from) {
+      int slot = from;
+      while (slot < values.length && values[slot] == null) {
+        slot++;
+      }
+      return slot;
+    }
+  }
+}
@@ -52,6 +52,20 @@ public class Vulnerabilities implements Iterable<Vulnerability> {
     return Collections.unmodifiableSet(entries);
   }
 
+  /**
+   * Returns a copy of the collection in which vulnerabilities don't have
+   * descriptions and references, see {@link Vulnerability#withoutDetails()}.
+   *
+   * @return A copy of the collection.
+   */
+  public Vulnerabilities withoutDetails() {
+    Set<Vulnerability> copy = new HashSet<>();
+    for (Vulnerability vulnerability : entries) {
+      copy.add(vulnerability.withoutDetails());
+    }
+    return new Vulnerabilities(copy);
+  }
+
   /**
    * Tells whether the collection is empty or not.
    *
@@ -230,6 +230,17 @@ public class Vulnerability {
     return Optional.ofNullable(published);
   }
 
+  /**
+   * Returns a copy of the vulnerability without a description and references.
+   * The copy keeps everything that is used for calculating scores.
+   *
+   * @return A copy of the vulnerability without a description and references.
+   */
+  public Vulnerability withoutDetails() {
+    return new Vulnerability(
+        id, null, cvss, Collections.emptyList(), resolution, introduced, fixed, published);
+  }
+
   /**
    * equals() and hashCode() methods consider only the identifier.
    */
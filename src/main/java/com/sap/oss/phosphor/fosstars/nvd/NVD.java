@@ -3,14 +3,18 @@ package com.sap.oss.phosphor.fosstars.nvd;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.sap.oss.phosphor.fosstars.nvd.data.CVE;
+import com.sap.oss.phosphor.fosstars.nvd.data.CpeMatch;
 import com.sap.oss.phosphor.fosstars.nvd.data.CveMetaData;
+import com.sap.oss.phosphor.fosstars.nvd.data.Node;
 import com.sap.oss.phosphor.fosstars.nvd.data.NvdEntry;
 import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,6 +24,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import us.springett.nistdatamirror.NistDataMirror;
@@ -55,6 +61,11 @@ public class NVD {
    */
   private static final String NVD_FEED_VERSION = "1.1";
 
+  /**
+   * This version is returned if there is no information about downloaded data from NVD.
+   */
+  static final String UNKNOWN_SNAPSHOT_VERSION = "unknown";
+
   /**
    * The location where the data from the NVD is stored.
    */
@@ -65,6 +76,12 @@ public class NVD {
    */
   private final Map<String, NvdEntry> nvdEntries = new HashMap<>();
 
+  /**
+   * A version of the downloaded data (null until the version is requested
+   * for the first time after an update).
+   */
+  private String snapshotVersion;
+
   /**
    * The default constructor.
    */
@@ -87,6 +104,7 @@ public class NVD {
    */
   public void download() {
     new NistDataMirror(downloadDirectory).mirror(NVD_FEED_VERSION);
+    resetSnapshotVersion();
   }
 
   /**
@@ -138,6 +156,7 @@ public class NVD {
     if (shouldDownload()) {
       download();
       updateTimestamp();
+      resetSnapshotVersion();
       parse();
     }
   }
@@ -148,7 +167,7 @@ public class NVD {
    * @return NVD entries.
    * @throws IOException If something went wrong when downloading and parsing NVD.
    */
-  private Map<String, NvdEntry> nvdEntries() throws IOException {
+  private synchronized Map<String, NvdEntry> nvdEntries() throws IOException {
     updateIfNecessary();
     return nvdEntries;
   }
@@ -184,6 +203,72 @@ public class NVD {
     }
   }
 
+  /**
+   * Returns a version of the downloaded data from NVD.
+   * The version is built from the meta files that come with the NVD feeds.
+   * Each meta file contains a checksum of its feed, so that the version changes
+   * only if the content of the feeds changes.
+   * If there are no meta files, the method falls back to the timestamp of the last download.
+   * The version is calculated once and then reused until NVD is updated.
+   *
+   * @return A version of the downloaded data.
+   * @throws IOException If something went wrong.
+   */
+  public synchronized String snapshotVersion() throws IOException {
+    if (snapshotVersion == null) {
+      snapshotVersion = calculateSnapshotVersion();
+    }
+    return snapshotVersion;
+  }
+
+  /**
+   * Makes {@link #snapshotVersion()} calculate the version again.
+   */
+  private synchronized void resetSnapshotVersion() {
+    snapshotVersion = null;
+  }
+
+  /**
+   * Calculates a version of the downloaded data from NVD.
+   *
+   * @return A version of the downloaded data.
+   * @throws IOException If something went wrong.
+   * @see #snapshotVersion()
+   */
+  private String calculateSnapshotVersion() throws IOException {
+    Path directory = Paths.get(downloadDirectory);
+    if (!Files.isDirectory(directory)) {
+      return UNKNOWN_SNAPSHOT_VERSION;
+    }
+
+    String prefix = String.format("nvdcve-%s-", NVD_FEED_VERSION);
+    List<Path> metaFiles;
+    try (Stream<Path> walk = Files.walk(directory, 1)) {
+      metaFiles = walk
+          .filter(Files::isRegularFile)
+          .filter(path -> path.getFileName().toString().startsWith(prefix))
+          .filter(path -> path.getFileName().toString().endsWith(".meta"))
+          .sorted()
+          .collect(Collectors.toList());
+    }
+
+    if (!metaFiles.isEmpty()) {
+      MessageDigest digest = DigestUtils.getSha256Digest();
+      for (Path file : metaFiles) {
+        digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(Files.readAllBytes(file));
+      }
+      return Hex.encodeHexString(digest.digest());
+    }
+
+    Path timestamp = timestampFile();
+    if (Files.isRegularFile(timestamp)) {
+      return new String(Files.readAllBytes(timestamp), StandardCharsets.UTF_8).trim();
+    }
+
+    return UNKNOWN_SNAPSHOT_VERSION;
+  }
+
   /**
    * Looks for NVD entries that match to criteria set by a number of matchers.
    *
@@ -273,9 +358,40 @@ public class NVD {
             continue;
           }
 
+          if (entry.getConfigurations() != null) {
+            prepare(entry.getConfigurations().getNodes());
+          }
+
           nvdEntries.put(id, entry);
         }
       }
     }
   }
+
+  /**
+   * Parses CPE URIs in nodes in advance, so that they are not parsed again during a search.
+   *
+   * @param nodes The nodes.
+   */
+  private static void prepare(List<Node> nodes) {
+    if (nodes == null) {
+      return;
+    }
+
+    for (Node node : nodes) {
+      if (node == null) {
+        continue;
+      }
+
+      if (node.getCpeMatches() != null) {
+        for (CpeMatch cpeMatch : node.getCpeMatches()) {
+          if (cpeMatch != null) {
+            cpeMatch.prepare();
+          }
+        }
+      }
+
+      prepare(node.getChildren());
+    }
+  }
 }
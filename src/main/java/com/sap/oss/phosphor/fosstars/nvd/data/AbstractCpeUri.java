@@ -3,10 +3,16 @@ package com.sap.oss.phosphor.fosstars.nvd.data;
 import java.util.Objects;
 
 /**
- * An abstract class for CPE URIs.
+ * An abstract class for CPE URIs. The vendor and the product are interned in {@link CpeSymbols},
+ * so that equal vendors and products of different CPE URIs share the same strings.
  */
 public abstract class AbstractCpeUri implements CpeUri {
 
+  /**
+   * A separator of components in a CPE URI.
+   */
+  private static final char SEPARATOR = ':';
+
   /**
    * The vendor of the project.
    */
@@ -17,6 +23,16 @@ public abstract class AbstractCpeUri implements CpeUri {
    */
   private final String product;
 
+  /**
+   * The symbol of the vendor.
+   */
+  private final int vendorSymbol;
+
+  /**
+   * The symbol of the product.
+   */
+  private final int productSymbol;
+
   /**
    * Public constructor.
    */
@@ -27,13 +43,35 @@ public abstract class AbstractCpeUri implements CpeUri {
       throw new IllegalArgumentException("Oh no! The indexes don't seem to be correct!");
     }
 
-    String[] splitContent = cpeUri.split(":");
-    if (splitContent.length <= productIndex) {
+    // walk through the components without splitting the whole URI,
+    // the URI is valid if it has a non-empty component at the product's index or after it
+    String vendor = null;
+    String product = null;
+    boolean valid = false;
+    int index = 0;
+    int start = 0;
+    for (int i = 0; i <= cpeUri.length() && !valid; i++) {
+      if (i < cpeUri.length() && cpeUri.charAt(i) != SEPARATOR) {
+        continue;
+      }
+      if (index == vendorIndex) {
+        vendor = cpeUri.substring(start, i);
+      } else if (index == productIndex) {
+        product = cpeUri.substring(start, i);
+      }
+      valid = index >= productIndex && i > start;
+      index++;
+      start = i + 1;
+    }
+
+    if (!valid) {
       throw new IllegalArgumentException("Oh no! The CPE URI doesn't seem to be correct!");
     }
 
-    this.vendor = splitContent[vendorIndex];
-    this.product = splitContent[productIndex];
+    this.vendorSymbol = CpeSymbols.symbol(vendor);
+    this.productSymbol = CpeSymbols.symbol(product);
+    this.vendor = CpeSymbols.string(vendorSymbol);
+    this.product = CpeSymbols.string(productSymbol);
   }
 
   /**
@@ -52,6 +90,16 @@ public abstract class AbstractCpeUri implements CpeUri {
     return product;
   }
 
+  @Override
+  public int vendorSymbol() {
+    return vendorSymbol;
+  }
+
+  @Override
+  public int productSymbol() {
+    return productSymbol;
+  }
+
   @Override
   public String toString() {
     return String.format("Vendor : %s\nProduct: %s\n\n", vendor, product);
@@ -1,5 +1,6 @@
 package com.sap.oss.phosphor.fosstars.nvd.data;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
@@ -47,6 +48,12 @@ public class CpeMatch {
   @JsonProperty("cpe_name")
   private List<CpeName> cpeName = new ArrayList<>();
 
+  /**
+   * The parsed CPE URI (null until the URI is parsed).
+   */
+  @JsonIgnore
+  private CpeUri cpeUri;
+
   @JsonProperty("vulnerable")
   public Boolean getVulnerable() {
     return vulnerable;
@@ -74,11 +81,31 @@ public class CpeMatch {
 
   /**
    * Get the {@link CpeUri} instance. It will check which CPE URI format is applicable and returns
-   * the appropriate instance.
+   * the appropriate instance. The URI is parsed only once.
    * 
    * @return instance of a type {@link CpeUri}.
    */
+  @JsonIgnore
   public CpeUri getCpeUri() {
-    return !StringUtils.isEmpty(cpe23Uri) ? new Cpe23Uri(cpe23Uri) : new Cpe22Uri(cpe22Uri);
+    if (cpeUri == null) {
+      cpeUri = !StringUtils.isEmpty(cpe23Uri) ? new Cpe23Uri(cpe23Uri) : new Cpe22Uri(cpe22Uri);
+    }
+    return cpeUri;
+  }
+
+  /**
+   * Parses the CPE URI in advance if the URI is valid, see {@link #getCpeUri()}.
+   */
+  public void prepare() {
+    if (StringUtils.isEmpty(cpe23Uri) && cpe22Uri == null) {
+      return;
+    }
+
+    try {
+      getCpeUri();
+    } catch (IllegalArgumentException e) {
+      // the URI is going to be parsed again when it's requested,
+      // then the caller will get the exception
+    }
   }
 }
@@ -0,0 +1,81 @@
+package com.sap.oss.phosphor.fosstars.nvd.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>A symbol table for components of CPE URIs such as vendors and products.
+ * The table maps each distinct string to a small integer symbol.
+ * Symbols are assigned sequentially starting from zero, so that they may be used
+ * as indexes in arrays.</p>
+ *
+ * <p>NVD contains millions of CPE URIs but only a few distinct vendors and products.
+ * When the URIs are parsed, the components are interned in the table,
+ * so that equal components share a single string.
+ * Matchers may compare the symbols instead of the strings,
+ * and may remember a result for a symbol instead of checking the same string again.</p>
+ *
+ * <p>The table is shared by all CPE URIs, and it only grows. The class is thread-safe.</p>
+ */
+public final class CpeSymbols {
+
+  /**
+   * Maps a string to its symbol.
+   */
+  private static final Map<String, Integer> SYMBOLS = new HashMap<>();
+
+  /**
+   * Maps a symbol to its string.
+   */
+  private static final List<String> STRINGS = new ArrayList<>();
+
+  /**
+   * No instances please.
+   */
+  private CpeSymbols() {
+
+  }
+
+  /**
+   * Returns a symbol for a string. If the string is not in the table yet, then it's added.
+   *
+   * @param string The string.
+   * @return The symbol.
+   */
+  public static synchronized int symbol(String string) {
+    Objects.requireNonNull(string, "Oh no! String is null!");
+    Integer symbol = SYMBOLS.get(string);
+    if (symbol == null) {
+      symbol = STRINGS.size();
+      SYMBOLS.put(string, symbol);
+      STRINGS.add(string);
+    }
+    return symbol;
+  }
+
+  /**
+   * Returns a string for a symbol.
+   *
+   * @param symbol The symbol.
+   * @return The string.
+   * @throws IllegalArgumentException If the table doesn't have the symbol.
+   */
+  public static synchronized String string(int symbol) {
+    if (symbol < 0 || symbol >= STRINGS.size()) {
+      throw new IllegalArgumentException(String.format("Oh no! Unknown symbol: %d", symbol));
+    }
+    return STRINGS.get(symbol);
+  }
+
+  /**
+   * Returns the number of symbols in the table.
+   *
+   * @return The number of symbols.
+   */
+  public static synchronized int size() {
+    return STRINGS.size();
+  }
+}
@@ -18,4 +18,18 @@ public interface CpeUri {
    * @return The product from the CPE URI.
    */
   String getProduct();
+
+  /**
+   * Get a symbol of the vendor.
+   *
+   * @return The symbol of the vendor in {@link CpeSymbols}.
+   */
+  int vendorSymbol();
+
+  /**
+   * Get a symbol of the product.
+   *
+   * @return The symbol of the product in {@link CpeSymbols}.
+   */
+  int productSymbol();
 }
@@ -100,7 +100,8 @@ public class MarkdownFormatter extends CommonFormatter {
   private String print(RatingValue ratingValue, String advices) {
     Objects.requireNonNull(ratingValue, "Hey! Rating can't be null!");
 
-    ScoreValue scoreValue = ratingValue.scoreValue();
+    // a lean score value doesn't contain details, so they have to be re-created
+    ScoreValue scoreValue = ratingValue.scoreValue().expand();
     return TEMPLATE
         .replaceAll("%MAX_SCORE%", formatted(Score.MAX))
         .replaceAll("%MAX_CONFIDENCE%", formatted(Confidence.MAX))
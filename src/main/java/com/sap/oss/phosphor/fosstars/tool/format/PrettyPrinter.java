@@ -94,12 +94,14 @@ public class PrettyPrinter extends CommonFormatter {
 
   @Override
   public String print(RatingValue ratingValue) {
+    // a lean score value doesn't contain details, so they have to be re-created
+    ScoreValue scoreValue = ratingValue.scoreValue().expand();
     StringBuilder sb = new StringBuilder();
     sb.append(String.format("Here is how the rating was calculated:%n"));
-    sb.append(print(ratingValue.scoreValue(), INDENT_STEP, true, new HashSet<>()));
+    sb.append(print(scoreValue, INDENT_STEP, true, new HashSet<>()));
     sb.append("\n");
     sb.append(String.format("Rating:     %s -> %s%n",
-        tellMeActualValueOf(ratingValue.scoreValue()), ratingValue.label()));
+        tellMeActualValueOf(scoreValue), ratingValue.label()));
     sb.append(String.format("Confidence: %s (%s)%n",
         confidenceLabelFor(ratingValue.confidence()),
         printValueAndMax(ratingValue.confidence(), Confidence.MAX)));
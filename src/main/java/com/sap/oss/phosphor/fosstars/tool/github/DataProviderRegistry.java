@@ -0,0 +1,205 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import com.sap.oss.phosphor.fosstars.data.DataProvider;
+import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
+import com.sap.oss.phosphor.fosstars.data.NoValueCache;
+import com.sap.oss.phosphor.fosstars.data.UserCallback;
+import com.sap.oss.phosphor.fosstars.data.ValueCache;
+import com.sap.oss.phosphor.fosstars.data.github.CodeqlDataProvider;
+import com.sap.oss.phosphor.fosstars.data.github.FuzzedInOssFuzz;
+import com.sap.oss.phosphor.fosstars.data.github.GitHubDataFetcher;
+import com.sap.oss.phosphor.fosstars.data.github.HasBugBountyProgram;
+import com.sap.oss.phosphor.fosstars.data.github.HasCompanySupport;
+import com.sap.oss.phosphor.fosstars.data.github.HasSecurityPolicy;
+import com.sap.oss.phosphor.fosstars.data.github.HasSecurityTeam;
+import com.sap.oss.phosphor.fosstars.data.github.InfoAboutVulnerabilities;
+import com.sap.oss.phosphor.fosstars.data.github.IsApache;
+import com.sap.oss.phosphor.fosstars.data.github.IsEclipse;
+import com.sap.oss.phosphor.fosstars.data.github.LgtmDataProvider;
+import com.sap.oss.phosphor.fosstars.data.github.NumberOfCommits;
+import com.sap.oss.phosphor.fosstars.data.github.NumberOfContributors;
+import com.sap.oss.phosphor.fosstars.data.github.NumberOfStars;
+import com.sap.oss.phosphor.fosstars.data.github.NumberOfWatchers;
+import com.sap.oss.phosphor.fosstars.data.github.NvdMatchCache;
+import com.sap.oss.phosphor.fosstars.data.github.OwaspSecurityLibraries;
+import com.sap.oss.phosphor.fosstars.data.github.PackageManagement;
+import com.sap.oss.phosphor.fosstars.data.github.ProgrammingLanguages;
+import com.sap.oss.phosphor.fosstars.data.github.SignsJarArtifacts;
+import com.sap.oss.phosphor.fosstars.data.github.UsesDependabot;
+import com.sap.oss.phosphor.fosstars.data.github.UsesFindSecBugs;
+import com.sap.oss.phosphor.fosstars.data.github.UsesGithubForDevelopment;
+import com.sap.oss.phosphor.fosstars.data.github.UsesNoHttpTool;
+import com.sap.oss.phosphor.fosstars.data.github.UsesOwaspDependencyCheck;
+import com.sap.oss.phosphor.fosstars.data.github.UsesSanitizers;
+import com.sap.oss.phosphor.fosstars.data.github.UsesSignedCommits;
+import com.sap.oss.phosphor.fosstars.data.interactive.AskAboutSecurityTeam;
+import com.sap.oss.phosphor.fosstars.data.interactive.AskAboutUnpatchedVulnerabilities;
+import com.sap.oss.phosphor.fosstars.data.json.BugBountyProgramStorage;
+import com.sap.oss.phosphor.fosstars.data.json.CompanySupportStorage;
+import com.sap.oss.phosphor.fosstars.data.json.SecurityTeamStorage;
+import com.sap.oss.phosphor.fosstars.data.json.UnpatchedVulnerabilitiesStorage;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.NVD;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>The registry holds data providers that are used by {@link SingleSecurityRatingCalculator}.
+ * The data providers are built only once, when they are requested for the first time,
+ * and then they are reused for all projects. Storages such as {@link SecurityTeamStorage}
+ * are loaded only once as well and shared by the data providers.</p>
+ *
+ * <p>The class is thread-safe. The data providers don't keep any state about a project
+ * between calls, and the shared storages are only read by them,
+ * so that the data providers may be used for multiple projects at the same time.</p>
+ */
+class DataProviderRegistry {
+
+  /**
+   * An interface to GitHub.
+   */
+  private final GitHubDataFetcher fetcher;
+
+  /**
+   * An interface to NVD.
+   */
+  private final NVD nvd;
+
+  /**
+   * A cache of feature values for GitHub projects.
+   */
+  private ValueCache<GitHubProject> cache = NoValueCache.create();
+
+  /**
+   * An interface for interacting with a user.
+   */
+  private UserCallback callback = NoUserCallback.INSTANCE;
+
+  /**
+   * A cache of NVD entries for projects that is shared by data providers.
+   */
+  private NvdMatchCache matches = NvdMatchCache.empty();
+
+  /**
+   * A list of data providers (null until the providers are requested for the first time).
+   */
+  private List<DataProvider<GitHubProject>> providers;
+
+  /**
+   * Initializes a new registry.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to NVD.
+   */
+  DataProviderRegistry(GitHubDataFetcher fetcher, NVD nvd) {
+    this.fetcher = Objects.requireNonNull(fetcher, "Oh no! An interface to GitHub is null!");
+    this.nvd = Objects.requireNonNull(nvd, "Oh no! An interface to NVD is null!");
+  }
+
+  /**
+   * Sets an interface for interacting with a user for all data providers.
+   *
+   * @param callback The interface for interacting with a user.
+   * @return The same registry.
+   */
+  synchronized DataProviderRegistry set(UserCallback callback) {
+    this.callback = Objects.requireNonNull(callback, "Oh no! Callback is null!");
+    if (providers != null) {
+      providers.forEach(provider -> provider.set(callback));
+    }
+    return this;
+  }
+
+  /**
+   * Sets a cache for all data providers.
+   *
+   * @param cache The cache.
+   * @return The same registry.
+   */
+  synchronized DataProviderRegistry set(ValueCache<GitHubProject> cache) {
+    this.cache = Objects.requireNonNull(cache, "Oh no! Cache is null!");
+    if (providers != null) {
+      providers.forEach(provider -> provider.set(cache));
+    }
+    return this;
+  }
+
+  /**
+   * Sets a cache of NVD entries for projects.
+   * If the data providers have already been built, they are going to be built again.
+   *
+   * @param matches The cache.
+   * @return The same registry.
+   */
+  synchronized DataProviderRegistry set(NvdMatchCache matches) {
+    this.matches = Objects.requireNonNull(matches, "Oh no! Matches are null!");
+    providers = null;
+    return this;
+  }
+
+  /**
+   * Returns a list of data providers. The providers are built on the first call.
+   *
+   * @return An unmodifiable list of data providers.
+   * @throws IOException If the data providers could not be built.
+   */
+  synchronized List<DataProvider<GitHubProject>> providers() throws IOException {
+    if (providers == null) {
+      List<DataProvider<GitHubProject>> list = build();
+      for (DataProvider<GitHubProject> provider : list) {
+        provider.set(callback).set(cache);
+      }
+      providers = Collections.unmodifiableList(list);
+    }
+    return providers;
+  }
+
+  /**
+   * Loads the storages and builds data providers.
+   *
+   * @return A list of data providers.
+   * @throws IOException If the storages could not be loaded.
+   */
+  private List<DataProvider<GitHubProject>> build() throws IOException {
+    SecurityTeamStorage securityTeams = SecurityTeamStorage.load();
+    CompanySupportStorage companySupport = CompanySupportStorage.load();
+    BugBountyProgramStorage bugBountyPrograms = BugBountyProgramStorage.load();
+    UnpatchedVulnerabilitiesStorage unpatchedVulnerabilities
+        = UnpatchedVulnerabilitiesStorage.load();
+
+    return Arrays.asList(
+        new NumberOfCommits(fetcher),
+        new NumberOfContributors(fetcher),
+        new NumberOfStars(fetcher),
+        new NumberOfWatchers(fetcher),
+        new HasSecurityTeam(fetcher, securityTeams),
+        new HasCompanySupport(fetcher, companySupport),
+        new HasSecurityPolicy(fetcher),
+        new HasBugBountyProgram(fetcher, bugBountyPrograms),
+        new InfoAboutVulnerabilities(fetcher, nvd, unpatchedVulnerabilities, matches),
+        new IsApache(fetcher),
+        new IsEclipse(fetcher),
+        new CodeqlDataProvider(fetcher),
+        new LgtmDataProvider(fetcher),
+        new UsesSignedCommits(fetcher),
+        new UsesDependabot(fetcher),
+        new ProgrammingLanguages(fetcher),
+        new PackageManagement(fetcher),
+        new UsesNoHttpTool(fetcher),
+        new UsesGithubForDevelopment(fetcher),
+        new UsesOwaspDependencyCheck(fetcher),
+        new UsesSanitizers(fetcher),
+        new UsesFindSecBugs(fetcher),
+        new FuzzedInOssFuzz(fetcher),
+        new SignsJarArtifacts(fetcher),
+        new OwaspSecurityLibraries(fetcher),
+
+        // currently interactive data provider have to be added to the end, see issue #133
+        new AskAboutSecurityTeam<>(),
+        new AskAboutUnpatchedVulnerabilities<>()
+    );
+  }
+}
@@ -0,0 +1,190 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * <p>The class collects statistics about runs of data providers:
+ * how many times a provider succeeded, failed, ran out of time, was skipped
+ * because a project ran out of time, or was skipped because its cancelled run was still going,
+ * and how long the provider worked.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+class DataProviderStatistics {
+
+  /**
+   * Maps a name of a data provider to its statistics.
+   */
+  private final Map<String, Entry> entries = new TreeMap<>();
+
+  /**
+   * Records a successful run of a data provider.
+   *
+   * @param provider A name of the data provider.
+   * @param time How long the provider worked.
+   */
+  synchronized void succeeded(String provider, Duration time) {
+    Entry entry = entryFor(provider);
+    entry.runs++;
+    entry.time = entry.time.plus(time);
+  }
+
+  /**
+   * Records a failed run of a data provider.
+   *
+   * @param provider A name of the data provider.
+   * @param time How long the provider worked.
+   */
+  synchronized void failed(String provider, Duration time) {
+    Entry entry = entryFor(provider);
+    entry.runs++;
+    entry.failures++;
+    entry.time = entry.time.plus(time);
+  }
+
+  /**
+   * Records a run of a data provider that was cancelled because it ran out of time.
+   *
+   * @param provider A name of the data provider.
+   * @param time How long the provider worked.
+   */
+  synchronized void timedOut(String provider, Duration time) {
+    Entry entry = entryFor(provider);
+    entry.runs++;
+    entry.timeouts++;
+    entry.time = entry.time.plus(time);
+  }
+
+  /**
+   * Records that a data provider was not run because a project ran out of time.
+   *
+   * @param provider A name of the data provider.
+   */
+  synchronized void skipped(String provider) {
+    entryFor(provider).skipped++;
+  }
+
+  /**
+   * Records that a data provider was not run
+   * because its previous run was cancelled but has not stopped yet.
+   *
+   * @param provider A name of the data provider.
+   */
+  synchronized void busy(String provider) {
+    entryFor(provider).busy++;
+  }
+
+  /**
+   * Returns a total number of runs that were cancelled because they ran out of time.
+   *
+   * @return The number of timeouts.
+   */
+  synchronized int timeouts() {
+    return entries.values().stream().mapToInt(entry -> entry.timeouts).sum();
+  }
+
+  /**
+   * Returns a number of runs that were cancelled because they ran out of time.
+   *
+   * @param provider A name of a data provider.
+   * @return The number of timeouts.
+   */
+  synchronized int timeoutsFor(String provider) {
+    Entry entry = entries.get(provider);
+    return entry != null ? entry.timeouts : 0;
+  }
+
+  /**
+   * Returns a number of times when a data provider was skipped
+   * because a project ran out of time.
+   *
+   * @param provider A name of the data provider.
+   * @return The number of skipped runs.
+   */
+  synchronized int skipsFor(String provider) {
+    Entry entry = entries.get(provider);
+    return entry != null ? entry.skipped : 0;
+  }
+
+  /**
+   * Returns a number of times when a data provider was skipped
+   * because its previous run was cancelled but has not stopped yet.
+   *
+   * @param provider A name of the data provider.
+   * @return The number of skipped runs.
+   */
+  synchronized int busyFor(String provider) {
+    Entry entry = entries.get(provider);
+    return entry != null ? entry.busy : 0;
+  }
+
+  /**
+   * Prints the statistics.
+   *
+   * @return A list of lines.
+   */
+  synchronized List<String> print() {
+    List<String> lines = new ArrayList<>();
+    for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+      Entry entry = mapEntry.getValue();
+      lines.add(String.format(
+          "  %s: runs = %d, failures = %d, timeouts = %d, skipped = %d, busy = %d, time = %d s",
+          mapEntry.getKey(), entry.runs, entry.failures, entry.timeouts, entry.skipped,
+          entry.busy, entry.time.getSeconds()));
+    }
+    return lines;
+  }
+
+  /**
+   * Returns statistics for a data provider.
+   *
+   * @param provider A name of the data provider.
+   * @return The statistics.
+   */
+  private Entry entryFor(String provider) {
+    Objects.requireNonNull(provider, "Oh no! Provider is null!");
+    return entries.computeIfAbsent(provider, key -> new Entry());
+  }
+
+  /**
+   * Statistics for a single data provider.
+   */
+  private static class Entry {
+
+    /**
+     * A number of runs.
+     */
+    int runs;
+
+    /**
+     * A number of failed runs.
+     */
+    int failures;
+
+    /**
+     * A number of runs that were cancelled because they ran out of time.
+     */
+    int timeouts;
+
+    /**
+     * A number of times when the provider was skipped because a project ran out of time.
+     */
+    int skipped;
+
+    /**
+     * A number of times when the provider was skipped
+     * because its previous cancelled run was still going.
+     */
+    int busy;
+
+    /**
+     * A total time of all runs.
+     */
+    Duration time = Duration.ZERO;
+  }
+}
@@ -3,9 +3,9 @@ package com.sap.oss.phosphor.fosstars.tool.github;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sap.oss.phosphor.fosstars.model.DefinitionReferences;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
-import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -13,12 +13,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
- * This is a cache of {@link GitHubProject}s.
+ * This is a cache of {@link GitHubProject}s. The cache is thread-safe.
  */
 class GitHubProjectCache {
 
@@ -27,31 +31,52 @@ class GitHubProjectCache {
    */
   private static final int DEFAULT_LIFETIME = 7;
 
+  /**
+   * The default maximum age in days of a rating that may be reused if inputs didn't change.
+   */
+  static final int DEFAULT_MAX_AGE = 30;
+
   /**
    * Maps a URL of a project to a {@link GitHubProject}.
    */
   final Map<String, GitHubProject> cache;
 
+  /**
+   * Maps a URL of a project to a fingerprint of inputs
+   * that were used for calculating a rating for the project.
+   */
+  private final Map<String, String> fingerprints;
+
   /**
    * A lifetime of a cache entry in days.
    */
   private long lifetime = DEFAULT_LIFETIME;
 
+  /**
+   * A maximum age in days of a rating that may be reused if inputs didn't change.
+   */
+  private long maxAge = DEFAULT_MAX_AGE;
+
   /**
    * Creates an empty cache.
    */
   static GitHubProjectCache empty() {
-    return new GitHubProjectCache(new HashMap<>());
+    return new GitHubProjectCache(new HashMap<>(), new HashMap<>());
   }
 
   /**
    * Initializes a new cache. The constructor is used for deserialization.
    *
    * @param cache A map with cache entries.
+   * @param fingerprints A map with fingerprints of projects (may be null).
    */
   @JsonCreator
-  private GitHubProjectCache(@JsonProperty("cache") Map<String, GitHubProject> cache) {
+  private GitHubProjectCache(
+      @JsonProperty("cache") Map<String, GitHubProject> cache,
+      @JsonProperty("fingerprints") Map<String, String> fingerprints) {
+
     this.cache = cache;
+    this.fingerprints = fingerprints != null ? fingerprints : new HashMap<>();
   }
 
   /**
@@ -64,6 +89,16 @@ class GitHubProjectCache {
     return cache;
   }
 
+  /**
+   * Return a map with fingerprints of projects. The method is used for serialization.
+   *
+   * @return The map.
+   */
+  @JsonGetter("fingerprints")
+  private Map<String, String> fingerprints() {
+    return fingerprints;
+  }
+
   /**
    * Set a lifetime for cache entries.
    *
@@ -78,33 +113,105 @@ class GitHubProjectCache {
     return this;
   }
 
+  /**
+   * Set a maximum age for ratings that may be reused if inputs didn't change.
+   * Some inputs for a rating don't depend on a project's repository,
+   * for example, the number of stars or the age of vulnerabilities,
+   * so that even if a fingerprint of a project stays the same,
+   * the rating should be re-calculated from time to time.
+   *
+   * @param days The maximum age in days.
+   * @return The same {@link GitHubProjectCache}.
+   */
+  GitHubProjectCache maxAge(long days) {
+    if (days < 1) {
+      throw new IllegalArgumentException("Hey! You gave me a wrong max age for ratings!");
+    }
+    maxAge = days;
+    return this;
+  }
+
   /**
    * Returns a size of the cache.
    *
    * @return A size of the cache.
    */
-  int size() {
+  synchronized int size() {
     return cache.size();
   }
 
+  /**
+   * Returns all projects in the cache.
+   *
+   * @return A list of projects.
+   */
+  synchronized List<GitHubProject> projects() {
+    return new ArrayList<>(cache.values());
+  }
+
   /**
    * Add a new project to the cache.
    *
    * @param project The project.
    * @return The same {@link GitHubProject}.
    */
-  GitHubProjectCache add(GitHubProject project) {
+  synchronized GitHubProjectCache add(GitHubProject project) {
+    cache.put(project.scm().toString(), project);
+    fingerprints.remove(project.scm().toString());
+    return this;
+  }
+
+  /**
+   * Add a new project to the cache together with a fingerprint of inputs
+   * that were used for calculating a rating for the project.
+   *
+   * @param project The project.
+   * @param fingerprint The fingerprint.
+   * @return The same {@link GitHubProject}.
+   */
+  synchronized GitHubProjectCache add(GitHubProject project, String fingerprint) {
+    Objects.requireNonNull(fingerprint, "Oh no! Fingerprint is null!");
     cache.put(project.scm().toString(), project);
+    fingerprints.put(project.scm().toString(), fingerprint);
     return this;
   }
 
+  /**
+   * Returns a rating value for a project if it's available in the cache
+   * and inputs for the rating didn't change. The method ignores the lifetime of cache entries,
+   * but the rating should not be older than the maximum age, see {@link #maxAge(long)}.
+   *
+   * @param project The project.
+   * @param fingerprint A current fingerprint of inputs for the project's rating.
+   * @return An {@link Optional} with a rating value for the project.
+   */
+  synchronized Optional<RatingValue> cachedRatingValueFor(
+      GitHubProject project, String fingerprint) {
+
+    Objects.requireNonNull(fingerprint, "Oh no! Fingerprint is null!");
+    if (!fingerprint.equals(fingerprints.get(project.scm().toString()))) {
+      return Optional.empty();
+    }
+    GitHubProject cached = cache.get(project.scm().toString());
+    if (cached == null) {
+      return Optional.empty();
+    }
+    if (!cached.ratingValue().isPresent() || !cached.ratingValueDate().isPresent()) {
+      return Optional.empty();
+    }
+    if (ageOf(cached) >= maxAge) {
+      return Optional.empty();
+    }
+    return cached.ratingValue();
+  }
+
   /**
    * Returns a rating value for a project if it's available in the cache.
    *
    * @param project The project.
    * @return An {@link Optional} with a rating value for the project.
    */
-  Optional<RatingValue> cachedRatingValueFor(GitHubProject project) {
+  synchronized Optional<RatingValue> cachedRatingValueFor(GitHubProject project) {
     GitHubProject cached = cache.get(project.scm().toString());
     if (cached == null) {
       return Optional.empty();
@@ -113,13 +220,23 @@ class GitHubProjectCache {
       return Optional.empty();
     }
     RatingValue ratingValue = cached.ratingValue().get();
-    long age = Duration.between(cached.ratingValueDate().get().toInstant(), Instant.now()).toDays();
-    if (age >= lifetime) {
+    if (ageOf(cached) >= lifetime) {
       return Optional.empty();
     }
     return Optional.of(ratingValue);
   }
 
+  /**
+   * Returns an age of a project's rating value in days.
+   *
+   * @param project The project that has a rating value with a date.
+   * @return The age in days.
+   */
+  private static long ageOf(GitHubProject project) {
+    Date date = project.ratingValueDate().orElseThrow(IllegalStateException::new);
+    return Duration.between(date.toInstant(), Instant.now()).toDays();
+  }
+
   /**
    * Load a cache from a file.
    *
@@ -152,7 +269,7 @@ class GitHubProjectCache {
    * @throws IOException If something went wrong.
    */
   static GitHubProjectCache load(InputStream is) throws IOException {
-    return Json.read(is, GitHubProjectCache.class);
+    return DefinitionReferences.read(is, GitHubProjectCache.class);
   }
 
   /**
@@ -171,7 +288,7 @@ class GitHubProjectCache {
    * @param filename The file.
    * @throws IOException If something went wrong.
    */
-  void store(Path filename) throws IOException {
-    Files.write(filename, Json.toBytes(this));
+  synchronized void store(Path filename) throws IOException {
+    Files.write(filename, DefinitionReferences.toBytes(this));
   }
 }
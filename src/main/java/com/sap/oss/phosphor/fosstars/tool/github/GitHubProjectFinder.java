@@ -12,16 +12,23 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.kohsuke.github.GHOrganization;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 
 /**
- * The class scans a number of organizations on GitHub and returns their projects.
- * The class also checks specific projects and add them to results of the scan if they exist.
+ * <p>The class scans a number of organizations on GitHub and returns their projects.
+ * The class also checks specific projects and add them to results of the scan if they exist.</p>
+ *
+ * <p>Repositories of an organization are fetched page by page,
+ * and projects are passed to a consumer as soon as a page arrives.
+ * The finder doesn't keep repositories in memory, it only remembers their names.</p>
  */
 public class GitHubProjectFinder {
 
@@ -51,9 +58,9 @@ public class GitHubProjectFinder {
   private final Map<String, GHOrganization> organizations = new HashMap<>();
 
   /**
-   * A cache of GitHub projects.
+   * Paths of repositories which are known to exist, for example, apache/nifi.
    */
-  private final Map<String, GHRepository> repositories = new HashMap<>();
+  private final Set<String> knownRepositories = new HashSet<>();
 
   /**
    * A configuration.
@@ -164,13 +171,25 @@ public class GitHubProjectFinder {
    */
   public List<GitHubProject> run() throws IOException {
     List<GitHubProject> projects = new ArrayList<>();
+    run(projects::add);
+    return projects;
+  }
+
+  /**
+   * Search for projects on GitHub and pass them to a consumer as soon as they are found.
+   * This allows the caller to start processing projects before the search is done.
+   *
+   * @param consumer The consumer.
+   * @throws IOException If something went wrong.
+   */
+  public void run(Consumer<GitHubProject> consumer) throws IOException {
+    Objects.requireNonNull(consumer, "Oh no! Consumer is null!");
     for (OrganizationConfig organizationConfig : config.organizationConfigs) {
-      projects.addAll(projectsIn(organizationConfig));
+      projectsIn(organizationConfig, consumer);
     }
     for (ProjectConfig projectConfig : config.projectConfigs) {
-      projects.add(projectFrom(projectConfig));
+      consumer.accept(projectFrom(projectConfig));
     }
-    return projects;
   }
 
   /**
@@ -194,51 +213,30 @@ public class GitHubProjectFinder {
   }
 
   /**
-   * Scans the organization specified by a config and returns its projects.
+   * Scans the organization specified by a config and passes its projects to a consumer.
    * The method uses {@link OrganizationConfig#excludeList} to exclude some projects.
+   * Repositories are fetched lazily page by page.
    *
    * @param organizationConfig The config.
-   * @return A list of projects.
+   * @param consumer The consumer.
    * @throws IOException If something went wrong.
    */
-  private List<GitHubProject> projectsIn(OrganizationConfig organizationConfig) throws IOException {
+  private void projectsIn(OrganizationConfig organizationConfig, Consumer<GitHubProject> consumer)
+      throws IOException {
+
     GHOrganization organization = githubOrganization(organizationConfig.name);
-    List<GitHubProject> projects = new ArrayList<>();
-    for (GHRepository repository : organization.listRepositories(PAGE_SIZE).asList()) {
+    GitHubOrganization owner = new GitHubOrganization(organizationConfig.name);
+    for (GHRepository repository : organization.listRepositories(PAGE_SIZE)) {
       if (repository.getStargazersCount() < organizationConfig.stars) {
         continue;
       }
       String name = repository.getName();
-      String path = String.format("%s/%s", organizationConfig.name, name);
-      repositories.put(path, repository);
+      knownRepositories.add(String.format("%s/%s", organizationConfig.name, name));
       if (organizationConfig.excluded(name)) {
         continue;
       }
-      projects.add(new GitHubProject(
-          new GitHubOrganization(organizationConfig.name), repository.getName()));
+      consumer.accept(new GitHubProject(owner, name));
     }
-    return projects;
-  }
-
-  /**
-   * Create a {@link GHRepository}.
-   *
-   * @param path A path to the repository
-   *             For example, apache/nifi is a path for https://github.com/apache/nifi repository.
-   * @return An instance of {@link GHRepository}.
-   * @throws IOException If the repository doesn't exist or something went wrong.
-   */
-  private GHRepository githubRepository(String path) throws IOException {
-    GHRepository repository = repositories.get(path);
-    if (repository != null) {
-      return repository;
-    }
-    repository = github.getRepository(path);
-    if (repository == null) {
-      throw new IOException("Could not find a repository!");
-    }
-    repositories.put(path, repository);
-    return repository;
   }
 
   /**
@@ -250,7 +248,13 @@ public class GitHubProjectFinder {
    */
   private void checkRepository(String organization, String name) throws IOException {
     String path = String.format("%s/%s", organization, name);
-    githubRepository(path);
+    if (knownRepositories.contains(path)) {
+      return;
+    }
+    if (github.getRepository(path) == null) {
+      throw new IOException("Could not find a repository!");
+    }
+    knownRepositories.add(path);
   }
 
   /**
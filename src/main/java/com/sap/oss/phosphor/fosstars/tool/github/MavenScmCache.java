@@ -0,0 +1,268 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>This is a persistent cache that maps GAV coordinates of artifacts to URLs to their SCM.</p>
+ *
+ * <p>An artifact with a version is immutable, therefore its entry never expires.
+ * An entry for GAV coordinates without a version depends on the latest version of the artifact,
+ * so that it expires after a lifetime. An entry that tells that an artifact doesn't point
+ * to its SCM expires after the lifetime as well, so that the artifact is looked up again
+ * from time to time.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ */
+public class MavenScmCache {
+
+  /**
+   * The default lifetime of a cache entry for an artifact without a version in days.
+   */
+  private static final int DEFAULT_LIFETIME = 7;
+
+  /**
+   * Maps GAV coordinates to cache entries.
+   */
+  private final Map<String, Entry> entries;
+
+  /**
+   * A lifetime of a cache entry for an artifact without a version.
+   */
+  private Duration lifetime = Duration.ofDays(DEFAULT_LIFETIME);
+
+  /**
+   * Creates an empty cache.
+   *
+   * @return An empty cache.
+   */
+  public static MavenScmCache empty() {
+    return new MavenScmCache(new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Initializes a new cache. The constructor is used for deserialization.
+   *
+   * @param entries A map with cache entries.
+   */
+  @JsonCreator
+  private MavenScmCache(@JsonProperty("entries") Map<String, Entry> entries) {
+    this.entries = entries != null ? new ConcurrentHashMap<>(entries) : new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Return a map with cache entries. The method is used for serialization.
+   *
+   * @return The map.
+   */
+  @JsonGetter("entries")
+  private Map<String, Entry> entries() {
+    return entries;
+  }
+
+  /**
+   * Set a lifetime for entries of artifacts without a version
+   * and for entries of artifacts that don't point to their SCM.
+   *
+   * @param days The lifetime in days.
+   * @return The same {@link MavenScmCache}.
+   */
+  public MavenScmCache lifetime(long days) {
+    if (days < 1) {
+      throw new IllegalArgumentException("Hey! You gave me a wrong life time for cache entries!");
+    }
+    lifetime = Duration.ofDays(days);
+    return this;
+  }
+
+  /**
+   * Returns a size of the cache.
+   *
+   * @return A size of the cache.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Checks if the cache has a valid entry for GAV coordinates.
+   *
+   * @param gav The GAV coordinates.
+   * @return True if the cache has a valid entry, false otherwise.
+   */
+  public boolean has(String gav) {
+    Entry entry = entries.get(normalize(gav));
+    return entry != null && !expired(gav, entry);
+  }
+
+  /**
+   * Returns a URL to SCM for GAV coordinates.
+   * The method returns an empty {@link Optional} if the cache doesn't have a valid entry,
+   * or if it's known that the artifact doesn't point to its SCM.
+   * Use {@link #has(String)} to distinguish these two cases.
+   *
+   * @param gav The GAV coordinates.
+   * @return A URL to SCM.
+   */
+  public Optional<String> get(String gav) {
+    Entry entry = entries.get(normalize(gav));
+    if (entry == null || expired(gav, entry)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(entry.scm);
+  }
+
+  /**
+   * Adds a URL to SCM for GAV coordinates.
+   *
+   * @param gav The GAV coordinates.
+   * @param scm The URL to SCM, or null if the artifact doesn't point to its SCM.
+   * @return The same {@link MavenScmCache}.
+   */
+  public MavenScmCache put(String gav, String scm) {
+    entries.put(normalize(gav), new Entry(scm, new Date()));
+    return this;
+  }
+
+  /**
+   * Checks if an entry is expired.
+   * Only an entry with a URL to SCM for an artifact with a version never expires.
+   *
+   * @param gav The GAV coordinates.
+   * @param entry The entry.
+   * @return True if the entry is expired, false otherwise.
+   */
+  private boolean expired(String gav, Entry entry) {
+    if (hasVersion(gav) && entry.scm != null) {
+      return false;
+    }
+    return System.currentTimeMillis() - entry.date.getTime() > lifetime.toMillis();
+  }
+
+  /**
+   * Checks if GAV coordinates contain a version.
+   *
+   * @param gav The GAV coordinates.
+   * @return True if the coordinates contain a version, false otherwise.
+   */
+  private static boolean hasVersion(String gav) {
+    return normalize(gav).split(":").length > 2;
+  }
+
+  /**
+   * Normalizes GAV coordinates to be used as a key.
+   *
+   * @param gav The GAV coordinates.
+   * @return The normalized coordinates.
+   */
+  private static String normalize(String gav) {
+    Objects.requireNonNull(gav, "Oh no! GAV is null!");
+    return gav.trim();
+  }
+
+  /**
+   * Load a cache from a file.
+   *
+   * @param filename A path to the file.
+   * @return A loaded cache.
+   * @throws IOException If something went wrong.
+   */
+  public static MavenScmCache load(String filename) throws IOException {
+    return load(Paths.get(filename));
+  }
+
+  /**
+   * Load a cache from a file.
+   *
+   * @param filename A path to the file.
+   * @return A loaded cache.
+   * @throws IOException If something went wrong.
+   */
+  public static MavenScmCache load(Path filename) throws IOException {
+    try (InputStream is = Files.newInputStream(filename)) {
+      return load(is);
+    }
+  }
+
+  /**
+   * Load a cache from an input stream.
+   *
+   * @param is The input stream.
+   * @return A loaded cache.
+   * @throws IOException If something went wrong.
+   */
+  public static MavenScmCache load(InputStream is) throws IOException {
+    return Json.read(is, MavenScmCache.class);
+  }
+
+  /**
+   * Store the cache to a file.
+   *
+   * @param filename The file.
+   * @throws IOException If something went wrong.
+   */
+  public void store(Path filename) throws IOException {
+    Files.write(filename, Json.toBytes(this));
+  }
+
+  /**
+   * A cache entry.
+   */
+  private static class Entry {
+
+    /**
+     * A URL to SCM (may be null).
+     */
+    private final String scm;
+
+    /**
+     * When the entry was created.
+     */
+    private final Date date;
+
+    /**
+     * Initializes a new entry.
+     *
+     * @param scm A URL to SCM (may be null).
+     * @param date When the entry was created.
+     */
+    @JsonCreator
+    private Entry(@JsonProperty("scm") String scm, @JsonProperty("date") Date date) {
+      this.scm = scm;
+      this.date = Objects.requireNonNull(date, "Oh no! Date is null!");
+    }
+
+    /**
+     * Returns a URL to SCM. The method is used for serialization.
+     *
+     * @return The URL to SCM.
+     */
+    @JsonGetter("scm")
+    private String scm() {
+      return scm;
+    }
+
+    /**
+     * Returns a date when the entry was created. The method is used for serialization.
+     *
+     * @return The date.
+     */
+    @JsonGetter("date")
+    private Date date() {
+      return date;
+    }
+  }
+}
@@ -7,22 +7,46 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
 import org.apache.maven.model.Scm;
 
 /**
- * The class takes GAV coordinates of an artifact and looks for a URL to its SCM.
+ * <p>The class takes GAV coordinates of an artifact and looks for a URL to its SCM.</p>
+ *
+ * <p>The finder looks for POM files in a local Maven repository first,
+ * and then in the Maven Central repository unless the finder works offline.
+ * If a POM file doesn't have an SCM section, the finder follows parent POM files
+ * that look like they belong to the same project.
+ * Results may be stored in a {@link MavenScmCache}. If the finder couldn't find out
+ * whether an artifact points to its SCM, for example, because a POM file is not available
+ * offline or a parent POM file could not be downloaded, then nothing is stored.</p>
  */
 public class MavenScmFinder {
 
+  /**
+   * A logger.
+   */
+  private static final Logger LOGGER = LogManager.getLogger(MavenScmFinder.class);
+
   /**
    * A template of a request to the Maven Search API.
    */
@@ -47,6 +71,97 @@ public class MavenScmFinder {
    */
   private static final Charset CHARSET = StandardCharsets.UTF_8;
 
+  /**
+   * How many parent POM files the finder follows at most.
+   */
+  private static final int MAX_PARENTS = 5;
+
+  /**
+   * A parent POM is considered to be a part of the same project
+   * only if its group ID has at least this number of segments.
+   * This prevents picking up SCM of generic parents such as org.apache:apache.
+   */
+  private static final int MIN_PARENT_GROUP_SEGMENTS = 3;
+
+  /**
+   * A pattern for extracting a version from maven-metadata.xml files.
+   */
+  private static final Pattern METADATA_VERSION_PATTERN
+      = Pattern.compile("<(release|latest)>\\s*([^<\\s]+)\\s*</\\1>");
+
+  /**
+   * A timeout for checking if a project exists in milliseconds.
+   */
+  private static final int CONNECTION_TIMEOUT = 10000;
+
+  /**
+   * This constant means that no local repository should be used.
+   */
+  private static final Path NO_LOCAL_REPOSITORY = null;
+
+  /**
+   * This constant means that no cache should be used.
+   */
+  private static final MavenScmCache NO_CACHE = null;
+
+  /**
+   * A path to a local Maven repository (may be null).
+   */
+  private Path localRepository = NO_LOCAL_REPOSITORY;
+
+  /**
+   * A cache of URLs to SCM (may be null).
+   */
+  private MavenScmCache cache = NO_CACHE;
+
+  /**
+   * If true, then the finder doesn't access the network.
+   */
+  private boolean offline = false;
+
+  /**
+   * Returns a path to the default local Maven repository.
+   *
+   * @return A path to the default local Maven repository.
+   */
+  public static Path defaultLocalRepository() {
+    return Paths.get(System.getProperty("user.home"), ".m2", "repository");
+  }
+
+  /**
+   * Set a local Maven repository where the finder looks for POM files first.
+   *
+   * @param path A path to the local repository.
+   * @return This finder.
+   */
+  public MavenScmFinder useLocalRepository(Path path) {
+    localRepository = Objects.requireNonNull(path, "Oh no! Path is null!");
+    return this;
+  }
+
+  /**
+   * Set a cache of URLs to SCM.
+   *
+   * @param cache The cache.
+   * @return This finder.
+   */
+  public MavenScmFinder set(MavenScmCache cache) {
+    this.cache = Objects.requireNonNull(cache, "Oh no! Cache is null!");
+    return this;
+  }
+
+  /**
+   * Tells the finder whether it may access the network or not.
+   * An offline finder looks only in a local repository.
+   *
+   * @param offline True if the finder should not access the network, false otherwise.
+   * @return This finder.
+   */
+  public MavenScmFinder offline(boolean offline) {
+    this.offline = offline;
+    return this;
+  }
+
   /**
    * Takes GAV coordinates of an artifact and looks for a URL to its SCM.
    *
@@ -57,6 +172,10 @@ public class MavenScmFinder {
   public Optional<String> findScmFor(String gav) throws IOException {
     Objects.requireNonNull(gav, "Oh no! GAV is null");
 
+    if (cache != null && cache.has(gav)) {
+      return cache.get(gav);
+    }
+
     String[] parts = gav.trim().split(":");
     if (parts.length < 2) {
       throw new IllegalArgumentException("Oh no! The string doesn't look like GAV!");
@@ -64,15 +183,80 @@ public class MavenScmFinder {
 
     String groupId = parts[0];
     String artifactId = parts[1];
-    String version = parts.length > 2 ? parts[2] : latestVersionOf(groupId, artifactId);
+    Optional<String> version = parts.length > 2
+        ? Optional.of(parts[2]) : latestVersionOf(groupId, artifactId);
+
+    // without a version or a POM file, it's not known whether the artifact points to its SCM
+    ScmLookup lookup = ScmLookup.UNKNOWN;
+    if (version.isPresent()) {
+      Optional<Model> pom = loadPomFor(groupId, artifactId, version.get());
+      if (pom.isPresent()) {
+        lookup = scmIn(pom.get(), groupId);
+      }
+    }
 
-    Model pom = loadPomFor(groupId, artifactId, version);
-    Scm scm = pom.getScm();
-    if (scm == null) {
-      return Optional.empty();
+    if (cache != null && lookup.conclusive) {
+      cache.put(gav, lookup.scm);
+    }
+
+    return Optional.ofNullable(lookup.scm);
+  }
+
+  /**
+   * Looks for a URL to SCM in a POM file. If the POM file doesn't have an SCM section,
+   * the method follows parent POM files that seem to belong to the same project.
+   * If a parent POM file could not be loaded, then the result is inconclusive.
+   *
+   * @param pom The POM file.
+   * @param groupId A group ID of the artifact.
+   * @return A result of the lookup.
+   */
+  private ScmLookup scmIn(Model pom, String groupId) {
+    Model current = pom;
+    for (int i = 0; i <= MAX_PARENTS; i++) {
+      Scm scm = current.getScm();
+      if (scm != null && scm.getUrl() != null) {
+        return ScmLookup.found(scm.getUrl());
+      }
+
+      Parent parent = current.getParent();
+      if (parent == null || !sameProject(groupId, parent.getGroupId())) {
+        return ScmLookup.NOT_FOUND;
+      }
+
+      Optional<Model> parentPom;
+      try {
+        parentPom = loadPomFor(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+      } catch (IOException e) {
+        LOGGER.warn("Oops! Could not load parent POM {}:{}:{}: {}",
+            parent.getGroupId(), parent.getArtifactId(), parent.getVersion(), e.getMessage());
+        return ScmLookup.UNKNOWN;
+      }
+      if (!parentPom.isPresent()) {
+        return ScmLookup.UNKNOWN;
+      }
+      current = parentPom.get();
     }
 
-    return Optional.ofNullable(scm.getUrl());
+    return ScmLookup.NOT_FOUND;
+  }
+
+  /**
+   * Checks if a parent POM looks like a part of the same project.
+   *
+   * @param groupId A group ID of the artifact.
+   * @param parentGroupId A group ID of the parent.
+   * @return True if the parent looks like a part of the same project, false otherwise.
+   */
+  private static boolean sameProject(String groupId, String parentGroupId) {
+    if (parentGroupId == null) {
+      return false;
+    }
+    if (groupId.equals(parentGroupId)) {
+      return true;
+    }
+    return groupId.startsWith(parentGroupId + ".")
+        && parentGroupId.split("\\.").length >= MIN_PARENT_GROUP_SEGMENTS;
   }
 
   /**
@@ -115,14 +299,26 @@ public class MavenScmFinder {
 
   /**
    * Checks if a specified GitHub project is valid.
+   * The method sends a HEAD request instead of downloading the whole page.
    *
    * @param project The project to be checked.
    * @return True if the project is valid, false otherwise.
    */
-  private static boolean looksLikeValid(GitHubProject project) {
+  private boolean looksLikeValid(GitHubProject project) {
+    if (offline) {
+      return false;
+    }
+
     try {
-      String content = IOUtils.toString(project.scm(), CHARSET);
-      return StringUtils.isNotEmpty(content);
+      HttpURLConnection connection = (HttpURLConnection) project.scm().openConnection();
+      try {
+        connection.setRequestMethod("HEAD");
+        connection.setConnectTimeout(CONNECTION_TIMEOUT);
+        connection.setReadTimeout(CONNECTION_TIMEOUT);
+        return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+      } finally {
+        connection.disconnect();
+      }
     } catch (IOException e) {
       return false;
     }
@@ -181,6 +377,66 @@ public class MavenScmFinder {
     return Optional.of(new GitHubProject("eclipse", artifactId));
   }
 
+  /**
+   * Looks for the latest version of an artifact in the local repository,
+   * and then in the Maven Central repository unless the finder works offline.
+   *
+   * @param groupId A group ID of the artifact.
+   * @param artifactId An artifact ID of the artifact.
+   * @return The latest version of the artifact.
+   * @throws IOException If something went wrong.
+   */
+  private Optional<String> latestVersionOf(String groupId, String artifactId)
+      throws IOException {
+
+    Optional<String> version = latestLocalVersionOf(groupId, artifactId);
+    if (version.isPresent() || offline) {
+      return version;
+    }
+
+    return Optional.of(latestRemoteVersionOf(groupId, artifactId));
+  }
+
+  /**
+   * Looks for the latest version of an artifact in maven-metadata.xml files
+   * in the local repository.
+   *
+   * @param groupId A group ID of the artifact.
+   * @param artifactId An artifact ID of the artifact.
+   * @return The latest version of the artifact.
+   * @throws IOException If something went wrong.
+   */
+  private Optional<String> latestLocalVersionOf(String groupId, String artifactId)
+      throws IOException {
+
+    if (localRepository == null) {
+      return Optional.empty();
+    }
+
+    Path directory = localRepository.resolve(groupId.replace(".", "/")).resolve(artifactId);
+    if (!Files.isDirectory(directory)) {
+      return Optional.empty();
+    }
+
+    List<Path> files = new ArrayList<>();
+    try (Stream<Path> paths = Files.list(directory)) {
+      paths.filter(Files::isRegularFile)
+          .filter(path -> path.getFileName().toString().startsWith("maven-metadata"))
+          .filter(path -> path.getFileName().toString().endsWith(".xml"))
+          .forEach(files::add);
+    }
+
+    for (Path file : files) {
+      Matcher matcher = METADATA_VERSION_PATTERN.matcher(
+          new String(Files.readAllBytes(file), CHARSET));
+      if (matcher.find()) {
+        return Optional.of(matcher.group(2));
+      }
+    }
+
+    return Optional.empty();
+  }
+
   /**
    * Search for the latest version of an artifact in the Maven Central repository.
    *
@@ -189,7 +445,9 @@ public class MavenScmFinder {
    * @return The latest version of the artifact.
    * @throws IOException If something went wrong.
    */
-  private static String latestVersionOf(String groupId, String artifactId) throws IOException {
+  private static String latestRemoteVersionOf(String groupId, String artifactId)
+      throws IOException {
+
     String urlString = MAVEN_SEARCH_REQUEST_TEMPLATE
         .replace("{GROUP_ID}", groupId)
         .replace("{ARTIFACT_ID}", artifactId);
@@ -225,25 +483,44 @@ public class MavenScmFinder {
   }
 
   /**
-   * Loads a POM file for an artifact.
+   * Loads a POM file for an artifact. The method looks for the POM file in the local repository,
+   * and then in the Maven Central repository unless the finder works offline.
    *
    * @param groupId A group ID of the artifact.
    * @param artifactId An artifact ID of the artifact.
    * @param version A version of the artifact.
-   * @return A Maven model of the POM file.
+   * @return A Maven model of the POM file if the file was found.
    * @throws IOException If something wrong.
    */
-  private static Model loadPomFor(String groupId, String artifactId, String version)
+  private Optional<Model> loadPomFor(String groupId, String artifactId, String version)
       throws IOException {
 
+    if (groupId == null || artifactId == null || version == null) {
+      return Optional.empty();
+    }
+
     String path = PATH_TEMPLATE
         .replace("{GROUP}", groupId.replace(".", "/"))
         .replace("{ARTIFACT}", artifactId)
         .replace("{VERSION}", version);
-    String urlString = MAVEN_DOWNLOAD_REQUEST_TEMPLATE.replace("{PATH}", path);
-    String content = IOUtils.toString(new URL(urlString), CHARSET);
 
-    return readModel(IOUtils.toInputStream(content));
+    if (localRepository != null) {
+      Path file = localRepository.resolve(path);
+      if (Files.isRegularFile(file)) {
+        try (InputStream is = Files.newInputStream(file)) {
+          return Optional.of(readModel(is));
+        }
+      }
+    }
+
+    if (offline) {
+      return Optional.empty();
+    }
+
+    String urlString = MAVEN_DOWNLOAD_REQUEST_TEMPLATE.replace("{PATH}", path);
+    try (InputStream is = new URL(urlString).openStream()) {
+      return Optional.of(readModel(is));
+    }
   }
 
   /**
@@ -258,4 +535,51 @@ public class MavenScmFinder {
     System.out.println(
         project.isPresent() ? String.format("GitHub URL = %s", project.get()) : "No SCM found!");
   }
+
+  /**
+   * A result of a lookup for a URL to SCM.
+   */
+  private static class ScmLookup {
+
+    /**
+     * The artifact doesn't point to its SCM.
+     */
+    static final ScmLookup NOT_FOUND = new ScmLookup(null, true);
+
+    /**
+     * It's not known whether the artifact points to its SCM or not.
+     */
+    static final ScmLookup UNKNOWN = new ScmLookup(null, false);
+
+    /**
+     * A URL to SCM (may be null).
+     */
+    final String scm;
+
+    /**
+     * True if the result may be cached, false otherwise.
+     */
+    final boolean conclusive;
+
+    /**
+     * Initializes a new result.
+     *
+     * @param scm A URL to SCM (may be null).
+     * @param conclusive True if the result may be cached, false otherwise.
+     */
+    private ScmLookup(String scm, boolean conclusive) {
+      this.scm = scm;
+      this.conclusive = conclusive;
+    }
+
+    /**
+     * Creates a result with a URL to SCM.
+     *
+     * @param scm The URL to SCM.
+     * @return The result.
+     */
+    static ScmLookup found(String scm) {
+      return new ScmLookup(Objects.requireNonNull(scm, "Oh no! SCM is null!"), true);
+    }
+  }
 }
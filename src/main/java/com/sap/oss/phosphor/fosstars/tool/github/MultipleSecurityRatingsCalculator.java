@@ -41,6 +41,11 @@ class MultipleSecurityRatingsCalculator {
    */
   private final List<GitHubProject> failedProjects = new ArrayList<>();
 
+  /**
+   * Builds fingerprints of inputs for ratings of projects (may be null).
+   */
+  private ProjectFingerprinter fingerprinter;
+
   /**
    * Initializes a new calculator that calculates ratings for multiple projects.
    *
@@ -62,6 +67,19 @@ class MultipleSecurityRatingsCalculator {
     return this;
   }
 
+  /**
+   * Set a fingerprinter that allows detecting projects whose inputs didn't change.
+   * If a fingerprinter is set, then a cached rating of a project is used
+   * as long as the project's fingerprint stays the same.
+   *
+   * @param fingerprinter The fingerprinter.
+   * @return The same {@link MultipleSecurityRatingsCalculator}.
+   */
+  MultipleSecurityRatingsCalculator set(ProjectFingerprinter fingerprinter) {
+    this.fingerprinter = Objects.requireNonNull(fingerprinter, "Oh no! Fingerprinter is null!");
+    return this;
+  }
+
   /**
    * Sets a file where the cache of processed projects should be stored.
    *
@@ -82,15 +100,12 @@ class MultipleSecurityRatingsCalculator {
    * @throws IOException If something went wrong.
    */
   private MultipleSecurityRatingsCalculator calculateFor(GitHubProject project) throws IOException {
-    Optional<RatingValue> cachedRatingValue = projectCache.cachedRatingValueFor(project);
-    if (cachedRatingValue.isPresent()) {
-      project.set(cachedRatingValue.get());
-      LOGGER.info("Found a cached rating for {}", project);
+    if (useCachedRatingFor(project)) {
       return this;
     }
 
     calculator.calculateFor(project);
-    projectCache.add(project);
+    remember(project);
 
     return this;
   }
@@ -98,6 +113,8 @@ class MultipleSecurityRatingsCalculator {
   /**
    * Calculates ratings for multiple projects.
    * First, the method checks if a rating value for a project is already available in cache.
+   * If a fingerprinter is set, the cached value is used only if inputs for the project
+   * didn't change.
    *
    * @param projects The projects.
    * @return The same calculator.
@@ -108,11 +125,7 @@ class MultipleSecurityRatingsCalculator {
     for (GitHubProject project : projects) {
       try {
         calculateFor(project);
-
-        if (projectCacheFile != null) {
-          LOGGER.info("Storing the project cache to {}", projectCacheFile);
-          projectCache.store(projectCacheFile);
-        }
+        storeProjectCache();
       } catch (Exception e) {
         LOGGER.warn("Oh no! Could not calculate a rating for {}", project.scm());
         LOGGER.warn(e);
@@ -123,6 +136,87 @@ class MultipleSecurityRatingsCalculator {
     return this;
   }
 
+  /**
+   * Looks for a cached rating value for a project and assigns it to the project.
+   * If a fingerprinter is set, the cached value is used only if inputs for the project
+   * didn't change.
+   *
+   * @param project The project.
+   * @return True if a cached rating value was assigned to the project, false otherwise.
+   */
+  boolean useCachedRatingFor(GitHubProject project) {
+    Optional<String> fingerprint = fingerprintOf(project);
+    if (fingerprint.isPresent()) {
+      Optional<RatingValue> cachedRatingValue
+          = projectCache.cachedRatingValueFor(project, fingerprint.get());
+      if (cachedRatingValue.isPresent()) {
+        project.set(cachedRatingValue.get());
+        LOGGER.info("Inputs didn't change, found a cached rating for {}", project);
+        return true;
+      }
+    } else {
+      Optional<RatingValue> cachedRatingValue = projectCache.cachedRatingValueFor(project);
+      if (cachedRatingValue.isPresent()) {
+        project.set(cachedRatingValue.get());
+        LOGGER.info("Found a cached rating for {}", project);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds a project with a newly calculated rating to the project cache.
+   *
+   * @param project The project.
+   */
+  void remember(GitHubProject project) {
+
+    // calculating a rating may update a local clone and NVD,
+    // so that the fingerprint has to be built again
+    Optional<String> updatedFingerprint = fingerprintOf(project);
+    if (updatedFingerprint.isPresent()) {
+      projectCache.add(project, updatedFingerprint.get());
+    } else {
+      projectCache.add(project);
+    }
+  }
+
+  /**
+   * Stores the project cache if a file for the cache is set.
+   *
+   * @throws IOException If the cache could not be stored.
+   */
+  void storeProjectCache() throws IOException {
+    if (projectCacheFile != null) {
+      LOGGER.info("Storing the project cache to {}", projectCacheFile);
+      projectCache.store(projectCacheFile);
+    }
+  }
+
+  /**
+   * Returns a calculator that calculates a rating for a single project.
+   *
+   * @return The calculator.
+   */
+  SingleSecurityRatingCalculator calculator() {
+    return calculator;
+  }
+
+  /**
+   * Builds a fingerprint of inputs for a project's rating.
+   *
+   * @param project The project.
+   * @return The fingerprint, or an empty {@link Optional} if no fingerprinter is set
+   *         or the fingerprint could not be built.
+   */
+  private Optional<String> fingerprintOf(GitHubProject project) {
+    if (fingerprinter == null) {
+      return Optional.empty();
+    }
+    return fingerprinter.fingerprintOf(project);
+  }
+
   /**
    * Returns a list of projects for which ratings couldn't be calculated.
    *
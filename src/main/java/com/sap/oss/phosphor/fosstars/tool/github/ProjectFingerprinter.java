@@ -0,0 +1,110 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import com.sap.oss.phosphor.fosstars.data.github.GitHubDataFetcher;
+import com.sap.oss.phosphor.fosstars.model.Rating;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.NVD;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>The class builds fingerprints of inputs that are used for calculating a rating
+ * for a project. If a fingerprint of a project didn't change since the last calculation,
+ * then the rating doesn't have to be re-calculated.</p>
+ *
+ * <p>A fingerprint consists of the following components:</p>
+ * <ul>
+ *   <li>a version of the rating including its weights and thresholds,</li>
+ *   <li>a version of the downloaded data from NVD,</li>
+ *   <li>a date of the last push to the project's repository on GitHub,</li>
+ *   <li>the HEAD commit of a local clone of the repository.</li>
+ * </ul>
+ */
+class ProjectFingerprinter {
+
+  /**
+   * A logger.
+   */
+  private static final Logger LOGGER = LogManager.getLogger(ProjectFingerprinter.class);
+
+  /**
+   * This value is used if a component of a fingerprint is not available.
+   */
+  private static final String NOT_AVAILABLE = "n/a";
+
+  /**
+   * An interface to GitHub.
+   */
+  private final GitHubDataFetcher fetcher;
+
+  /**
+   * An interface to NVD.
+   */
+  private final NVD nvd;
+
+  /**
+   * A version of the rating.
+   */
+  private final String ratingVersion;
+
+  /**
+   * Initializes a new fingerprinter.
+   *
+   * @param fetcher An interface to GitHub.
+   * @param nvd An interface to NVD.
+   * @param rating The rating.
+   * @throws IOException If the rating could not be serialized.
+   */
+  ProjectFingerprinter(GitHubDataFetcher fetcher, NVD nvd, Rating rating) throws IOException {
+    Objects.requireNonNull(rating, "Oh no! Rating is null!");
+    this.fetcher = Objects.requireNonNull(fetcher, "Oh no! Fetcher is null!");
+    this.nvd = Objects.requireNonNull(nvd, "Oh no! NVD is null!");
+    this.ratingVersion = DigestUtils.sha256Hex(Json.toBytes(rating));
+  }
+
+  /**
+   * Builds a fingerprint for a project.
+   * The method returns an empty {@link Optional} if it could not find out
+   * when the project's repository was updated, so that changes can't be detected.
+   *
+   * @param project The project.
+   * @return A fingerprint of the project.
+   */
+  Optional<String> fingerprintOf(GitHubProject project) {
+    Objects.requireNonNull(project, "Oh no! Project is null!");
+
+    Date pushed;
+    try {
+      pushed = fetcher.repositoryFor(project).getPushedAt();
+    } catch (IOException e) {
+      LOGGER.warn("Oops! Could not find out when {} was updated", project.scm());
+      return Optional.empty();
+    }
+
+    if (pushed == null) {
+      return Optional.empty();
+    }
+
+    String nvdVersion;
+    try {
+      nvdVersion = nvd.snapshotVersion();
+    } catch (IOException e) {
+      LOGGER.warn("Oops! Could not find out a version of NVD");
+      return Optional.empty();
+    }
+
+    String fingerprint = String.join(";",
+        "rating=" + ratingVersion,
+        "nvd=" + nvdVersion,
+        "pushed=" + pushed.getTime(),
+        "head=" + GitHubDataFetcher.localHeadOf(project).orElse(NOT_AVAILABLE));
+
+    return Optional.of(DigestUtils.sha256Hex(fingerprint));
+  }
+}
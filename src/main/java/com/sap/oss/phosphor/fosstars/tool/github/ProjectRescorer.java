@@ -0,0 +1,243 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import com.sap.oss.phosphor.fosstars.model.Label;
+import com.sap.oss.phosphor.fosstars.model.Rating;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.feature.FeatureRegistry;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueArraySet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * <p>The class re-calculates ratings for projects in a {@link GitHubProjectCache}
+ * using feature values that were stored when the ratings were calculated.
+ * It is meant to be used after weights or thresholds of a rating were changed.
+ * The class doesn't talk to GitHub or NVD.</p>
+ *
+ * <p>Feature values for a project are taken from its stored rating value.
+ * If a feature value is missing or unknown there, then it is taken from a value cache.
+ * Projects are processed in parallel.</p>
+ */
+class ProjectRescorer {
+
+  /**
+   * A rating to be used.
+   */
+  private final Rating rating;
+
+  /**
+   * A registry of features used in the rating.
+   */
+  private final FeatureRegistry registry;
+
+  /**
+   * A cache of feature values.
+   */
+  private final GitHubProjectValueCache valueCache;
+
+  /**
+   * Initializes a new re-scorer.
+   *
+   * @param rating A rating to be used.
+   * @param valueCache A cache of feature values.
+   */
+  ProjectRescorer(Rating rating, GitHubProjectValueCache valueCache) {
+    this.rating = Objects.requireNonNull(rating, "Oh no! Rating is null!");
+    this.valueCache = Objects.requireNonNull(valueCache, "Oh no! Value cache is null!");
+    this.registry = FeatureRegistry.of(rating);
+  }
+
+  /**
+   * Re-calculates ratings for all projects in a cache and updates the cache.
+   * A project keeps the date of its original rating
+   * because the feature values were not updated.
+   *
+   * @param cache The cache of projects.
+   * @return A result of the re-calculation.
+   */
+  Result rescore(GitHubProjectCache cache) {
+    Objects.requireNonNull(cache, "Oh no! Cache is null!");
+
+    List<Outcome> outcomes = cache.projects().parallelStream()
+        .map(this::rescore)
+        .collect(Collectors.toList());
+
+    Result result = new Result();
+    for (Outcome outcome : outcomes) {
+      if (!outcome.rescored.isPresent()) {
+        result.skipped.add(outcome.original);
+        continue;
+      }
+
+      GitHubProject project = outcome.rescored.get();
+      cache.add(project);
+      result.projects.add(project);
+
+      Label before = outcome.original.ratingValue().map(RatingValue::label).orElse(null);
+      Label after = project.ratingValue().map(RatingValue::label).orElse(null);
+      if (!Objects.equals(before, after)) {
+        result.changes.add(new LabelChange(project, before, after));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Re-calculates a rating for a project.
+   *
+   * @param project The project.
+   * @return An outcome of the re-calculation.
+   */
+  private Outcome rescore(GitHubProject project) {
+    if (!project.ratingValue().isPresent()) {
+      return new Outcome(project, Optional.empty());
+    }
+
+    // a lean rating value stays lean
+    RatingValue ratingValue = rating.calculate(valuesFor(project));
+    if (project.ratingValue().get().scoreValue().isLean()) {
+      ratingValue = ratingValue.lean();
+    }
+    GitHubProject rescored = new GitHubProject(
+        project.organization(), project.name(), project.scm(),
+        ratingValue, project.ratingValueDate().orElse(null));
+
+    return new Outcome(project, Optional.of(rescored));
+  }
+
+  /**
+   * Collects stored feature values for a project.
+   *
+   * @param project The project.
+   * @return A set of feature values.
+   */
+  private ValueSet valuesFor(GitHubProject project) {
+    ValueSet values = ValueArraySet.unknown(registry);
+    valueCache.get(project).ifPresent(values::update);
+    project.ratingValue().ifPresent(ratingValue -> {
+      for (Value<?> value : ratingValue.scoreValue().usedFeatureValues()) {
+        if (!value.isUnknown() || !values.has(value.feature())) {
+          values.update(value);
+        }
+      }
+    });
+    return values;
+  }
+
+  /**
+   * An outcome of a re-calculation for a single project.
+   */
+  private static class Outcome {
+
+    /**
+     * The original project.
+     */
+    final GitHubProject original;
+
+    /**
+     * The project with a new rating if it could be re-calculated.
+     */
+    final Optional<GitHubProject> rescored;
+
+    /**
+     * Initializes a new outcome.
+     *
+     * @param original The original project.
+     * @param rescored The project with a new rating if it could be re-calculated.
+     */
+    Outcome(GitHubProject original, Optional<GitHubProject> rescored) {
+      this.original = original;
+      this.rescored = rescored;
+    }
+  }
+
+  /**
+   * A change of a label of a project.
+   */
+  static class LabelChange {
+
+    /**
+     * The project.
+     */
+    final GitHubProject project;
+
+    /**
+     * The old label (may be null).
+     */
+    final Label before;
+
+    /**
+     * The new label (may be null).
+     */
+    final Label after;
+
+    /**
+     * Initializes a new change.
+     *
+     * @param project The project.
+     * @param before The old label (may be null).
+     * @param after The new label (may be null).
+     */
+    LabelChange(GitHubProject project, Label before, Label after) {
+      this.project = project;
+      this.before = before;
+      this.after = after;
+    }
+  }
+
+  /**
+   * A result of a re-calculation.
+   */
+  static class Result {
+
+    /**
+     * Projects with re-calculated ratings.
+     */
+    private final List<GitHubProject> projects = new ArrayList<>();
+
+    /**
+     * Projects that were skipped because they didn't have stored ratings.
+     */
+    private final List<GitHubProject> skipped = new ArrayList<>();
+
+    /**
+     * Projects whose labels changed.
+     */
+    private final List<LabelChange> changes = new ArrayList<>();
+
+    /**
+     * Returns projects with re-calculated ratings.
+     *
+     * @return A list of projects.
+     */
+    List<GitHubProject> projects() {
+      return Collections.unmodifiableList(projects);
+    }
+
+    /**
+     * Returns projects that were skipped because they didn't have stored ratings.
+     *
+     * @return A list of projects.
+     */
+    List<GitHubProject> skipped() {
+      return Collections.unmodifiableList(skipped);
+    }
+
+    /**
+     * Returns projects whose labels changed.
+     *
+     * @return A list of changes.
+     */
+    List<LabelChange> changes() {
+      return Collections.unmodifiableList(changes);
+    }
+  }
+}
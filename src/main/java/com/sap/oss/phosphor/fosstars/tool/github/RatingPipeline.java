@@ -0,0 +1,301 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * <p>The pipeline calculates security ratings for projects while they are being discovered.
+ * Each project goes through the following stages:</p>
+ * <ol>
+ *   <li>discovery: a {@link GitHubProjectFinder} finds the project,</li>
+ *   <li>sync: the pipeline checks if a cached rating can be used, and if not,
+ *       fetches info about the project's repository and clones or updates a local copy,</li>
+ *   <li>scan and score: data providers gather feature values, and a rating is calculated,</li>
+ *   <li>report: the project leaves the pipeline, and the project cache is stored
+ *       after every {@link #storeInterval(int)} projects.</li>
+ * </ol>
+ *
+ * <p>The sync stage is network-bound and runs in its own thread pool.
+ * The scan and score stage is CPU- and disk-bound and runs in another thread pool.
+ * The report stage runs in a single thread. As a result, the next repositories
+ * are cloned while the current ones are scanned and scored.</p>
+ *
+ * <p>The number of projects that are in the pipeline at the same time is limited.
+ * If the limit is reached, discovery waits until a project leaves the pipeline,
+ * so that local repositories are not cloned much earlier than they are scanned.</p>
+ *
+ * <p>Storing the project cache rewrites the whole file, therefore the cache is stored
+ * only periodically and once more when all projects are done. If the tool stops
+ * in the middle, at most the last {@link #storeInterval(int)} ratings are lost.
+ * Reports are not generated in the pipeline because they need all projects:
+ * they are sorted by rating and summarized. The caller generates them
+ * with the list returned by {@link #run(GitHubProjectFinder)}.</p>
+ */
+class RatingPipeline {
+
+  /**
+   * A logger.
+   */
+  private static final Logger LOGGER = LogManager.getLogger(RatingPipeline.class);
+
+  /**
+   * The default number of threads for the sync stage.
+   */
+  static final int DEFAULT_SYNC_THREADS = 4;
+
+  /**
+   * The default number of threads for the scan and score stage.
+   */
+  static final int DEFAULT_RATING_THREADS = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * The default number of projects after which the project cache is stored.
+   */
+  static final int DEFAULT_STORE_INTERVAL = 50;
+
+  /**
+   * Calculates ratings and takes care of the project cache.
+   */
+  private final MultipleSecurityRatingsCalculator calculator;
+
+  /**
+   * A number of threads for the sync stage.
+   */
+  private int syncThreads = DEFAULT_SYNC_THREADS;
+
+  /**
+   * A number of threads for the scan and score stage.
+   */
+  private int ratingThreads = DEFAULT_RATING_THREADS;
+
+  /**
+   * A number of projects after which the project cache is stored.
+   */
+  private int storeInterval = DEFAULT_STORE_INTERVAL;
+
+  /**
+   * A number of reported projects since the project cache was stored last time.
+   * The field is accessed only by the report thread and after the pipeline is done.
+   */
+  private int unstored;
+
+  /**
+   * A list of projects for which ratings couldn't be calculated.
+   */
+  private final List<GitHubProject> failedProjects
+      = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Initializes a new pipeline.
+   *
+   * @param calculator Calculates ratings and takes care of the project cache.
+   */
+  RatingPipeline(MultipleSecurityRatingsCalculator calculator) {
+    this.calculator = Objects.requireNonNull(calculator, "Oh no! Calculator is null!");
+  }
+
+  /**
+   * Sets a number of threads for the sync stage.
+   *
+   * @param n The number of threads.
+   * @return The same {@link RatingPipeline}.
+   * @throws IllegalArgumentException If the number is not positive.
+   */
+  RatingPipeline syncThreads(int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("Oh no! Number of sync threads should be positive!");
+    }
+    this.syncThreads = n;
+    return this;
+  }
+
+  /**
+   * Sets a number of threads for the scan and score stage.
+   *
+   * @param n The number of threads.
+   * @return The same {@link RatingPipeline}.
+   * @throws IllegalArgumentException If the number is not positive.
+   */
+  RatingPipeline ratingThreads(int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("Oh no! Number of rating threads should be positive!");
+    }
+    this.ratingThreads = n;
+    return this;
+  }
+
+  /**
+   * Sets a number of projects after which the project cache is stored.
+   *
+   * @param n The number of projects.
+   * @return The same {@link RatingPipeline}.
+   * @throws IllegalArgumentException If the number is not positive.
+   */
+  RatingPipeline storeInterval(int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("Oh no! Store interval should be positive!");
+    }
+    this.storeInterval = n;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of projects that may be in the pipeline at the same time.
+   *
+   * @return The maximum number of projects.
+   */
+  int capacity() {
+    return syncThreads + 2 * ratingThreads;
+  }
+
+  /**
+   * Discovers projects and calculates ratings for them.
+   *
+   * @param finder A finder that discovers projects.
+   * @return A list of discovered projects in the order in which they were discovered.
+   * @throws IOException If the projects could not be discovered.
+   */
+  List<GitHubProject> run(GitHubProjectFinder finder) throws IOException {
+    Objects.requireNonNull(finder, "Oh no! Finder is null!");
+
+    failedProjects.clear();
+    unstored = 0;
+    List<GitHubProject> projects = new ArrayList<>();
+    Semaphore permits = new Semaphore(capacity());
+    ExecutorService syncPool = Executors.newFixedThreadPool(syncThreads);
+    ExecutorService ratingPool = Executors.newFixedThreadPool(ratingThreads);
+    ExecutorService reportPool = Executors.newSingleThreadExecutor();
+    try {
+      finder.run(project -> {
+        LOGGER.info("Found {}", project.scm());
+        permits.acquireUninterruptibly();
+        projects.add(project);
+        syncPool.execute(() -> sync(project, ratingPool, reportPool, permits));
+      });
+    } finally {
+      shutdown(syncPool);
+      shutdown(ratingPool);
+      shutdown(reportPool);
+      if (unstored > 0) {
+        storeProjectCache();
+      }
+    }
+
+    return projects;
+  }
+
+  /**
+   * The sync stage. If a cached rating can't be used, the method fetches info
+   * about the project's repository and passes the project to the scan and score stage.
+   * Otherwise, the project goes directly to the report stage.
+   *
+   * @param project The project.
+   * @param ratingPool A thread pool for the scan and score stage.
+   * @param reportPool A thread pool for the report stage.
+   * @param permits Limits the number of projects in the pipeline.
+   */
+  private void sync(GitHubProject project,
+      ExecutorService ratingPool, ExecutorService reportPool, Semaphore permits) {
+
+    try {
+      if (calculator.useCachedRatingFor(project)) {
+        reportPool.execute(() -> report(permits));
+        return;
+      }
+      calculator.calculator().sync(project);
+    } catch (Exception e) {
+      LOGGER.warn("Oops! Could not sync {}, let's try to go on anyway", project.scm());
+      LOGGER.warn(e);
+    }
+    ratingPool.execute(() -> rate(project, reportPool, permits));
+  }
+
+  /**
+   * The scan and score stage. The method calculates a rating for a project
+   * and then passes the project to the report stage.
+   *
+   * @param project The project.
+   * @param reportPool A thread pool for the report stage.
+   * @param permits Limits the number of projects in the pipeline.
+   */
+  private void rate(GitHubProject project, ExecutorService reportPool, Semaphore permits) {
+    try {
+      calculator.calculator().calculateFor(project);
+      calculator.remember(project);
+    } catch (Exception e) {
+      LOGGER.warn("Oh no! Could not calculate a rating for {}", project.scm());
+      LOGGER.warn(e);
+      failedProjects.add(project);
+    } finally {
+      reportPool.execute(() -> report(permits));
+    }
+  }
+
+  /**
+   * The report stage. The method stores the project cache if enough projects have been done
+   * since it was stored last time, and then lets the next project in the pipeline.
+   *
+   * @param permits Limits the number of projects in the pipeline.
+   */
+  private void report(Semaphore permits) {
+    try {
+      if (++unstored >= storeInterval) {
+        storeProjectCache();
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Stores the project cache. A failure is only logged
+   * because the cache is going to be stored again later.
+   */
+  private void storeProjectCache() {
+    unstored = 0;
+    try {
+      calculator.storeProjectCache();
+    } catch (Exception e) {
+      LOGGER.warn("Oh no! Could not store the project cache!");
+      LOGGER.warn(e);
+    }
+  }
+
+  /**
+   * Waits until all tasks in a thread pool are done and then shuts it down.
+   *
+   * @param pool The thread pool.
+   * @throws IOException If the current thread was interrupted.
+   */
+  private static void shutdown(ExecutorService pool) throws IOException {
+    pool.shutdown();
+    try {
+      while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.debug("Waiting for the pipeline ...");
+      }
+    } catch (InterruptedException e) {
+      pool.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new IOException("Oh no! The pipeline was interrupted!", e);
+    }
+  }
+
+  /**
+   * Returns a list of projects for which ratings couldn't be calculated.
+   *
+   * @return The list of projects.
+   */
+  List<GitHubProject> failedProjects() {
+    return new ArrayList<>(failedProjects);
+  }
+}
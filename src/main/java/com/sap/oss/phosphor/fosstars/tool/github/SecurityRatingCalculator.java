@@ -10,7 +10,9 @@ import com.sap.oss.phosphor.fosstars.advice.oss.github.OssSecurityGithubAdvisor;
 import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
 import com.sap.oss.phosphor.fosstars.data.Terminal;
 import com.sap.oss.phosphor.fosstars.data.UserCallback;
+import com.sap.oss.phosphor.fosstars.data.github.FileDetectionCache;
 import com.sap.oss.phosphor.fosstars.data.github.GitHubDataFetcher;
+import com.sap.oss.phosphor.fosstars.data.github.NvdMatchCache;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.nvd.NVD;
 import com.sap.oss.phosphor.fosstars.tool.InputString;
@@ -31,6 +33,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -80,12 +83,40 @@ public class SecurityRatingCalculator {
    */
   private static final GitHubProjectValueCache VALUE_CACHE = loadValueCache();
 
+  /**
+   * A path to the cache of NVD entries for projects.
+   */
+  private static final String PATH_TO_NVD_MATCH_CACHE
+      = FOSSTARS_DIRECTORY + File.separator + "nvd_match_cache.json";
+
+  /**
+   * A shared cache of NVD entries for projects.
+   */
+  private static final NvdMatchCache NVD_MATCH_CACHE = loadNvdMatchCache();
+
+  /**
+   * A path to the cache of results of file detectors.
+   */
+  private static final String PATH_TO_FILE_DETECTION_CACHE
+      = FOSSTARS_DIRECTORY + File.separator + "file_detection_cache.json";
+
+  /**
+   * A shared cache of results of file detectors.
+   */
+  private static final FileDetectionCache FILE_DETECTION_CACHE = loadFileDetectionCache();
+
   /**
    * A file name of the default cache of projects.
    */
   private static final String DEFAULT_PROJECT_CACHE_FILE
       = FOSSTARS_DIRECTORY + File.separator + "project_cache.json";
 
+  /**
+   * A path to the cache of URLs to SCM for Maven artifacts.
+   */
+  private static final String PATH_TO_MAVEN_SCM_CACHE
+      = FOSSTARS_DIRECTORY + File.separator + "maven_scm_cache.json";
+
   /**
    * A usage message.
    */
@@ -187,6 +218,63 @@ public class SecurityRatingCalculator {
             .argName("path")
             .desc("Store a raw rating to a specified file.")
             .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("rescore")
+            .desc("Re-calculate ratings for projects in the project cache "
+                + "using stored feature values. The option has to be used with --config.")
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("lean")
+            .desc("Keep only scores, labels, confidences and used feature values in ratings. "
+                + "Details are re-created for reports. The option has to be used with --config.")
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("provider-timeout")
+            .hasArg()
+            .argName("minutes")
+            .desc(String.format("A time budget for a data provider (default: %d minutes).",
+                SingleSecurityRatingCalculator.DEFAULT_PROVIDER_TIMEOUT.toMinutes()))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("project-timeout")
+            .hasArg()
+            .argName("minutes")
+            .desc(String.format("A time budget for all data providers for a project "
+                    + "(default: %d minutes).",
+                SingleSecurityRatingCalculator.DEFAULT_PROJECT_TIMEOUT.toMinutes()))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("sync-threads")
+            .hasArg()
+            .argName("number")
+            .desc(String.format("A number of threads that talk to GitHub and clone repositories "
+                + "(default: %d). The option has to be used with --config.",
+                RatingPipeline.DEFAULT_SYNC_THREADS))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("rating-threads")
+            .hasArg()
+            .argName("number")
+            .desc(String.format("A number of threads that scan repositories and calculate ratings "
+                + "(default: %d). The option has to be used with --config.",
+                RatingPipeline.DEFAULT_RATING_THREADS))
+            .build());
+    options.addOption(
+        Option.builder()
+            .longOpt("max-rating-age")
+            .hasArg()
+            .argName("days")
+            .desc(String.format("A maximum age of a cached rating that is reused "
+                + "if inputs for the rating didn't change (default: %d days). "
+                + "The option has to be used with --config.",
+                GitHubProjectCache.DEFAULT_MAX_AGE))
+            .build());
 
     OptionGroup group = new OptionGroup();
     group.addOption(Option.builder("u")
@@ -231,10 +319,20 @@ public class SecurityRatingCalculator {
     String githubToken = commandLine.getOptionValue("token");
 
     fetcher = new GitHubDataFetcher(connectToGithub(githubToken, callback));
+    GitHubDataFetcher.useFileDetectionCache(FILE_DETECTION_CACHE);
 
     calculator = new SingleSecurityRatingCalculator(fetcher, nvd);
     calculator.set(VALUE_CACHE);
+    calculator.set(NVD_MATCH_CACHE);
     calculator.set(callback);
+    if (commandLine.hasOption("provider-timeout")) {
+      calculator.providerTimeout(Duration.ofMinutes(
+          Integer.parseInt(commandLine.getOptionValue("provider-timeout"))));
+    }
+    if (commandLine.hasOption("project-timeout")) {
+      calculator.projectTimeout(Duration.ofMinutes(
+          Integer.parseInt(commandLine.getOptionValue("project-timeout"))));
+    }
 
     prettyPrinter = commandLine.hasOption("v")
         ? PrettyPrinter.withVerboseOutput(ADVISOR) : PrettyPrinter.withoutVerboseOutput();
@@ -266,11 +364,33 @@ public class SecurityRatingCalculator {
         processGav(commandLine.getOptionValue("gav"));
       }
 
-      if (commandLine.hasOption("config")) {
+      if (commandLine.hasOption("config") && commandLine.hasOption("rescore")) {
+        rescore(commandLine.getOptionValue("config"));
+      } else if (commandLine.hasOption("config")) {
         processConfig(commandLine.getOptionValue("config"));
       }
     } finally {
       VALUE_CACHE.store(PATH_TO_VALUE_CACHE);
+      NVD_MATCH_CACHE.store(PATH_TO_NVD_MATCH_CACHE, nvd);
+      FILE_DETECTION_CACHE.store(PATH_TO_FILE_DETECTION_CACHE);
+      printStatistics();
+    }
+  }
+
+  /**
+   * Prints statistics about runs of data providers.
+   */
+  private void printStatistics() {
+    DataProviderStatistics statistics = calculator.statistics();
+    List<String> lines = statistics.print();
+    if (lines.isEmpty()) {
+      return;
+    }
+    LOGGER.info("Here is how data providers worked:");
+    lines.forEach(LOGGER::info);
+    if (statistics.timeouts() > 0) {
+      LOGGER.warn("Data providers ran out of time {} time{}",
+          statistics.timeouts(), statistics.timeouts() == 1 ? "" : "s");
     }
   }
 
@@ -292,6 +412,32 @@ public class SecurityRatingCalculator {
           "You have to give me either --url, --gav or --config option!");
     }
 
+    if (commandLine.hasOption("rescore") && !commandLine.hasOption("config")) {
+      throw new IllegalArgumentException("The option --rescore has to be used with --config");
+    }
+
+    if (commandLine.hasOption("lean") && !commandLine.hasOption("config")) {
+      throw new IllegalArgumentException("The option --lean has to be used with --config");
+    }
+
+    for (String option : Arrays.asList("provider-timeout", "project-timeout")) {
+      if (commandLine.hasOption(option) && !isPositiveNumber(commandLine.getOptionValue(option))) {
+        throw new IllegalArgumentException(
+            String.format("The option --%s expects a positive number", option));
+      }
+    }
+
+    for (String option : Arrays.asList("sync-threads", "rating-threads", "max-rating-age")) {
+      if (commandLine.hasOption(option) && !commandLine.hasOption("config")) {
+        throw new IllegalArgumentException(
+            String.format("The option --%s has to be used with --config", option));
+      }
+      if (commandLine.hasOption(option) && !isPositiveNumber(commandLine.getOptionValue(option))) {
+        throw new IllegalArgumentException(
+            String.format("The option --%s expects a positive number", option));
+      }
+    }
+
     if (commandLine.hasOption("report-type") && !commandLine.hasOption("report-file")) {
       throw new IllegalArgumentException(
           "The option --report-type has to be used with --report-file");
@@ -305,6 +451,32 @@ public class SecurityRatingCalculator {
     }
   }
 
+  /**
+   * Checks if a string contains a positive number.
+   *
+   * @param value The string.
+   * @return True if the string contains a positive number, false otherwise.
+   */
+  private static boolean isPositiveNumber(String value) {
+    try {
+      return Integer.parseInt(value) > 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Returns a number specified in a command-line option.
+   *
+   * @param option The option.
+   * @param defaultValue A default number if the option is not specified.
+   * @return The number.
+   */
+  private int number(String option, int defaultValue) {
+    return commandLine.hasOption(option)
+        ? Integer.parseInt(commandLine.getOptionValue(option)) : defaultValue;
+  }
+
   /**
    * Calculate a rating for a single project identified by a URL to its SCM.
    *
@@ -332,9 +504,17 @@ public class SecurityRatingCalculator {
    * @throws IOException If something went wrong.
    */
   private void processGav(String gav) throws IOException {
-    MavenScmFinder finder = new MavenScmFinder();
+    MavenScmCache cache = loadMavenScmCache();
+    MavenScmFinder finder = new MavenScmFinder()
+        .useLocalRepository(MavenScmFinder.defaultLocalRepository())
+        .set(cache);
 
-    Optional<String> scm = finder.findScmFor(gav);
+    Optional<String> scm;
+    try {
+      scm = finder.findScmFor(gav);
+    } finally {
+      cache.store(Paths.get(PATH_TO_MAVEN_SCM_CACHE));
+    }
     if (!scm.isPresent()) {
       throw new IOException("Oh no! Could not find a URL to SCM!");
     }
@@ -374,31 +554,33 @@ public class SecurityRatingCalculator {
     // before calculating ratings
     final List<Reporter<GitHubProject>> reporters = makeReporters(config);
 
-    LOGGER.info("Look for projects ...");
-    List<GitHubProject> projects = new GitHubProjectFinder(fetcher.github())
-        .set(config.finderConfig)
-        .run();
-    LOGGER.info("Found {} project{}", projects.size(), projects.size() > 1 ? "s" : "");
-    for (GitHubProject project : projects) {
-      LOGGER.info("  {}", project.scm());
-    }
-
     String projectCacheFile = projectCacheFile(config);
 
-    LOGGER.info("Starting calculating ratings ...");
+    LOGGER.info("Look for projects and calculate ratings ...");
+    calculator.lean(commandLine.hasOption("lean"));
     MultipleSecurityRatingsCalculator multipleSecurityRatingsCalculator =
         new MultipleSecurityRatingsCalculator(calculator)
-            .set(loadProjectCache(projectCacheFile))
-            .storeProjectCacheTo(projectCacheFile)
-            .calculateFor(projects);
-
-    LOGGER.info("Okay, we've done calculating the ratings");
-
-    List<GitHubProject> failedProjects = multipleSecurityRatingsCalculator.failedProjects();
+            .set(loadProjectCache(projectCacheFile)
+                .maxAge(number("max-rating-age", GitHubProjectCache.DEFAULT_MAX_AGE)))
+            .set(new ProjectFingerprinter(fetcher, nvd, calculator.rating()))
+            .storeProjectCacheTo(projectCacheFile);
+
+    // a user can answer only one question at a time
+    RatingPipeline pipeline = new RatingPipeline(multipleSecurityRatingsCalculator)
+        .syncThreads(number("sync-threads", RatingPipeline.DEFAULT_SYNC_THREADS))
+        .ratingThreads(commandLine.hasOption("interactive")
+            ? 1 : number("rating-threads", RatingPipeline.DEFAULT_RATING_THREADS));
+    List<GitHubProject> projects = pipeline.run(
+        new GitHubProjectFinder(fetcher.github()).set(config.finderConfig));
+
+    LOGGER.info("Okay, we've done calculating the ratings for {} project{}",
+        projects.size(), projects.size() == 1 ? "" : "s");
+
+    List<GitHubProject> failedProjects = pipeline.failedProjects();
     if (!failedProjects.isEmpty()) {
       LOGGER.warn("Ratings couldn't be calculated for {} project{}",
           failedProjects.size(), failedProjects.size() == 1 ? "" : "s");
-      for (GitHubProject project : projects) {
+      for (GitHubProject project : failedProjects) {
         LOGGER.info("    {}", project.scm());
       }
     }
@@ -411,6 +593,48 @@ public class SecurityRatingCalculator {
     }
   }
 
+  /**
+   * Re-calculates ratings for projects in a project cache specified in a config
+   * using stored feature values, and then generates reports.
+   * The method doesn't talk to GitHub or NVD.
+   *
+   * @param filename A path to the config.
+   * @throws IOException If something went wrong.
+   */
+  private void rescore(String filename) throws IOException {
+    LOGGER.info("Loading config from {}", filename);
+    Config config = config(filename);
+    final List<Reporter<GitHubProject>> reporters = makeReporters(config);
+
+    String projectCacheFile = projectCacheFile(config);
+    GitHubProjectCache projectCache = loadProjectCache(projectCacheFile);
+    LOGGER.info("Re-calculating ratings for {} project{} ...",
+        projectCache.size(), projectCache.size() == 1 ? "" : "s");
+
+    ProjectRescorer.Result result = new ProjectRescorer(calculator.rating(), VALUE_CACHE)
+        .rescore(projectCache);
+    projectCache.store(projectCacheFile);
+
+    LOGGER.info("Re-calculated ratings for {} project{}",
+        result.projects().size(), result.projects().size() == 1 ? "" : "s");
+    if (!result.skipped().isEmpty()) {
+      LOGGER.warn("Skipped {} project{} without a stored rating",
+          result.skipped().size(), result.skipped().size() == 1 ? "" : "s");
+    }
+    LOGGER.info("Labels changed for {} project{}",
+        result.changes().size(), result.changes().size() == 1 ? "" : "s");
+    for (ProjectRescorer.LabelChange change : result.changes()) {
+      LOGGER.info("  {}: {} -> {}", change.project.scm(), change.before, change.after);
+    }
+
+    if (!reporters.isEmpty()) {
+      LOGGER.info("Now let's generate reports");
+      for (Reporter<GitHubProject> reporter : reporters) {
+        reporter.runFor(result.projects());
+      }
+    }
+  }
+
   /**
    * Stores a rating of a project if a user asked about it.
    *
@@ -725,6 +949,24 @@ public class SecurityRatingCalculator {
     throw error;
   }
 
+  /**
+   * Loads a cache of URLs to SCM for Maven artifacts.
+   * If the cache doesn't exist or could not be loaded, the method returns an empty cache.
+   *
+   * @return The cache.
+   */
+  private static MavenScmCache loadMavenScmCache() {
+    Path path = Paths.get(PATH_TO_MAVEN_SCM_CACHE);
+    if (Files.exists(path)) {
+      try {
+        return MavenScmCache.load(path);
+      } catch (IOException e) {
+        LOGGER.warn("Could not load a cache of SCM URLs!", e);
+      }
+    }
+    return MavenScmCache.empty();
+  }
+
   /**
    * Initializes a value cache.
    *
@@ -741,4 +983,36 @@ public class SecurityRatingCalculator {
     return new GitHubProjectValueCache();
   }
 
+  /**
+   * Initializes a cache of NVD entries for projects.
+   *
+   * @return The cache.
+   */
+  private static NvdMatchCache loadNvdMatchCache() {
+    try {
+      return NvdMatchCache.load(PATH_TO_NVD_MATCH_CACHE);
+    } catch (FileNotFoundException e) {
+      LOGGER.info("The cache of NVD entries doesn't exist yet.");
+    } catch (IOException e) {
+      LOGGER.warn("Could not load the cache of NVD entries!", e);
+    }
+    return NvdMatchCache.empty();
+  }
+
+  /**
+   * Initializes a cache of results of file detectors.
+   *
+   * @return The cache.
+   */
+  private static FileDetectionCache loadFileDetectionCache() {
+    try {
+      return FileDetectionCache.load(PATH_TO_FILE_DETECTION_CACHE);
+    } catch (FileNotFoundException e) {
+      LOGGER.info("The cache of file detections doesn't exist yet.");
+    } catch (IOException e) {
+      LOGGER.warn("Could not load the cache of file detections!", e);
+    }
+    return FileDetectionCache.empty();
+  }
+
 }
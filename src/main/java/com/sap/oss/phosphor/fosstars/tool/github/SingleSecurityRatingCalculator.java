@@ -2,53 +2,53 @@ package com.sap.oss.phosphor.fosstars.tool.github;
 
 import com.sap.oss.phosphor.fosstars.data.DataProvider;
 import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
-import com.sap.oss.phosphor.fosstars.data.NoValueCache;
 import com.sap.oss.phosphor.fosstars.data.UserCallback;
 import com.sap.oss.phosphor.fosstars.data.ValueCache;
-import com.sap.oss.phosphor.fosstars.data.github.CodeqlDataProvider;
-import com.sap.oss.phosphor.fosstars.data.github.FuzzedInOssFuzz;
 import com.sap.oss.phosphor.fosstars.data.github.GitHubDataFetcher;
-import com.sap.oss.phosphor.fosstars.data.github.HasBugBountyProgram;
-import com.sap.oss.phosphor.fosstars.data.github.HasCompanySupport;
-import com.sap.oss.phosphor.fosstars.data.github.HasSecurityPolicy;
-import com.sap.oss.phosphor.fosstars.data.github.HasSecurityTeam;
-import com.sap.oss.phosphor.fosstars.data.github.InfoAboutVulnerabilities;
-import com.sap.oss.phosphor.fosstars.data.github.IsApache;
-import com.sap.oss.phosphor.fosstars.data.github.IsEclipse;
-import com.sap.oss.phosphor.fosstars.data.github.LgtmDataProvider;
-import com.sap.oss.phosphor.fosstars.data.github.NumberOfCommits;
-import com.sap.oss.phosphor.fosstars.data.github.NumberOfContributors;
-import com.sap.oss.phosphor.fosstars.data.github.NumberOfStars;
-import com.sap.oss.phosphor.fosstars.data.github.NumberOfWatchers;
-import com.sap.oss.phosphor.fosstars.data.github.OwaspSecurityLibraries;
-import com.sap.oss.phosphor.fosstars.data.github.PackageManagement;
-import com.sap.oss.phosphor.fosstars.data.github.ProgrammingLanguages;
-import com.sap.oss.phosphor.fosstars.data.github.SignsJarArtifacts;
-import com.sap.oss.phosphor.fosstars.data.github.UsesDependabot;
-import com.sap.oss.phosphor.fosstars.data.github.UsesFindSecBugs;
-import com.sap.oss.phosphor.fosstars.data.github.UsesGithubForDevelopment;
-import com.sap.oss.phosphor.fosstars.data.github.UsesNoHttpTool;
-import com.sap.oss.phosphor.fosstars.data.github.UsesOwaspDependencyCheck;
-import com.sap.oss.phosphor.fosstars.data.github.UsesSanitizers;
-import com.sap.oss.phosphor.fosstars.data.github.UsesSignedCommits;
-import com.sap.oss.phosphor.fosstars.data.interactive.AskAboutSecurityTeam;
-import com.sap.oss.phosphor.fosstars.data.interactive.AskAboutUnpatchedVulnerabilities;
+import com.sap.oss.phosphor.fosstars.data.github.NvdMatchCache;
 import com.sap.oss.phosphor.fosstars.model.RatingRepository;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.feature.FeatureRegistry;
 import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
-import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
+import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueArraySet;
 import com.sap.oss.phosphor.fosstars.nvd.NVD;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * The class calculates a security rating for a single open-source project.
+ * <p>The class calculates a security rating for a single open-source project.</p>
+ *
+ * <p>Each data provider has a time budget, and all data providers for a project
+ * share a time budget for the project. A provider that doesn't finish in time is cancelled,
+ * and the features that it was supposed to fill out stay unknown,
+ * so that the rating is still calculated but with lower confidence.
+ * A provider works on a copy of the feature values, so that a cancelled provider
+ * can't change the values after the rating was calculated.
+ * Interactive providers don't have a time budget.</p>
+ *
+ * <p>Cancellation only interrupts a data provider, and the provider may ignore that
+ * and keep working. Data providers are shared between projects, therefore
+ * a provider is not run again until its cancelled run stops. Such a provider is skipped,
+ * and the skip is counted in {@link DataProviderStatistics}. As a result,
+ * each data provider has at most one cancelled run which is still going.</p>
  */
 class SingleSecurityRatingCalculator {
 
@@ -57,15 +57,38 @@ class SingleSecurityRatingCalculator {
    */
   private static final Logger LOGGER = LogManager.getLogger(SingleSecurityRatingCalculator.class);
 
+  /**
+   * The default time budget for a data provider.
+   */
+  static final Duration DEFAULT_PROVIDER_TIMEOUT = Duration.ofMinutes(10);
+
+  /**
+   * The default time budget for all data providers for a project.
+   */
+  static final Duration DEFAULT_PROJECT_TIMEOUT = Duration.ofMinutes(30);
+
+  /**
+   * A thread pool that runs data providers. The threads are daemons
+   * because a cancelled data provider may ignore interruption and keep working.
+   * The pool doesn't grow without limit because a provider is not run again
+   * while its cancelled run is still going.
+   */
+  private static final ExecutorService PROVIDER_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+      });
+
   /**
    * An interface to GitHub.
    */
   private final GitHubDataFetcher fetcher;
 
   /**
-   * An interface to NVD.
+   * Builds data providers once and shares them between projects.
    */
-  private final NVD nvd;
+  private final DataProviderRegistry providers;
 
   /**
    * Open source security rating.
@@ -74,15 +97,46 @@ class SingleSecurityRatingCalculator {
       = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
 
   /**
-   * A cache of feature values for GitHub projects.
+   * A registry of features used in the rating.
    */
-  private ValueCache<GitHubProject> cache = NoValueCache.create();
+  private final FeatureRegistry registry = FeatureRegistry.of(rating);
 
   /**
    * An interface for interacting with a user.
    */
   private UserCallback callback = NoUserCallback.INSTANCE;
 
+  /**
+   * Tells if the calculator should assign lean rating values to projects.
+   */
+  private boolean lean = false;
+
+  /**
+   * A time budget for a data provider.
+   */
+  private Duration providerTimeout = DEFAULT_PROVIDER_TIMEOUT;
+
+  /**
+   * Maps a class of a data provider to its own time budget.
+   */
+  private final Map<Class<?>, Duration> providerTimeouts = new HashMap<>();
+
+  /**
+   * A time budget for all data providers for a project.
+   */
+  private Duration projectTimeout = DEFAULT_PROJECT_TIMEOUT;
+
+  /**
+   * Statistics about runs of data providers.
+   */
+  private final DataProviderStatistics statistics = new DataProviderStatistics();
+
+  /**
+   * Maps a data provider to its run which was cancelled but has not stopped yet.
+   */
+  private final Map<DataProvider<GitHubProject>, Run> zombies
+      = Collections.synchronizedMap(new IdentityHashMap<>());
+
   /**
    * Initializes a new calculator.
    *
@@ -93,7 +147,7 @@ class SingleSecurityRatingCalculator {
     Objects.requireNonNull(fetcher, "Oh no! An interface to GitHub can't be null!");
     Objects.requireNonNull(nvd, "Oh no! An interface to NVD can't be null!");
     this.fetcher = fetcher;
-    this.nvd = nvd;
+    this.providers = new DataProviderRegistry(fetcher, nvd);
   }
 
   /**
@@ -113,6 +167,7 @@ class SingleSecurityRatingCalculator {
    */
   SingleSecurityRatingCalculator set(UserCallback callback) {
     this.callback = callback;
+    providers.set(callback);
     return this;
   }
 
@@ -123,10 +178,108 @@ class SingleSecurityRatingCalculator {
    * @return The same calculator.
    */
   SingleSecurityRatingCalculator set(ValueCache<GitHubProject> cache) {
-    this.cache = Objects.requireNonNull(cache, "Oh no! Cache can't be null!");
+    providers.set(Objects.requireNonNull(cache, "Oh no! Cache can't be null!"));
+    return this;
+  }
+
+  /**
+   * Set a cache of NVD entries for projects that is shared by data providers.
+   *
+   * @param matches The cache.
+   * @return The same calculator.
+   */
+  SingleSecurityRatingCalculator set(NvdMatchCache matches) {
+    providers.set(Objects.requireNonNull(matches, "Oh no! Matches can't be null!"));
+    return this;
+  }
+
+  /**
+   * Tells the calculator whether it should assign lean rating values to projects.
+   * A lean rating value doesn't contain sub-score values and explanations,
+   * see {@link RatingValue#lean()}.
+   *
+   * @param lean True if rating values should be lean, false otherwise.
+   * @return The same calculator.
+   */
+  SingleSecurityRatingCalculator lean(boolean lean) {
+    this.lean = lean;
+    return this;
+  }
+
+  /**
+   * Sets a time budget for a data provider.
+   *
+   * @param timeout The time budget.
+   * @return The same calculator.
+   */
+  SingleSecurityRatingCalculator providerTimeout(Duration timeout) {
+    this.providerTimeout = checkTimeout(timeout);
+    return this;
+  }
+
+  /**
+   * Sets a time budget for data providers of a specific class.
+   * The budget overrides the one set by {@link #providerTimeout(Duration)}.
+   *
+   * @param providerClass The class of data providers.
+   * @param timeout The time budget.
+   * @return The same calculator.
+   */
+  SingleSecurityRatingCalculator providerTimeout(Class<?> providerClass, Duration timeout) {
+    Objects.requireNonNull(providerClass, "Oh no! Provider class is null!");
+    providerTimeouts.put(providerClass, checkTimeout(timeout));
+    return this;
+  }
+
+  /**
+   * Sets a time budget for all data providers for a project.
+   *
+   * @param timeout The time budget.
+   * @return The same calculator.
+   */
+  SingleSecurityRatingCalculator projectTimeout(Duration timeout) {
+    this.projectTimeout = checkTimeout(timeout);
     return this;
   }
 
+  /**
+   * Checks that a time budget is positive.
+   *
+   * @param timeout The time budget.
+   * @return The same time budget.
+   * @throws IllegalArgumentException If the time budget is not positive.
+   */
+  private static Duration checkTimeout(Duration timeout) {
+    Objects.requireNonNull(timeout, "Oh no! Timeout is null!");
+    if (timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("Oh no! Timeout should be positive!");
+    }
+    return timeout;
+  }
+
+  /**
+   * Returns statistics about runs of data providers.
+   *
+   * @return The statistics.
+   */
+  DataProviderStatistics statistics() {
+    return statistics;
+  }
+
+  /**
+   * Fetches info about a project's repository from GitHub and clones or updates
+   * a local copy of the repository, so that {@link #calculateFor(GitHubProject)}
+   * doesn't have to wait for the network later.
+   *
+   * @param project The project.
+   * @throws IOException If something went wrong.
+   */
+  void sync(GitHubProject project) throws IOException {
+    Objects.requireNonNull(project, "Oh no! Project can't be null!");
+    fetcher.repositoryFor(project);
+    GitHubDataFetcher.localRepositoryFor(project);
+  }
+
   public SingleSecurityRatingCalculator calculateFor(GitHubProject project) throws IOException {
     Objects.requireNonNull(project, "Oh no! Project can't be null!");
 
@@ -141,7 +294,8 @@ class SingleSecurityRatingCalculator {
       return this;
     }
 
-    ValueSet values = ValueHashSet.unknown(rating.allFeatures());
+    Instant deadline = Instant.now().plus(projectTimeout);
+    ValueSet values = ValueArraySet.unknown(registry);
     for (DataProvider<GitHubProject> provider : dataProviders()) {
 
       // skip data providers that talk to users but the callback doesn't allow that
@@ -149,63 +303,158 @@ class SingleSecurityRatingCalculator {
         continue;
       }
 
+      String name = provider.getClass().getSimpleName();
+      if (zombies.containsKey(provider)) {
+        LOGGER.warn("Oops! A cancelled run of {} data provider is still going, let's skip it",
+            name);
+        statistics.busy(name);
+        continue;
+      }
+
+      Duration timeout = timeoutFor(provider, deadline);
+      if (!provider.interactive() && (timeout.isNegative() || timeout.isZero())) {
+        LOGGER.warn("Oops! No time left for {} data provider, let's skip it", name);
+        statistics.skipped(name);
+        continue;
+      }
+
+      Instant start = Instant.now();
       try {
-        provider.set(callback).set(cache).update(project, values);
+        if (provider.interactive()) {
+          provider.update(project, values);
+        } else {
+          update(provider, project, values, timeout);
+        }
+        statistics.succeeded(name, Duration.between(start, Instant.now()));
+      } catch (TimeoutException e) {
+        LOGGER.warn("Oops! {} data provider didn't finish in {} s and was cancelled",
+            name, timeout.getSeconds());
+        statistics.timedOut(name, Duration.between(start, Instant.now()));
       } catch (Exception e) {
-        LOGGER.warn("Holy Moly, {} data provider failed!",
-            provider.getClass().getSimpleName());
+        LOGGER.warn("Holy Moly, {} data provider failed!", name);
         LOGGER.warn("The last thing that it said was", e);
         LOGGER.warn("But we don't give up!");
+        statistics.failed(name, Duration.between(start, Instant.now()));
       }
     }
 
     LOGGER.info("Here is what we know about the project:");
-    values.toSet().stream()
-        .sorted(Comparator.comparing(value -> value.feature().name()))
-        .forEach(value -> LOGGER.info("   {}: {}", value.feature(), value));
+    values.forEach(value -> LOGGER.info("   {}: {}", value.feature(), value));
 
-    project.set(rating.calculate(values));
+    RatingValue ratingValue = rating.calculate(values);
+    project.set(lean ? ratingValue.lean() : ratingValue);
 
     return this;
   }
 
   /**
-   * Initializes a list of data providers that are going to be used by the calculator.
+   * Returns a time budget for a data provider.
+   *
+   * @param provider The data provider.
+   * @param deadline A deadline for the current project.
+   * @return The time budget (may be zero or negative if the project ran out of time).
+   */
+  private Duration timeoutFor(DataProvider<GitHubProject> provider, Instant deadline) {
+    Duration timeout = providerTimeouts.getOrDefault(provider.getClass(), providerTimeout);
+    Duration left = Duration.between(Instant.now(), deadline);
+    return left.compareTo(timeout) < 0 ? left : timeout;
+  }
+
+  /**
+   * Runs a data provider with a time budget. The provider works on a copy of feature values,
+   * and the values are updated only if the provider finished in time.
+   * If the provider didn't finish in time, it's remembered as a zombie until it stops.
+   *
+   * @param provider The data provider.
+   * @param project A project.
+   * @param values Feature values to be updated.
+   * @param timeout The time budget.
+   * @throws TimeoutException If the provider didn't finish in time.
+   * @throws Exception If the provider failed.
+   */
+  private void update(DataProvider<GitHubProject> provider, GitHubProject project,
+      ValueSet values, Duration timeout) throws Exception {
+
+    ValueSet copy = ValueArraySet.unknown(registry).update(values);
+    Run run = new Run();
+    Future<?> future = PROVIDER_EXECUTOR.submit(() -> {
+      if (!run.started.compareAndSet(false, true)) {
+        return null;
+      }
+      try {
+        provider.update(project, copy);
+        return null;
+      } finally {
+        run.finished = true;
+        zombies.remove(provider, run);
+      }
+    });
+    try {
+      future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      cancel(provider, run, future);
+      throw e;
+    } catch (InterruptedException e) {
+      cancel(provider, run, future);
+      Thread.currentThread().interrupt();
+      throw new IOException("Oh no! The thread was interrupted!", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception) {
+        throw (Exception) e.getCause();
+      }
+      throw e;
+    }
+    values.update(copy);
+  }
+
+  /**
+   * Cancels a run of a data provider and remembers the run until it stops.
+   *
+   * @param provider The data provider.
+   * @param run The run.
+   * @param future The future of the run.
+   */
+  private void cancel(DataProvider<GitHubProject> provider, Run run, Future<?> future) {
+
+    // the run is not going to start if it has not started yet
+    if (run.started.compareAndSet(false, true)) {
+      future.cancel(true);
+      return;
+    }
+
+    zombies.put(provider, run);
+    future.cancel(true);
+
+    // the run may have stopped before it was remembered
+    if (run.finished) {
+      zombies.remove(provider, run);
+    }
+  }
+
+  /**
+   * Returns a list of data providers that are going to be used by the calculator.
+   * The data providers are built only once and then reused for all projects.
    *
    * @return The list of data providers.
    * @throws IOException If something went wrong during the initialization.
    */
   List<DataProvider<GitHubProject>> dataProviders() throws IOException {
-    return Arrays.asList(
-        new NumberOfCommits(fetcher),
-        new NumberOfContributors(fetcher),
-        new NumberOfStars(fetcher),
-        new NumberOfWatchers(fetcher),
-        new HasSecurityTeam(fetcher),
-        new HasCompanySupport(fetcher),
-        new HasSecurityPolicy(fetcher),
-        new HasBugBountyProgram(fetcher),
-        new InfoAboutVulnerabilities(fetcher, nvd),
-        new IsApache(fetcher),
-        new IsEclipse(fetcher),
-        new CodeqlDataProvider(fetcher),
-        new LgtmDataProvider(fetcher),
-        new UsesSignedCommits(fetcher),
-        new UsesDependabot(fetcher),
-        new ProgrammingLanguages(fetcher),
-        new PackageManagement(fetcher),
-        new UsesNoHttpTool(fetcher),
-        new UsesGithubForDevelopment(fetcher),
-        new UsesOwaspDependencyCheck(fetcher),
-        new UsesSanitizers(fetcher),
-        new UsesFindSecBugs(fetcher),
-        new FuzzedInOssFuzz(fetcher),
-        new SignsJarArtifacts(fetcher),
-        new OwaspSecurityLibraries(fetcher),
-
-        // currently interactive data provider have to be added to the end, see issue #133
-        new AskAboutSecurityTeam<>(),
-        new AskAboutUnpatchedVulnerabilities<>()
-    );
+    return providers.providers();
+  }
+
+  /**
+   * A run of a data provider.
+   */
+  private static class Run {
+
+    /**
+     * Tells if the run has started (or is not allowed to start).
+     */
+    final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Tells if the run has stopped.
+     */
+    volatile boolean finished;
   }
 }
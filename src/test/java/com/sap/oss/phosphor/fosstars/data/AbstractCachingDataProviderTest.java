@@ -6,14 +6,20 @@ import static com.sap.oss.phosphor.fosstars.model.other.Utils.setOf;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.ValueSet;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue.Reason;
 import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import com.sap.oss.phosphor.fosstars.tool.github.GitHubProjectValueCache;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.Test;
 
@@ -88,6 +94,94 @@ public class AbstractCachingDataProviderTest {
     assertEquals(2, provider.counter);
   }
 
+  @Test
+  public void testNegativeCaching() throws IOException {
+    CachingDataProviderForMultipleFeatures provider = new CachingDataProviderForMultipleFeatures();
+    GitHubProjectValueCache cache = new GitHubProjectValueCache();
+    provider.set(cache);
+    provider.cacheNegativeResultsFor(Duration.ofHours(1));
+    assertTrue(provider.cachesNegativeResults());
+
+    GitHubProject project = new GitHubProject("org", "test");
+    for (int i = 0; i < 3; i++) {
+      ValueSet values = new ValueHashSet();
+      provider.update(project, values);
+      assertEquals(2, values.size());
+      assertEquals(42, (int) values.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE).get().get());
+      assertTrue(values.of(SECURITY_REVIEW_DONE_EXAMPLE).get().isUnknown());
+
+      // the unknown value should have been cached as a negative result
+      assertEquals(1, provider.counter);
+    }
+
+    Optional<Value<Boolean>> cached = cache.get(project, SECURITY_REVIEW_DONE_EXAMPLE);
+    assertTrue(cached.isPresent());
+    assertTrue(cached.get() instanceof NegativeValue);
+    assertEquals(Reason.NO_DATA, ((NegativeValue<?>) cached.get()).reason());
+
+    // once negative caching is disabled, negative results should be ignored
+    provider.doNotCacheNegativeResults();
+    assertFalse(provider.cachesNegativeResults());
+    ValueSet values = new ValueHashSet();
+    provider.update(project, values);
+    assertEquals(2, provider.counter);
+    assertEquals(Boolean.TRUE, values.of(SECURITY_REVIEW_DONE_EXAMPLE).get().get());
+  }
+
+  @Test
+  public void testNegativeCachingOnFailure() throws IOException {
+    FailingCachingDataProvider provider = new FailingCachingDataProvider();
+    GitHubProjectValueCache cache = new GitHubProjectValueCache();
+    provider.set(cache);
+    provider.cacheNegativeResultsFor(Duration.ofHours(1));
+
+    GitHubProject project = new GitHubProject("org", "test");
+    try {
+      provider.update(project, new ValueHashSet());
+      fail("An exception is expected!");
+    } catch (IOException e) {
+      assertEquals(1, provider.counter);
+    }
+
+    Optional<Value<Integer>> cached = cache.get(project, NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE);
+    assertTrue(cached.isPresent());
+    assertEquals(Reason.FAILURE, ((NegativeValue<?>) cached.get()).reason());
+
+    // the failure should have been cached
+    ValueSet values = new ValueHashSet();
+    provider.update(project, values);
+    assertEquals(1, provider.counter);
+    assertTrue(values.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE).get().isUnknown());
+    assertFalse(values.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE).get() instanceof NegativeValue);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongNegativeCacheTtl() {
+    new FailingCachingDataProvider().cacheNegativeResultsFor(Duration.ZERO);
+  }
+
+  private static class FailingCachingDataProvider
+      extends AbstractCachingDataProvider<GitHubProject> {
+
+    int counter = 0;
+
+    @Override
+    public boolean interactive() {
+      return false;
+    }
+
+    @Override
+    protected Set<Feature<?>> supportedFeatures() {
+      return Collections.singleton(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE);
+    }
+
+    @Override
+    protected ValueSet fetchValuesFor(GitHubProject object) throws IOException {
+      counter++;
+      throw new IOException("Oops");
+    }
+  }
+
   private static class CachingDataProviderForSingleFeature
       extends AbstractCachingDataProvider<GitHubProject> {
 
@@ -93,6 +93,8 @@ public class CodeqlDataProviderTest extends TestGitHubDataFetcherHolder {
     when(localRepository.hasDirectory(any())).thenReturn(true);
     IOUtils.copy(content, Files.newOutputStream(file));
     when(localRepository.files(any(), any())).thenReturn(Collections.singletonList(file));
+    when(localRepository.read(any(Path.class))).thenAnswer(
+        invocation -> Optional.of(Files.newInputStream(invocation.getArgument(0))));
 
     CodeqlDataProvider provider = new CodeqlDataProvider(fetcher);
     ValueSet values = provider.fetchValuesFor(PROJECT);
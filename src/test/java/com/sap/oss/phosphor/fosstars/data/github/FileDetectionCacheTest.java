@@ -0,0 +1,222 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.CommitCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.junit.Test;
+
+public class FileDetectionCacheTest {
+
+  @Test
+  public void testDetect() throws IOException, GitAPIException {
+    Path directory = Files.createTempDirectory(getClass().getSimpleName());
+    try (Repository repository = FileRepositoryBuilder.create(directory.resolve(".git").toFile())) {
+      repository.create();
+      final LocalRepository localRepository = new LocalRepository(
+          new LocalRepositoryInfo(directory, new Date(), new URL("https://scm/org/test")),
+          repository);
+
+      Path file = Paths.get("pom.xml");
+      Files.write(directory.resolve(file), "<project>one</project>".getBytes());
+      Git git = new Git(repository);
+      git.add().addFilepattern("pom.xml").call();
+      commit(git, "One");
+
+      AtomicInteger counter = new AtomicInteger();
+      FileDetector<List<String>> detector = linesDetector("test", 1, counter);
+      FileDetectionCache cache = FileDetectionCache.empty();
+
+      List<String> expected = Arrays.asList("<project>one</project>");
+      assertEquals(expected, cache.detect(localRepository, file, detector));
+      assertEquals(expected, cache.detect(localRepository, file, detector));
+      assertEquals(1, counter.get());
+      assertEquals(1, cache.size());
+
+      // a new version of the detector doesn't use old results
+      FileDetector<List<String>> newDetector = linesDetector("test", 2, counter);
+      assertEquals(expected, cache.detect(localRepository, file, newDetector));
+      assertEquals(2, counter.get());
+      assertEquals(2, cache.size());
+
+      // new content of the file results in a new blob
+      Files.write(directory.resolve(file), "<project>two</project>".getBytes());
+      git.add().addFilepattern("pom.xml").call();
+      commit(git, "Two");
+      expected = Arrays.asList("<project>two</project>");
+      assertEquals(expected, cache.detect(localRepository, file, detector));
+      assertEquals(3, counter.get());
+      assertEquals(3, cache.size());
+
+      // the same content results in the same blob
+      Files.write(directory.resolve(file), "<project>one</project>".getBytes());
+      git.add().addFilepattern("pom.xml").call();
+      commit(git, "One again");
+      expected = Arrays.asList("<project>one</project>");
+      assertEquals(expected, cache.detect(localRepository, file, detector));
+      assertEquals(3, counter.get());
+    } finally {
+      FileUtils.forceDeleteOnExit(directory.toFile());
+    }
+  }
+
+  @Test
+  public void testWithoutBlobId() throws IOException {
+    LocalRepository repository = mock(LocalRepository.class);
+    when(repository.blobIdOf(Paths.get("pom.xml"))).thenReturn(Optional.empty());
+
+    AtomicInteger counter = new AtomicInteger();
+    FileDetector<Boolean> detector = FileDetector.of(
+        "test", 1, new TypeReference<Boolean>() {},
+        (localRepository, file) -> counter.incrementAndGet() > 0);
+    FileDetectionCache cache = FileDetectionCache.empty();
+
+    assertTrue(cache.detect(repository, Paths.get("pom.xml"), detector));
+    assertTrue(cache.detect(repository, Paths.get("pom.xml"), detector));
+    assertEquals(2, counter.get());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testStoreAndLoad() throws IOException {
+    LocalRepository repository = mock(LocalRepository.class);
+    when(repository.blobIdOf(Paths.get("pom.xml"))).thenReturn(Optional.of("abc"));
+
+    AtomicInteger counter = new AtomicInteger();
+    FileDetector<Boolean> detector = FileDetector.of(
+        "test", 1, new TypeReference<Boolean>() {},
+        (localRepository, file) -> counter.incrementAndGet() > 0);
+
+    FileDetectionCache cache = FileDetectionCache.empty();
+    assertTrue(cache.detect(repository, Paths.get("pom.xml"), detector));
+    assertEquals(1, counter.get());
+
+    Path file = Files.createTempFile(getClass().getSimpleName(), ".json");
+    try {
+      cache.store(file.toString());
+      FileDetectionCache loaded = FileDetectionCache.load(file.toString());
+      assertEquals(1, loaded.size());
+      assertTrue(loaded.detect(repository, Paths.get("pom.xml"), detector));
+      assertEquals(1, counter.get());
+
+      // a result of a wrong type is dropped
+      FileDetector<List<String>> wrongType = FileDetector.of(
+          "test", 1, new TypeReference<List<String>>() {},
+          (localRepository, path) -> Arrays.asList("something"));
+      assertEquals(Arrays.asList("something"),
+          loaded.detect(repository, Paths.get("pom.xml"), wrongType));
+    } finally {
+      FileUtils.forceDeleteOnExit(file.toFile());
+    }
+  }
+
+  @Test
+  public void testBlobIdMatchesGit() throws IOException, GitAPIException {
+    Path directory = Files.createTempDirectory(getClass().getSimpleName());
+    try (Repository repository = FileRepositoryBuilder.create(directory.resolve(".git").toFile())) {
+      repository.create();
+      final LocalRepository localRepository = new LocalRepository(
+          new LocalRepositoryInfo(directory, new Date(), new URL("https://scm/org/test")),
+          repository);
+
+      Files.write(directory.resolve("file"), "test\n".getBytes());
+      Files.write(directory.resolve("untracked"), "test\n".getBytes());
+      Git git = new Git(repository);
+      git.add().addFilepattern("file").call();
+      commit(git, "Test");
+
+      // git hash-object file
+      assertEquals(Optional.of("9daeafb9864cf43055ae93beb0afd6c7d144bfa4"),
+          localRepository.blobIdOf(Paths.get("file")));
+      assertFalse(localRepository.blobIdOf(Paths.get("missing")).isPresent());
+      assertFalse(localRepository.blobIdOf(Paths.get("untracked")).isPresent());
+    } finally {
+      FileUtils.forceDeleteOnExit(directory.toFile());
+    }
+  }
+
+  @Test
+  public void testPrune() throws IOException {
+    LocalRepository repository = mock(LocalRepository.class);
+    FileDetector<Boolean> detector = FileDetector.of(
+        "test", 1, new TypeReference<Boolean>() {}, (localRepository, file) -> true);
+
+    FileDetectionCache cache = FileDetectionCache.empty().maxSize(2);
+    for (String id : Arrays.asList("a", "b", "c")) {
+      when(repository.blobIdOf(Paths.get("pom.xml"))).thenReturn(Optional.of(id));
+      assertTrue(cache.detect(repository, Paths.get("pom.xml"), detector));
+    }
+    assertEquals(3, cache.size());
+    cache.prune();
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testPruneUnused() throws IOException {
+    long today = LocalDate.now(ZoneOffset.UTC).toEpochDay();
+    String json = String.format("{ \"results\" : { "
+        + "\"test:1:a\" : { \"result\" : true, \"used\" : %d }, "
+        + "\"test:1:b\" : { \"result\" : true, \"used\" : %d } } }",
+        today - FileDetectionCache.DEFAULT_MAX_UNUSED_DAYS - 1, today);
+
+    Path file = Files.createTempFile(getClass().getSimpleName(), ".json");
+    try {
+      Files.write(file, json.getBytes());
+      FileDetectionCache cache = FileDetectionCache.load(file.toString());
+      assertEquals(2, cache.size());
+      cache.store(file.toString());
+      assertEquals(1, cache.size());
+      assertEquals(1, FileDetectionCache.load(file.toString()).size());
+    } finally {
+      FileUtils.forceDeleteOnExit(file.toFile());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongMaxSize() {
+    FileDetectionCache.empty().maxSize(0);
+  }
+
+  private static void commit(Git git, String message) throws GitAPIException {
+    CommitCommand commit = git.commit();
+    commit.setCredentialsProvider(
+        new UsernamePasswordCredentialsProvider("test", "don't tell anyone"));
+    commit.setMessage(message)
+        .setSign(false)
+        .setAuthor("Mr. Test", "test@test.com")
+        .setCommitter("Mr. Test", "test@test.com")
+        .call();
+  }
+
+  private static FileDetector<List<String>> linesDetector(
+      String id, int version, AtomicInteger counter) {
+
+    return FileDetector.of(id, version, new TypeReference<List<String>>() {},
+        (repository, file) -> {
+          counter.incrementAndGet();
+          return repository.readLinesOf(file).orElseThrow(IllegalStateException::new);
+        });
+  }
+}
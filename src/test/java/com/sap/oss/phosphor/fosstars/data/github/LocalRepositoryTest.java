@@ -1,6 +1,7 @@
 package com.sap.oss.phosphor.fosstars.data.github;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -126,4 +127,94 @@ public class LocalRepositoryTest {
       FileUtils.deleteDirectory(directory.toFile());
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testBareRepository() throws IOException, GitAPIException {
+    Path origin = Files.createTempDirectory(getClass().getSimpleName());
+    Path clone = Files.createTempDirectory(getClass().getSimpleName());
+    try (Repository repository = FileRepositoryBuilder.create(origin.resolve(".git").toFile());
+        Git git = new Git(repository)) {
+
+      repository.create();
+      Files.createDirectories(origin.resolve("src").resolve("main"));
+      Files.write(origin.resolve("pom.xml"), "<project/>".getBytes());
+      Files.write(origin.resolve("src").resolve("main").resolve("App.java"), "class".getBytes());
+      git.add().addFilepattern(".").call();
+      commit(git, "Initial commit");
+
+      Files.delete(clone);
+      Git.cloneRepository()
+          .setURI(origin.toUri().toString())
+          .setDirectory(clone.toFile())
+          .setBare(true)
+          .call()
+          .close();
+
+      try (Repository bare = new FileRepositoryBuilder()
+          .setGitDir(clone.toFile()).setBare().setMustExist(true).build()) {
+
+        LocalRepository localRepository = new LocalRepository(
+            new LocalRepositoryInfo(clone, new Date(), new URL("https://scm/org/test")), bare);
+
+        assertTrue(localRepository.isBare());
+        assertFalse(Files.exists(clone.resolve("pom.xml")));
+
+        Optional<String> pom = localRepository.file("pom.xml");
+        assertTrue(pom.isPresent());
+        assertEquals("<project/>", pom.get());
+        assertEquals(Optional.of(10L), localRepository.sizeOf(Paths.get("pom.xml")));
+        assertFalse(localRepository.file("missing.xml").isPresent());
+        assertFalse(localRepository.file("src").isPresent());
+
+        assertTrue(localRepository.hasDirectory(Paths.get("src")));
+        assertTrue(localRepository.hasDirectory(Paths.get("src/main")));
+        assertFalse(localRepository.hasDirectory(Paths.get("pom.xml")));
+        assertFalse(localRepository.hasDirectory(Paths.get("test")));
+
+        List<Path> files = localRepository.files(path -> true);
+        assertEquals(2, files.size());
+        assertTrue(files.contains(clone.resolve("pom.xml")));
+        Path app = clone.resolve("src").resolve("main").resolve("App.java");
+        assertTrue(files.contains(app));
+        assertEquals("class", localRepository.file(app).orElse(null));
+
+        files = localRepository.files(Paths.get("src"), path -> true);
+        assertEquals(1, files.size());
+        assertEquals(app, files.get(0));
+
+        Optional<List<String>> lines = localRepository.readLinesOf(Paths.get("pom.xml"));
+        assertTrue(lines.isPresent());
+        assertEquals(1, lines.get().size());
+
+        assertEquals(1, localRepository.commits().size());
+
+        Files.write(origin.resolve("README.md"), "readme".getBytes());
+        git.add().addFilepattern("README.md").call();
+        commit(git, "Added README.md");
+
+        localRepository.reset();
+        localRepository.pull();
+        assertEquals(2, localRepository.commits().size());
+        Optional<InputStream> readme = localRepository.read("README.md");
+        assertTrue(readme.isPresent());
+        try (InputStream is = readme.get()) {
+          assertEquals("readme", IOUtils.toString(is));
+        }
+      }
+    } finally {
+      FileUtils.deleteDirectory(origin.toFile());
+      FileUtils.deleteDirectory(clone.toFile());
+    }
+  }
+
+  private static void commit(Git git, String message) throws GitAPIException {
+    CommitCommand commit = git.commit();
+    commit.setCredentialsProvider(
+        new UsernamePasswordCredentialsProvider("test", "don't tell anyone"));
+    commit.setMessage(message)
+        .setSign(false)
+        .setAuthor("Mr. Test", "test@test.com")
+        .setCommitter("Mr. Test", "test@test.com")
+        .call();
+  }
+}
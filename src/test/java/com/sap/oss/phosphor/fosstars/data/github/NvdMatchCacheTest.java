@@ -0,0 +1,82 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sap.oss.phosphor.fosstars.data.json.UnpatchedVulnerabilitiesStorage;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.TestNVD;
+import com.sap.oss.phosphor.fosstars.nvd.data.NvdEntry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class NvdMatchCacheTest extends TestGitHubDataFetcherHolder {
+
+  @Test
+  public void testEntriesFor() throws IOException {
+    TestNVD nvd = spy(new TestNVD());
+    doReturn("first").when(nvd).snapshotVersion();
+    Path directory = Files.createTempDirectory(NvdMatchCacheTest.class.getSimpleName());
+    try (InputStream content = getClass().getResourceAsStream("NVD_part_CVE-2014-0171.json")) {
+      nvd.add("file.json", content);
+      nvd.parse();
+
+      GitHubProject project = new GitHubProject("odata4j", "odata4j");
+      NvdMatchCache cache = NvdMatchCache.empty();
+      checkEntries(cache.entriesFor(project, nvd));
+      assertEquals(1, cache.size());
+
+      // the vulnerability providers share the cache, so that NVD is searched only once
+      UnpatchedVulnerabilities unpatched = new UnpatchedVulnerabilities(
+          fetcher, nvd, new UnpatchedVulnerabilitiesStorage(new HashMap<>()), cache);
+      unpatched.vulnerabilitiesFromNvdFor(project);
+      checkEntries(cache.entriesFor(project, nvd));
+      verify(nvd, times(1)).search(any());
+
+      // the cache should survive storing and loading
+      String filename = directory.resolve("nvd_match_cache.json").toString();
+      cache.store(filename, nvd);
+      NvdMatchCache loaded = NvdMatchCache.load(filename);
+      assertEquals(1, loaded.size());
+      checkEntries(loaded.entriesFor(project, nvd));
+      verify(nvd, times(1)).search(any());
+
+      // a new snapshot of NVD should make the cache search NVD again
+      doReturn("second").when(nvd).snapshotVersion();
+      checkEntries(loaded.entriesFor(project, nvd));
+      verify(nvd, times(2)).search(any());
+
+      GitHubProject other = new GitHubProject("apache", "olingo-odata4");
+      assertTrue(loaded.entriesFor(other, nvd).isEmpty());
+      assertEquals(2, loaded.size());
+
+      // entries for an old snapshot of NVD are dropped when the cache is stored
+      cache.store(filename, nvd);
+      assertEquals(0, cache.size());
+      loaded.store(filename, nvd);
+      assertEquals(2, NvdMatchCache.load(filename).size());
+      try (Stream<Path> files = Files.list(directory)) {
+        assertEquals(1, files.count());
+      }
+    } finally {
+      FileUtils.forceDeleteOnExit(directory.toFile());
+    }
+  }
+
+  private static void checkEntries(List<NvdEntry> entries) {
+    assertEquals(1, entries.size());
+    assertEquals("CVE-2014-0171", entries.get(0).getCve().getCveDataMeta().getId());
+  }
+}
@@ -155,7 +155,7 @@ public class OwaspSecurityLibrariesTest extends TestGitHubDataFetcherHolder {
 
     List<String> content = IOUtils.readLines(is);
 
-    when(repository.read(filename))
+    when(repository.read(Paths.get(filename)))
         .thenReturn(Optional.of(IOUtils.toInputStream(String.join("\n", content))));
     when(repository.readLinesOf(Paths.get(filename)))
         .thenReturn(Optional.of(content));
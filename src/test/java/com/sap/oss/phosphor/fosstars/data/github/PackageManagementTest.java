@@ -68,6 +68,8 @@ public class PackageManagementTest extends TestGitHubDataFetcherHolder {
       LocalRepository localRepository = mock(LocalRepository.class);
       when(localRepository.files(any()))
           .thenReturn(Arrays.asList(baseDir, pomXml, submodule, packageJson));
+      when(localRepository.sizeOf(any()))
+          .thenAnswer(invocation -> Optional.of(Files.size(invocation.getArgument(0))));
       TestGitHubDataFetcher.addForTesting(project, localRepository);
 
       PackageManagement provider = new PackageManagement(fetcher);
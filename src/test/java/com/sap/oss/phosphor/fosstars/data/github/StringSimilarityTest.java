@@ -0,0 +1,113 @@
+package com.sap.oss.phosphor.fosstars.data.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.apache.commons.text.similarity.LongestCommonSubsequence;
+import org.junit.Test;
+
+public class StringSimilarityTest {
+
+  private static final double JWS_THRESHOLD = 0.92;
+
+  private static final double LCS_THRESHOLD = 0.875;
+
+  private static final StringSimilarity SIMILARITY
+      = new StringSimilarity(JWS_THRESHOLD, LCS_THRESHOLD);
+
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz-_.0123456789ABCÄé";
+
+  @Test
+  public void testSimilar() {
+    assertTrue(SIMILARITY.test("", ""));
+    assertTrue(SIMILARITY.test("commons-text", "commons-text"));
+    assertTrue(SIMILARITY.test("jackson-databind", "jackson_databind"));
+    assertTrue(SIMILARITY.test("spring-framework", "spring_framework"));
+  }
+
+  @Test
+  public void testNotSimilar() {
+    assertFalse(SIMILARITY.test("", "apache"));
+    assertFalse(SIMILARITY.test("apache", ""));
+    assertFalse(SIMILARITY.test("apache", "eclipse"));
+    assertFalse(SIMILARITY.test("netty", "nifi"));
+    assertFalse(SIMILARITY.test("Apache", "apache"));
+  }
+
+  @Test
+  public void testSameAsCommonsText() {
+    Random random = new Random(42);
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      words.add(randomWord(random, 1 + random.nextInt(20)));
+    }
+
+    for (int i = 0; i < 20_000; i++) {
+      String one = words.get(random.nextInt(words.size()));
+      String two = random.nextBoolean()
+          ? words.get(random.nextInt(words.size()))
+          : mutate(random, one);
+      assertEquals(String.format("'%s' vs '%s'", one, two),
+          expected(one, two), SIMILARITY.test(one, two));
+      assertEquals(String.format("'%s' vs '%s'", two, one),
+          expected(two, one), SIMILARITY.test(two, one));
+    }
+  }
+
+  @Test
+  public void testJaroWinklerSameAsCommonsText() {
+    JaroWinklerSimilarity jws = new JaroWinklerSimilarity();
+    Random random = new Random(7);
+    for (int i = 0; i < 20_000; i++) {
+      String one = randomWord(random, random.nextInt(25));
+      String two = random.nextBoolean()
+          ? randomWord(random, random.nextInt(25))
+          : mutate(random, one);
+      assertEquals(String.format("'%s' vs '%s'", one, two),
+          jws.apply(one, two), StringSimilarity.jaroWinkler(one, two), 0.0);
+    }
+  }
+
+  private static boolean expected(String one, String two) {
+    return new JaroWinklerSimilarity().apply(one, two) > JWS_THRESHOLD
+        && new LongestCommonSubsequence().apply(one, two) >= one.length() * LCS_THRESHOLD;
+  }
+
+  private static String randomWord(Random random, int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return sb.toString();
+  }
+
+  private static String mutate(Random random, String word) {
+    StringBuilder sb = new StringBuilder(word);
+    int changes = random.nextInt(4);
+    for (int i = 0; i < changes; i++) {
+      int position = sb.length() == 0 ? 0 : random.nextInt(sb.length());
+      char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+      switch (random.nextInt(3)) {
+        case 0:
+          sb.insert(position, c);
+          break;
+        case 1:
+          if (sb.length() > 0) {
+            sb.deleteCharAt(position);
+          }
+          break;
+        default:
+          if (sb.length() > 0) {
+            sb.setCharAt(position, c);
+          }
+          break;
+      }
+    }
+    return sb.toString();
+  }
+}
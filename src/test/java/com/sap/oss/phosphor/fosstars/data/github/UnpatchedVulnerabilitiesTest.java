@@ -1,6 +1,8 @@
 package com.sap.oss.phosphor.fosstars.data.github;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.spy;
 
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
@@ -39,4 +41,14 @@ public class UnpatchedVulnerabilitiesTest extends TestGitHubDataFetcherHolder {
     }
   }
 
-}
\ No newline at end of file
+
+  @Test
+  public void testContainsInLowerCase() {
+    assertTrue(UnpatchedVulnerabilities.containsInLowerCase("cpe:/a:Apache:Tomcat", "tomcat"));
+    assertTrue(UnpatchedVulnerabilities.containsInLowerCase("tomcat", "tomcat"));
+    assertTrue(UnpatchedVulnerabilities.containsInLowerCase("tomcat", ""));
+    assertFalse(UnpatchedVulnerabilities.containsInLowerCase("cpe:/a:apache:tomcat", "Tomcat"));
+    assertFalse(UnpatchedVulnerabilities.containsInLowerCase("cpe:/a:apache:tom", "tomcat"));
+    assertFalse(UnpatchedVulnerabilities.containsInLowerCase("", "tomcat"));
+  }
+}
@@ -14,6 +14,7 @@ import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
 import com.sap.oss.phosphor.fosstars.tool.github.GitHubProjectValueCache;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.Optional;
 import org.junit.Test;
 
@@ -58,7 +59,7 @@ public class UsesNoHttpToolTest extends TestGitHubDataFetcherHolder {
 
   private UsesNoHttpTool createProvider(InputStream is, String filename) throws IOException {
     final LocalRepository repository = mock(LocalRepository.class);
-    when(repository.read(filename)).thenReturn(Optional.of(is));
+    when(repository.read(Paths.get(filename))).thenReturn(Optional.of(is));
 
     GitHubProject project = new GitHubProject("org", "test");
     addForTesting(project, repository);
@@ -0,0 +1,134 @@
+package com.sap.oss.phosphor.fosstars.data.github.experimental.graphql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.GitHubAdvisories.Artifact;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Node;
+import com.sap.oss.phosphor.fosstars.model.value.PackageManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.Test;
+
+public class GitHubAdvisoriesTest {
+
+  @Test
+  public void testAdvisoriesFor() throws IOException {
+    GitHubAdvisories advisories = spy(new GitHubAdvisories("token"));
+    CloseableHttpClient client = mockHttpClient();
+    when(advisories.httpClient()).thenReturn(client);
+
+    List<Node> nodes = advisories.advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+
+    // the second advisory on the first page has a CVE, so it's skipped
+    assertEquals(
+        Arrays.asList("GHSA-aaaa-aaaa-aaaa", "GHSA-cccc-cccc-cccc"),
+        nodes.stream().map(node -> node.getAdvisory().getGhsaId()).collect(Collectors.toList()));
+    verify(client, times(2)).execute(any());
+  }
+
+  @Test
+  public void testPageCache() throws IOException {
+    Path directory = Files.createTempDirectory(getClass().getSimpleName());
+    try {
+      AdvisoryPageCache cache = new AdvisoryPageCache(directory, Duration.ofDays(1));
+      GitHubAdvisories advisories = spy(new GitHubAdvisories("token", cache));
+      CloseableHttpClient client = mockHttpClient();
+      when(advisories.httpClient()).thenReturn(client);
+
+      List<Node> first = advisories.advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+      List<Node> second = advisories.advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+
+      assertEquals(2, first.size());
+      assertEquals(2, second.size());
+      assertEquals(first.get(0).getAdvisory().getGhsaId(), second.get(0).getAdvisory().getGhsaId());
+
+      // the second run should take both pages from the cache
+      verify(client, times(2)).execute(any());
+    } finally {
+      FileUtils.deleteDirectory(directory.toFile());
+    }
+  }
+
+  @Test
+  public void testBulkAdvisories() throws IOException {
+    GitHubAdvisories advisories = spy(new GitHubAdvisories("token"));
+    CloseableHttpClient client = mockHttpClient();
+    when(advisories.httpClient()).thenReturn(client);
+
+    List<Artifact> artifacts = Arrays.asList(
+        new Artifact(PackageManager.MAVEN, "com.example:first"),
+        new Artifact(PackageManager.MAVEN, "com.example:second"),
+        new Artifact(PackageManager.NPM, "third"));
+
+    Map<Artifact, List<Node>> result = new ConcurrentHashMap<>();
+    List<Artifact> completed = new CopyOnWriteArrayList<>();
+    advisories.advisoriesFor(artifacts, 2,
+        (artifact, node) -> result
+            .computeIfAbsent(artifact, key -> new CopyOnWriteArrayList<>())
+            .add(node),
+        completed::add);
+
+    assertEquals(3, result.size());
+    assertEquals(3, completed.size());
+    for (Artifact artifact : artifacts) {
+      assertTrue(result.containsKey(artifact));
+      assertTrue(completed.contains(artifact));
+      assertEquals(2, result.get(artifact).size());
+    }
+    verify(client, times(6)).execute(any());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBulkAdvisoriesWithWrongNumberOfThreads() throws IOException {
+    new GitHubAdvisories("token").advisoriesFor(
+        Arrays.asList(new Artifact(PackageManager.MAVEN, "com.example:lib")), 0,
+        (artifact, node) -> {});
+  }
+
+  /**
+   * Creates a mock HTTP client that returns the first page for a query without a cursor,
+   * and the last page for a query with a cursor.
+   *
+   * @return The mock HTTP client.
+   * @throws IOException If something went wrong.
+   */
+  private static CloseableHttpClient mockHttpClient() throws IOException {
+    CloseableHttpClient client = mock(CloseableHttpClient.class);
+    when(client.execute(any())).thenAnswer(invocation -> {
+      HttpPost request = invocation.getArgument(0);
+      String query = IOUtils.toString(request.getEntity().getContent(), StandardCharsets.UTF_8);
+      String page = query.contains("after:")
+          ? "GitHubAdvisoriesLastPage.json" : "GitHubAdvisoriesFirstPage.json";
+
+      HttpEntity entity = mock(HttpEntity.class);
+      when(entity.getContent()).thenReturn(GitHubAdvisoriesTest.class.getResourceAsStream(page));
+
+      CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+      when(response.getEntity()).thenReturn(entity);
+      return response;
+    });
+    return client;
+  }
+}
@@ -0,0 +1,238 @@
+package com.sap.oss.phosphor.fosstars.data.github.experimental.graphql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.GitHubAdvisories.Artifact;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Advisory;
+import com.sap.oss.phosphor.fosstars.data.github.experimental.graphql.data.Node;
+import com.sap.oss.phosphor.fosstars.model.value.PackageManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class GitHubAdvisoryMirrorTest {
+
+  @Test
+  public void testSeedFromFile() throws IOException {
+    GitHubAdvisoryMirror mirror = loadFixture(new GitHubAdvisoryMirror());
+    assertEquals(2, mirror.size());
+    assertTrue(mirror.has(PackageManager.MAVEN, "com.example:lib"));
+    assertTrue(mirror.has(PackageManager.NPM, "example"));
+    assertFalse(mirror.has(PackageManager.MAVEN, "com.example:unknown"));
+
+    List<Node> advisories = mirror.advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+    assertEquals(2, advisories.size());
+    assertEquals("GHSA-aaaa-aaaa-aaaa", advisories.get(0).getAdvisory().getGhsaId());
+    assertEquals("GHSA-cccc-cccc-cccc", advisories.get(1).getAdvisory().getGhsaId());
+
+    assertTrue(mirror.advisoriesFor(PackageManager.NPM, "example").isEmpty());
+    assertTrue(mirror.advisoriesFor(PackageManager.MAVEN, "com.example:unknown").isEmpty());
+  }
+
+  @Test
+  public void testFallbackToLiveSource() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    when(live.advisoriesFor(PackageManager.MAVEN, "com.example:other"))
+        .thenReturn(Collections.singletonList(node("GHSA-dddd-dddd-dddd")));
+
+    // the fixture was synced a long time ago, so use a long lifetime
+    GitHubAdvisoryMirror mirror = loadFixture(new GitHubAdvisoryMirror(live))
+        .lifetime(Duration.ofDays(365 * 100));
+
+    assertEquals(2, mirror.advisoriesFor(PackageManager.MAVEN, "com.example:lib").size());
+    verify(live, times(0)).advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+
+    for (int i = 0; i < 3; i++) {
+      List<Node> advisories = mirror.advisoriesFor(PackageManager.MAVEN, "com.example:other");
+      assertEquals(1, advisories.size());
+      assertEquals("GHSA-dddd-dddd-dddd", advisories.get(0).getAdvisory().getGhsaId());
+    }
+    verify(live, times(1)).advisoriesFor(PackageManager.MAVEN, "com.example:other");
+    assertEquals(3, mirror.size());
+  }
+
+  @Test
+  public void testOutdatedAdvisories() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    when(live.advisoriesFor(PackageManager.MAVEN, "com.example:lib"))
+        .thenReturn(Collections.emptyList());
+
+    GitHubAdvisoryMirror mirror = loadFixture(new GitHubAdvisoryMirror(live));
+    assertTrue(mirror.advisoriesFor(PackageManager.MAVEN, "com.example:lib").isEmpty());
+    verify(live, times(1)).advisoriesFor(PackageManager.MAVEN, "com.example:lib");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testSync() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    doAnswer(invocation -> {
+      Collection<Artifact> artifacts = invocation.getArgument(0);
+      BiConsumer<Artifact, Node> consumer = invocation.getArgument(2);
+      Consumer<Artifact> completed = invocation.getArgument(3);
+      for (Artifact artifact : artifacts) {
+        consumer.accept(artifact, node("GHSA-" + artifact.identifier()));
+        completed.accept(artifact);
+      }
+      return null;
+    }).when(live).advisoriesFor(
+        any(Collection.class), anyInt(), any(BiConsumer.class), any(Consumer.class));
+
+    GitHubAdvisoryMirror mirror = new GitHubAdvisoryMirror(live);
+    mirror.sync(Arrays.asList(
+        new Artifact(PackageManager.MAVEN, "first"),
+        new Artifact(PackageManager.NPM, "second")));
+
+    assertEquals(2, mirror.size());
+    assertEquals("GHSA-first",
+        mirror.advisoriesFor(PackageManager.MAVEN, "first").get(0).getAdvisory().getGhsaId());
+    assertEquals("GHSA-second",
+        mirror.advisoriesFor(PackageManager.NPM, "second").get(0).getAdvisory().getGhsaId());
+    verify(live, times(0)).advisoriesFor(any(PackageManager.class), any(String.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testPartialSync() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    doAnswer(invocation -> {
+      Collection<Artifact> artifacts = invocation.getArgument(0);
+      BiConsumer<Artifact, Node> consumer = invocation.getArgument(2);
+      Consumer<Artifact> completed = invocation.getArgument(3);
+      for (Artifact artifact : artifacts) {
+        consumer.accept(artifact, node("GHSA-" + artifact.identifier()));
+        if (!"broken".equals(artifact.identifier())) {
+          completed.accept(artifact);
+        }
+      }
+      throw new IOException("Could not download advisories for 1 artifact");
+    }).when(live).advisoriesFor(
+        any(Collection.class), anyInt(), any(BiConsumer.class), any(Consumer.class));
+
+    GitHubAdvisoryMirror mirror = new GitHubAdvisoryMirror(live);
+    try {
+      mirror.sync(Arrays.asList(
+          new Artifact(PackageManager.MAVEN, "first"),
+          new Artifact(PackageManager.MAVEN, "broken"),
+          new Artifact(PackageManager.NPM, "second")));
+      fail("Expected an exception!");
+    } catch (IOException e) {
+      // expected
+    }
+
+    assertEquals(2, mirror.size());
+    assertTrue(mirror.has(PackageManager.MAVEN, "first"));
+    assertTrue(mirror.has(PackageManager.NPM, "second"));
+    assertFalse(mirror.has(PackageManager.MAVEN, "broken"));
+  }
+
+  @Test
+  public void testOutdatedAdvisoriesWhenLiveSourceFails() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    when(live.advisoriesFor(any(PackageManager.class), any(String.class)))
+        .thenThrow(new IOException("No network!"));
+
+    GitHubAdvisoryMirror mirror = loadFixture(new GitHubAdvisoryMirror(live));
+    assertEquals(2, mirror.advisoriesFor(PackageManager.MAVEN, "com.example:lib").size());
+    try {
+      mirror.advisoriesFor(PackageManager.MAVEN, "com.example:unknown");
+      fail("Expected an exception!");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testBackedByFile() throws IOException {
+    GitHubAdvisories live = mock(GitHubAdvisories.class);
+    when(live.advisoriesFor(PackageManager.MAVEN, "com.example:other"))
+        .thenReturn(Collections.singletonList(node("GHSA-dddd-dddd-dddd")));
+
+    Path directory = Files.createTempDirectory(getClass().getSimpleName());
+    Path file = directory.resolve("mirror").resolve("github_advisory_mirror.json");
+    try {
+      GitHubAdvisoryMirror mirror = new GitHubAdvisoryMirror(live, file);
+      assertEquals(0, mirror.size());
+      assertFalse(Files.exists(file));
+
+      mirror.advisoriesFor(PackageManager.MAVEN, "com.example:other");
+      assertFalse(Files.exists(file));
+      mirror.close();
+      assertTrue(Files.exists(file));
+      try (Stream<Path> files = Files.list(file.getParent())) {
+        assertEquals(1, files.count());
+      }
+
+      // the next run doesn't need the GitHub API
+      GitHubAdvisoryMirror offline = new GitHubAdvisoryMirror(null, file);
+      assertEquals(1, offline.size());
+      List<Node> advisories = offline.advisoriesFor(PackageManager.MAVEN, "com.example:other");
+      assertEquals(1, advisories.size());
+      assertEquals("GHSA-dddd-dddd-dddd", advisories.get(0).getAdvisory().getGhsaId());
+      verify(live, times(1)).advisoriesFor(PackageManager.MAVEN, "com.example:other");
+    } finally {
+      FileUtils.forceDeleteOnExit(directory.toFile());
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSyncWithoutLiveSource() throws IOException {
+    new GitHubAdvisoryMirror().sync(
+        Collections.singletonList(new Artifact(PackageManager.MAVEN, "first")));
+  }
+
+  @Test
+  public void testStoreAndLoad() throws IOException {
+    GitHubAdvisoryMirror mirror = loadFixture(new GitHubAdvisoryMirror());
+    Path file = Files.createTempFile(getClass().getSimpleName(), ".json");
+    try {
+      mirror.store(file);
+      GitHubAdvisoryMirror clone = new GitHubAdvisoryMirror().load(file);
+      assertEquals(mirror.size(), clone.size());
+      assertEquals(
+          mirror.advisoriesFor(PackageManager.MAVEN, "com.example:lib").size(),
+          clone.advisoriesFor(PackageManager.MAVEN, "com.example:lib").size());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static GitHubAdvisoryMirror loadFixture(GitHubAdvisoryMirror mirror)
+      throws IOException {
+
+    try (InputStream is = GitHubAdvisoryMirrorTest.class
+        .getResourceAsStream("GitHubAdvisoryMirror.json")) {
+
+      return mirror.load(is);
+    }
+  }
+
+  private static Node node(String id) {
+    Advisory advisory = new Advisory();
+    advisory.setGhsaId(id);
+    Node node = new Node();
+    node.setAdvisory(advisory);
+    return node;
+  }
+}
@@ -26,4 +26,11 @@ public class SecurityTeamStorageTest {
     assertFalse(storage.existsFor("https://github.com/unknown/project"));
   }
 
+  @Test
+  public void testOnlyWholeSegmentsMatch() throws IOException {
+    SecurityTeamStorage storage = SecurityTeamStorage.load();
+    assertTrue(storage.existsFor("https://github.com/Apache/Poi/"));
+    assertFalse(storage.existsFor("https://github.com/apache-poi/poi"));
+  }
+
 }
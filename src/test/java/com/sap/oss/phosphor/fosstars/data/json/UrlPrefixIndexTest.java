@@ -0,0 +1,60 @@
+package com.sap.oss.phosphor.fosstars.data.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.net.URL;
+import java.util.Optional;
+import org.junit.Test;
+
+public class UrlPrefixIndexTest {
+
+  @Test
+  public void testExact() throws Exception {
+    UrlPrefixIndex<String> index = new UrlPrefixIndex<>();
+    index.put("https://github.com/curl/curl", "curl");
+    index.put(new URL("https://github.com/nodejs/node/"), "node");
+
+    assertEquals(Optional.of("curl"), index.exact("https://github.com/curl/curl"));
+    assertEquals(Optional.of("curl"), index.exact("https://GitHub.com/Curl/curl/"));
+    assertEquals(Optional.of("node"), index.exact("https://github.com/nodejs/node"));
+    assertFalse(index.exact("https://github.com/curl").isPresent());
+    assertFalse(index.exact("https://github.com/curl/curl/tree/master").isPresent());
+    assertFalse(index.exact("https://gitlab.com/curl/curl").isPresent());
+    assertFalse(index.exact("not a url").isPresent());
+  }
+
+  @Test
+  public void testLongestPrefix() {
+    UrlPrefixIndex<String> index = new UrlPrefixIndex<>();
+    index.put("https://github.com/apache", "apache");
+    index.put("https://github.com/apache/nifi", "nifi");
+    index.put("https://www.eclipse.org", "eclipse");
+
+    assertEquals(Optional.of("apache"), index.longestPrefixOf("https://github.com/apache"));
+    assertEquals(Optional.of("apache"), index.longestPrefixOf("https://github.com/apache/poi"));
+    assertEquals(Optional.of("apache"), index.longestPrefixOf("https://github.com/Apache/POI/"));
+    assertEquals(Optional.of("nifi"), index.longestPrefixOf("https://github.com/apache/nifi"));
+    assertEquals(Optional.of("nifi"),
+        index.longestPrefixOf("https://github.com/apache/nifi/tree/main"));
+    assertEquals(Optional.of("eclipse"),
+        index.longestPrefixOf("https://www.eclipse.org/security"));
+    assertFalse(index.longestPrefixOf("https://github.com/apache-nifi/nifi").isPresent());
+    assertFalse(index.longestPrefixOf("https://github.com").isPresent());
+    assertFalse(index.longestPrefixOf("https://github.com/eclipse").isPresent());
+    assertFalse(index.longestPrefixOf("not a url").isPresent());
+  }
+
+  @Test
+  public void testReplace() {
+    UrlPrefixIndex<String> index = new UrlPrefixIndex<>();
+    index.put("https://github.com/apache", "first");
+    index.put("https://github.com/apache/", "second");
+    assertEquals(Optional.of("second"), index.exact("https://github.com/apache"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidUrl() {
+    new UrlPrefixIndex<String>().put("github.com/apache", "apache");
+  }
+}
@@ -0,0 +1,88 @@
+package com.sap.oss.phosphor.fosstars.model;
+
+import static com.sap.oss.phosphor.fosstars.model.other.Utils.allUnknown;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import com.sap.oss.phosphor.fosstars.model.score.oss.OssSecurityScore;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
+import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import com.sap.oss.phosphor.fosstars.model.weight.MutableWeight;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import org.junit.Test;
+
+public class DefinitionReferencesTest {
+
+  private static final OssSecurityRating RATING
+      = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    RatingValue ratingValue = RATING.calculate(allUnknown(RATING.allFeatures()));
+    GitHubProject project = new GitHubProject("org", "test");
+    project.set(ratingValue);
+
+    byte[] full = Json.toBytes(project);
+    byte[] compact = DefinitionReferences.toBytes(project);
+    assertTrue(compact.length < full.length);
+
+    GitHubProject clone = DefinitionReferences.read(compact, GitHubProject.class);
+    assertEquals(project, clone);
+    assertTrue(clone.ratingValue().isPresent());
+
+    ScoreValue scoreValue = clone.ratingValue().get().scoreValue();
+    assertEquals(ratingValue, clone.ratingValue().get());
+    assertSame(RATING.score(), scoreValue.score());
+    assertFalse(scoreValue.usedFeatureValues().isEmpty());
+    DefinitionRegistry registry = DefinitionRegistry.of(RatingRepository.INSTANCE);
+    for (Value<?> value : scoreValue.usedFeatureValues()) {
+      assertSame(value.feature(), registry.intern(value.feature()));
+      assertTrue(RATING.allFeatures().contains(value.feature()));
+    }
+  }
+
+  @Test
+  public void testReadFullDefinitions() throws IOException {
+    RatingValue ratingValue = RATING.calculate(allUnknown(RATING.allFeatures()));
+    byte[] full = Json.toBytes(ratingValue);
+
+    RatingValue clone = DefinitionReferences.read(full, RatingValue.class);
+    assertEquals(Json.read(full, RatingValue.class), clone);
+    assertEquals(ratingValue.label(), clone.label());
+    for (Value<?> value : clone.scoreValue().usedFeatureValues()) {
+      assertTrue(RATING.allFeatures().stream().anyMatch(feature -> feature == value.feature()));
+    }
+  }
+
+  @Test
+  public void testFullDefinitionForTunedScore() throws IOException {
+    OssSecurityScore score = new OssSecurityScore();
+    ((MutableWeight) score.parameters().get(0)).value(0.01);
+
+    DefinitionRegistry registry = DefinitionRegistry.of(RatingRepository.INSTANCE);
+    assertFalse(registry.referenceTo(score).isPresent());
+    assertSame(score, registry.intern(score));
+    assertTrue(registry.referenceTo(RATING.score()).isPresent());
+
+    byte[] bytes = DefinitionReferences.toBytes(score);
+    Score clone = DefinitionReferences.read(bytes, Score.class);
+    assertEquals(score, clone);
+    assertNotSame(RATING.score(), clone);
+  }
+
+  @Test
+  public void testResolve() {
+    DefinitionRegistry registry = DefinitionRegistry.of(RatingRepository.INSTANCE);
+    for (Feature<?> feature : RATING.allFeatures()) {
+      assertTrue(registry.referenceTo(feature).isPresent());
+      assertSame(feature, registry.resolve(registry.referenceTo(feature).get()).get());
+    }
+    assertFalse(registry.resolve("unknown").isPresent());
+  }
+}
@@ -0,0 +1,67 @@
+package com.sap.oss.phosphor.fosstars.model.feature;
+
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.HAS_SECURITY_TEAM;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_COMMITS_LAST_THREE_MONTHS;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_GITHUB_STARS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class FeatureRegistryTest {
+
+  @Test
+  public void testIdentifiers() {
+    FeatureRegistry registry = FeatureRegistry.of(Arrays.asList(
+        NUMBER_OF_GITHUB_STARS, HAS_SECURITY_TEAM, NUMBER_OF_GITHUB_STARS));
+
+    assertEquals(2, registry.size());
+    assertTrue(registry.contains(HAS_SECURITY_TEAM));
+    assertTrue(registry.contains(NUMBER_OF_GITHUB_STARS));
+    assertFalse(registry.contains(NUMBER_OF_COMMITS_LAST_THREE_MONTHS));
+    assertEquals(FeatureRegistry.UNKNOWN_ID, registry.idOf(NUMBER_OF_COMMITS_LAST_THREE_MONTHS));
+
+    for (int id = 0; id < registry.size(); id++) {
+      assertEquals(id, registry.idOf(registry.feature(id)));
+    }
+  }
+
+  @Test
+  public void testSameIdentifiersForSameFeatures() {
+    FeatureRegistry one = FeatureRegistry.of(Arrays.asList(
+        NUMBER_OF_GITHUB_STARS, HAS_SECURITY_TEAM));
+    FeatureRegistry two = FeatureRegistry.of(Arrays.asList(
+        HAS_SECURITY_TEAM, NUMBER_OF_GITHUB_STARS));
+
+    assertEquals(one, two);
+    assertEquals(one.hashCode(), two.hashCode());
+    assertEquals(one.idOf(HAS_SECURITY_TEAM), two.idOf(HAS_SECURITY_TEAM));
+    assertEquals(one.idOf(NUMBER_OF_GITHUB_STARS), two.idOf(NUMBER_OF_GITHUB_STARS));
+  }
+
+  @Test
+  public void testRegistryForRating() {
+    OssSecurityRating rating = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+    FeatureRegistry registry = FeatureRegistry.of(rating);
+
+    Set<Feature<?>> features = rating.allFeatures();
+    assertEquals(features.size(), registry.size());
+    assertEquals(features, new HashSet<>(registry.features()));
+    for (Feature<?> feature : features) {
+      assertSame(feature, registry.feature(registry.idOf(feature)));
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testFeaturesCantBeModified() {
+    FeatureRegistry.of(Arrays.asList(HAS_SECURITY_TEAM)).features().clear();
+  }
+}
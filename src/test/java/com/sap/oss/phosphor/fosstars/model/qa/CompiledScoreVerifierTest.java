@@ -0,0 +1,72 @@
+package com.sap.oss.phosphor.fosstars.model.qa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.sap.oss.phosphor.fosstars.model.Weight;
+import com.sap.oss.phosphor.fosstars.model.rating.example.SecurityRatingExampleVerification;
+import com.sap.oss.phosphor.fosstars.model.score.example.SecurityScoreExample;
+import com.sap.oss.phosphor.fosstars.model.score.oss.OssSecurityScore;
+import com.sap.oss.phosphor.fosstars.model.weight.MutableWeight;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class CompiledScoreVerifierTest {
+
+  @Test
+  public void testCrossCheckWithScoreVerifier() throws IOException {
+    OssSecurityScore score = new OssSecurityScore();
+    try (InputStream is = OssSecurityScore.class
+        .getResourceAsStream("OssSecurityScoreTestVectors.yml")) {
+
+      TestVectors vectors = TestVectors.loadFromYaml(is);
+      assertFalse(vectors.isEmpty());
+      crossCheck(new ScoreVerifier(score, vectors), new CompiledScoreVerifier(score, vectors));
+
+      CompiledScoreVerifier parallel = new CompiledScoreVerifier(score, vectors);
+      parallel.parallel(true);
+      crossCheck(new ScoreVerifier(score, vectors), parallel);
+    }
+  }
+
+  @Test
+  public void testWithUpdatedWeights() {
+    SecurityScoreExample score = new SecurityScoreExample();
+    TestVectors vectors = new TestVectors();
+    vectors.add(SecurityRatingExampleVerification.TEST_VECTORS);
+
+    ScoreVerifier expected = new ScoreVerifier(score, vectors);
+    CompiledScoreVerifier actual = new CompiledScoreVerifier(score, vectors);
+
+    Random random = new Random(42);
+    for (int i = 0; i < 10; i++) {
+      for (Weight weight : score.parameters()) {
+        ((MutableWeight) weight).value(0.01 + random.nextDouble() * 0.99);
+      }
+      crossCheck(expected, actual);
+    }
+  }
+
+  private static void crossCheck(ScoreVerifier expectedVerifier, CompiledScoreVerifier verifier) {
+    List<TestVectorResult> expected = expectedVerifier.run();
+    List<TestVectorResult> actual = verifier.run();
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      TestVectorResult one = expected.get(i);
+      TestVectorResult two = actual.get(i);
+      assertEquals(one.index, two.index);
+      assertEquals(one.status, two.status);
+      assertEquals(one.message, two.message);
+      assertEquals(one.scoreValue.isUnknown(), two.scoreValue.isUnknown());
+      assertEquals(one.scoreValue.isNotApplicable(), two.scoreValue.isNotApplicable());
+      assertEquals(one.scoreValue.confidence(), two.scoreValue.confidence(), 0.0);
+      if (!one.scoreValue.isUnknown()) {
+        assertEquals(one.scoreValue.get(), two.scoreValue.get(), 0.0);
+      }
+      assertEquals(one.scoreValue.score(), two.scoreValue.score());
+    }
+  }
+}
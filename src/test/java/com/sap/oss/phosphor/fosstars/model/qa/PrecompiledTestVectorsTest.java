@@ -0,0 +1,64 @@
+package com.sap.oss.phosphor.fosstars.model.qa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures;
+import com.sap.oss.phosphor.fosstars.model.math.DoubleInterval;
+import com.sap.oss.phosphor.fosstars.model.score.example.SecurityScoreExample;
+import com.sap.oss.phosphor.fosstars.model.value.BooleanValue;
+import com.sap.oss.phosphor.fosstars.model.value.IntegerValue;
+import java.util.Collections;
+import java.util.Set;
+import org.junit.Test;
+
+public class PrecompiledTestVectorsTest {
+
+  private static final BooleanValue DEFAULT_VALUE
+      = new BooleanValue(ExampleFeatures.SECURITY_REVIEW_DONE_EXAMPLE, true);
+
+  private static TestVectors vectors() {
+    return new TestVectors(
+        Collections.singletonList(TestVectorBuilder.newTestVector()
+            .set(new IntegerValue(ExampleFeatures.NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, 10))
+            .expectedScore(DoubleInterval.init().from(0.0).to(10.0).make())
+            .alias("test")
+            .make()),
+        Collections.singleton(DEFAULT_VALUE));
+  }
+
+  @Test
+  public void testPrecompile() {
+    TestVectors vectors = vectors();
+    PrecompiledTestVectors precompiled = vectors.precompile();
+
+    assertFalse(precompiled.isEmpty());
+    assertEquals(vectors.size(), precompiled.size());
+    assertEquals(vectors.get(0), precompiled.get(0));
+    assertTrue(precompiled.get(0) instanceof TestVectorWithDefaults);
+    assertEquals(vectors.get(0).values(), precompiled.get(0).values());
+    assertTrue(precompiled.get(0).values().contains(DEFAULT_VALUE));
+
+    vectors.add(vectors.get(0));
+    assertEquals(1, precompiled.size());
+  }
+
+  @Test
+  public void testValuesAreMemoized() {
+    TestVector vector = vectors().precompile().get(0);
+    assertSame(vector.values(), vector.values());
+
+    SecurityScoreExample score = new SecurityScoreExample();
+    Set<Value<?>> values = vector.valuesFor(score);
+    assertSame(values, vector.valuesFor(score));
+    assertEquals(vector.values(), values);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testValuesAreUnmodifiable() {
+    vectors().precompile().get(0).values().clear();
+  }
+}
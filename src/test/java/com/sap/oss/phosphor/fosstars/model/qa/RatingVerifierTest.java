@@ -63,6 +63,29 @@ public class RatingVerifierTest {
     }
   }
 
+  @Test
+  public void testParallelMode() {
+    RatingVerifier sequential = new RatingVerifier(
+        RatingRepository.INSTANCE.rating(SecurityRatingExample.class),
+        TEST_VECTORS);
+    RatingVerifier parallel = new RatingVerifier(
+        RatingRepository.INSTANCE.rating(SecurityRatingExample.class),
+        TEST_VECTORS);
+    parallel.parallel(true);
+    assertFalse(sequential.parallel());
+    assertTrue(parallel.parallel());
+
+    List<TestVectorResult> expected = sequential.run();
+    List<TestVectorResult> actual = parallel.run();
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(i, actual.get(i).index);
+      assertEquals(expected.get(i).vector, actual.get(i).vector);
+      assertEquals(expected.get(i).status, actual.get(i).status);
+      assertEquals(expected.get(i).scoreValue, actual.get(i).scoreValue);
+    }
+  }
+
   @Test
   public void testWithNotApplicableScoreValue() {
     StandardTestVector vector = TestVectorBuilder.newTestVector()
@@ -0,0 +1,178 @@
+package com.sap.oss.phosphor.fosstars.model.score;
+
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.SECURITY_REVIEW_DONE_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.STATIC_CODE_ANALYSIS_DONE_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.other.Utils.setOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Parameter;
+import com.sap.oss.phosphor.fosstars.model.Rating;
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.Score;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.Visitor;
+import com.sap.oss.phosphor.fosstars.model.Weight;
+import com.sap.oss.phosphor.fosstars.model.qa.TestVector;
+import com.sap.oss.phosphor.fosstars.model.qa.TestVectors;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import com.sap.oss.phosphor.fosstars.model.score.CompiledScore.Evaluation;
+import com.sap.oss.phosphor.fosstars.model.score.CompiledScore.Input;
+import com.sap.oss.phosphor.fosstars.model.score.example.SecurityScoreExample;
+import com.sap.oss.phosphor.fosstars.model.score.oss.OssSecurityScore;
+import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
+import com.sap.oss.phosphor.fosstars.model.weight.MutableWeight;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class CompiledScoreTest {
+
+  @Test
+  public void testCrossCheckWithScoreTestVectors() throws IOException {
+    ScoreCollector collector = new ScoreCollector();
+    RatingRepository.INSTANCE.rating(OssSecurityRating.class).accept(collector);
+
+    int checked = 0;
+    for (Score score : collector.scores) {
+      String filename = String.format("%sTestVectors.yml", score.getClass().getSimpleName());
+      try (InputStream is = score.getClass().getResourceAsStream(filename)) {
+        if (is == null) {
+          continue;
+        }
+        CompiledScore compiledScore = CompiledScore.compile(score);
+        for (TestVector vector : TestVectors.loadFromYaml(is)) {
+          crossCheck(score, compiledScore, vector.valuesFor(score));
+          checked++;
+        }
+      }
+    }
+    assertTrue(checked > 0);
+  }
+
+  @Test
+  public void testCrossCheckWithRatingTestVectors() throws IOException {
+    OssSecurityRating rating = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+    Score score = rating.score();
+    CompiledScore compiledScore = CompiledScore.compile(score);
+
+    try (InputStream is = OssSecurityRating.class
+        .getResourceAsStream("OssSecurityRatingTestVectors.yml")) {
+
+      TestVectors vectors = TestVectors.loadFromYaml(is);
+      assertFalse(vectors.isEmpty());
+      for (TestVector vector : vectors) {
+        crossCheck(score, compiledScore, vector.valuesFor(score));
+      }
+    }
+  }
+
+  @Test
+  public void testWithUnknownValues() {
+    Score score = new OssSecurityScore();
+    CompiledScore compiledScore = CompiledScore.compile(score);
+    crossCheck(score, compiledScore, ValueHashSet.unknown(score.allFeatures()).toSet());
+  }
+
+  @Test
+  public void testUpdateWeights() {
+    SecurityScoreExample score = new SecurityScoreExample();
+    CompiledScore compiledScore = CompiledScore.compile(score);
+    assertTrue(compiledScore.size() > score.allFeatures().size());
+
+    Random random = new Random(42);
+    List<Set<Value<?>>> inputs = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      inputs.add(randomValues(random));
+    }
+
+    for (int i = 0; i < 10; i++) {
+      for (Weight weight : score.parameters()) {
+        ((MutableWeight) weight).value(0.01 + random.nextDouble() * 0.99);
+      }
+      compiledScore.updateWeights();
+
+      for (Set<Value<?>> values : inputs) {
+        crossCheck(score, compiledScore, values);
+      }
+    }
+  }
+
+  @Test
+  public void testReusedInput() {
+    Score score = new SecurityScoreExample();
+    CompiledScore compiledScore = CompiledScore.compile(score);
+    Set<Value<?>> values = randomValues(new Random(42));
+    Input input = compiledScore.input(values);
+
+    Evaluation first = compiledScore.evaluate(input);
+    Evaluation second = compiledScore.evaluate(input);
+    assertEquals(first.value(), second.value(), 0.0);
+    assertEquals(first.confidence(), second.confidence(), 0.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInputForAnotherScore() {
+    Score score = new SecurityScoreExample();
+    CompiledScore one = CompiledScore.compile(score);
+    CompiledScore two = CompiledScore.compile(score);
+    two.evaluate(one.input(randomValues(new Random(42))));
+  }
+
+  private static Set<Value<?>> randomValues(Random random) {
+    return setOf(
+        NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE.value(random.nextInt(100)),
+        NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE.value(random.nextInt(10)),
+        SECURITY_REVIEW_DONE_EXAMPLE.value(random.nextBoolean()),
+        STATIC_CODE_ANALYSIS_DONE_EXAMPLE.value(random.nextBoolean()));
+  }
+
+  private static void crossCheck(
+      Score score, CompiledScore compiledScore, Set<Value<?>> values) {
+
+    ScoreValue expected = score.calculate(values);
+    Evaluation actual = compiledScore.evaluate(compiledScore.input(values));
+
+    String message = String.format("%s with %s", score.name(), values);
+    assertEquals(message, expected.isUnknown(), actual.isUnknown());
+    assertEquals(message, expected.isNotApplicable(), actual.isNotApplicable());
+    assertEquals(message, expected.confidence(), actual.confidence(), 0.0);
+    if (!expected.isUnknown()) {
+      assertEquals(message, expected.get(), actual.value(), 0.0);
+    }
+  }
+
+  private static class ScoreCollector implements Visitor {
+
+    private final List<Score> scores = new ArrayList<>();
+
+    @Override
+    public void visit(Score score) {
+      scores.add(score);
+    }
+
+    @Override
+    public void visit(Rating rating) {
+      // do nothing
+    }
+
+    @Override
+    public void visit(Feature feature) {
+      // do nothing
+    }
+
+    @Override
+    public void visit(Parameter parameter) {
+      // do nothing
+    }
+  }
+}
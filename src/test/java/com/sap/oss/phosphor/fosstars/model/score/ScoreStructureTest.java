@@ -0,0 +1,86 @@
+package com.sap.oss.phosphor.fosstars.model.score;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.Score;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import com.sap.oss.phosphor.fosstars.model.score.oss.DependabotScore;
+import com.sap.oss.phosphor.fosstars.model.score.oss.OssSecurityScore;
+import com.sap.oss.phosphor.fosstars.model.score.oss.ProjectActivityScore;
+import com.sap.oss.phosphor.fosstars.model.score.oss.ProjectSecurityTestingScore;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class ScoreStructureTest {
+
+  @Test
+  public void testStructure() {
+    OssSecurityScore score = new OssSecurityScore();
+    ScoreStructure structure = ScoreStructure.of(score);
+
+    assertSame(score, structure.score());
+    assertEquals(score.allFeatures(), structure.allFeatures());
+
+    List<Score> scores = structure.scores();
+    assertSame(score, scores.get(0));
+    assertTrue(scores.containsAll(score.subScores()));
+
+    Map<Score, Integer> depths = new HashMap<>();
+    depths.put(score, 0);
+    for (Score current : scores) {
+      assertTrue(depths.containsKey(current));
+      for (Score subScore : current.subScores()) {
+        depths.putIfAbsent(subScore, depths.get(current) + 1);
+      }
+    }
+    for (int i = 1; i < scores.size(); i++) {
+      assertTrue(depths.get(scores.get(i - 1)) <= depths.get(scores.get(i)));
+    }
+
+    assertTrue(structure.subScore(ProjectActivityScore.class).isPresent());
+    assertFalse(structure.subScore(DependabotScore.class).isPresent());
+    assertTrue(structure.find(DependabotScore.class).isPresent());
+    assertSame(score, structure.find(OssSecurityScore.class).get());
+    assertEquals(
+        score.subScore(ProjectSecurityTestingScore.class),
+        structure.subScore(ProjectSecurityTestingScore.class));
+  }
+
+  @Test
+  public void testMemoizedForImmutableScore() {
+    OssSecurityScore score = new OssSecurityScore();
+    assertNotSame(score.structure(), score.structure());
+
+    score.makeImmutable();
+    assertSame(score.structure(), score.structure());
+    assertSame(score.allFeatures(), score.allFeatures());
+    assertEquals(new OssSecurityScore().allFeatures(), score.allFeatures());
+    assertEquals(
+        score.score(ProjectActivityScore.class),
+        new OssSecurityScore().score(ProjectActivityScore.class));
+  }
+
+  @Test
+  public void testMemoizedForRegisteredRating() {
+    OssSecurityRating rating = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+    assertSame(rating.structure(), rating.structure());
+    assertSame(rating.allFeatures(), rating.allFeatures());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testAllFeaturesCantBeModified() {
+    ScoreStructure.of(new OssSecurityScore()).allFeatures().clear();
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testScoresCantBeModified() {
+    ScoreStructure.of(new OssSecurityScore()).scores().clear();
+  }
+}
@@ -5,6 +5,7 @@ import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeature
 import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.SECURITY_REVIEW_DONE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.STATIC_CODE_ANALYSIS_DONE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.qa.TestVectorBuilder.newTestVector;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import com.sap.oss.phosphor.fosstars.model.math.DoubleInterval;
@@ -60,4 +61,34 @@ public class TuningWithCMAESTest {
 
     verification.run();
   }
+
+  @Test
+  public void testParallelTuning() throws Exception {
+    SecurityScoreExample first = new SecurityScoreExample();
+    new TuningWithCMAES(first, SecurityScoreExample::new,
+        copy -> new ScoreVerifier(copy, SIMPLE_TEST_VECTORS))
+        .threads(4)
+        .seed(42)
+        .run();
+    new ScoreVerification(first, SIMPLE_TEST_VECTORS).run();
+
+    SecurityScoreExample second = new SecurityScoreExample();
+    new TuningWithCMAES(second, SecurityScoreExample::new,
+        copy -> new ScoreVerifier(copy, SIMPLE_TEST_VECTORS))
+        .threads(1)
+        .seed(42)
+        .run();
+
+    assertEquals(first.parameters().size(), second.parameters().size());
+    for (int i = 0; i < first.parameters().size(); i++) {
+      assertEquals(
+          first.parameters().get(i).value(), second.parameters().get(i).value(), 0.0);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongNumberOfThreads() {
+    SecurityScoreExample score = new SecurityScoreExample();
+    new TuningWithCMAES(score, new ScoreVerifier(score, SIMPLE_TEST_VECTORS)).threads(0);
+  }
 }
\ No newline at end of file
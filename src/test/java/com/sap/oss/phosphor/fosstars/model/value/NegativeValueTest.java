@@ -0,0 +1,41 @@
+package com.sap.oss.phosphor.fosstars.model.value;
+
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.value.NegativeValue.Reason;
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import org.junit.Test;
+
+public class NegativeValueTest {
+
+  @Test
+  public void testBasics() {
+    NegativeValue<Integer> value
+        = NegativeValue.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, Reason.FAILURE);
+    assertEquals(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, value.feature());
+    assertEquals(Reason.FAILURE, value.reason());
+    assertTrue(value.isUnknown());
+    assertEquals(42, (int) value.orElse(42));
+    assertEquals(UnknownValue.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE), value.toUnknown());
+    assertNotEquals(value, NegativeValue.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, Reason.NO_DATA));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGet() {
+    NegativeValue.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, Reason.NO_DATA).get();
+  }
+
+  @Test
+  public void testSerializationAndDeserialization() throws IOException {
+    NegativeValue<Integer> value
+        = NegativeValue.of(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, Reason.NO_DATA);
+    Value<?> clone = Json.read(Json.toBytes(value), Value.class);
+    assertEquals(value, clone);
+    assertEquals(value.hashCode(), clone.hashCode());
+  }
+}
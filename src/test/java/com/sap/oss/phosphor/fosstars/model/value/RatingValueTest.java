@@ -1,12 +1,20 @@
 package com.sap.oss.phosphor.fosstars.model.value;
 
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.SECURITY_REVIEW_DONE_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.STATIC_CODE_ANALYSIS_DONE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.score.example.ExampleScores.PROJECT_ACTIVITY_SCORE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.score.example.ExampleScores.SECURITY_TESTING_SCORE_EXAMPLE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import com.sap.oss.phosphor.fosstars.model.Rating;
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.rating.example.SecurityRatingExample;
 import com.sap.oss.phosphor.fosstars.model.rating.example.SecurityRatingExample.SecurityLabelExample;
 import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.IOException;
@@ -70,4 +78,22 @@ public class RatingValueTest {
     assertEquals(ratingValue.hashCode(), clone.hashCode());
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testLeanAndExpand() {
+    Rating rating = RatingRepository.INSTANCE.rating(SecurityRatingExample.class);
+    RatingValue ratingValue = rating.calculate(
+        NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE.value(7),
+        NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE.value(2),
+        SECURITY_REVIEW_DONE_EXAMPLE.value(true),
+        STATIC_CODE_ANALYSIS_DONE_EXAMPLE.value(false));
+    assertSame(ratingValue, ratingValue.expand());
+
+    RatingValue lean = ratingValue.lean();
+    assertTrue(lean.scoreValue().isLean());
+    assertSame(lean, lean.lean());
+    assertEquals(ratingValue.label(), lean.label());
+    assertEquals(ratingValue.score(), lean.score(), 0.0);
+    assertEquals(ratingValue.confidence(), lean.confidence(), 0.0);
+    assertEquals(ratingValue, lean.expand());
+  }
+}
@@ -6,9 +6,12 @@ import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeature
 import static com.sap.oss.phosphor.fosstars.model.feature.example.ExampleFeatures.STATIC_CODE_ANALYSIS_DONE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.score.example.ExampleScores.PROJECT_ACTIVITY_SCORE_EXAMPLE;
 import static com.sap.oss.phosphor.fosstars.model.score.example.ExampleScores.SECURITY_TESTING_SCORE_EXAMPLE;
+import static com.sap.oss.phosphor.fosstars.model.value.Vulnerability.Builder.newVulnerability;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.sap.oss.phosphor.fosstars.model.Rating;
@@ -16,14 +19,17 @@ import com.sap.oss.phosphor.fosstars.model.RatingRepository;
 import com.sap.oss.phosphor.fosstars.model.Score;
 import com.sap.oss.phosphor.fosstars.model.Value;
 import com.sap.oss.phosphor.fosstars.model.rating.example.SecurityRatingExample;
+import com.sap.oss.phosphor.fosstars.model.value.Vulnerability.Resolution;
 import com.sap.oss.phosphor.fosstars.util.Json;
 import java.io.IOException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -145,6 +151,61 @@ public class ScoreValueTest {
     assertTrue(value.explanation().contains("third note"));
   }
 
+  @Test
+  public void testLazyExplanation() throws IOException {
+    AtomicInteger counter = new AtomicInteger();
+    Object param = new Object() {
+      @Override
+      public String toString() {
+        counter.incrementAndGet();
+        return "param";
+      }
+    };
+
+    ScoreValue value = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE)
+        .explain("%d commits with %s result to %.2f points", 10, param, 5.0);
+    assertEquals(0, counter.get());
+
+    assertEquals("10 commits with param result to 5.00 points", value.explanation().get(0));
+    assertEquals(1, counter.get());
+    value.explanation();
+    assertEquals(1, counter.get());
+
+    ScoreValue clone = Json.read(Json.toBytes(value), ScoreValue.class);
+    assertEquals(value.explanation(), clone.explanation());
+    assertEquals(value, clone);
+    assertEquals(value.hashCode(), clone.hashCode());
+  }
+
+  @Test
+  public void testEqualsAndHashCodeDontFormatNotes() {
+    AtomicInteger counter = new AtomicInteger();
+    Object param = new Object() {
+      @Override
+      public String toString() {
+        counter.incrementAndGet();
+        return "param";
+      }
+    };
+
+    ScoreValue one = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE)
+        .explain("%d commits with %s", 10, param);
+    ScoreValue two = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE)
+        .explain("%d commits with %s", 10, param);
+    assertEquals(one, two);
+    assertEquals(one.hashCode(), two.hashCode());
+    assertEquals(0, counter.get());
+
+    ScoreValue other = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE)
+        .explain("%d commits with %s", 11, param);
+    assertNotEquals(one, other);
+
+    ScoreValue same = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE)
+        .explain("10 commits with param");
+    assertEquals(one, same);
+    assertEquals(one.hashCode(), same.hashCode());
+  }
+
   @Test
   public void testEqualsAndHashCode() {
     List<Value<?>> usedValues = Arrays.asList(
@@ -257,4 +318,95 @@ public class ScoreValueTest {
         scoreValue.findUsedSubScoreValue(SECURITY_TESTING_SCORE_EXAMPLE.getClass()).isPresent());
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testLeanAndExpand() throws IOException {
+    Set<Value<?>> values = new HashSet<>();
+    values.add(new IntegerValue(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, 7));
+    values.add(new IntegerValue(NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE, 2));
+    values.add(new BooleanValue(SECURITY_REVIEW_DONE_EXAMPLE, true));
+    values.add(new BooleanValue(STATIC_CODE_ANALYSIS_DONE_EXAMPLE, false));
+
+    Rating rating = RatingRepository.INSTANCE.rating(SecurityRatingExample.class);
+    ScoreValue scoreValue = rating.calculate(values).scoreValue();
+    assertFalse(scoreValue.isLean());
+    assertSame(scoreValue, scoreValue.expand());
+
+    ScoreValue lean = scoreValue.lean();
+    assertTrue(lean.isLean());
+    assertSame(lean, lean.lean());
+    assertEquals(scoreValue.get(), lean.get(), 0.0);
+    assertEquals(scoreValue.confidence(), lean.confidence(), 0.0);
+    assertEquals(scoreValue.weight(), lean.weight(), 0.0);
+    assertEquals(4, lean.usedValues().size());
+    assertTrue(lean.usedValues().containsAll(values));
+    assertTrue(lean.explanation().isEmpty());
+    assertEquals(4, lean.usedFeatureValues().size());
+    assertFalse(
+        lean.findUsedSubScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE.getClass()).isPresent());
+    assertNotEquals(scoreValue, lean);
+
+    ScoreValue clone = Json.read(Json.toBytes(lean), ScoreValue.class);
+    assertTrue(clone.isLean());
+    assertEquals(lean, clone);
+    assertTrue(Json.toBytes(lean).length < Json.toBytes(scoreValue).length);
+
+    ScoreValue expanded = clone.expand();
+    assertFalse(expanded.isLean());
+    assertEquals(scoreValue, expanded);
+  }
+
+  @Test
+  public void testLeanWithoutVulnerabilityDetails() throws IOException {
+    Vulnerability vulnerability = newVulnerability("CVE-2019-0001")
+        .description("A very long description")
+        .set(CVSS.v3(7.5))
+        .set(Collections.singletonList(
+            new Reference("advisory", new URL("https://example.com/advisory"))))
+        .set(Resolution.PATCHED)
+        .make();
+    ScoreValue scoreValue = new ScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE, 5.0, 1.0, 10.0,
+        Collections.singletonList(new VulnerabilitiesValue(new Vulnerabilities(vulnerability))));
+
+    ScoreValue lean = scoreValue.lean();
+    assertEquals(1, lean.usedValues().size());
+    Value<?> value = lean.usedValues().get(0);
+    assertTrue(value instanceof VulnerabilitiesValue);
+    Vulnerabilities vulnerabilities = ((VulnerabilitiesValue) value).get();
+    assertEquals(1, vulnerabilities.entries().size());
+    Vulnerability abbreviated = vulnerabilities.entries().iterator().next();
+    assertEquals("CVE-2019-0001", abbreviated.id());
+    assertEquals(7.5, abbreviated.cvss().value(), 0.0);
+    assertEquals(Resolution.PATCHED, abbreviated.resolution());
+    assertFalse(abbreviated.description().isPresent());
+    assertTrue(abbreviated.references().isEmpty());
+
+    ScoreValue clone = Json.read(Json.toBytes(lean), ScoreValue.class);
+    assertEquals(lean, clone);
+    assertFalse(new String(Json.toBytes(clone)).contains("A very long description"));
+  }
+
+  @Test
+  public void testExpandKeepsStoredNumbers() {
+    Set<Value<?>> values = new HashSet<>();
+    values.add(new IntegerValue(NUMBER_OF_COMMITS_LAST_MONTH_EXAMPLE, 7));
+    values.add(new IntegerValue(NUMBER_OF_CONTRIBUTORS_LAST_MONTH_EXAMPLE, 2));
+    values.add(new BooleanValue(SECURITY_REVIEW_DONE_EXAMPLE, true));
+    values.add(new BooleanValue(STATIC_CODE_ANALYSIS_DONE_EXAMPLE, false));
+
+    Rating rating = RatingRepository.INSTANCE.rating(SecurityRatingExample.class);
+    ScoreValue lean = rating.calculate(values).scoreValue().lean();
+
+    // pretend that the score was different when the lean value was created
+    ScoreValue old = new ScoreValue(lean.score(), 9.0, lean.weight(), 3.0,
+        lean.usedValues(), Collections.emptyList(), false, false, true);
+
+    ScoreValue expanded = old.expand();
+    assertFalse(expanded.isLean());
+    assertEquals(9.0, expanded.get(), 0.0);
+    assertEquals(3.0, expanded.confidence(), 0.0);
+    assertTrue(
+        expanded.findUsedSubScoreValue(PROJECT_ACTIVITY_SCORE_EXAMPLE.getClass()).isPresent());
+    assertTrue(expanded.explanation().stream()
+        .anyMatch(note -> note.startsWith("The details were re-created")));
+  }
+}
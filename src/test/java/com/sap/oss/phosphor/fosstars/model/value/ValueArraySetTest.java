@@ -0,0 +1,134 @@
+package com.sap.oss.phosphor.fosstars.model.value;
+
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.HAS_SECURITY_TEAM;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_COMMITS_LAST_THREE_MONTHS;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_CONTRIBUTORS_LAST_THREE_MONTHS;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_GITHUB_STARS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.feature.FeatureRegistry;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.Test;
+
+public class ValueArraySetTest {
+
+  private static final FeatureRegistry REGISTRY = FeatureRegistry.of(Arrays.asList(
+      NUMBER_OF_COMMITS_LAST_THREE_MONTHS, NUMBER_OF_CONTRIBUTORS_LAST_THREE_MONTHS,
+      HAS_SECURITY_TEAM));
+
+  @Test
+  public void testEmpty() {
+    ValueSet values = new ValueArraySet(REGISTRY);
+    assertEquals(0, values.size());
+    assertTrue(values.isEmpty());
+    assertFalse(values.has(HAS_SECURITY_TEAM));
+    assertFalse(values.of(HAS_SECURITY_TEAM).isPresent());
+    assertFalse(values.iterator().hasNext());
+  }
+
+  @Test
+  public void testUnknown() {
+    ValueArraySet values = ValueArraySet.unknown(REGISTRY);
+    assertEquals(REGISTRY.size(), values.size());
+    assertTrue(values.containsAll(new HashSet<>(REGISTRY.features())));
+    for (Value<?> value : values) {
+      assertTrue(value.isUnknown());
+    }
+  }
+
+  @Test
+  public void testUpdate() {
+    ValueSet values = new ValueArraySet(REGISTRY);
+    values.update(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(10));
+    assertEquals(1, values.size());
+    assertEquals(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(10), values.iterator().next());
+    values.update(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(20));
+    assertEquals(1, values.size());
+    assertEquals(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(20), values.iterator().next());
+    assertEquals(
+        NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(20),
+        values.of(NUMBER_OF_COMMITS_LAST_THREE_MONTHS).get());
+  }
+
+  @Test
+  public void testUpdateFromSetWithSameRegistry() {
+    ValueArraySet source = new ValueArraySet(REGISTRY);
+    source.update(
+        NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(10),
+        NUMBER_OF_GITHUB_STARS.value(42));
+
+    ValueSet values = ValueArraySet.unknown(REGISTRY).update(source);
+    assertEquals(REGISTRY.size() + 1, values.size());
+    assertEquals(
+        NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(10),
+        values.of(NUMBER_OF_COMMITS_LAST_THREE_MONTHS).get());
+    assertEquals(NUMBER_OF_GITHUB_STARS.value(42), values.of(NUMBER_OF_GITHUB_STARS).get());
+    assertTrue(values.of(HAS_SECURITY_TEAM).get().isUnknown());
+
+    ValueSet empty = new ValueArraySet(REGISTRY).update(source);
+    assertEquals(source.size(), empty.size());
+    assertEquals(source.toSet(), empty.toSet());
+  }
+
+  @Test
+  public void testFeatureNotInRegistry() {
+    ValueSet values = ValueArraySet.unknown(REGISTRY);
+    values.update(NUMBER_OF_GITHUB_STARS.value(42), HAS_SECURITY_TEAM.value(true));
+    assertEquals(REGISTRY.size() + 1, values.size());
+    assertTrue(values.has(NUMBER_OF_GITHUB_STARS));
+    assertEquals(NUMBER_OF_GITHUB_STARS.value(42), values.of(NUMBER_OF_GITHUB_STARS).get());
+
+    Set<Value<?>> iterated = new HashSet<>();
+    for (Value<?> value : values) {
+      iterated.add(value);
+    }
+    Set<Value<?>> consumed = new HashSet<>();
+    values.forEach(consumed::add);
+
+    assertEquals(values.toSet(), iterated);
+    assertEquals(values.toSet(), consumed);
+    assertEquals(values.size(), iterated.size());
+    assertTrue(iterated.contains(HAS_SECURITY_TEAM.value(true)));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void testIteratorEnd() {
+    ValueSet values = new ValueArraySet(REGISTRY);
+    values.update(HAS_SECURITY_TEAM.value(true));
+    Iterator<Value<?>> iterator = values.iterator();
+    assertEquals(HAS_SECURITY_TEAM.value(true), iterator.next());
+    assertFalse(iterator.hasNext());
+    iterator.next();
+  }
+
+  @Test
+  public void testSameAsValueHashSet() {
+    OssSecurityRating rating = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+    ValueSet hashSet = ValueHashSet.unknown(rating.allFeatures());
+    ValueSet arraySet = ValueArraySet.unknown(FeatureRegistry.of(rating));
+    assertEquals(hashSet.toSet(), arraySet.toSet());
+
+    hashSet.update(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(10), HAS_SECURITY_TEAM.value(true));
+    arraySet.update(hashSet);
+    assertEquals(hashSet.toSet(), arraySet.toSet());
+    assertEquals(rating.calculate(hashSet), rating.calculate(arraySet));
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    ValueSet one = new ValueArraySet(REGISTRY).update(HAS_SECURITY_TEAM.value(true));
+    ValueSet two = new ValueArraySet(REGISTRY).update(HAS_SECURITY_TEAM.value(true));
+    assertEquals(one, two);
+    assertEquals(one.hashCode(), two.hashCode());
+  }
+}
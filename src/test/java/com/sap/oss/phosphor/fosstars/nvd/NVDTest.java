@@ -2,6 +2,7 @@ package com.sap.oss.phosphor.fosstars.nvd;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -10,8 +11,11 @@ import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.nvd.data.NvdEntry;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 
 public class NVDTest {
@@ -105,4 +109,36 @@ public class NVDTest {
       assertEquals(3, entries.size());
     }
   }
+
+  @Test
+  public void testSnapshotVersion() throws IOException {
+    Path directory = Files.createTempDirectory(getClass().getSimpleName());
+    try {
+      NVD nvd = new NVD(directory.toString());
+      assertEquals(NVD.UNKNOWN_SNAPSHOT_VERSION, nvd.snapshotVersion());
+
+      // the files are updated without the NVD instance, so that it keeps the old version
+      Files.write(directory.resolve("nvd_last_updated_timestamp"), "42".getBytes());
+      assertEquals(NVD.UNKNOWN_SNAPSHOT_VERSION, nvd.snapshotVersion());
+
+      nvd = new NVD(directory.toString());
+      assertEquals("42", nvd.snapshotVersion());
+
+      Path meta = directory.resolve("nvdcve-1.1-2020.meta");
+      Files.write(meta, "sha256:aaaa".getBytes());
+      nvd = new NVD(directory.toString());
+      String version = nvd.snapshotVersion();
+      assertNotEquals("42", version);
+      assertEquals(version, nvd.snapshotVersion());
+
+      Files.write(directory.resolve("nvd_last_updated_timestamp"), "43".getBytes());
+      assertEquals(version, new NVD(directory.toString()).snapshotVersion());
+
+      Files.write(meta, "sha256:bbbb".getBytes());
+      assertEquals(version, nvd.snapshotVersion());
+      assertNotEquals(version, new NVD(directory.toString()).snapshotVersion());
+    } finally {
+      FileUtils.deleteDirectory(directory.toFile());
+    }
+  }
 }
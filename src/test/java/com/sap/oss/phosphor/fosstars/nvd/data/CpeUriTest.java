@@ -0,0 +1,76 @@
+package com.sap.oss.phosphor.fosstars.nvd.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import com.sap.oss.phosphor.fosstars.util.Json;
+import java.io.IOException;
+import org.junit.Test;
+
+public class CpeUriTest {
+
+  @Test
+  public void testCpe23Uri() {
+    CpeUri uri = new Cpe23Uri("cpe:2.3:a:apache:tomcat:9.0.1:*:*:*:*:*:*:*");
+    assertEquals("apache", uri.getVendor());
+    assertEquals("tomcat", uri.getProduct());
+    assertEquals("apache", CpeSymbols.string(uri.vendorSymbol()));
+    assertEquals("tomcat", CpeSymbols.string(uri.productSymbol()));
+  }
+
+  @Test
+  public void testCpe22Uri() {
+    CpeUri uri = new Cpe22Uri("cpe:/a:apache:tomcat:9.0.1");
+    assertEquals("apache", uri.getVendor());
+    assertEquals("tomcat", uri.getProduct());
+
+    uri = new Cpe22Uri("cpe:/a:apache:tomcat");
+    assertEquals("apache", uri.getVendor());
+    assertEquals("tomcat", uri.getProduct());
+
+    uri = new Cpe22Uri("cpe:/a:apache::9.0.1");
+    assertEquals("apache", uri.getVendor());
+    assertEquals("", uri.getProduct());
+  }
+
+  @Test
+  public void testSharedComponents() {
+    CpeUri one = new Cpe23Uri("cpe:2.3:a:apache:tomcat:9.0.1:*:*:*:*:*:*:*");
+    CpeUri two = new Cpe22Uri(new String("cpe:/a:apache:tomcat:8.5.0"));
+    assertEquals(one.vendorSymbol(), two.vendorSymbol());
+    assertEquals(one.productSymbol(), two.productSymbol());
+    assertNotEquals(one.vendorSymbol(), one.productSymbol());
+    assertSame(one.getVendor(), two.getVendor());
+    assertSame(one.getProduct(), two.getProduct());
+  }
+
+  @Test
+  public void testCpeMatch() throws IOException {
+    CpeMatch cpeMatch = Json.read(
+        "{\"cpe23Uri\":\"cpe:2.3:a:apache:tomcat:9.0.1\"}".getBytes(), CpeMatch.class);
+    cpeMatch.prepare();
+    assertSame(cpeMatch.getCpeUri(), cpeMatch.getCpeUri());
+    assertEquals("tomcat", cpeMatch.getCpeUri().getProduct());
+
+    cpeMatch = Json.read("{\"cpe22Uri\":\"cpe:/a\"}".getBytes(), CpeMatch.class);
+    cpeMatch.prepare();
+
+    new CpeMatch().prepare();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoProduct() {
+    new Cpe22Uri("cpe:/a:apache");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyProduct() {
+    new Cpe22Uri("cpe:/a:apache::");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownSymbol() {
+    CpeSymbols.string(CpeSymbols.size());
+  }
+}
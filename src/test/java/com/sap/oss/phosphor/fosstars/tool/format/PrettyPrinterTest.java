@@ -136,6 +136,13 @@ public class PrettyPrinterTest {
     assertTrue(text.contains("Explanation"));
   }
 
+  @Test
+  public void testPrintLean() {
+    RatingValue ratingValue = RATING.calculate(TEST_VALUES);
+    PrettyPrinter printer = PrettyPrinter.withVerboseOutput(new OssSecurityGithubAdvisor());
+    assertEquals(printer.print(ratingValue), printer.print(ratingValue.lean()));
+  }
+
   @Test
   public void testConsistency() {
     RatingValue ratingValue = RATING.calculate(TEST_VALUES);
@@ -0,0 +1,65 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.data.DataProvider;
+import com.sap.oss.phosphor.fosstars.data.github.TestGitHubDataFetcherHolder;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.NVD;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class DataProviderRegistryTest extends TestGitHubDataFetcherHolder {
+
+  @Test
+  public void testProvidersAreBuiltOnce() throws Exception {
+    DataProviderRegistry registry = new DataProviderRegistry(fetcher, new NVD());
+    List<DataProvider<GitHubProject>> providers = registry.providers();
+    assertFalse(providers.isEmpty());
+    assertSame(providers, registry.providers());
+
+    // interactive data providers have to be at the end
+    boolean interactive = false;
+    for (DataProvider<GitHubProject> provider : providers) {
+      assertTrue(!interactive || provider.interactive());
+      interactive = provider.interactive();
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<DataProvider<GitHubProject>>>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(registry::providers));
+      }
+      for (Future<List<DataProvider<GitHubProject>>> future : futures) {
+        assertSame(providers, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testCacheIsSetForAllProviders() throws Exception {
+    DataProviderRegistry registry = new DataProviderRegistry(fetcher, new NVD());
+    GitHubProjectValueCache first = new GitHubProjectValueCache();
+    registry.set(first);
+    for (DataProvider<GitHubProject> provider : registry.providers()) {
+      assertSame(first, provider.cache());
+    }
+
+    GitHubProjectValueCache second = new GitHubProjectValueCache();
+    registry.set(second);
+    for (DataProvider<GitHubProject> provider : registry.providers()) {
+      assertSame(second, provider.cache());
+    }
+    assertEquals(27, registry.providers().size());
+  }
+}
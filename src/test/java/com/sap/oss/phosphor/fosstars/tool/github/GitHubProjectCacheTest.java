@@ -11,9 +11,15 @@ import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubOrganization;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
 import com.sap.oss.phosphor.fosstars.model.value.ScoreValue;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Optional;
 import org.junit.Test;
 
@@ -63,4 +69,73 @@ public class GitHubProjectCacheTest {
     something = cache.cachedRatingValueFor(project);
     assertTrue(something.isPresent());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testFingerprints() throws IOException {
+    GitHubProjectCache cache = GitHubProjectCache.empty();
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("netty"), "netty");
+    RatingValue ratingValue = new RatingValue(
+        new ScoreValue(ExampleScores.SECURITY_SCORE_EXAMPLE),
+        SecurityLabelExample.OKAY);
+    project.set(ratingValue);
+
+    assertFalse(cache.cachedRatingValueFor(project, "first").isPresent());
+
+    cache.add(project);
+    assertFalse(cache.cachedRatingValueFor(project, "first").isPresent());
+
+    cache.add(project, "first");
+    assertTrue(cache.cachedRatingValueFor(project, "first").isPresent());
+    assertFalse(cache.cachedRatingValueFor(project, "second").isPresent());
+
+    Path filename = Files.createTempFile(GitHubProjectCacheTest.class.getName(), "test");
+    try {
+      cache.store(filename);
+      GitHubProjectCache clone = GitHubProjectCache.load(filename);
+      Optional<RatingValue> something = clone.cachedRatingValueFor(project, "first");
+      assertTrue(something.isPresent());
+      assertEquals(ratingValue, something.get());
+      assertFalse(clone.cachedRatingValueFor(project, "second").isPresent());
+    } finally {
+      Files.delete(filename);
+    }
+
+    cache.add(project);
+    assertFalse(cache.cachedRatingValueFor(project, "first").isPresent());
+  }
+
+  @Test
+  public void testMaxAgeForFingerprints() throws IOException {
+    GitHubProjectCache cache = GitHubProjectCache.empty().maxAge(10);
+
+    RatingValue ratingValue = new RatingValue(
+        new ScoreValue(ExampleScores.SECURITY_SCORE_EXAMPLE),
+        SecurityLabelExample.OKAY);
+    Date fiveDaysAgo = Date.from(Instant.now().minus(Duration.ofDays(5)));
+    GitHubProject project = new GitHubProject(
+        new GitHubOrganization("netty"), "netty",
+        new URL("https://github.com/netty/netty"), ratingValue, fiveDaysAgo);
+
+    cache.add(project, "first");
+    assertTrue(cache.cachedRatingValueFor(project, "first").isPresent());
+
+    cache.maxAge(5);
+    assertFalse(cache.cachedRatingValueFor(project, "first").isPresent());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongMaxAge() {
+    GitHubProjectCache.empty().maxAge(0);
+  }
+
+  @Test
+  public void testLoadWithoutFingerprints() throws IOException {
+    GitHubProjectCache cache = GitHubProjectCache.load(
+        new ByteArrayInputStream("{ \"cache\" : { } }".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(0, cache.size());
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("netty"), "netty");
+    assertFalse(cache.cachedRatingValueFor(project, "first").isPresent());
+  }
+}
@@ -6,7 +6,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubOrganization;
@@ -20,12 +23,14 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import org.junit.Test;
 import org.kohsuke.github.GHOrganization;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.PagedIterable;
+import org.kohsuke.github.PagedIterator;
 
 public class GitHubProjectFinderTest {
 
@@ -73,8 +78,7 @@ public class GitHubProjectFinderTest {
     repositories.add(projectY);
     repositories.add(projectZ);
 
-    PagedIterable<GHRepository> pagedIterable = mock(PagedIterable.class);
-    when(pagedIterable.asList()).thenReturn(repositories);
+    PagedIterable<GHRepository> pagedIterable = pagedIterableOf(repositories);
 
     GHOrganization organization = mock(GHOrganization.class);
     when(organization.listRepositories(anyInt())).thenReturn(pagedIterable);
@@ -120,6 +124,59 @@ public class GitHubProjectFinderTest {
     }
   }
 
+  @Test
+  public void streamProjects() throws IOException {
+    final String apache = "apache";
+
+    List<GHRepository> repositories = new ArrayList<>();
+    repositories.add(mockRepository("popular", 500));
+    repositories.add(mockRepository("unpopular", 10));
+    repositories.add(mockRepository("popular-incubator", 1000));
+
+    PagedIterable<GHRepository> pagedIterable = pagedIterableOf(repositories);
+
+    GHOrganization organization = mock(GHOrganization.class);
+    when(organization.listRepositories(anyInt())).thenReturn(pagedIterable);
+
+    GitHub github = mock(GitHub.class);
+    when(github.getOrganization(apache)).thenReturn(organization);
+
+    GitHubProjectFinder finder = new GitHubProjectFinder(github);
+    finder.set(new Config(
+        Collections.singletonList(
+            new OrganizationConfig(apache, Collections.singletonList("incubator"), 100)),
+        Collections.singletonList(new ProjectConfig(apache, "popular-incubator"))));
+
+    List<GitHubProject> projects = new ArrayList<>();
+    finder.run(projects::add);
+
+    assertEquals(2, projects.size());
+    assertEquals(new GitHubProject(new GitHubOrganization(apache), "popular"), projects.get(0));
+    assertEquals(
+        new GitHubProject(new GitHubOrganization(apache), "popular-incubator"), projects.get(1));
+
+    // the explicitly added project was seen during the scan, so no extra request is needed
+    verify(github, never()).getRepository(anyString());
+    verify(pagedIterable, never()).asList();
+  }
+
+  private static PagedIterable<GHRepository> pagedIterableOf(List<GHRepository> repositories) {
+    PagedIterator<GHRepository> iterator = mock(PagedIterator.class);
+    Iterator<GHRepository> delegate = repositories.iterator();
+    when(iterator.hasNext()).thenAnswer(invocation -> delegate.hasNext());
+    when(iterator.next()).thenAnswer(invocation -> delegate.next());
+
+    PagedIterable<GHRepository> pagedIterable = mock(PagedIterable.class);
+    when(pagedIterable.iterator()).thenReturn(iterator);
+    return pagedIterable;
+  }
+
+  private static GHRepository mockRepository(String name, int stars) {
+    GHRepository repository = mockRepository(name);
+    when(repository.getStargazersCount()).thenReturn(stars);
+    return repository;
+  }
+
   private static GHRepository mockRepository(String name) {
     GHRepository repository = mock(GHRepository.class);
     when(repository.getName()).thenReturn(name);
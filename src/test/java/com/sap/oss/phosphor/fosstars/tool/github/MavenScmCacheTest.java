@@ -0,0 +1,76 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.Test;
+
+public class MavenScmCacheTest {
+
+  @Test
+  public void testPutAndGet() {
+    MavenScmCache cache = MavenScmCache.empty();
+    assertEquals(0, cache.size());
+    assertFalse(cache.has("com.example:lib:1.0"));
+    assertFalse(cache.get("com.example:lib:1.0").isPresent());
+
+    cache.put("com.example:lib:1.0", "https://github.com/example/lib");
+    cache.put(" com.example:other ", null);
+
+    assertEquals(2, cache.size());
+    assertTrue(cache.has("com.example:lib:1.0"));
+    assertEquals(Optional.of("https://github.com/example/lib"), cache.get("com.example:lib:1.0"));
+    assertTrue(cache.has("com.example:other"));
+    assertFalse(cache.get("com.example:other").isPresent());
+  }
+
+  @Test
+  public void testStoreAndLoad() throws IOException {
+    MavenScmCache cache = MavenScmCache.empty()
+        .put("com.example:lib:1.0", "https://github.com/example/lib")
+        .put("com.example:other:1.0", null);
+
+    Path filename = Files.createTempFile(MavenScmCacheTest.class.getName(), "test");
+    try {
+      cache.store(filename);
+      MavenScmCache clone = MavenScmCache.load(filename);
+      assertEquals(2, clone.size());
+      assertEquals(
+          Optional.of("https://github.com/example/lib"), clone.get("com.example:lib:1.0"));
+      assertTrue(clone.has("com.example:other:1.0"));
+      assertFalse(clone.get("com.example:other:1.0").isPresent());
+    } finally {
+      Files.delete(filename);
+    }
+  }
+
+  @Test
+  public void testExpiration() throws IOException {
+    String json = "{ \"entries\" : {"
+        + "\"com.example:lib:1.0\" : { \"scm\" : \"https://github.com/example/lib\", "
+        + "\"date\" : 0 },"
+        + "\"com.example:lib\" : { \"scm\" : \"https://github.com/example/lib\", "
+        + "\"date\" : 0 },"
+        + "\"com.example:other:1.0\" : { \"scm\" : null, \"date\" : 0 } } }";
+    MavenScmCache cache = MavenScmCache.load(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    assertEquals(3, cache.size());
+
+    // only an entry with SCM for an artifact with a version never expires
+    assertTrue(cache.has("com.example:lib:1.0"));
+    assertFalse(cache.has("com.example:lib"));
+    assertFalse(cache.has("com.example:other:1.0"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongLifetime() {
+    MavenScmCache.empty().lifetime(0);
+  }
+}
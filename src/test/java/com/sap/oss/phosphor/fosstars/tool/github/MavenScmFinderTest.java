@@ -0,0 +1,146 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.apache.commons.io.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MavenScmFinderTest {
+
+  private static final String POM_TEMPLATE
+      = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+      + "  <modelVersion>4.0.0</modelVersion>\n"
+      + "  %s\n"
+      + "  <groupId>%s</groupId>\n"
+      + "  <artifactId>%s</artifactId>\n"
+      + "  <version>%s</version>\n"
+      + "  %s\n"
+      + "</project>\n";
+
+  private static Path repository;
+
+  @BeforeClass
+  public static void setUp() throws IOException {
+    repository = Files.createTempDirectory(MavenScmFinderTest.class.getSimpleName());
+
+    pom("com.example", "lib", "1.0", "",
+        "<scm><url>https://github.com/example/lib</url></scm>");
+    pom("com.example", "lib", "2.0", "",
+        "<scm><url>https://github.com/example/lib2</url></scm>");
+    Files.write(
+        repository.resolve("com/example/lib/maven-metadata-local.xml"),
+        ("<metadata><versioning><latest>2.0</latest><release>2.0</release></versioning>"
+            + "</metadata>").getBytes(StandardCharsets.UTF_8));
+
+    pom("com.example", "parent", "1", "",
+        "<scm><url>https://github.com/example/parent</url></scm>");
+    pom("com.example", "child", "1.0",
+        "<parent><groupId>com.example</groupId><artifactId>parent</artifactId>"
+            + "<version>1</version></parent>",
+        "");
+
+    Path broken = repository.resolve("com/example/broken/1/broken-1.pom");
+    Files.createDirectories(broken.getParent());
+    Files.write(broken, "<project>oops".getBytes(StandardCharsets.UTF_8));
+    pom("com.example", "orphan-of-broken", "1.0",
+        "<parent><groupId>com.example</groupId><artifactId>broken</artifactId>"
+            + "<version>1</version></parent>",
+        "");
+
+    pom("org", "generic", "1", "",
+        "<scm><url>https://github.com/org/generic</url></scm>");
+    pom("org.other", "orphan", "1.0",
+        "<parent><groupId>org</groupId><artifactId>generic</artifactId>"
+            + "<version>1</version></parent>",
+        "");
+  }
+
+  @AfterClass
+  public static void cleanUp() throws IOException {
+    FileUtils.deleteDirectory(repository.toFile());
+  }
+
+  @Test
+  public void testLocalRepository() throws IOException {
+    MavenScmFinder finder = new MavenScmFinder().useLocalRepository(repository).offline(true);
+
+    assertEquals(
+        Optional.of("https://github.com/example/lib"), finder.findScmFor("com.example:lib:1.0"));
+    assertEquals(
+        Optional.of("https://github.com/example/lib2"), finder.findScmFor("com.example:lib"));
+    assertEquals(
+        Optional.of("https://github.com/example/parent"),
+        finder.findScmFor("com.example:child:1.0"));
+    assertFalse(finder.findScmFor("org.other:orphan:1.0").isPresent());
+    assertFalse(finder.findScmFor("com.example:unknown:1.0").isPresent());
+    assertFalse(finder.findScmFor("com.example:unknown").isPresent());
+  }
+
+  @Test
+  public void testCache() throws IOException {
+    MavenScmCache cache = MavenScmCache.empty();
+    MavenScmFinder finder = new MavenScmFinder()
+        .useLocalRepository(repository)
+        .offline(true)
+        .set(cache);
+
+    assertTrue(finder.findScmFor("com.example:lib:1.0").isPresent());
+    assertFalse(finder.findScmFor("org.other:orphan:1.0").isPresent());
+    assertEquals(2, cache.size());
+    assertTrue(cache.has("com.example:lib:1.0"));
+    assertEquals(Optional.of("https://github.com/example/lib"), cache.get("com.example:lib:1.0"));
+    assertTrue(cache.has("org.other:orphan:1.0"));
+    assertFalse(cache.get("org.other:orphan:1.0").isPresent());
+
+    // the cache is used even if the artifact is not in the repository anymore
+    MavenScmFinder another = new MavenScmFinder().offline(true).set(cache);
+    assertEquals(
+        Optional.of("https://github.com/example/lib"), another.findScmFor("com.example:lib:1.0"));
+
+    // misses are not cached if POM files are just not available offline
+    assertFalse(finder.findScmFor("com.example:unknown:1.0").isPresent());
+    assertFalse(finder.findScmFor("com.example:unknown").isPresent());
+    assertFalse(another.findScmFor("com.example:child:1.0").isPresent());
+    assertEquals(2, cache.size());
+    assertFalse(cache.has("com.example:unknown:1.0"));
+    assertFalse(cache.has("com.example:unknown"));
+    assertFalse(cache.has("com.example:child:1.0"));
+  }
+
+  @Test
+  public void testBrokenParent() throws IOException {
+    MavenScmCache cache = MavenScmCache.empty();
+    MavenScmFinder finder = new MavenScmFinder()
+        .useLocalRepository(repository)
+        .offline(true)
+        .set(cache);
+
+    // the parent POM can't be loaded, so it's not known whether the artifact points to its SCM
+    assertFalse(finder.findScmFor("com.example:orphan-of-broken:1.0").isPresent());
+    assertFalse(cache.has("com.example:orphan-of-broken:1.0"));
+  }
+
+  private static void pom(
+      String groupId, String artifactId, String version, String parent, String scm)
+      throws IOException {
+
+    Path directory = repository
+        .resolve(groupId.replace(".", "/"))
+        .resolve(artifactId)
+        .resolve(version);
+    Files.createDirectories(directory);
+    Files.write(
+        directory.resolve(String.format("%s-%s.pom", artifactId, version)),
+        String.format(POM_TEMPLATE, parent, groupId, artifactId, version, scm)
+            .getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
@@ -19,6 +21,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.junit.Test;
 import org.kohsuke.github.GHRepository;
 
@@ -59,6 +62,51 @@ public class MultipleSecurityRatingsCalculatorTest extends TestGitHubDataFetcher
     assertTrue(multipleRatingsCalculator.failedProjects().isEmpty());
   }
 
+  @Test
+  public void testIncrementalCalculation() throws IOException {
+    GHRepository repository = mock(GHRepository.class);
+    when(fetcher.github().getRepository(any())).thenReturn(repository);
+
+    SingleSecurityRatingCalculator singleRatingCalculator
+        = new SingleSecurityRatingCalculator(fetcher, new NVD());
+    singleRatingCalculator.set(NoUserCallback.INSTANCE);
+    singleRatingCalculator = spy(singleRatingCalculator);
+    when(singleRatingCalculator.dataProviders()).thenReturn(Collections.emptyList());
+
+    GitHubProject apacheNiFi = new GitHubProject("apache", "nifi");
+    GitHubProject eclipseSteady = new GitHubProject("eclipse", "steady");
+
+    ProjectFingerprinter fingerprinter = mock(ProjectFingerprinter.class);
+    when(fingerprinter.fingerprintOf(apacheNiFi)).thenReturn(Optional.of("nifi"));
+    when(fingerprinter.fingerprintOf(eclipseSteady)).thenReturn(Optional.of("steady"));
+
+    GitHubProjectCache cache = GitHubProjectCache.empty();
+    MultipleSecurityRatingsCalculator multipleRatingsCalculator
+        = new MultipleSecurityRatingsCalculator(singleRatingCalculator)
+            .set(cache)
+            .set(fingerprinter);
+
+    List<GitHubProject> projects = Arrays.asList(apacheNiFi, eclipseSteady);
+    multipleRatingsCalculator.calculateFor(projects);
+    verify(singleRatingCalculator, times(1)).calculateFor(apacheNiFi);
+    verify(singleRatingCalculator, times(1)).calculateFor(eclipseSteady);
+
+    // nothing changed, so that no rating should be re-calculated
+    multipleRatingsCalculator.calculateFor(projects);
+    verify(singleRatingCalculator, times(1)).calculateFor(apacheNiFi);
+    verify(singleRatingCalculator, times(1)).calculateFor(eclipseSteady);
+
+    // only one project changed, so that only its rating should be re-calculated
+    when(fingerprinter.fingerprintOf(eclipseSteady)).thenReturn(Optional.of("updated"));
+    multipleRatingsCalculator.calculateFor(projects);
+    verify(singleRatingCalculator, times(1)).calculateFor(apacheNiFi);
+    verify(singleRatingCalculator, times(2)).calculateFor(eclipseSteady);
+
+    assertTrue(apacheNiFi.ratingValue().isPresent());
+    assertTrue(eclipseSteady.ratingValue().isPresent());
+    assertTrue(multipleRatingsCalculator.failedProjects().isEmpty());
+  }
+
   private static void check(RatingValue ratingValue) {
     assertEquals(SecurityLabel.UNCLEAR, ratingValue.label());
     assertTrue(DoubleInterval.closed(0, 3).contains(ratingValue.scoreValue().confidence()));
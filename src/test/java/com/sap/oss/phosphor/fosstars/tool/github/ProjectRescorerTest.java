@@ -0,0 +1,150 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.HAS_SECURITY_POLICY;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.HAS_SECURITY_TEAM;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_COMMITS_LAST_THREE_MONTHS;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.NUMBER_OF_CONTRIBUTORS_LAST_THREE_MONTHS;
+import static com.sap.oss.phosphor.fosstars.model.other.Utils.allUnknown;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sap.oss.phosphor.fosstars.model.RatingRepository;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating.SecurityLabel;
+import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating.Thresholds;
+import com.sap.oss.phosphor.fosstars.model.score.oss.OssSecurityScore;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubOrganization;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
+import com.sap.oss.phosphor.fosstars.model.value.ValueHashSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import org.junit.Test;
+
+public class ProjectRescorerTest {
+
+  private static final OssSecurityRating RATING
+      = RatingRepository.INSTANCE.rating(OssSecurityRating.class);
+
+  @Test
+  public void testRescore() throws IOException {
+    ValueSet values = new ValueHashSet(allUnknown(RATING.allFeatures()));
+    values.update(
+        NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(50),
+        NUMBER_OF_CONTRIBUTORS_LAST_THREE_MONTHS.value(5),
+        HAS_SECURITY_TEAM.value(true));
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("apache"), "nifi");
+    project.set(RATING.calculate(values));
+    final Date date = project.ratingValueDate().get();
+
+    GitHubProject withoutRating = new GitHubProject(new GitHubOrganization("apache"), "poi");
+
+    GitHubProjectCache cache = reload(
+        GitHubProjectCache.empty().add(project).add(withoutRating));
+
+    OssSecurityRating rating = new OssSecurityRating(
+        new OssSecurityScore(), new Thresholds(9.0, 10.0, 0.0));
+    ProjectRescorer.Result result
+        = new ProjectRescorer(rating, new GitHubProjectValueCache()).rescore(cache);
+
+    assertEquals(1, result.projects().size());
+    assertEquals(1, result.skipped().size());
+    assertEquals(withoutRating, result.skipped().get(0));
+
+    GitHubProject rescored = result.projects().get(0);
+    assertEquals(project.scm(), rescored.scm());
+    assertEquals(date, rescored.ratingValueDate().get());
+
+    RatingValue expected = rating.calculate(values);
+    RatingValue actual = rescored.ratingValue().get();
+    assertEquals(SecurityLabel.BAD, actual.label());
+    assertEquals(expected.label(), actual.label());
+    assertEquals(expected.score(), actual.score(), 0.0);
+    assertEquals(expected.confidence(), actual.confidence(), 0.0);
+
+    assertEquals(1, result.changes().size());
+    ProjectRescorer.LabelChange change = result.changes().get(0);
+    assertEquals(project.ratingValue().get().label(), change.before);
+    assertEquals(SecurityLabel.BAD, change.after);
+    assertNotEquals(change.before, change.after);
+
+    assertEquals(actual, cache.cachedRatingValueFor(project).get());
+  }
+
+  @Test
+  public void testNoChangesWithSameRating() throws IOException {
+    ValueSet values = new ValueHashSet(allUnknown(RATING.allFeatures()));
+    values.update(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(50));
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("apache"), "nifi");
+    project.set(RATING.calculate(values));
+
+    GitHubProjectCache cache = reload(GitHubProjectCache.empty().add(project));
+    ProjectRescorer.Result result
+        = new ProjectRescorer(RATING, new GitHubProjectValueCache()).rescore(cache);
+
+    assertEquals(1, result.projects().size());
+    assertTrue(result.changes().isEmpty());
+    assertEquals(
+        project.ratingValue().get().score(),
+        result.projects().get(0).ratingValue().get().score(), 0.0);
+  }
+
+  @Test
+  public void testValuesFromValueCache() throws IOException {
+    ValueSet values = new ValueHashSet(allUnknown(RATING.allFeatures()));
+    values.update(NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(50));
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("apache"), "nifi");
+    project.set(RATING.calculate(values));
+
+    GitHubProjectValueCache valueCache = new GitHubProjectValueCache();
+    valueCache.put(project, HAS_SECURITY_POLICY.value(true));
+    valueCache.put(project, NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(0));
+
+    GitHubProjectCache cache = reload(GitHubProjectCache.empty().add(project));
+    ProjectRescorer.Result result = new ProjectRescorer(RATING, valueCache).rescore(cache);
+
+    values.update(HAS_SECURITY_POLICY.value(true));
+    RatingValue expected = RATING.calculate(values);
+    RatingValue actual = result.projects().get(0).ratingValue().get();
+    assertEquals(expected.score(), actual.score(), 0.0);
+    assertEquals(expected.confidence(), actual.confidence(), 0.0);
+  }
+
+  @Test
+  public void testLeanRatingValue() throws IOException {
+    ValueSet values = new ValueHashSet(allUnknown(RATING.allFeatures()));
+    values.update(
+        NUMBER_OF_COMMITS_LAST_THREE_MONTHS.value(50),
+        HAS_SECURITY_TEAM.value(true));
+
+    GitHubProject project = new GitHubProject(new GitHubOrganization("apache"), "nifi");
+    project.set(RATING.calculate(values).lean());
+
+    GitHubProjectCache cache = reload(GitHubProjectCache.empty().add(project));
+    assertTrue(cache.cachedRatingValueFor(project).get().scoreValue().isLean());
+    ProjectRescorer.Result result
+        = new ProjectRescorer(RATING, new GitHubProjectValueCache()).rescore(cache);
+
+    RatingValue actual = result.projects().get(0).ratingValue().get();
+    assertTrue(actual.scoreValue().isLean());
+    assertTrue(result.changes().isEmpty());
+    assertEquals(RATING.calculate(values), actual.expand());
+  }
+
+  private static GitHubProjectCache reload(GitHubProjectCache cache) throws IOException {
+    Path filename = Files.createTempFile(ProjectRescorerTest.class.getName(), "test");
+    try {
+      cache.store(filename);
+      return GitHubProjectCache.load(filename);
+    } finally {
+      Files.delete(filename);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package com.sap.oss.phosphor.fosstars.tool.github;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
+import com.sap.oss.phosphor.fosstars.data.github.TestGitHubDataFetcherHolder;
+import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
+import com.sap.oss.phosphor.fosstars.nvd.NVD;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Test;
+import org.kohsuke.github.GHRepository;
+
+public class RatingPipelineTest extends TestGitHubDataFetcherHolder {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testRun() throws IOException {
+    GHRepository repository = mock(GHRepository.class);
+    when(fetcher.github().getRepository(any())).thenReturn(repository);
+
+    SingleSecurityRatingCalculator singleRatingCalculator
+        = new SingleSecurityRatingCalculator(fetcher, new NVD());
+    singleRatingCalculator.set(NoUserCallback.INSTANCE);
+    singleRatingCalculator = spy(singleRatingCalculator);
+    when(singleRatingCalculator.dataProviders()).thenReturn(Collections.emptyList());
+
+    // count projects that are between the sync stage and the end of the scan stage
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    doAnswer(invocation -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      return null;
+    }).when(singleRatingCalculator).sync(any(GitHubProject.class));
+    doAnswer(invocation -> {
+      Object result = invocation.callRealMethod();
+      inFlight.decrementAndGet();
+      return result;
+    }).when(singleRatingCalculator).calculateFor(any(GitHubProject.class));
+
+    List<GitHubProject> projects = new ArrayList<>();
+    ProjectFingerprinter fingerprinter = mock(ProjectFingerprinter.class);
+    for (int i = 0; i < 20; i++) {
+      GitHubProject project = new GitHubProject("org", "project" + i);
+      when(fingerprinter.fingerprintOf(project)).thenReturn(Optional.of("fingerprint" + i));
+      projects.add(project);
+    }
+
+    GitHubProject failing = projects.get(7);
+    doAnswer(invocation -> {
+      inFlight.decrementAndGet();
+      throw new IOException("Oops");
+    }).when(singleRatingCalculator).calculateFor(failing);
+
+    GitHubProjectFinder finder = mock(GitHubProjectFinder.class);
+    doAnswer(invocation -> {
+      projects.forEach(invocation.<Consumer<GitHubProject>>getArgument(0));
+      return null;
+    }).when(finder).run(any(Consumer.class));
+
+    GitHubProjectCache cache = GitHubProjectCache.empty();
+    MultipleSecurityRatingsCalculator calculator = spy(
+        new MultipleSecurityRatingsCalculator(singleRatingCalculator)
+            .set(cache)
+            .set(fingerprinter));
+    RatingPipeline pipeline = new RatingPipeline(calculator)
+        .syncThreads(2).ratingThreads(3).storeInterval(8);
+
+    List<GitHubProject> result = pipeline.run(finder);
+    assertEquals(projects, result);
+    assertEquals(Collections.singletonList(failing), pipeline.failedProjects());
+    assertEquals(projects.size() - 1, cache.size());
+    for (GitHubProject project : projects) {
+      assertTrue(project == failing || project.ratingValue().isPresent());
+    }
+    assertTrue(maxInFlight.get() <= pipeline.capacity());
+
+    // the cache is stored after every 8 projects and at the end
+    verify(calculator, times(3)).storeProjectCache();
+
+    // nothing changed, so that no rating should be re-calculated
+    result = pipeline.run(finder);
+    assertEquals(projects, result);
+    for (GitHubProject project : projects) {
+      verify(singleRatingCalculator, times(project == failing ? 2 : 1)).calculateFor(project);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongStoreInterval() {
+    new RatingPipeline(mock(MultipleSecurityRatingsCalculator.class)).storeInterval(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongNumberOfThreads() {
+    new RatingPipeline(mock(MultipleSecurityRatingsCalculator.class)).ratingThreads(0);
+  }
+}
@@ -24,6 +24,22 @@ public class SecurityRatingCalculatorTest {
     new SecurityRatingCalculator().run();
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void rescoreWithoutConfig() throws IOException, URISyntaxException {
+    new SecurityRatingCalculator("--rescore", "--url", "https://github.com/apache/nifi").run();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void syncThreadsWithoutConfig() throws IOException, URISyntaxException {
+    new SecurityRatingCalculator(
+        "--sync-threads", "2", "--url", "https://github.com/apache/nifi").run();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrongNumberOfRatingThreads() throws IOException, URISyntaxException {
+    new SecurityRatingCalculator("--rating-threads", "0", "--config", "config.yml").run();
+  }
+
   @Test
   public void help() throws IOException, URISyntaxException {
     new SecurityRatingCalculator("-help").run();
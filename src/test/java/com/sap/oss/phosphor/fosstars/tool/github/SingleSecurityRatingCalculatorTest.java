@@ -1,5 +1,7 @@
 package com.sap.oss.phosphor.fosstars.tool.github;
 
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.HAS_SECURITY_TEAM;
+import static com.sap.oss.phosphor.fosstars.model.feature.oss.OssFeatures.IS_APACHE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -8,17 +10,27 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import com.sap.oss.phosphor.fosstars.data.AbstractDataProvider;
 import com.sap.oss.phosphor.fosstars.data.NoUserCallback;
 import com.sap.oss.phosphor.fosstars.data.github.IsApache;
 import com.sap.oss.phosphor.fosstars.data.github.IsEclipse;
 import com.sap.oss.phosphor.fosstars.data.github.TestGitHubDataFetcherHolder;
+import com.sap.oss.phosphor.fosstars.model.Feature;
+import com.sap.oss.phosphor.fosstars.model.Value;
+import com.sap.oss.phosphor.fosstars.model.ValueSet;
 import com.sap.oss.phosphor.fosstars.model.math.DoubleInterval;
 import com.sap.oss.phosphor.fosstars.model.rating.oss.OssSecurityRating.SecurityLabel;
 import com.sap.oss.phosphor.fosstars.model.subject.oss.GitHubProject;
 import com.sap.oss.phosphor.fosstars.model.value.RatingValue;
 import com.sap.oss.phosphor.fosstars.nvd.NVD;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import org.kohsuke.github.GHRepository;
 
@@ -86,4 +98,162 @@ public class SingleSecurityRatingCalculatorTest extends TestGitHubDataFetcherHol
     calculator.calculateFor(apacheNiFi);
     assertFalse(apacheNiFi.ratingValue().isPresent());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testTimeouts() throws IOException {
+    GHRepository repository = mock(GHRepository.class);
+    when(fetcher.github().getRepository(any())).thenReturn(repository);
+
+    SingleSecurityRatingCalculator calculator
+        = new SingleSecurityRatingCalculator(fetcher, new NVD());
+    calculator.set(NoUserCallback.INSTANCE);
+    calculator.providerTimeout(SlowDataProvider.class, Duration.ofMillis(100));
+    calculator = spy(calculator);
+
+    when(calculator.dataProviders())
+        .thenReturn(Arrays.asList(new SlowDataProvider(), new IsApache(fetcher)));
+
+    GitHubProject apacheNiFi = new GitHubProject("apache", "nifi");
+    calculator.calculateFor(apacheNiFi);
+
+    assertTrue(apacheNiFi.ratingValue().isPresent());
+    RatingValue ratingValue = apacheNiFi.ratingValue().get();
+    assertTrue(valueOf(HAS_SECURITY_TEAM, ratingValue).isUnknown());
+    assertFalse(valueOf(IS_APACHE, ratingValue).isUnknown());
+
+    DataProviderStatistics statistics = calculator.statistics();
+    assertEquals(1, statistics.timeouts());
+    assertEquals(1, statistics.timeoutsFor(SlowDataProvider.class.getSimpleName()));
+    assertEquals(0, statistics.timeoutsFor(IsApache.class.getSimpleName()));
+  }
+
+  @Test
+  public void testProjectTimeout() throws IOException {
+    GHRepository repository = mock(GHRepository.class);
+    when(fetcher.github().getRepository(any())).thenReturn(repository);
+
+    SingleSecurityRatingCalculator calculator
+        = new SingleSecurityRatingCalculator(fetcher, new NVD());
+    calculator.set(NoUserCallback.INSTANCE);
+    calculator.projectTimeout(Duration.ofMillis(100));
+    calculator = spy(calculator);
+
+    when(calculator.dataProviders())
+        .thenReturn(Arrays.asList(new SlowDataProvider(), new IsApache(fetcher)));
+
+    GitHubProject apacheNiFi = new GitHubProject("apache", "nifi");
+    calculator.calculateFor(apacheNiFi);
+
+    assertTrue(apacheNiFi.ratingValue().isPresent());
+    assertTrue(valueOf(IS_APACHE, apacheNiFi.ratingValue().get()).isUnknown());
+
+    DataProviderStatistics statistics = calculator.statistics();
+    assertEquals(1, statistics.timeoutsFor(SlowDataProvider.class.getSimpleName()));
+    assertEquals(1, statistics.skipsFor(IsApache.class.getSimpleName()));
+  }
+
+  @Test
+  public void testCancelledProviderIsNotReused() throws Exception {
+    GHRepository repository = mock(GHRepository.class);
+    when(fetcher.github().getRepository(any())).thenReturn(repository);
+
+    SingleSecurityRatingCalculator calculator
+        = new SingleSecurityRatingCalculator(fetcher, new NVD());
+    calculator.set(NoUserCallback.INSTANCE);
+    calculator.providerTimeout(StubbornDataProvider.class, Duration.ofMillis(100));
+    calculator = spy(calculator);
+
+    StubbornDataProvider provider = new StubbornDataProvider();
+    when(calculator.dataProviders()).thenReturn(Collections.singletonList(provider));
+
+    String name = StubbornDataProvider.class.getSimpleName();
+    DataProviderStatistics statistics = calculator.statistics();
+
+    // the provider ignores cancellation
+    calculator.calculateFor(new GitHubProject("apache", "nifi"));
+    assertEquals(1, statistics.timeoutsFor(name));
+    assertEquals(1, provider.calls.get());
+
+    // the provider is skipped while the cancelled run is still going
+    calculator.calculateFor(new GitHubProject("apache", "commons-lang"));
+    assertEquals(1, statistics.busyFor(name));
+    assertEquals(1, provider.calls.get());
+
+    // the provider is used again when the cancelled run stopped
+    provider.release.countDown();
+    provider.finished.await(10, TimeUnit.SECONDS);
+    for (int i = 0; i < 100 && provider.calls.get() == 1; i++) {
+      Thread.sleep(10);
+      calculator.calculateFor(new GitHubProject("apache", "commons-io"));
+    }
+    assertEquals(2, provider.calls.get());
+  }
+
+  private static Value<?> valueOf(Feature<?> feature, RatingValue ratingValue) {
+    return ratingValue.scoreValue().usedFeatureValues().stream()
+        .filter(value -> value.feature().equals(feature))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+
+  private static class SlowDataProvider extends AbstractDataProvider<GitHubProject> {
+
+    @Override
+    protected Set<Feature<?>> supportedFeatures() {
+      return Collections.singleton(HAS_SECURITY_TEAM);
+    }
+
+    @Override
+    protected SlowDataProvider doUpdate(GitHubProject project, ValueSet values)
+        throws IOException {
+
+      try {
+        Thread.sleep(10000);
+      } catch (InterruptedException e) {
+        throw new IOException("Interrupted!", e);
+      }
+      values.update(HAS_SECURITY_TEAM.value(true));
+      return this;
+    }
+
+    @Override
+    public boolean interactive() {
+      return false;
+    }
+  }
+
+  private static class StubbornDataProvider extends AbstractDataProvider<GitHubProject> {
+
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch finished = new CountDownLatch(1);
+
+    @Override
+    protected Set<Feature<?>> supportedFeatures() {
+      return Collections.singleton(HAS_SECURITY_TEAM);
+    }
+
+    @Override
+    protected StubbornDataProvider doUpdate(GitHubProject project, ValueSet values) {
+      if (calls.incrementAndGet() > 1) {
+        return this;
+      }
+
+      while (true) {
+        try {
+          release.await();
+          break;
+        } catch (InterruptedException e) {
+          // ignore
+        }
+      }
+      finished.countDown();
+      return this;
+    }
+
+    @Override
+    public boolean interactive() {
+      return false;
+    }
+  }
+}